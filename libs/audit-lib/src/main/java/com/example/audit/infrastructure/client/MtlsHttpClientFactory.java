@@ -0,0 +1,234 @@
+package com.example.audit.infrastructure.client;
+
+import com.example.audit.infrastructure.config.MtlsProperties;
+import com.example.audit.infrastructure.metrics.MtlsClientMetrics;
+import com.example.audit.infrastructure.ssl.ReloadableSslContext;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.handler.ssl.SslContext;
+import io.netty.handler.ssl.SslHandler;
+import io.netty.util.AttributeKey;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ssl.SslBundle;
+import reactor.netty.Connection;
+import reactor.netty.http.Http11SslContextSpec;
+import reactor.netty.http.Http2SslContextSpec;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+import reactor.netty.tcp.SslProvider;
+
+import javax.net.ssl.SSLException;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Builds the Reactor Netty building blocks behind the mTLS WebClient.
+ *
+ * <p>Keeping one {@link SslContext} and one {@link ConnectionProvider} per application
+ * means every caller shares:</p>
+ * <ul>
+ *   <li>warm pooled connections (no handshake per request)</li>
+ *   <li>the client TLS session cache (abbreviated handshakes for new connections)</li>
+ *   <li>HTTP/2 multiplexing negotiated over ALPN</li>
+ * </ul>
+ *
+ * <p>With a {@link ReloadableSslContext}, connections are tagged with the SSL context
+ * generation they were opened with. After a certificate reload, pooled connections of an
+ * older generation are evicted when released or found idle, so in-flight requests finish
+ * on their connection while new requests use the new certificate.</p>
+ *
+ * <p>Usage:</p>
+ * <pre>
+ * MtlsHttpClientFactory factory = new MtlsHttpClientFactory(properties, metrics);
+ * ConnectionProvider pool = factory.createConnectionProvider();
+ * HttpClient httpClient = factory.createHttpClient(pool, factory.createSslContext(sslBundle));
+ * </pre>
+ */
+public class MtlsHttpClientFactory {
+
+    private static final Logger log = LoggerFactory.getLogger(MtlsHttpClientFactory.class);
+
+    private static final String POOL_NAME = "mtls";
+
+    private static final AttributeKey<Long> SSL_GENERATION = AttributeKey.valueOf("mtls.sslGeneration");
+    private static final AttributeKey<Boolean> RECYCLED = AttributeKey.valueOf("mtls.recycled");
+    private static final String HANDSHAKE_TIMER = "mtls.handshakeTimer";
+
+    private final MtlsProperties properties;
+    private final MtlsClientMetrics metrics;
+
+    /**
+     * Create factory.
+     *
+     * @param properties mTLS properties
+     * @param metrics    handshake metrics, may be null
+     */
+    public MtlsHttpClientFactory(MtlsProperties properties, MtlsClientMetrics metrics) {
+        this.properties = properties;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Build a client {@link SslContext} from the SSL bundle, with ALPN when HTTP/2 is enabled
+     * and a sized session cache for TLS session resumption.
+     *
+     * @param sslBundle the bundle holding key and trust material
+     * @return the client SSL context
+     */
+    public SslContext createSslContext(SslBundle sslBundle) {
+        MtlsProperties.Ssl ssl = properties.getSsl();
+        SslProvider.ProtocolSslContextSpec spec = properties.isHttp2()
+                ? Http2SslContextSpec.forClient().configure(builder -> builder
+                        .keyManager(sslBundle.getManagers().getKeyManagerFactory())
+                        .trustManager(sslBundle.getManagers().getTrustManagerFactory())
+                        .sessionCacheSize(ssl.getSessionCacheSize())
+                        .sessionTimeout(ssl.getSessionTimeout().toSeconds()))
+                : Http11SslContextSpec.forClient().configure(builder -> builder
+                        .keyManager(sslBundle.getManagers().getKeyManagerFactory())
+                        .trustManager(sslBundle.getManagers().getTrustManagerFactory())
+                        .sessionCacheSize(ssl.getSessionCacheSize())
+                        .sessionTimeout(ssl.getSessionTimeout().toSeconds()));
+        try {
+            return spec.sslContext();
+        } catch (SSLException e) {
+            throw new RuntimeException("Failed to configure SSL context", e);
+        }
+    }
+
+    /**
+     * Build the shared connection pool, with per-host overrides from {@code mtls.hosts}.
+     *
+     * @return the connection provider
+     */
+    public ConnectionProvider createConnectionProvider() {
+        return createConnectionProvider(null);
+    }
+
+    /**
+     * Build the shared connection pool, retiring connections opened with a previous
+     * generation of the given SSL context.
+     *
+     * @param sslContext the reloadable SSL context, may be null
+     * @return the connection provider
+     */
+    public ConnectionProvider createConnectionProvider(ReloadableSslContext sslContext) {
+        MtlsProperties.Pool defaults = properties.getPool();
+        ConnectionProvider.Builder builder = ConnectionProvider.builder(POOL_NAME);
+        applyPool(builder, defaults, sslContext);
+
+        for (Map.Entry<String, MtlsProperties.Pool> entry : properties.getHosts().entrySet()) {
+            InetSocketAddress address = parseHost(entry.getKey());
+            MtlsProperties.Pool hostPool = entry.getValue().mergedWith(defaults);
+            log.info("Configuring mTLS connection pool for {}: maxConnections={}",
+                    entry.getKey(), hostPool.getMaxConnections());
+            builder.forRemoteHost(address, spec -> applyPool(spec, hostPool, sslContext));
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * Build an {@link HttpClient} on the given pool and SSL context.
+     *
+     * @param connectionProvider the shared connection pool
+     * @param sslContext         the client SSL context
+     * @return the configured HttpClient
+     */
+    public HttpClient createHttpClient(ConnectionProvider connectionProvider, SslContext sslContext) {
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .protocol(properties.isHttp2()
+                        ? new HttpProtocol[]{HttpProtocol.H2, HttpProtocol.HTTP11}
+                        : new HttpProtocol[]{HttpProtocol.HTTP11})
+                .secure(spec -> spec.sslContext(sslContext)
+                        .handshakeTimeout(properties.getSsl().getHandshakeTimeout()));
+
+        if (metrics != null || sslContext instanceof ReloadableSslContext) {
+            httpClient = httpClient.doOnChannelInit((observer, channel, remoteAddress) -> {
+                if (sslContext instanceof ReloadableSslContext reloadable) {
+                    channel.attr(SSL_GENERATION).set(reloadable.generation());
+                }
+                ChannelHandlerContext ssl = channel.pipeline().context(SslHandler.class);
+                if (metrics != null && ssl != null) {
+                    channel.pipeline().addBefore(ssl.name(), HANDSHAKE_TIMER,
+                            new HandshakeTimer((SslHandler) ssl.handler(), metrics));
+                }
+            });
+        }
+        return httpClient;
+    }
+
+    private void applyPool(
+            ConnectionProvider.ConnectionPoolSpec<?> spec,
+            MtlsProperties.Pool pool,
+            ReloadableSslContext sslContext) {
+        spec.maxConnections(pool.getMaxConnections())
+                .pendingAcquireMaxCount(pool.getPendingAcquireMaxCount())
+                .pendingAcquireTimeout(pool.getPendingAcquireTimeout())
+                .maxIdleTime(pool.getMaxIdleTime())
+                .maxLifeTime(pool.getMaxLifeTime())
+                .metrics(Boolean.TRUE.equals(pool.getMetricsEnabled()));
+        Duration eviction = pool.getEvictionInterval();
+        if (eviction != null && !eviction.isZero()) {
+            spec.evictInBackground(eviction);
+        }
+        if (sslContext != null) {
+            // An eviction predicate replaces the max idle/life time checks, so it includes them
+            spec.evictionPredicate((connection, metadata) ->
+                    isStale(connection, sslContext)
+                            || metadata.idleTime() >= pool.getMaxIdleTime().toMillis()
+                            || metadata.lifeTime() >= pool.getMaxLifeTime().toMillis());
+        }
+    }
+
+    private boolean isStale(Connection connection, ReloadableSslContext sslContext) {
+        Channel channel = connection.channel();
+        Long generation = channel.attr(SSL_GENERATION).get();
+        if (generation == null || generation >= sslContext.generation()) {
+            return false;
+        }
+        if (metrics != null && channel.attr(RECYCLED).setIfAbsent(Boolean.TRUE) == null) {
+            metrics.incrementRecycledConnections();
+        }
+        return true;
+    }
+
+    /**
+     * Starts the handshake clock when the channel becomes active, i.e. once TCP is connected and
+     * right before the {@link SslHandler} behind it sends the ClientHello, so connect time is not
+     * counted. Connections that never connect record no handshake.
+     */
+    private static final class HandshakeTimer extends ChannelInboundHandlerAdapter {
+
+        private final SslHandler sslHandler;
+        private final MtlsClientMetrics metrics;
+
+        HandshakeTimer(SslHandler sslHandler, MtlsClientMetrics metrics) {
+            this.sslHandler = sslHandler;
+            this.metrics = metrics;
+        }
+
+        @Override
+        public void channelActive(ChannelHandlerContext ctx) {
+            long start = System.nanoTime();
+            sslHandler.handshakeFuture().addListener(future ->
+                    metrics.recordHandshake(System.nanoTime() - start, future.isSuccess()));
+            ctx.fireChannelActive();
+            ctx.pipeline().remove(this);
+        }
+    }
+
+    private static InetSocketAddress parseHost(String hostAndPort) {
+        int separator = hostAndPort.lastIndexOf(':');
+        if (separator <= 0 || separator == hostAndPort.length() - 1) {
+            throw new IllegalArgumentException(
+                    "mtls.hosts key must be in 'host:port' format: " + hostAndPort);
+        }
+        return InetSocketAddress.createUnresolved(
+                hostAndPort.substring(0, separator),
+                Integer.parseInt(hostAndPort.substring(separator + 1)));
+    }
+}
@@ -0,0 +1,358 @@
+package com.example.audit.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * mTLS WebClient configuration properties.
+ *
+ * <p>Configuration example:</p>
+ * <pre>
+ * mtls:
+ *   enabled: true
+ *   bundle-name: mtls-bundle
+ *   http2: true
+ *   ssl:
+ *     session-cache-size: 1024
+ *     session-timeout: 1h
+ *     handshake-timeout: 10s
+ *   pool:
+ *     max-connections: 50
+ *     pending-acquire-max-count: 500
+ *     pending-acquire-timeout: 45s
+ *     max-idle-time: 30s
+ *     max-life-time: 10m
+ *     eviction-interval: 30s
+ *     metrics-enabled: true
+ *   hosts:
+ *     "[product-service:8081]":
+ *       max-connections: 200
+ *   reload:
+ *     enabled: true
+ *     bundles:
+ *       - mtls-bundle
+ *     quiet-period: 2s
+ * </pre>
+ */
+@ConfigurationProperties(prefix = "mtls")
+public class MtlsProperties {
+
+    /**
+     * Enable the mTLS WebClient. Default: false
+     */
+    private boolean enabled = false;
+
+    /**
+     * Name of the SSL bundle holding the client certificate and trust store.
+     */
+    private String bundleName = "mtls-bundle";
+
+    /**
+     * Negotiate HTTP/2 over ALPN (falls back to HTTP/1.1). Default: true
+     */
+    private boolean http2 = true;
+
+    /**
+     * TLS session settings.
+     */
+    private Ssl ssl = new Ssl();
+
+    /**
+     * Default connection pool settings.
+     */
+    private Pool pool = Pool.defaults();
+
+    /**
+     * Per target host connection pool overrides, keyed by "host:port".
+     * Unset values fall back to {@link #pool}.
+     */
+    private Map<String, Pool> hosts = new LinkedHashMap<>();
+
+    /**
+     * Certificate hot reload settings.
+     */
+    private Reload reload = new Reload();
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public String getBundleName() {
+        return bundleName;
+    }
+
+    public void setBundleName(String bundleName) {
+        this.bundleName = bundleName;
+    }
+
+    public boolean isHttp2() {
+        return http2;
+    }
+
+    public void setHttp2(boolean http2) {
+        this.http2 = http2;
+    }
+
+    public Ssl getSsl() {
+        return ssl;
+    }
+
+    public void setSsl(Ssl ssl) {
+        this.ssl = ssl;
+    }
+
+    public Pool getPool() {
+        return pool;
+    }
+
+    public void setPool(Pool pool) {
+        this.pool = pool;
+    }
+
+    public Map<String, Pool> getHosts() {
+        return hosts;
+    }
+
+    public void setHosts(Map<String, Pool> hosts) {
+        this.hosts = hosts;
+    }
+
+    public Reload getReload() {
+        return reload;
+    }
+
+    public void setReload(Reload reload) {
+        this.reload = reload;
+    }
+
+    /**
+     * Certificate hot reload settings.
+     */
+    public static class Reload {
+
+        /**
+         * Watch the bundle certificate files and reload bundles when they change. Default: false
+         */
+        private boolean enabled = false;
+
+        /**
+         * Bundles to watch. If empty, only {@code mtls.bundle-name} is watched.
+         */
+        private List<String> bundles = new ArrayList<>();
+
+        /**
+         * Time without further file events before a change is applied.
+         */
+        private Duration quietPeriod = Duration.ofSeconds(2);
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public List<String> getBundles() {
+            return bundles;
+        }
+
+        public void setBundles(List<String> bundles) {
+            this.bundles = bundles;
+        }
+
+        public Duration getQuietPeriod() {
+            return quietPeriod;
+        }
+
+        public void setQuietPeriod(Duration quietPeriod) {
+            this.quietPeriod = quietPeriod;
+        }
+    }
+
+    /**
+     * TLS session settings.
+     */
+    public static class Ssl {
+
+        /**
+         * Size of the client TLS session cache used for resumption. 0 uses the JDK default.
+         */
+        private long sessionCacheSize = 1024;
+
+        /**
+         * Lifetime of cached TLS sessions. Zero uses the JDK default.
+         */
+        private Duration sessionTimeout = Duration.ofHours(1);
+
+        /**
+         * Maximum time allowed for a TLS handshake.
+         */
+        private Duration handshakeTimeout = Duration.ofSeconds(10);
+
+        public long getSessionCacheSize() {
+            return sessionCacheSize;
+        }
+
+        public void setSessionCacheSize(long sessionCacheSize) {
+            this.sessionCacheSize = sessionCacheSize;
+        }
+
+        public Duration getSessionTimeout() {
+            return sessionTimeout;
+        }
+
+        public void setSessionTimeout(Duration sessionTimeout) {
+            this.sessionTimeout = sessionTimeout;
+        }
+
+        public Duration getHandshakeTimeout() {
+            return handshakeTimeout;
+        }
+
+        public void setHandshakeTimeout(Duration handshakeTimeout) {
+            this.handshakeTimeout = handshakeTimeout;
+        }
+    }
+
+    /**
+     * Connection pool settings. Null values inherit from the default pool.
+     */
+    public static class Pool {
+
+        /**
+         * Maximum number of connections per target host.
+         */
+        private Integer maxConnections;
+
+        /**
+         * Maximum number of requests waiting for a connection. -1 means unbounded.
+         */
+        private Integer pendingAcquireMaxCount;
+
+        /**
+         * Maximum time a request waits for a connection.
+         */
+        private Duration pendingAcquireTimeout;
+
+        /**
+         * Idle time after which a pooled connection is closed.
+         */
+        private Duration maxIdleTime;
+
+        /**
+         * Maximum lifetime of a pooled connection.
+         */
+        private Duration maxLifeTime;
+
+        /**
+         * Interval of the background eviction of idle/expired connections. Zero disables it.
+         */
+        private Duration evictionInterval;
+
+        /**
+         * Export pool metrics (reactor.netty.connection.provider.*) to Micrometer.
+         */
+        private Boolean metricsEnabled;
+
+        /**
+         * Built-in defaults used for the top level {@code mtls.pool}.
+         */
+        static Pool defaults() {
+            Pool pool = new Pool();
+            pool.maxConnections = 50;
+            pool.pendingAcquireMaxCount = 500;
+            pool.pendingAcquireTimeout = Duration.ofSeconds(45);
+            pool.maxIdleTime = Duration.ofSeconds(30);
+            pool.maxLifeTime = Duration.ofMinutes(10);
+            pool.evictionInterval = Duration.ofSeconds(30);
+            pool.metricsEnabled = true;
+            return pool;
+        }
+
+        /**
+         * Return a copy of this pool where unset values are taken from {@code parent}.
+         *
+         * @param parent the pool to inherit unset values from
+         * @return the merged pool settings
+         */
+        public Pool mergedWith(Pool parent) {
+            Pool merged = new Pool();
+            merged.maxConnections = maxConnections != null ? maxConnections : parent.maxConnections;
+            merged.pendingAcquireMaxCount = pendingAcquireMaxCount != null
+                    ? pendingAcquireMaxCount : parent.pendingAcquireMaxCount;
+            merged.pendingAcquireTimeout = pendingAcquireTimeout != null
+                    ? pendingAcquireTimeout : parent.pendingAcquireTimeout;
+            merged.maxIdleTime = maxIdleTime != null ? maxIdleTime : parent.maxIdleTime;
+            merged.maxLifeTime = maxLifeTime != null ? maxLifeTime : parent.maxLifeTime;
+            merged.evictionInterval = evictionInterval != null ? evictionInterval : parent.evictionInterval;
+            merged.metricsEnabled = metricsEnabled != null ? metricsEnabled : parent.metricsEnabled;
+            return merged;
+        }
+
+        public Integer getMaxConnections() {
+            return maxConnections;
+        }
+
+        public void setMaxConnections(Integer maxConnections) {
+            this.maxConnections = maxConnections;
+        }
+
+        public Integer getPendingAcquireMaxCount() {
+            return pendingAcquireMaxCount;
+        }
+
+        public void setPendingAcquireMaxCount(Integer pendingAcquireMaxCount) {
+            this.pendingAcquireMaxCount = pendingAcquireMaxCount;
+        }
+
+        public Duration getPendingAcquireTimeout() {
+            return pendingAcquireTimeout;
+        }
+
+        public void setPendingAcquireTimeout(Duration pendingAcquireTimeout) {
+            this.pendingAcquireTimeout = pendingAcquireTimeout;
+        }
+
+        public Duration getMaxIdleTime() {
+            return maxIdleTime;
+        }
+
+        public void setMaxIdleTime(Duration maxIdleTime) {
+            this.maxIdleTime = maxIdleTime;
+        }
+
+        public Duration getMaxLifeTime() {
+            return maxLifeTime;
+        }
+
+        public void setMaxLifeTime(Duration maxLifeTime) {
+            this.maxLifeTime = maxLifeTime;
+        }
+
+        public Duration getEvictionInterval() {
+            return evictionInterval;
+        }
+
+        public void setEvictionInterval(Duration evictionInterval) {
+            this.evictionInterval = evictionInterval;
+        }
+
+        public Boolean getMetricsEnabled() {
+            return metricsEnabled;
+        }
+
+        public void setMetricsEnabled(Boolean metricsEnabled) {
+            this.metricsEnabled = metricsEnabled;
+        }
+    }
+}
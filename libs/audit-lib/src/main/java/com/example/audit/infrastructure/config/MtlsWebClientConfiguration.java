@@ -1,19 +1,28 @@
 package com.example.audit.infrastructure.config;
 
+import com.example.audit.infrastructure.client.MtlsHttpClientFactory;
+import com.example.audit.infrastructure.metrics.MtlsClientMetrics;
+import com.example.audit.infrastructure.security.ServiceAuthExchangeFilterFunction;
+import com.example.audit.infrastructure.ssl.ReloadableSslContext;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.autoconfigure.metrics.CompositeMeterRegistryAutoConfiguration;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.ssl.SslBundle;
 import org.springframework.boot.ssl.SslBundles;
 import org.springframework.context.annotation.Bean;
-import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
 import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.netty.http.client.HttpClient;
-
-import javax.net.ssl.SSLException;
+import reactor.netty.resources.ConnectionProvider;
 
 /**
  * mTLS WebClient 配置類 (使用 Spring Boot 3.1+ SSL Bundle)
@@ -37,15 +46,32 @@ import javax.net.ssl.SSLException;
  * mtls:
  *   enabled: true
  *   bundle-name: mtls-bundle
+ *   http2: true              # ALPN 協商 HTTP/2，失敗時回退 HTTP/1.1
+ *   pool:
+ *     max-connections: 50
+ *     max-idle-time: 30s
+ *   hosts:
+ *     "[product-service:8081]":
+ *       max-connections: 200
  * </pre>
  *
+ * <h3>連線重用</h3>
+ * <p>所有 mTLS 呼叫共用同一個 {@link ConnectionProvider} 與 {@link ReloadableSslContext}：
+ * 已建立的連線由連線池重用，新連線則透過 TLS Session Cache 進行 session resumption，
+ * 避免每次請求都進行完整的客戶端憑證握手。連線池指標匯出至 Micrometer
+ * ({@code reactor.netty.connection.provider.*})，握手次數與延遲則為 {@code mtls.client.handshake}。</p>
+ *
+ * <h3>憑證熱更新</h3>
+ * <p>SSL bundle 更新時 (見 {@link SslBundleReloadConfiguration})，新連線立即使用新憑證；
+ * 連線池中以舊憑證建立的連線在請求完成歸還時淘汰，不中斷進行中的請求。</p>
+ *
  * <h3>使用方式</h3>
  * <pre>
  * &#64;Autowired
  * &#64;Qualifier("mtlsWebClient")
  * private WebClient mtlsWebClient;
  *
- * // 使用 mTLS 呼叫其他服務
+ * // 使用 mTLS 呼叫其他服務 (啟用 audit.service-auth 時自動附加 Bearer Token)
  * String response = mtlsWebClient.get()
  *     .uri("https://product-service:8081/api/products")
  *     .retrieve()
@@ -56,87 +82,146 @@ import javax.net.ssl.SSLException;
  * @author RBAC-SSO-POC Team
  * @since 1.0.0
  * @see org.springframework.boot.ssl.SslBundles
+ * @see MtlsProperties
  */
-@Configuration
+@AutoConfiguration(after = CompositeMeterRegistryAutoConfiguration.class)
+@EnableConfigurationProperties(MtlsProperties.class)
 @ConditionalOnClass(name = "org.springframework.web.reactive.function.client.WebClient")
 @ConditionalOnProperty(name = "mtls.enabled", havingValue = "true")
 public class MtlsWebClientConfiguration {
 
     private static final Logger log = LoggerFactory.getLogger(MtlsWebClientConfiguration.class);
 
-    private static final String DEFAULT_BUNDLE_NAME = "mtls-bundle";
+    private final MtlsProperties properties;
+
+    public MtlsWebClientConfiguration(MtlsProperties properties) {
+        this.properties = properties;
+    }
+
+    /**
+     * mTLS 握手指標 (僅在有 MeterRegistry 時建立)
+     *
+     * @param meterRegistry Micrometer registry
+     * @return 握手指標
+     */
+    @Bean
+    @ConditionalOnBean(MeterRegistry.class)
+    @ConditionalOnMissingBean
+    public MtlsClientMetrics mtlsClientMetrics(MeterRegistry meterRegistry) {
+        return new MtlsClientMetrics(meterRegistry);
+    }
+
+    /**
+     * 建立 Reactor Netty 元件的工廠 (無握手指標時不記錄)
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public MtlsHttpClientFactory mtlsHttpClientFactory(ObjectProvider<MtlsClientMetrics> metrics) {
+        return new MtlsHttpClientFactory(properties, metrics.getIfAvailable());
+    }
 
     /**
-     * 建立配置了 mTLS 的 WebClient (使用 SSL Bundle)
+     * 可熱更新的 mTLS SslContext (使用 SSL Bundle)
      *
      * @param sslBundles Spring Boot SSL Bundles
-     * @return 配置了 mTLS 的 WebClient
+     * @param factory Reactor Netty 元件工廠
+     * @return 可於憑證輪替時替換的 SslContext
      */
-    @Bean("mtlsWebClient")
-    @Primary
-    public WebClient mtlsWebClient(SslBundles sslBundles) {
+    @Bean("mtlsSslContext")
+    @ConditionalOnMissingBean(name = "mtlsSslContext")
+    public ReloadableSslContext mtlsSslContext(SslBundles sslBundles, MtlsHttpClientFactory factory) {
         try {
-            log.info("Initializing mTLS WebClient using SSL Bundle: {}", DEFAULT_BUNDLE_NAME);
-
-            SslBundle sslBundle = sslBundles.getBundle(DEFAULT_BUNDLE_NAME);
-
-            HttpClient httpClient = HttpClient.create()
-                .secure(sslContextSpec -> {
-                    try {
-                        sslContextSpec.sslContext(
-                            io.netty.handler.ssl.SslContextBuilder.forClient()
-                                .keyManager(sslBundle.getManagers().getKeyManagerFactory())
-                                .trustManager(sslBundle.getManagers().getTrustManagerFactory())
-                                .build()
-                        );
-                    } catch (SSLException e) {
-                        throw new RuntimeException("Failed to configure SSL context", e);
-                    }
-                });
-
-            log.info("mTLS WebClient initialized successfully");
-
-            return WebClient.builder()
-                .clientConnector(new ReactorClientHttpConnector(httpClient))
-                .build();
+            log.info("Initializing mTLS SslContext using SSL Bundle: {}, http2={}",
+                    properties.getBundleName(), properties.isHttp2());
+
+            SslBundle sslBundle = sslBundles.getBundle(properties.getBundleName());
+            ReloadableSslContext sslContext = new ReloadableSslContext(factory.createSslContext(sslBundle));
+
+            sslBundles.addBundleUpdateHandler(properties.getBundleName(), updated -> {
+                long generation = sslContext.update(factory.createSslContext(updated));
+                log.info("mTLS SslContext reloaded from SSL Bundle: {} (generation {})",
+                        properties.getBundleName(), generation);
+            });
+
+            return sslContext;
 
         } catch (Exception e) {
-            log.error("Failed to initialize mTLS WebClient", e);
-            throw new RuntimeException("Failed to initialize mTLS WebClient", e);
+            log.error("Failed to initialize mTLS SslContext", e);
+            throw new RuntimeException("Failed to initialize mTLS SslContext", e);
         }
     }
 
     /**
-     * 建立 WebClient.Builder 用於自訂配置
+     * 共用的 mTLS 連線池 (依目標主機可個別設定)
+     */
+    @Bean(name = "mtlsConnectionProvider", destroyMethod = "dispose")
+    @ConditionalOnMissingBean(name = "mtlsConnectionProvider")
+    public ConnectionProvider mtlsConnectionProvider(
+            MtlsHttpClientFactory factory,
+            ReloadableSslContext mtlsSslContext) {
+        log.info("Initializing mTLS connection pool: maxConnections={}, maxIdleTime={}, hostOverrides={}",
+                properties.getPool().getMaxConnections(),
+                properties.getPool().getMaxIdleTime(),
+                properties.getHosts().keySet());
+        return factory.createConnectionProvider(mtlsSslContext);
+    }
+
+    /**
+     * 共用的 mTLS HttpClient
      *
-     * @param sslBundles Spring Boot SSL Bundles
+     * @param factory Reactor Netty 元件工廠
+     * @param mtlsConnectionProvider 共用連線池
+     * @param mtlsSslContext 可熱更新的 SslContext
+     * @return 配置了 mTLS 的 HttpClient
+     */
+    @Bean("mtlsHttpClient")
+    @ConditionalOnMissingBean(name = "mtlsHttpClient")
+    public HttpClient mtlsHttpClient(
+            MtlsHttpClientFactory factory,
+            ConnectionProvider mtlsConnectionProvider,
+            ReloadableSslContext mtlsSslContext) {
+        return factory.createHttpClient(mtlsConnectionProvider, mtlsSslContext);
+    }
+
+    /**
+     * 建立配置了 mTLS 的 WebClient
+     *
+     * @param mtlsHttpClient 共用的 mTLS HttpClient
+     * @param serviceAuthFilter 服務間認證 filter (啟用 audit.service-auth 時存在)
+     * @return 配置了 mTLS 的 WebClient
+     */
+    @Bean("mtlsWebClient")
+    @Primary
+    public WebClient mtlsWebClient(
+            HttpClient mtlsHttpClient,
+            ObjectProvider<ServiceAuthExchangeFilterFunction> serviceAuthFilter) {
+        WebClient.Builder builder = WebClient.builder()
+            .clientConnector(new ReactorClientHttpConnector(mtlsHttpClient));
+        serviceAuthFilter.ifAvailable(filter -> {
+            log.info("Applying service authentication filter to mTLS WebClient");
+            builder.filter(filter);
+        });
+
+        log.info("mTLS WebClient initialized successfully");
+
+        return builder.build();
+    }
+
+    /**
+     * 建立 WebClient.Builder 用於自訂配置 (與 mtlsWebClient 共用連線池)
+     *
+     * @param mtlsHttpClient 共用的 mTLS HttpClient
+     * @param serviceAuthFilter 服務間認證 filter (啟用 audit.service-auth 時存在)
      * @return 配置了 mTLS 的 WebClient.Builder
      */
     @Bean("mtlsWebClientBuilder")
-    public WebClient.Builder mtlsWebClientBuilder(SslBundles sslBundles) {
-        try {
-            SslBundle sslBundle = sslBundles.getBundle(DEFAULT_BUNDLE_NAME);
-
-            HttpClient httpClient = HttpClient.create()
-                .secure(sslContextSpec -> {
-                    try {
-                        sslContextSpec.sslContext(
-                            io.netty.handler.ssl.SslContextBuilder.forClient()
-                                .keyManager(sslBundle.getManagers().getKeyManagerFactory())
-                                .trustManager(sslBundle.getManagers().getTrustManagerFactory())
-                                .build()
-                        );
-                    } catch (SSLException e) {
-                        throw new RuntimeException("Failed to configure SSL context", e);
-                    }
-                });
-
-            return WebClient.builder()
-                .clientConnector(new ReactorClientHttpConnector(httpClient));
+    public WebClient.Builder mtlsWebClientBuilder(
+            HttpClient mtlsHttpClient,
+            ObjectProvider<ServiceAuthExchangeFilterFunction> serviceAuthFilter) {
+        WebClient.Builder builder = WebClient.builder()
+            .clientConnector(new ReactorClientHttpConnector(mtlsHttpClient));
+        serviceAuthFilter.ifAvailable(builder::filter);
 
-        } catch (Exception e) {
-            log.error("Failed to create mTLS WebClient.Builder", e);
-            throw new RuntimeException("Failed to create mTLS WebClient.Builder", e);
-        }
+        return builder;
     }
 }
@@ -22,6 +22,7 @@ import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.security.oauth2.jwt.JwtDecoder;
 import org.springframework.security.oauth2.jwt.JwtDecoders;
 import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+import org.springframework.security.oauth2.jwt.SupplierJwtDecoder;
 import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationConverter;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.web.cors.CorsConfiguration;
@@ -122,7 +123,8 @@ public class SecurityAutoConfiguration {
                 return NimbusJwtDecoder.withJwkSetUri(properties.getJwkSetUri()).build();
             }
             log.info("Using issuer URI for JWT decoding: {}", properties.getIssuerUri());
-            return JwtDecoders.fromIssuerLocation(properties.getIssuerUri());
+            // Defer OIDC discovery to the first token so startup does not depend on the IdP
+            return new SupplierJwtDecoder(() -> JwtDecoders.fromIssuerLocation(properties.getIssuerUri()));
         }
 
         @Bean
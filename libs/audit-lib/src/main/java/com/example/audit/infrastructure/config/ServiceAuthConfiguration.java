@@ -1,17 +1,21 @@
 package com.example.audit.infrastructure.config;
 
+import com.example.audit.infrastructure.security.ReactiveServiceTokenProvider;
+import com.example.audit.infrastructure.security.ServiceAuthExchangeFilterFunction;
 import com.example.audit.infrastructure.security.ServiceAuthInterceptor;
 import com.example.audit.infrastructure.security.ServiceTokenProvider;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
 
 import java.time.Duration;
 import java.util.Collections;
@@ -24,6 +28,8 @@ import java.util.Collections;
  *   <li>ServiceTokenProvider - obtains tokens via OAuth2 Client Credentials</li>
  *   <li>ServiceAuthInterceptor - adds tokens to outgoing requests</li>
  *   <li>Pre-configured RestTemplate with authentication</li>
+ *   <li>ReactiveServiceTokenProvider / ServiceAuthExchangeFilterFunction - non-blocking
+ *       equivalents applied to the mTLS WebClient (when WebFlux is on the classpath)</li>
  * </ul>
  *
  * <p>Configuration example:</p>
@@ -45,6 +51,13 @@ import java.util.Collections;
  *
  * // Requests automatically include Bearer token
  * ResponseEntity&lt;?&gt; response = serviceRestTemplate.getForEntity(url, SomeType.class);
+ *
+ * &#64;Autowired
+ * &#64;Qualifier("mtlsWebClient")
+ * private WebClient mtlsWebClient;
+ *
+ * // Requests automatically include Bearer token, without blocking the event loop
+ * Mono&lt;SomeType&gt; body = mtlsWebClient.get().uri(url).retrieve().bodyToMono(SomeType.class);
  * </pre>
  */
 @Configuration
@@ -121,4 +134,47 @@ public class ServiceAuthConfiguration {
                 .interceptors(Collections.singletonList(interceptor))
                 .build();
     }
+
+    /**
+     * Reactive (non-blocking) service authentication for WebClient callers.
+     */
+    @Configuration
+    @ConditionalOnClass(name = "org.springframework.web.reactive.function.client.WebClient")
+    static class ReactiveServiceAuthConfiguration {
+
+        @Value("${audit.service-auth.client-id:}")
+        private String clientId;
+
+        @Value("${audit.service-auth.client-secret:}")
+        private String clientSecret;
+
+        @Value("${spring.application.name:unknown-service}")
+        private String serviceName;
+
+        /**
+         * Non-blocking service token provider with shared refresh.
+         *
+         * <p>The token WebClient is private to the provider (no auth filter to avoid recursion);
+         * it is not a bean, so it cannot be injected by type in place of an application WebClient.</p>
+         */
+        @Bean
+        @ConditionalOnMissingBean
+        @ConditionalOnProperty(name = {"audit.security.issuer-uri", "audit.service-auth.client-id"})
+        public ReactiveServiceTokenProvider reactiveServiceTokenProvider(SecurityProperties properties) {
+            log.info("Configuring reactive service token provider for client: {}", clientId);
+            return new ReactiveServiceTokenProvider(properties, WebClient.builder().build(), clientId, clientSecret);
+        }
+
+        /**
+         * Exchange filter for adding service tokens to outgoing WebClient requests.
+         */
+        @Bean
+        @ConditionalOnMissingBean
+        @ConditionalOnBean(ReactiveServiceTokenProvider.class)
+        public ServiceAuthExchangeFilterFunction serviceAuthExchangeFilterFunction(
+                ReactiveServiceTokenProvider tokenProvider) {
+            log.info("Configuring reactive service auth filter for: {}", serviceName);
+            return new ServiceAuthExchangeFilterFunction(tokenProvider, serviceName);
+        }
+    }
 }
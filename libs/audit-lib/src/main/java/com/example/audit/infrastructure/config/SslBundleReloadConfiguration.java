@@ -0,0 +1,78 @@
+package com.example.audit.infrastructure.config;
+
+import com.example.audit.infrastructure.metrics.SslReloadMetrics;
+import com.example.audit.infrastructure.ssl.SslBundleFileWatcher;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.autoconfigure.metrics.CompositeMeterRegistryAutoConfiguration;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.ssl.SslAutoConfiguration;
+import org.springframework.boot.autoconfigure.ssl.SslProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.ssl.SslBundleRegistry;
+import org.springframework.context.annotation.Bean;
+
+import java.util.List;
+
+/**
+ * SSL bundle 熱更新配置 (憑證輪替不需重啟 Pod)
+ *
+ * <p>監看 SSL bundle 的憑證檔案 (cert-manager 掛載的 Secret)，檔案變更時重建 bundle 並透過
+ * {@link SslBundleRegistry} 發布，由已註冊的 update handler 套用至：</p>
+ * <ul>
+ *   <li>內嵌 Tomcat connector ({@code server.ssl.bundle})：新連線使用新憑證，既有連線不中斷</li>
+ *   <li>mtlsWebClient：新連線使用新憑證，連線池中的舊連線於歸還時淘汰</li>
+ * </ul>
+ *
+ * <h3>配置範例 (application-mtls.yml)</h3>
+ * <pre>
+ * mtls:
+ *   reload:
+ *     enabled: true
+ *     bundles:
+ *       - mtls
+ *     quiet-period: 2s
+ * </pre>
+ *
+ * <p>指標：{@code mtls.ssl.reload} (重載延遲) 與 {@code mtls.client.connections.recycled} (淘汰的連線數)。</p>
+ *
+ * @see SslBundleFileWatcher
+ */
+@AutoConfiguration(after = {SslAutoConfiguration.class, CompositeMeterRegistryAutoConfiguration.class})
+@EnableConfigurationProperties(MtlsProperties.class)
+@ConditionalOnBean(SslBundleRegistry.class)
+@ConditionalOnProperty(name = "mtls.reload.enabled", havingValue = "true")
+public class SslBundleReloadConfiguration {
+
+    private static final Logger log = LoggerFactory.getLogger(SslBundleReloadConfiguration.class);
+
+    @Bean
+    @ConditionalOnBean(MeterRegistry.class)
+    @ConditionalOnMissingBean
+    public SslReloadMetrics sslReloadMetrics(MeterRegistry meterRegistry) {
+        return new SslReloadMetrics(meterRegistry);
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "close")
+    @ConditionalOnMissingBean
+    public SslBundleFileWatcher sslBundleFileWatcher(
+            MtlsProperties properties,
+            SslProperties sslProperties,
+            SslBundleRegistry sslBundleRegistry,
+            ObjectProvider<SslReloadMetrics> metrics) {
+
+        MtlsProperties.Reload reload = properties.getReload();
+        List<String> bundles = reload.getBundles().isEmpty()
+                ? List.of(properties.getBundleName())
+                : reload.getBundles();
+
+        log.info("Configuring SSL bundle hot reload for bundles: {}", bundles);
+        return new SslBundleFileWatcher(sslProperties, sslBundleRegistry, bundles,
+                reload.getQuietPeriod(), metrics.getIfAvailable());
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.audit.infrastructure.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Metrics collector for the mTLS WebClient.
+ *
+ * <p>Exposes the following metrics (connection pool gauges are exported separately
+ * by Reactor Netty under {@code reactor.netty.connection.provider.*}):</p>
+ * <ul>
+ *   <li>mtls.client.handshake (outcome=success|failure) - TLS handshakes performed by new connections</li>
+ *   <li>mtls.client.connections.recycled - Pooled connections retired after a certificate reload</li>
+ * </ul>
+ */
+public class MtlsClientMetrics {
+
+    private static final String METRIC_PREFIX = "mtls.client";
+
+    private final Timer successfulHandshakeTimer;
+    private final Timer failedHandshakeTimer;
+    private final Counter recycledConnectionsCounter;
+
+    public MtlsClientMetrics(MeterRegistry registry) {
+        this.successfulHandshakeTimer = handshakeTimer(registry, "success");
+        this.failedHandshakeTimer = handshakeTimer(registry, "failure");
+        this.recycledConnectionsCounter = Counter.builder(METRIC_PREFIX + ".connections.recycled")
+                .description("Pooled mTLS connections retired because they use a replaced certificate")
+                .register(registry);
+    }
+
+    private static Timer handshakeTimer(MeterRegistry registry, String outcome) {
+        return Timer.builder(METRIC_PREFIX + ".handshake")
+                .description("TLS handshakes performed by new mTLS client connections")
+                .tag("outcome", outcome)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .minimumExpectedValue(Duration.ofMillis(1))
+                .maximumExpectedValue(Duration.ofSeconds(10))
+                .register(registry);
+    }
+
+    /**
+     * Records a completed TLS handshake.
+     *
+     * @param durationNanos the handshake duration in nanoseconds
+     * @param success       whether the handshake succeeded
+     */
+    public void recordHandshake(long durationNanos, boolean success) {
+        (success ? successfulHandshakeTimer : failedHandshakeTimer)
+                .record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Gets the number of successful handshakes.
+     *
+     * @return the handshake count
+     */
+    public long getHandshakeCount() {
+        return successfulHandshakeTimer.count();
+    }
+
+    /**
+     * Gets the mean handshake duration.
+     *
+     * @param unit the time unit
+     * @return the mean duration
+     */
+    public double getMeanHandshakeTime(TimeUnit unit) {
+        return successfulHandshakeTimer.mean(unit);
+    }
+
+    /**
+     * Increments the recycled connections counter.
+     */
+    public void incrementRecycledConnections() {
+        recycledConnectionsCounter.increment();
+    }
+
+    /**
+     * Gets the number of connections recycled after certificate reloads.
+     *
+     * @return the recycled count
+     */
+    public double getRecycledConnectionsCount() {
+        return recycledConnectionsCounter.count();
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.audit.infrastructure.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Metrics collector for SSL bundle hot reload.
+ *
+ * <p>Exposes the following metrics:</p>
+ * <ul>
+ *   <li>mtls.ssl.reload (bundle, outcome=success|failure) - Time to rebuild a bundle
+ *       from the changed files and apply it to clients and server connectors</li>
+ * </ul>
+ */
+public class SslReloadMetrics {
+
+    private static final String METRIC_NAME = "mtls.ssl.reload";
+
+    private final MeterRegistry registry;
+
+    public SslReloadMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * Records a bundle reload.
+     *
+     * @param bundleName    the reloaded bundle
+     * @param durationNanos the reload duration in nanoseconds
+     * @param success       whether the reload succeeded
+     */
+    public void recordReload(String bundleName, long durationNanos, boolean success) {
+        timer(bundleName, success).record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Gets the number of successful reloads of a bundle.
+     *
+     * @param bundleName the bundle name
+     * @return the reload count
+     */
+    public long getReloadCount(String bundleName) {
+        return timer(bundleName, true).count();
+    }
+
+    private Timer timer(String bundleName, boolean success) {
+        return Timer.builder(METRIC_NAME)
+                .description("Time to reload an SSL bundle after its certificate files changed")
+                .tag("bundle", bundleName)
+                .tag("outcome", success ? "success" : "failure")
+                .minimumExpectedValue(Duration.ofMillis(1))
+                .maximumExpectedValue(Duration.ofSeconds(10))
+                .register(registry);
+    }
+}
@@ -0,0 +1,180 @@
+package com.example.audit.infrastructure.security;
+
+import com.example.audit.infrastructure.config.SecurityProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.BodyInserters;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Non-blocking service token provider for East-West authentication.
+ *
+ * <p>Reactive counterpart of {@link ServiceTokenProvider}: obtains tokens via the
+ * OAuth2 Client Credentials flow using a {@link WebClient}, so it can be used from
+ * Netty event-loop threads without blocking.</p>
+ *
+ * <p>Features:</p>
+ * <ul>
+ *   <li>Cached token is returned synchronously via {@code Mono.just} (no thread hop)</li>
+ *   <li>Concurrent callers share a single in-flight refresh</li>
+ *   <li>Refresh is triggered before expiry using the same buffer as the blocking provider</li>
+ * </ul>
+ *
+ * <p>Usage:</p>
+ * <pre>
+ * reactiveServiceTokenProvider.getToken()
+ *     .flatMap(token -&gt; webClient.get().uri(url)
+ *         .headers(h -&gt; h.setBearerAuth(token))
+ *         .retrieve()
+ *         .bodyToMono(Response.class));
+ * </pre>
+ */
+public class ReactiveServiceTokenProvider {
+
+    private static final Logger log = LoggerFactory.getLogger(ReactiveServiceTokenProvider.class);
+
+    /**
+     * Buffer time in seconds before token expiry to trigger refresh.
+     */
+    private static final long TOKEN_REFRESH_BUFFER_SECONDS = 60;
+
+    private static final Duration TOKEN_REQUEST_TIMEOUT = Duration.ofSeconds(10);
+
+    private final WebClient webClient;
+    private final String tokenEndpoint;
+    private final String clientId;
+    private final String clientSecret;
+
+    private final AtomicReference<CachedToken> currentToken = new AtomicReference<>();
+
+    /**
+     * The refresh currently in flight, shared by all subscribers until it completes.
+     */
+    private final AtomicReference<Mono<CachedToken>> inflightRefresh = new AtomicReference<>();
+
+    public ReactiveServiceTokenProvider(
+            SecurityProperties properties,
+            WebClient webClient,
+            String clientId,
+            String clientSecret) {
+        this.webClient = webClient;
+        this.clientId = clientId;
+        this.clientSecret = clientSecret;
+        this.tokenEndpoint = ServiceTokenProvider.buildTokenEndpoint(properties.getIssuerUri());
+    }
+
+    /**
+     * Get a valid access token, refreshing if necessary.
+     *
+     * @return access token, or empty if the token could not be obtained
+     */
+    public Mono<String> getToken() {
+        CachedToken cached = currentToken.get();
+        if (cached != null && !cached.isExpiringSoon()) {
+            return Mono.just(cached.accessToken);
+        }
+        return Mono.defer(this::sharedRefresh).map(token -> token.accessToken);
+    }
+
+    /**
+     * Clear the cached token. The next call to {@link #getToken()} fetches a new one.
+     */
+    public void clearCache() {
+        currentToken.set(null);
+        log.info("Reactive token cache cleared");
+    }
+
+    private Mono<CachedToken> sharedRefresh() {
+        while (true) {
+            // Another subscriber may have completed a refresh in the meantime
+            CachedToken cached = currentToken.get();
+            if (cached != null && !cached.isExpiringSoon()) {
+                return Mono.just(cached);
+            }
+
+            Mono<CachedToken> inflight = inflightRefresh.get();
+            if (inflight != null) {
+                return inflight;
+            }
+
+            Mono<CachedToken> refresh = fetchNewToken()
+                    .doOnNext(currentToken::set)
+                    .doFinally(signal -> inflightRefresh.set(null))
+                    .cache();
+
+            if (inflightRefresh.compareAndSet(null, refresh)) {
+                return refresh;
+            }
+        }
+    }
+
+    /**
+     * Fetch a new token from the authorization server.
+     */
+    private Mono<CachedToken> fetchNewToken() {
+        log.debug("Fetching new token (reactive) for service: {}", clientId);
+
+        return webClient.post()
+                .uri(tokenEndpoint)
+                .contentType(MediaType.APPLICATION_FORM_URLENCODED)
+                .headers(headers -> headers.setBasicAuth(clientId, clientSecret))
+                .body(BodyInserters.fromFormData("grant_type", "client_credentials")
+                        .with("scope", "audit:read audit:write"))
+                .retrieve()
+                .bodyToMono(TokenResponse.class)
+                .timeout(TOKEN_REQUEST_TIMEOUT)
+                .filter(response -> response.accessToken != null)
+                .map(response -> {
+                    log.info("Successfully obtained token for service: {}, expires in: {}s",
+                            clientId, response.expiresIn);
+                    return new CachedToken(
+                            response.accessToken,
+                            Instant.now().plusSeconds(response.expiresIn));
+                })
+                .onErrorResume(e -> {
+                    log.error("Error fetching token for service: {}", clientId, e);
+                    return Mono.empty();
+                });
+    }
+
+    /**
+     * Cached token with expiry tracking.
+     */
+    private static class CachedToken {
+        final String accessToken;
+        final Instant expiresAt;
+
+        CachedToken(String accessToken, Instant expiresAt) {
+            this.accessToken = accessToken;
+            this.expiresAt = expiresAt;
+        }
+
+        boolean isExpiringSoon() {
+            return Instant.now().plusSeconds(TOKEN_REFRESH_BUFFER_SECONDS).isAfter(expiresAt);
+        }
+    }
+
+    /**
+     * Token response from authorization server.
+     */
+    private static class TokenResponse {
+        @JsonProperty("access_token")
+        String accessToken;
+
+        @JsonProperty("expires_in")
+        long expiresIn;
+
+        @JsonProperty("token_type")
+        String tokenType;
+
+        @JsonProperty("scope")
+        String scope;
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.audit.infrastructure.security;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+
+/**
+ * WebClient filter for East-West service authentication.
+ *
+ * <p>Reactive counterpart of {@link ServiceAuthInterceptor}. Adds a Bearer token
+ * obtained from {@link ReactiveServiceTokenProvider} to outgoing requests without
+ * blocking the calling (event-loop) thread.</p>
+ *
+ * <p>Usage with WebClient:</p>
+ * <pre>
+ * WebClient webClient = WebClient.builder()
+ *     .filter(new ServiceAuthExchangeFilterFunction(reactiveServiceTokenProvider))
+ *     .build();
+ * </pre>
+ *
+ * <p>Headers added:</p>
+ * <ul>
+ *   <li>Authorization: Bearer {token}</li>
+ *   <li>X-Service-Name: {serviceName} (optional)</li>
+ * </ul>
+ */
+public class ServiceAuthExchangeFilterFunction implements ExchangeFilterFunction {
+
+    private static final Logger log = LoggerFactory.getLogger(ServiceAuthExchangeFilterFunction.class);
+
+    private static final String SERVICE_NAME_HEADER = "X-Service-Name";
+
+    private final ReactiveServiceTokenProvider tokenProvider;
+    private final String serviceName;
+
+    /**
+     * Create filter with token provider.
+     *
+     * @param tokenProvider the reactive service token provider
+     */
+    public ServiceAuthExchangeFilterFunction(ReactiveServiceTokenProvider tokenProvider) {
+        this(tokenProvider, null);
+    }
+
+    /**
+     * Create filter with token provider and service name.
+     *
+     * @param tokenProvider the reactive service token provider
+     * @param serviceName   optional service name to include in headers
+     */
+    public ServiceAuthExchangeFilterFunction(ReactiveServiceTokenProvider tokenProvider, String serviceName) {
+        this.tokenProvider = tokenProvider;
+        this.serviceName = serviceName;
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        // Skip if Authorization header already present
+        if (request.headers().containsKey(HttpHeaders.AUTHORIZATION)) {
+            log.trace("Authorization header already present, skipping token injection");
+            return next.exchange(request);
+        }
+
+        return tokenProvider.getToken()
+                .map(token -> {
+                    log.trace("Added service token to request: {} {}", request.method(), request.url());
+                    return withHeaders(request, token);
+                })
+                .switchIfEmpty(Mono.fromSupplier(() -> {
+                    log.warn("Failed to obtain service token for request: {} {}",
+                            request.method(), request.url());
+                    return withHeaders(request, null);
+                }))
+                .flatMap(next::exchange);
+    }
+
+    private ClientRequest withHeaders(ClientRequest request, String token) {
+        return ClientRequest.from(request)
+                .headers(headers -> {
+                    if (token != null) {
+                        headers.setBearerAuth(token);
+                    }
+                    // Add service name header if configured
+                    if (serviceName != null && !serviceName.isBlank()) {
+                        headers.add(SERVICE_NAME_HEADER, serviceName);
+                    }
+                })
+                .build();
+    }
+}
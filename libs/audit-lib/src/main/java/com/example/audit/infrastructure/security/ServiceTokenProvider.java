@@ -157,7 +157,7 @@ public class ServiceTokenProvider {
     /**
      * Build token endpoint URL from issuer URI.
      */
-    private String buildTokenEndpoint(String issuerUri) {
+    static String buildTokenEndpoint(String issuerUri) {
         if (issuerUri == null || issuerUri.isBlank()) {
             throw new IllegalArgumentException("Issuer URI is required for service authentication");
         }
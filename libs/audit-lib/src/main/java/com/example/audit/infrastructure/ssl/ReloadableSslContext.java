@@ -0,0 +1,94 @@
+package com.example.audit.infrastructure.ssl;
+
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.handler.ssl.ApplicationProtocolNegotiator;
+import io.netty.handler.ssl.SslContext;
+
+import javax.net.ssl.SSLEngine;
+import javax.net.ssl.SSLSessionContext;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Netty {@link SslContext} whose underlying context can be swapped at runtime.
+ *
+ * <p>Every new connection asks the current delegate for its {@link SSLEngine}, so a
+ * certificate rotation applies to new connections as soon as {@link #update(SslContext)}
+ * returns, while established connections keep their existing session.</p>
+ *
+ * <p>Each update increments a {@link #generation() generation} number. Connections can be
+ * tagged with the generation they were created with, so connection pools can retire
+ * connections that still use the previous certificate.</p>
+ */
+public class ReloadableSslContext extends SslContext {
+
+    private final AtomicReference<SslContext> delegate;
+    private final AtomicLong generation = new AtomicLong();
+
+    public ReloadableSslContext(SslContext initial) {
+        this.delegate = new AtomicReference<>(initial);
+    }
+
+    /**
+     * Atomically replace the underlying SSL context.
+     *
+     * @param sslContext the new SSL context
+     * @return the new generation number
+     */
+    public long update(SslContext sslContext) {
+        if (sslContext.isClient() != delegate.get().isClient()) {
+            throw new IllegalArgumentException("Cannot replace a client SSL context with a server one or vice versa");
+        }
+        delegate.set(sslContext);
+        return generation.incrementAndGet();
+    }
+
+    /**
+     * Get the current generation, incremented on every {@link #update(SslContext)}.
+     *
+     * @return the current generation
+     */
+    public long generation() {
+        return generation.get();
+    }
+
+    /**
+     * Get the SSL context new connections are currently created with.
+     *
+     * @return the current SSL context
+     */
+    public SslContext current() {
+        return delegate.get();
+    }
+
+    @Override
+    public boolean isClient() {
+        return delegate.get().isClient();
+    }
+
+    @Override
+    public List<String> cipherSuites() {
+        return delegate.get().cipherSuites();
+    }
+
+    @Override
+    public ApplicationProtocolNegotiator applicationProtocolNegotiator() {
+        return delegate.get().applicationProtocolNegotiator();
+    }
+
+    @Override
+    public SSLEngine newEngine(ByteBufAllocator alloc) {
+        return delegate.get().newEngine(alloc);
+    }
+
+    @Override
+    public SSLEngine newEngine(ByteBufAllocator alloc, String peerHost, int peerPort) {
+        return delegate.get().newEngine(alloc, peerHost, peerPort);
+    }
+
+    @Override
+    public SSLSessionContext sessionContext() {
+        return delegate.get().sessionContext();
+    }
+}
@@ -0,0 +1,274 @@
+package com.example.audit.infrastructure.ssl;
+
+import com.example.audit.infrastructure.metrics.SslReloadMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.ssl.JksSslBundleProperties;
+import org.springframework.boot.autoconfigure.ssl.PemSslBundleProperties;
+import org.springframework.boot.autoconfigure.ssl.PropertiesSslBundle;
+import org.springframework.boot.autoconfigure.ssl.SslProperties;
+import org.springframework.boot.ssl.SslBundle;
+import org.springframework.boot.ssl.SslBundleRegistry;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Watches the certificate files of SSL bundles and hot-reloads the bundles when they change.
+ *
+ * <p>Uses an NIO {@link WatchService} on the directories containing the bundle files.
+ * Directory events are debounced for a quiet period, then the file contents are
+ * fingerprinted; only a real content change rebuilds the bundle. This also covers
+ * cert-manager / Kubernetes secret volumes, where files are symlinks that are swapped
+ * atomically through a {@code ..data} directory link.</p>
+ *
+ * <p>A rebuilt bundle is published through {@link SslBundleRegistry#updateBundle}, which
+ * notifies every registered bundle update handler: the embedded Tomcat connector
+ * (when {@code server.ssl.bundle} refers to the bundle) and the mTLS WebClient.</p>
+ *
+ * <p>If a rebuild fails (e.g. a file is only partially written), the previous
+ * bundle stays active and the next file event triggers another attempt.</p>
+ */
+public class SslBundleFileWatcher implements Closeable {
+
+    private static final Logger log = LoggerFactory.getLogger(SslBundleFileWatcher.class);
+
+    private static final String FILE_PREFIX = "file:";
+    private static final String PEM_CONTENT_MARKER = "-----BEGIN";
+
+    private final SslBundleRegistry registry;
+    private final Duration quietPeriod;
+    private final SslReloadMetrics metrics;
+
+    private final Map<String, WatchedBundle> bundles = new LinkedHashMap<>();
+
+    private WatchService watchService;
+    private Thread thread;
+
+    /**
+     * Create watcher for the given bundles.
+     *
+     * @param sslProperties Spring Boot SSL bundle properties
+     * @param registry      the registry to publish reloaded bundles to
+     * @param bundleNames   names of the bundles to watch
+     * @param quietPeriod   time without file events before a change is applied
+     * @param metrics       reload metrics, may be null
+     */
+    public SslBundleFileWatcher(
+            SslProperties sslProperties,
+            SslBundleRegistry registry,
+            List<String> bundleNames,
+            Duration quietPeriod,
+            SslReloadMetrics metrics) {
+        this.registry = registry;
+        this.quietPeriod = quietPeriod;
+        this.metrics = metrics;
+
+        for (String bundleName : bundleNames) {
+            WatchedBundle bundle = resolve(sslProperties, bundleName);
+            if (bundle != null) {
+                bundles.put(bundleName, bundle);
+            }
+        }
+    }
+
+    /**
+     * Start watching on a daemon thread.
+     *
+     * @throws IOException if the directories cannot be registered
+     */
+    public synchronized void start() throws IOException {
+        if (thread != null || bundles.isEmpty()) {
+            return;
+        }
+
+        watchService = FileSystems.getDefault().newWatchService();
+        Set<Path> directories = new HashSet<>();
+        for (WatchedBundle bundle : bundles.values()) {
+            directories.addAll(bundle.directories());
+            bundle.fingerprint = bundle.computeFingerprint();
+        }
+        for (Path directory : directories) {
+            directory.register(watchService,
+                    StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_MODIFY,
+                    StandardWatchEventKinds.ENTRY_DELETE);
+        }
+
+        thread = new Thread(this::watch, "ssl-bundle-watcher");
+        thread.setDaemon(true);
+        thread.start();
+        log.info("Watching SSL bundles {} in {}", bundles.keySet(), directories);
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (thread == null) {
+            return;
+        }
+        thread.interrupt();
+        watchService.close();
+        thread = null;
+        log.info("Stopped watching SSL bundles {}", bundles.keySet());
+    }
+
+    /**
+     * Reload every bundle whose files changed since the last check.
+     *
+     * @return names of the reloaded bundles
+     */
+    public synchronized Set<String> reloadChanged() {
+        Set<String> reloaded = new LinkedHashSet<>();
+        bundles.forEach((name, bundle) -> {
+            byte[] fingerprint = bundle.computeFingerprint();
+            if (fingerprint != null && !Arrays.equals(fingerprint, bundle.fingerprint) && reload(name, bundle)) {
+                bundle.fingerprint = fingerprint;
+                reloaded.add(name);
+            }
+        });
+        return reloaded;
+    }
+
+    private void watch() {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                WatchKey key = watchService.take();
+                drain(key);
+
+                // Debounce: wait until the files stopped changing
+                WatchKey next;
+                while ((next = watchService.poll(quietPeriod.toMillis(), TimeUnit.MILLISECONDS)) != null) {
+                    drain(next);
+                }
+                reloadChanged();
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void drain(WatchKey key) {
+        key.pollEvents();
+        key.reset();
+    }
+
+    private boolean reload(String name, WatchedBundle bundle) {
+        long start = System.nanoTime();
+        try {
+            SslBundle loaded = bundle.loader.get();
+            // Bundles load their stores lazily: fail here on a partially written file
+            // instead of in the update handlers
+            loaded.createSslContext();
+            registry.updateBundle(name, loaded);
+            long elapsed = System.nanoTime() - start;
+            if (metrics != null) {
+                metrics.recordReload(name, elapsed, true);
+            }
+            log.info("Reloaded SSL bundle '{}' in {}ms", name, TimeUnit.NANOSECONDS.toMillis(elapsed));
+            return true;
+        } catch (Exception e) {
+            if (metrics != null) {
+                metrics.recordReload(name, System.nanoTime() - start, false);
+            }
+            log.error("Failed to reload SSL bundle '{}', keeping previous certificates", name, e);
+            return false;
+        }
+    }
+
+    private static WatchedBundle resolve(SslProperties sslProperties, String bundleName) {
+        PemSslBundleProperties pem = sslProperties.getBundle().getPem().get(bundleName);
+        if (pem != null) {
+            return new WatchedBundle(() -> PropertiesSslBundle.get(pem), watchablePaths(bundleName,
+                    pem.getKeystore().getCertificate(),
+                    pem.getKeystore().getPrivateKey(),
+                    pem.getTruststore().getCertificate(),
+                    pem.getTruststore().getPrivateKey()));
+        }
+        JksSslBundleProperties jks = sslProperties.getBundle().getJks().get(bundleName);
+        if (jks != null) {
+            return new WatchedBundle(() -> PropertiesSslBundle.get(jks), watchablePaths(bundleName,
+                    jks.getKeystore().getLocation(),
+                    jks.getTruststore().getLocation()));
+        }
+        log.warn("SSL bundle '{}' is not configured under spring.ssl.bundle, not watching it", bundleName);
+        return null;
+    }
+
+    private static List<Path> watchablePaths(String bundleName, String... locations) {
+        return Arrays.stream(locations)
+                .filter(location -> location != null && !location.isBlank())
+                .filter(location -> {
+                    boolean watchable = location.startsWith(FILE_PREFIX)
+                            || (!location.startsWith(PEM_CONTENT_MARKER) && !location.contains(":"));
+                    if (!watchable) {
+                        log.warn("SSL bundle '{}' content '{}' is not a file, changes will not be detected",
+                                bundleName, abbreviate(location));
+                    }
+                    return watchable;
+                })
+                .map(location -> Path.of(location.startsWith(FILE_PREFIX)
+                        ? location.substring(FILE_PREFIX.length()) : location).toAbsolutePath())
+                .toList();
+    }
+
+    private static String abbreviate(String location) {
+        return location.length() > 40 ? location.substring(0, 40) + "..." : location;
+    }
+
+    /**
+     * A watched bundle: its files, how to rebuild it and the last applied fingerprint.
+     */
+    private static class WatchedBundle {
+        final Supplier<SslBundle> loader;
+        final List<Path> files;
+        byte[] fingerprint;
+
+        WatchedBundle(Supplier<SslBundle> loader, List<Path> files) {
+            this.loader = loader;
+            this.files = files;
+        }
+
+        Set<Path> directories() {
+            Set<Path> directories = new HashSet<>();
+            files.forEach(file -> directories.add(file.getParent()));
+            return directories;
+        }
+
+        /**
+         * SHA-256 over the contents of all files, following symlinks. Null while a file is missing.
+         */
+        byte[] computeFingerprint() {
+            try {
+                MessageDigest digest = MessageDigest.getInstance("SHA-256");
+                for (Path file : files) {
+                    digest.update(Files.readAllBytes(file));
+                }
+                return digest.digest();
+            } catch (IOException e) {
+                log.debug("SSL bundle file not readable yet: {}", e.getMessage());
+                return null;
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.example.audit.integration;
+
+import com.example.audit.infrastructure.client.MtlsHttpClientFactory;
+import com.example.audit.infrastructure.config.MtlsProperties;
+import com.example.audit.infrastructure.metrics.MtlsClientMetrics;
+import com.example.audit.infrastructure.ssl.ReloadableSslContext;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.netty.handler.ssl.ClientAuth;
+import io.netty.handler.ssl.SslContextBuilder;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.ssl.SslBundle;
+import org.springframework.boot.ssl.pem.PemSslStoreBundle;
+import org.springframework.boot.ssl.pem.PemSslStoreDetails;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.io.File;
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Certificate rotation for the pooled mTLS WebClient against a local mTLS stub server.
+ */
+@DisplayName("mTLS Certificate Reload")
+class MtlsCertificateReloadTest {
+
+    private static DisposableServer server;
+
+    @BeforeAll
+    static void startServer() throws IOException {
+        File cert = new ClassPathResource("certs/server.crt").getFile();
+        File key = new ClassPathResource("certs/server.key").getFile();
+        File ca = new ClassPathResource("certs/ca.crt").getFile();
+
+        server = HttpServer.create()
+                .host("127.0.0.1")
+                .port(0)
+                .secure(spec -> spec.sslContext(SslContextBuilder.forServer(cert, key)
+                        .trustManager(ca)
+                        .clientAuth(ClientAuth.REQUIRE)))
+                .route(routes -> routes.get("/ping", (request, response) ->
+                        response.sendString(Mono.just("pong"))))
+                .bindNow();
+    }
+
+    @AfterAll
+    static void stopServer() {
+        if (server != null) {
+            server.disposeNow();
+        }
+    }
+
+    @Test
+    @DisplayName("should retire pooled connections created with the previous certificate")
+    void shouldRecyclePooledConnectionsAfterReload() {
+        // given
+        MtlsProperties properties = new MtlsProperties();
+        properties.setHttp2(false);
+        MtlsClientMetrics metrics = new MtlsClientMetrics(new SimpleMeterRegistry());
+        MtlsHttpClientFactory factory = new MtlsHttpClientFactory(properties, metrics);
+        ReloadableSslContext sslContext = new ReloadableSslContext(factory.createSslContext(clientBundle()));
+        ConnectionProvider pool = factory.createConnectionProvider(sslContext);
+
+        try {
+            WebClient webClient = WebClient.builder()
+                    .clientConnector(new ReactorClientHttpConnector(factory.createHttpClient(pool, sslContext)))
+                    .baseUrl("https://localhost:" + server.port())
+                    .build();
+
+            for (int i = 0; i < 5; i++) {
+                assertThat(call(webClient)).isEqualTo("pong");
+            }
+            long handshakesBefore = metrics.getHandshakeCount();
+
+            // when - the bundle was rotated
+            sslContext.update(factory.createSslContext(clientBundle()));
+            for (int i = 0; i < 5; i++) {
+                assertThat(call(webClient)).isEqualTo("pong");
+            }
+
+            // then - stale connections were retired and replaced by new handshakes
+            assertThat(metrics.getRecycledConnectionsCount()).isBetween(1.0, (double) handshakesBefore);
+            assertThat(metrics.getHandshakeCount()).isGreaterThan(handshakesBefore);
+        } finally {
+            pool.disposeLater().block();
+        }
+    }
+
+    private static SslBundle clientBundle() {
+        return SslBundle.of(new PemSslStoreBundle(
+                PemSslStoreDetails.forCertificate("classpath:certs/client.crt")
+                        .withPrivateKey("classpath:certs/client.key"),
+                PemSslStoreDetails.forCertificate("classpath:certs/ca.crt")));
+    }
+
+    private static String call(WebClient webClient) {
+        return webClient.get().uri("/ping").retrieve().bodyToMono(String.class).block();
+    }
+}
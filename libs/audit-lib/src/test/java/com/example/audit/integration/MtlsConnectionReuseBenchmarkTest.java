@@ -0,0 +1,165 @@
+package com.example.audit.integration;
+
+import com.example.audit.infrastructure.client.MtlsHttpClientFactory;
+import com.example.audit.infrastructure.config.MtlsProperties;
+import com.example.audit.infrastructure.metrics.MtlsClientMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.netty.handler.ssl.ClientAuth;
+import io.netty.handler.ssl.SslContext;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ssl.SslBundle;
+import org.springframework.boot.ssl.pem.PemSslStoreBundle;
+import org.springframework.boot.ssl.pem.PemSslStoreDetails;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.Http2SslContextSpec;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Connection reuse benchmark for the mTLS WebClient against a local mTLS stub server.
+ *
+ * <p>Compares a connection per request (full handshake with client certificate
+ * verification every time) with the pooled HTTP/2 client built by
+ * {@link MtlsHttpClientFactory}. Handshake counts are asserted; latencies are logged.</p>
+ */
+@Tag("benchmark")
+@DisplayName("mTLS Connection Reuse Benchmark")
+class MtlsConnectionReuseBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(MtlsConnectionReuseBenchmarkTest.class);
+
+    private static final int WARMUP_REQUESTS = 20;
+    private static final int REQUESTS = 200;
+
+    /**
+     * Header added by Netty when an HTTP/2 stream is converted to an HTTP/1.x request.
+     */
+    private static final String HTTP2_STREAM_ID_HEADER = "x-http2-stream-id";
+
+    private static DisposableServer server;
+    private static SslBundle clientBundle;
+
+    @BeforeAll
+    static void startServer() throws IOException {
+        File cert = new ClassPathResource("certs/server.crt").getFile();
+        File key = new ClassPathResource("certs/server.key").getFile();
+        File ca = new ClassPathResource("certs/ca.crt").getFile();
+
+        server = HttpServer.create()
+                .host("127.0.0.1")
+                .port(0)
+                .protocol(HttpProtocol.H2, HttpProtocol.HTTP11)
+                .secure(spec -> spec.sslContext(Http2SslContextSpec.forServer(cert, key)
+                        .configure(builder -> builder.trustManager(ca).clientAuth(ClientAuth.REQUIRE))))
+                .route(routes -> routes.get("/ping", (request, response) ->
+                        response.sendString(Mono.just(
+                                request.requestHeaders().contains(HTTP2_STREAM_ID_HEADER) ? "h2" : "http/1.1"))))
+                .bindNow();
+
+        clientBundle = SslBundle.of(new PemSslStoreBundle(
+                PemSslStoreDetails.forCertificate("classpath:certs/client.crt")
+                        .withPrivateKey("classpath:certs/client.key"),
+                PemSslStoreDetails.forCertificate("classpath:certs/ca.crt")));
+    }
+
+    @AfterAll
+    static void stopServer() {
+        if (server != null) {
+            server.disposeNow();
+        }
+    }
+
+    @Test
+    @DisplayName("pooled HTTP/2 client should handshake once instead of once per request")
+    void pooledClientShouldReuseConnections() {
+        MtlsProperties defaults = new MtlsProperties();
+
+        // before: new connection (and full mTLS handshake) for every request
+        Result perRequest = run("connection-per-request", false, ConnectionProvider.newConnection());
+
+        // after: shared pool, with and without HTTP/2 over ALPN
+        Result pooledHttp11 = runPooled("pooled-http1.1", false, defaults);
+        Result pooledHttp2 = runPooled("pooled-h2", true, defaults);
+
+        log.info("mTLS benchmark ({} requests) - {}", REQUESTS, perRequest);
+        log.info("mTLS benchmark ({} requests) - {}", REQUESTS, pooledHttp11);
+        log.info("mTLS benchmark ({} requests) - {}", REQUESTS, pooledHttp2);
+
+        assertThat(perRequest.protocol).isEqualTo("http/1.1");
+        assertThat(perRequest.handshakes).isEqualTo(REQUESTS);
+        assertThat(pooledHttp11.handshakes).isLessThan(REQUESTS / 10);
+        assertThat(pooledHttp2.protocol).isEqualTo("h2");
+        assertThat(pooledHttp2.handshakes).isLessThanOrEqualTo(1);
+    }
+
+    private Result runPooled(String name, boolean http2, MtlsProperties properties) {
+        ConnectionProvider pool = new MtlsHttpClientFactory(properties, null).createConnectionProvider();
+        try {
+            return run(name, http2, pool);
+        } finally {
+            pool.disposeLater().block();
+        }
+    }
+
+    private Result run(String name, boolean http2, ConnectionProvider connectionProvider) {
+        MtlsProperties properties = new MtlsProperties();
+        properties.setHttp2(http2);
+        MtlsClientMetrics metrics = new MtlsClientMetrics(new SimpleMeterRegistry());
+        MtlsHttpClientFactory factory = new MtlsHttpClientFactory(properties, metrics);
+        SslContext sslContext = factory.createSslContext(clientBundle);
+
+        WebClient webClient = WebClient.builder()
+                .clientConnector(new ReactorClientHttpConnector(
+                        factory.createHttpClient(connectionProvider, sslContext)))
+                .baseUrl("https://localhost:" + server.port())
+                .build();
+
+        for (int i = 0; i < WARMUP_REQUESTS; i++) {
+            call(webClient);
+        }
+        long warmupHandshakes = metrics.getHandshakeCount();
+
+        String protocol = null;
+        long start = System.nanoTime();
+        for (int i = 0; i < REQUESTS; i++) {
+            protocol = call(webClient);
+        }
+        long elapsed = System.nanoTime() - start;
+
+        return new Result(name, protocol,
+                metrics.getHandshakeCount() - warmupHandshakes,
+                metrics.getMeanHandshakeTime(TimeUnit.MICROSECONDS),
+                TimeUnit.NANOSECONDS.toMicros(elapsed) / (double) REQUESTS);
+    }
+
+    private static String call(WebClient webClient) {
+        return webClient.get().uri("/ping").retrieve().bodyToMono(String.class).block();
+    }
+
+    private record Result(String name, String protocol, long handshakes,
+                          double meanHandshakeMicros, double meanRequestMicros) {
+
+        @Override
+        public String toString() {
+            return String.format("%s: protocol=%s, handshakes=%d, mean handshake=%.0fus, mean request=%.0fus",
+                    name, protocol, handshakes, meanHandshakeMicros, meanRequestMicros);
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.audit.unit.client;
+
+import com.example.audit.infrastructure.client.MtlsHttpClientFactory;
+import com.example.audit.infrastructure.config.MtlsProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.net.InetSocketAddress;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("MtlsHttpClientFactory Tests")
+class MtlsHttpClientFactoryTest {
+
+    @Nested
+    @DisplayName("createConnectionProvider()")
+    class CreateConnectionProviderTests {
+
+        @Test
+        @DisplayName("should apply default pool settings")
+        void shouldApplyDefaultPoolSettings() {
+            // given
+            MtlsProperties properties = new MtlsProperties();
+            properties.getPool().setMaxConnections(20);
+
+            // when
+            ConnectionProvider provider = new MtlsHttpClientFactory(properties, null).createConnectionProvider();
+
+            // then
+            try {
+                assertThat(provider.maxConnections()).isEqualTo(20);
+            } finally {
+                provider.dispose();
+            }
+        }
+
+        @Test
+        @DisplayName("should apply per-host overrides")
+        void shouldApplyPerHostOverrides() {
+            // given
+            MtlsProperties properties = new MtlsProperties();
+            MtlsProperties.Pool hostPool = new MtlsProperties.Pool();
+            hostPool.setMaxConnections(200);
+            properties.getHosts().put("product-service:8081", hostPool);
+
+            // when
+            ConnectionProvider provider = new MtlsHttpClientFactory(properties, null).createConnectionProvider();
+
+            // then
+            try {
+                assertThat(provider.maxConnectionsPerHost())
+                        .containsEntry(InetSocketAddress.createUnresolved("product-service", 8081), 200);
+            } finally {
+                provider.dispose();
+            }
+        }
+
+        @Test
+        @DisplayName("should reject host keys without port")
+        void shouldRejectHostKeyWithoutPort() {
+            // given
+            MtlsProperties properties = new MtlsProperties();
+            properties.getHosts().put("product-service", new MtlsProperties.Pool());
+
+            // when/then
+            assertThatThrownBy(() -> new MtlsHttpClientFactory(properties, null).createConnectionProvider())
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("host:port");
+        }
+    }
+
+    @Nested
+    @DisplayName("MtlsProperties.Pool")
+    class PoolMergeTests {
+
+        @Test
+        @DisplayName("should inherit unset values from parent pool")
+        void shouldInheritUnsetValues() {
+            // given
+            MtlsProperties.Pool defaults = new MtlsProperties().getPool();
+            MtlsProperties.Pool hostPool = new MtlsProperties.Pool();
+            hostPool.setMaxIdleTime(Duration.ofSeconds(5));
+
+            // when
+            MtlsProperties.Pool merged = hostPool.mergedWith(defaults);
+
+            // then
+            assertThat(merged.getMaxIdleTime()).isEqualTo(Duration.ofSeconds(5));
+            assertThat(merged.getMaxConnections()).isEqualTo(defaults.getMaxConnections());
+            assertThat(merged.getPendingAcquireTimeout()).isEqualTo(defaults.getPendingAcquireTimeout());
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package com.example.audit.unit.security;
+
+import com.example.audit.infrastructure.config.SecurityProperties;
+import com.example.audit.infrastructure.security.ReactiveServiceTokenProvider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("ReactiveServiceTokenProvider Tests")
+class ReactiveServiceTokenProviderTest {
+
+    private final AtomicInteger tokenRequests = new AtomicInteger();
+    private final List<ClientRequest> capturedRequests = new CopyOnWriteArrayList<>();
+
+    private SecurityProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        properties = new SecurityProperties();
+        properties.setIssuerUri("http://localhost:8180/realms/ecommerce");
+    }
+
+    @Nested
+    @DisplayName("getToken()")
+    class GetTokenTests {
+
+        @Test
+        @DisplayName("should fetch token from Keycloak token endpoint")
+        void shouldFetchTokenFromTokenEndpoint() {
+            // given
+            ReactiveServiceTokenProvider provider = providerReturning(tokenJson("token-1", 300));
+
+            // when/then
+            StepVerifier.create(provider.getToken())
+                    .expectNext("token-1")
+                    .verifyComplete();
+
+            ClientRequest request = capturedRequests.get(0);
+            assertThat(request.url().toString())
+                    .isEqualTo("http://localhost:8180/realms/ecommerce/protocol/openid-connect/token");
+            assertThat(request.headers().getFirst(HttpHeaders.AUTHORIZATION)).startsWith("Basic ");
+        }
+
+        @Test
+        @DisplayName("should return cached token without refetching")
+        void shouldReturnCachedToken() {
+            // given
+            ReactiveServiceTokenProvider provider = providerReturning(tokenJson("token-1", 300));
+            provider.getToken().block();
+
+            // when/then
+            StepVerifier.create(provider.getToken())
+                    .expectNext("token-1")
+                    .verifyComplete();
+            assertThat(tokenRequests.get()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("should refetch token when cached token is expiring soon")
+        void shouldRefetchExpiringToken() {
+            // given - expires within the refresh buffer
+            ReactiveServiceTokenProvider provider = providerReturning(tokenJson("token-1", 30));
+            provider.getToken().block();
+
+            // when
+            provider.getToken().block();
+
+            // then
+            assertThat(tokenRequests.get()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("should share a single in-flight refresh between concurrent subscribers")
+        void shouldShareInflightRefresh() {
+            // given - token endpoint responds only when released
+            Sinks.One<ClientResponse> release = Sinks.one();
+            WebClient webClient = WebClient.builder()
+                    .exchangeFunction(request -> {
+                        tokenRequests.incrementAndGet();
+                        return release.asMono();
+                    })
+                    .build();
+            ReactiveServiceTokenProvider provider =
+                    new ReactiveServiceTokenProvider(properties, webClient, "client", "secret");
+
+            // when
+            Mono<List<String>> all = Flux.merge(provider.getToken(), provider.getToken(), provider.getToken())
+                    .collectList();
+            StepVerifier.create(all)
+                    .then(() -> release.tryEmitValue(okResponse(tokenJson("shared", 300))))
+                    .assertNext(tokens -> assertThat(tokens).containsExactly("shared", "shared", "shared"))
+                    .verifyComplete();
+
+            // then
+            assertThat(tokenRequests.get()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("should complete empty and retry next time when token endpoint fails")
+        void shouldCompleteEmptyOnError() {
+            // given
+            WebClient webClient = WebClient.builder()
+                    .exchangeFunction(request -> {
+                        tokenRequests.incrementAndGet();
+                        return Mono.just(ClientResponse.create(HttpStatus.UNAUTHORIZED).build());
+                    })
+                    .build();
+            ReactiveServiceTokenProvider provider =
+                    new ReactiveServiceTokenProvider(properties, webClient, "client", "secret");
+
+            // when/then
+            StepVerifier.create(provider.getToken()).verifyComplete();
+            StepVerifier.create(provider.getToken()).verifyComplete();
+            assertThat(tokenRequests.get()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("should refetch after cache is cleared")
+        void shouldRefetchAfterClearCache() {
+            // given
+            ReactiveServiceTokenProvider provider = providerReturning(tokenJson("token-1", 300));
+            provider.getToken().block();
+
+            // when
+            provider.clearCache();
+            provider.getToken().block();
+
+            // then
+            assertThat(tokenRequests.get()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    @DisplayName("should reject missing issuer URI")
+    void shouldRejectMissingIssuerUri() {
+        properties.setIssuerUri(null);
+
+        assertThatThrownBy(() -> new ReactiveServiceTokenProvider(
+                properties, WebClient.create(), "client", "secret"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private ReactiveServiceTokenProvider providerReturning(String body) {
+        WebClient webClient = WebClient.builder()
+                .exchangeFunction(request -> {
+                    tokenRequests.incrementAndGet();
+                    capturedRequests.add(request);
+                    return Mono.just(okResponse(body));
+                })
+                .build();
+        return new ReactiveServiceTokenProvider(properties, webClient, "client", "secret");
+    }
+
+    private static ClientResponse okResponse(String body) {
+        return ClientResponse.create(HttpStatus.OK)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .body(body)
+                .build();
+    }
+
+    private static String tokenJson(String token, long expiresIn) {
+        return "{\"access_token\":\"" + token + "\",\"expires_in\":" + expiresIn
+                + ",\"token_type\":\"Bearer\"}";
+    }
+}
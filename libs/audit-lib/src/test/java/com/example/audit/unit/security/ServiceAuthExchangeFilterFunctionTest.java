@@ -0,0 +1,101 @@
+package com.example.audit.unit.security;
+
+import com.example.audit.infrastructure.security.ReactiveServiceTokenProvider;
+import com.example.audit.infrastructure.security.ServiceAuthExchangeFilterFunction;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.net.URI;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ServiceAuthExchangeFilterFunction Tests")
+class ServiceAuthExchangeFilterFunctionTest {
+
+    @Mock
+    private ReactiveServiceTokenProvider tokenProvider;
+
+    private final AtomicReference<ClientRequest> exchanged = new AtomicReference<>();
+    private ExchangeFunction next;
+
+    @BeforeEach
+    void setUp() {
+        next = request -> {
+            exchanged.set(request);
+            return Mono.just(ClientResponse.create(HttpStatus.OK).build());
+        };
+    }
+
+    @Test
+    @DisplayName("should add bearer token and service name headers")
+    void shouldAddBearerTokenAndServiceName() {
+        // given
+        when(tokenProvider.getToken()).thenReturn(Mono.just("service-token"));
+        ServiceAuthExchangeFilterFunction filter =
+                new ServiceAuthExchangeFilterFunction(tokenProvider, "product-service");
+
+        // when
+        StepVerifier.create(filter.filter(request(), next))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        // then
+        HttpHeaders headers = exchanged.get().headers();
+        assertThat(headers.getFirst(HttpHeaders.AUTHORIZATION)).isEqualTo("Bearer service-token");
+        assertThat(headers.getFirst("X-Service-Name")).isEqualTo("product-service");
+    }
+
+    @Test
+    @DisplayName("should skip token injection when Authorization header already present")
+    void shouldSkipWhenAuthorizationPresent() {
+        // given
+        ServiceAuthExchangeFilterFunction filter = new ServiceAuthExchangeFilterFunction(tokenProvider);
+        ClientRequest request = ClientRequest.from(request())
+                .header(HttpHeaders.AUTHORIZATION, "Bearer user-token")
+                .build();
+
+        // when
+        filter.filter(request, next).block();
+
+        // then
+        assertThat(exchanged.get().headers().getFirst(HttpHeaders.AUTHORIZATION))
+                .isEqualTo("Bearer user-token");
+        verifyNoInteractions(tokenProvider);
+    }
+
+    @Test
+    @DisplayName("should still send request when token cannot be obtained")
+    void shouldSendRequestWithoutToken() {
+        // given
+        when(tokenProvider.getToken()).thenReturn(Mono.empty());
+        ServiceAuthExchangeFilterFunction filter =
+                new ServiceAuthExchangeFilterFunction(tokenProvider, "product-service");
+
+        // when
+        filter.filter(request(), next).block();
+
+        // then
+        HttpHeaders headers = exchanged.get().headers();
+        assertThat(headers.containsKey(HttpHeaders.AUTHORIZATION)).isFalse();
+        assertThat(headers.getFirst("X-Service-Name")).isEqualTo("product-service");
+    }
+
+    private static ClientRequest request() {
+        return ClientRequest.create(HttpMethod.GET, URI.create("https://user-service:8082/api/users/me")).build();
+    }
+}
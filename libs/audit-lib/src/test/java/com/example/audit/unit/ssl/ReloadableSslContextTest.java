@@ -0,0 +1,63 @@
+package com.example.audit.unit.ssl;
+
+import com.example.audit.infrastructure.ssl.ReloadableSslContext;
+import io.netty.handler.ssl.SslContext;
+import io.netty.handler.ssl.SslContextBuilder;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.InputStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("ReloadableSslContext Tests")
+class ReloadableSslContextTest {
+
+    @Test
+    @DisplayName("should delegate to the initial context at generation 0")
+    void shouldDelegateToInitialContext() throws Exception {
+        // given
+        SslContext initial = SslContextBuilder.forClient().build();
+
+        // when
+        ReloadableSslContext context = new ReloadableSslContext(initial);
+
+        // then
+        assertThat(context.current()).isSameAs(initial);
+        assertThat(context.generation()).isZero();
+        assertThat(context.isClient()).isTrue();
+    }
+
+    @Test
+    @DisplayName("should swap the delegate and increment the generation on update")
+    void shouldSwapDelegateOnUpdate() throws Exception {
+        // given
+        ReloadableSslContext context = new ReloadableSslContext(SslContextBuilder.forClient().build());
+        SslContext replacement = SslContextBuilder.forClient().build();
+
+        // when
+        long generation = context.update(replacement);
+
+        // then
+        assertThat(generation).isEqualTo(1);
+        assertThat(context.current()).isSameAs(replacement);
+        assertThat(context.generation()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should reject replacing a client context with a server context")
+    void shouldRejectModeMismatch() throws Exception {
+        // given
+        ReloadableSslContext context = new ReloadableSslContext(SslContextBuilder.forClient().build());
+        SslContext server;
+        try (InputStream cert = getClass().getResourceAsStream("/certs/server.crt");
+             InputStream key = getClass().getResourceAsStream("/certs/server.key")) {
+            server = SslContextBuilder.forServer(cert, key).build();
+        }
+
+        // when / then
+        assertThatThrownBy(() -> context.update(server))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(context.generation()).isZero();
+    }
+}
@@ -0,0 +1,152 @@
+package com.example.audit.unit.ssl;
+
+import com.example.audit.infrastructure.metrics.SslReloadMetrics;
+import com.example.audit.infrastructure.ssl.SslBundleFileWatcher;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.autoconfigure.ssl.PemSslBundleProperties;
+import org.springframework.boot.autoconfigure.ssl.PropertiesSslBundle;
+import org.springframework.boot.autoconfigure.ssl.SslProperties;
+import org.springframework.boot.ssl.DefaultSslBundleRegistry;
+import org.springframework.boot.ssl.SslBundle;
+
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("SslBundleFileWatcher Tests")
+class SslBundleFileWatcherTest {
+
+    private static final String BUNDLE = "mtls";
+
+    @TempDir
+    Path certDir;
+
+    private SslProperties sslProperties;
+    private DefaultSslBundleRegistry registry;
+    private SslReloadMetrics metrics;
+    private SslBundleFileWatcher watcher;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        copy("client.crt", "tls.crt");
+        copy("client.key", "tls.key");
+        copy("ca.crt", "ca.crt");
+
+        PemSslBundleProperties pem = new PemSslBundleProperties();
+        pem.getKeystore().setCertificate(certDir.resolve("tls.crt").toString());
+        pem.getKeystore().setPrivateKey(certDir.resolve("tls.key").toString());
+        pem.getTruststore().setCertificate(certDir.resolve("ca.crt").toString());
+
+        sslProperties = new SslProperties();
+        sslProperties.getBundle().getPem().put(BUNDLE, pem);
+
+        registry = new DefaultSslBundleRegistry();
+        registry.registerBundle(BUNDLE, PropertiesSslBundle.get(pem));
+        metrics = new SslReloadMetrics(new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        if (watcher != null) {
+            watcher.close();
+        }
+    }
+
+    @Test
+    @DisplayName("should not reload when the files did not change")
+    void shouldNotReloadWithoutChange() throws Exception {
+        // given
+        watcher = new SslBundleFileWatcher(sslProperties, registry, List.of(BUNDLE), Duration.ofMillis(50), metrics);
+        watcher.start();
+
+        // when / then
+        assertThat(watcher.reloadChanged()).isEmpty();
+        assertThat(metrics.getReloadCount(BUNDLE)).isZero();
+    }
+
+    @Test
+    @DisplayName("should reload the bundle and notify update handlers when a certificate changes")
+    void shouldReloadOnChange() throws Exception {
+        // given
+        CountDownLatch updated = new CountDownLatch(1);
+        AtomicReference<SslBundle> received = new AtomicReference<>();
+        registry.addBundleUpdateHandler(BUNDLE, bundle -> {
+            received.set(bundle);
+            updated.countDown();
+        });
+        watcher = new SslBundleFileWatcher(sslProperties, registry, List.of(BUNDLE), Duration.ofMillis(50), metrics);
+        watcher.start();
+
+        // when - rotate the key pair (server cert/key stand in for the renewed client cert)
+        copy("server.key", "tls.key");
+        copy("server.crt", "tls.crt");
+
+        // then
+        assertThat(updated.await(30, TimeUnit.SECONDS)).isTrue();
+        assertThat(received.get()).isSameAs(registry.getBundle(BUNDLE));
+        assertThat(received.get().getStores().getKeyStore().getCertificate("ssl").toString())
+                .contains("CN=server");
+        awaitReloadCount(1);
+    }
+
+    @Test
+    @DisplayName("should keep the previous bundle when the new files are invalid")
+    void shouldKeepPreviousBundleOnInvalidFiles() throws Exception {
+        // given
+        SslBundle before = registry.getBundle(BUNDLE);
+        watcher = new SslBundleFileWatcher(sslProperties, registry, List.of(BUNDLE), Duration.ofMillis(50), metrics);
+        watcher.start();
+
+        // when - the certificate is only partially written
+        Files.writeString(certDir.resolve("tls.crt"), "-----BEGIN CERTIFICATE-----\nMIIB");
+        var reloaded = watcher.reloadChanged();
+
+        // then
+        assertThat(reloaded).isEmpty();
+        assertThat(registry.getBundle(BUNDLE)).isSameAs(before);
+    }
+
+    @Test
+    @DisplayName("should ignore bundles that are not configured")
+    void shouldIgnoreUnknownBundles() throws Exception {
+        // given
+        watcher = new SslBundleFileWatcher(sslProperties, registry, List.of("unknown"), Duration.ofMillis(50), metrics);
+
+        // when
+        watcher.start();
+
+        // then
+        assertThat(watcher.reloadChanged()).isEmpty();
+    }
+
+    private void awaitReloadCount(long expected) throws InterruptedException {
+        // Metrics are recorded after the update handlers returned
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (metrics.getReloadCount(BUNDLE) < expected && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(metrics.getReloadCount(BUNDLE)).isEqualTo(expected);
+    }
+
+    private void copy(String resource, String target) throws Exception {
+        try (InputStream in = getClass().getResourceAsStream("/certs/" + resource)) {
+            Path tmp = certDir.resolve(target + ".tmp");
+            Files.copy(in, tmp, StandardCopyOption.REPLACE_EXISTING);
+            Files.move(tmp, certDir.resolve(target), StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+        }
+    }
+}
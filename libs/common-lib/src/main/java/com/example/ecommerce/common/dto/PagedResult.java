@@ -1,12 +1,27 @@
 package com.example.ecommerce.common.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 import java.util.List;
 
 /**
  * 分頁結果
+ *
+ * <p>支援兩種模式：</p>
+ * <ul>
+ *   <li>Offset 分頁：{@code page} / {@code size}，附總筆數與總頁數</li>
+ *   <li>Cursor 分頁：以 {@link #getNextCursor() nextCursor} 取得下一頁，適合無限捲動；
+ *       總筆數可省略 ({@link #UNKNOWN_TOTAL})，避免每次請求都計數</li>
+ * </ul>
  */
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class PagedResult<T> {
 
+    /**
+     * 未計算總筆數 / 總頁數
+     */
+    public static final long UNKNOWN_TOTAL = -1;
+
     private List<T> content;
     private int page;
     private int size;
@@ -14,6 +29,7 @@ public class PagedResult<T> {
     private int totalPages;
     private boolean first;
     private boolean last;
+    private String nextCursor;
 
     public PagedResult() {
     }
@@ -28,6 +44,30 @@ public class PagedResult<T> {
         this.last = page >= totalPages - 1;
     }
 
+    /**
+     * 建立 Cursor 分頁結果
+     *
+     * @param content       本頁資料
+     * @param size          每頁筆數
+     * @param first         是否為第一頁 (請求未帶 cursor)
+     * @param nextCursor    下一頁的 cursor，沒有下一頁時為 null
+     * @param totalElements 總筆數，未計算時為 {@link #UNKNOWN_TOTAL}
+     */
+    public static <T> PagedResult<T> ofCursor(List<T> content, int size, boolean first,
+                                              String nextCursor, long totalElements) {
+        PagedResult<T> result = new PagedResult<>();
+        result.content = content;
+        result.page = 0;
+        result.size = size;
+        result.totalElements = totalElements;
+        result.totalPages = totalElements == UNKNOWN_TOTAL ? (int) UNKNOWN_TOTAL
+            : size > 0 ? (int) Math.ceil((double) totalElements / size) : 0;
+        result.first = first;
+        result.last = nextCursor == null;
+        result.nextCursor = nextCursor;
+        return result;
+    }
+
     // Getters and Setters
     public List<T> getContent() {
         return content;
@@ -84,4 +124,15 @@ public class PagedResult<T> {
     public void setLast(boolean last) {
         this.last = last;
     }
+
+    /**
+     * 下一頁的 cursor (不透明字串)；Offset 分頁或已是最後一頁時為 null
+     */
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
 }
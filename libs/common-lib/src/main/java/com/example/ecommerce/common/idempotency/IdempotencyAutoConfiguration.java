@@ -0,0 +1,73 @@
+package com.example.ecommerce.common.idempotency;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.jdbc.JdbcTemplateAutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.time.Clock;
+import java.util.Set;
+
+/**
+ * Idempotency-Key 過濾器配置 (只在 Servlet 服務中生效)
+ *
+ * <h3>配置範例</h3>
+ * <pre>
+ * idempotency:
+ *   enabled: true
+ *   store: jdbc      # 多個實例時使用，服務須以自己的 migration 建立 idempotency_keys (見 JdbcIdempotencyStore)
+ * </pre>
+ *
+ * @see IdempotencyFilter
+ * @see JdbcIdempotencyStore
+ */
+@AutoConfiguration(after = JdbcTemplateAutoConfiguration.class)
+@EnableConfigurationProperties(IdempotencyProperties.class)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnClass(OncePerRequestFilter.class)
+@ConditionalOnProperty(prefix = "idempotency", name = "enabled", havingValue = "true")
+public class IdempotencyAutoConfiguration {
+
+    /**
+     * 排在 Spring Security filter chain (order -100) 之後，才能以登入的使用者區分 key
+     */
+    static final int FILTER_ORDER = 0;
+
+    @Bean
+    @ConditionalOnMissingBean
+    public IdempotencyStore idempotencyStore(IdempotencyProperties properties,
+                                             ObjectProvider<JdbcTemplate> jdbcTemplate) {
+        return switch (properties.getStore()) {
+            case MEMORY -> new InMemoryIdempotencyStore(
+                properties.getTtl(), properties.getMaxEntries(), Clock.systemUTC());
+            case JDBC -> {
+                JdbcTemplate template = jdbcTemplate.getIfAvailable();
+                if (template == null) {
+                    throw new IllegalStateException("idempotency.store=jdbc requires a DataSource");
+                }
+                JdbcIdempotencyStore store = new JdbcIdempotencyStore(
+                    template, properties.getTtl(), properties.getLockTimeout(), Clock.systemUTC());
+                store.start(properties.getPurgeInterval());
+                yield store;
+            }
+        };
+    }
+
+    @Bean
+    public FilterRegistrationBean<IdempotencyFilter> idempotencyFilterRegistration(
+            IdempotencyStore idempotencyStore, IdempotencyProperties properties) {
+        IdempotencyFilter filter = new IdempotencyFilter(idempotencyStore, Set.copyOf(properties.getMethods()),
+            properties.getExcludePatterns(), (int) properties.getMaxBodySize().toBytes(), properties.getWaitTimeout());
+        FilterRegistrationBean<IdempotencyFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.setOrder(FILTER_ORDER);
+        return registration;
+    }
+}
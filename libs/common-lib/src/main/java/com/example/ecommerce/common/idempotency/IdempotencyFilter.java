@@ -0,0 +1,272 @@
+package com.example.ecommerce.common.idempotency;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import org.springframework.web.util.UrlPathHelper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Idempotency-Key 過濾器 - 讓客戶端可以安全重送寫入請求
+ *
+ * <p>帶 {@code Idempotency-Key} 標頭的請求依「使用者 + key」登記到 {@link IdempotencyStore}：</p>
+ * <ul>
+ *   <li>第一次：正常執行，2xx 回應連同請求指紋 (方法、路徑、內容的 SHA-256) 保存，其他回應不保存，
+ *       重送時重新執行</li>
+ *   <li>重送且已完成：不執行，直接回放保存的回應並加上 {@code Idempotent-Replayed: true}</li>
+ *   <li>重送時第一次仍在執行：等待其完成後回放，逾時回應 409</li>
+ *   <li>相同 key 但請求內容不同：回應 422</li>
+ * </ul>
+ *
+ * <p>需放在 Spring Security 之後，以取得 {@link HttpServletRequest#getUserPrincipal()}；
+ * 未登入的請求沒有可區分的使用者，不處理 key 直接執行。
+ * 串流端點 (內容不能整個讀入記憶體) 以 excludePatterns 排除，同樣直接執行。</p>
+ */
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(IdempotencyFilter.class);
+
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final int MAX_KEY_LENGTH = 255;
+
+    /**
+     * 不保存的回應標頭 (由容器依實際回應產生)
+     */
+    private static final Set<String> TRANSIENT_HEADERS = Set.of(
+        "content-type", "content-length", "transfer-encoding", "connection", "date", "set-cookie");
+
+    private final IdempotencyStore store;
+    private final Set<String> methods;
+    private final List<String> excludePatterns;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final int maxBodySize;
+    private final Duration waitTimeout;
+
+    /**
+     * @param store       紀錄保存位置
+     * @param methods         需要處理的 HTTP 方法
+     * @param excludePatterns 不處理的路徑 (Ant 樣式，不含 context path)
+     * @param maxBodySize 請求與回應內容上限 (bytes)；請求超過時回應 413，回應超過時不保存
+     * @param waitTimeout 重複請求等待第一次執行完成的上限
+     */
+    public IdempotencyFilter(IdempotencyStore store, Set<String> methods, List<String> excludePatterns,
+                             int maxBodySize, Duration waitTimeout) {
+        this.store = store;
+        this.methods = methods.stream().map(method -> method.toUpperCase(Locale.ROOT)).collect(Collectors.toSet());
+        this.excludePatterns = List.copyOf(excludePatterns);
+        this.maxBodySize = maxBodySize;
+        this.waitTimeout = waitTimeout;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return request.getHeader(HEADER) == null
+            || !methods.contains(request.getMethod())
+            || request.getUserPrincipal() == null
+            || isExcluded(request);
+    }
+
+    private boolean isExcluded(HttpServletRequest request) {
+        String path = UrlPathHelper.defaultInstance.getPathWithinApplication(request);
+        return excludePatterns.stream().anyMatch(pattern -> pathMatcher.match(pattern, path));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String key = request.getHeader(HEADER).trim();
+        if (key.isEmpty() || key.length() > MAX_KEY_LENGTH) {
+            response.sendError(HttpServletResponse.SC_BAD_REQUEST,
+                HEADER + " must be 1 to " + MAX_KEY_LENGTH + " characters");
+            return;
+        }
+        byte[] body = request.getInputStream().readNBytes(maxBodySize + 1);
+        if (body.length > maxBodySize) {
+            response.sendError(HttpServletResponse.SC_REQUEST_ENTITY_TOO_LARGE,
+                "Request body too large for " + HEADER);
+            return;
+        }
+
+        String scopedKey = request.getUserPrincipal().getName() + ":" + key;
+        String fingerprint = fingerprint(request, body);
+        try {
+            // 第一次執行被釋放 (失敗) 時，等待中的重送改由自己執行，最多一次
+            for (int attempt = 0; attempt < 2; attempt++) {
+                IdempotencyRecord existing = store.begin(scopedKey, fingerprint);
+                if (existing == null) {
+                    execute(scopedKey, new CachedBodyRequest(request, body), response, chain);
+                    return;
+                }
+                if (!existing.fingerprint().equals(fingerprint)) {
+                    log.debug("Idempotency key {} reused with a different request", key);
+                    response.sendError(422, HEADER + " was already used for a different request");
+                    return;
+                }
+                IdempotencyRecord record = existing.completed() ? existing : store.await(scopedKey, waitTimeout);
+                if (record != null && record.completed()) {
+                    replay(record.response(), response);
+                    return;
+                }
+                if (record != null) {
+                    break;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        response.setHeader("Retry-After", "1");
+        response.sendError(HttpServletResponse.SC_CONFLICT, "A request with this " + HEADER + " is in progress");
+    }
+
+    private void execute(String key, HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        ContentCachingResponseWrapper cached = new ContentCachingResponseWrapper(response);
+        boolean stored = false;
+        try {
+            chain.doFilter(request, cached);
+            int status = cached.getStatus();
+            if (status >= 200 && status < 300 && !request.isAsyncStarted()
+                    && cached.getContentSize() <= maxBodySize) {
+                store.complete(key, new StoredResponse(
+                    status, cached.getContentType(), headers(cached), cached.getContentAsByteArray()));
+                stored = true;
+            }
+        } finally {
+            if (!stored) {
+                store.release(key);
+            }
+            cached.copyBodyToResponse();
+        }
+    }
+
+    private static void replay(StoredResponse stored, HttpServletResponse response) throws IOException {
+        response.setStatus(stored.status());
+        stored.headers().forEach((name, values) -> values.forEach(value -> response.addHeader(name, value)));
+        if (stored.contentType() != null) {
+            response.setContentType(stored.contentType());
+        }
+        response.setHeader(REPLAYED_HEADER, "true");
+        response.setContentLength(stored.body().length);
+        response.getOutputStream().write(stored.body());
+    }
+
+    private static Map<String, List<String>> headers(HttpServletResponse response) {
+        Map<String, List<String>> headers = new LinkedHashMap<>();
+        for (String name : response.getHeaderNames()) {
+            if (!TRANSIENT_HEADERS.contains(name.toLowerCase(Locale.ROOT))) {
+                headers.put(name, new ArrayList<>(response.getHeaders(name)));
+            }
+        }
+        return headers;
+    }
+
+    static String fingerprint(HttpServletRequest request, byte[] body) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update((request.getMethod() + " " + request.getRequestURI() + "?"
+                + (request.getQueryString() != null ? request.getQueryString() : "") + "\n")
+                .getBytes(StandardCharsets.UTF_8));
+            digest.update(body);
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 內容已讀入記憶體 (計算指紋) 的請求，提供給後續的 filter 與 controller 重新讀取
+     */
+    private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream input = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public int read() {
+                    return input.read();
+                }
+
+                @Override
+                public int read(byte[] buffer, int offset, int length) {
+                    return input.read(buffer, offset, length);
+                }
+
+                @Override
+                public boolean isFinished() {
+                    return input.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                /**
+                 * 內容已全部在記憶體中：立即通知可讀取，接著通知讀取完畢
+                 */
+                @Override
+                public void setReadListener(ReadListener listener) {
+                    try {
+                        listener.onDataAvailable();
+                        listener.onAllDataRead();
+                    } catch (IOException e) {
+                        listener.onError(e);
+                    }
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            Charset charset = getCharacterEncoding() != null
+                ? Charset.forName(getCharacterEncoding()) : StandardCharsets.UTF_8;
+            return new BufferedReader(new InputStreamReader(getInputStream(), charset));
+        }
+
+        @Override
+        public int getContentLength() {
+            return body.length;
+        }
+
+        @Override
+        public long getContentLengthLong() {
+            return body.length;
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package com.example.ecommerce.common.idempotency;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Idempotency-Key 設定
+ *
+ * <pre>
+ * idempotency:
+ *   enabled: true
+ *   store: memory
+ *   ttl: 24h
+ *   max-entries: 10000
+ *   max-body-size: 1MB
+ *   wait-timeout: 10s
+ *   methods: [POST, PATCH]
+ *   exclude-patterns: [/api/products/bulk]
+ * </pre>
+ */
+@ConfigurationProperties(prefix = "idempotency")
+public class IdempotencyProperties {
+
+    /**
+     * 紀錄保存位置
+     */
+    public enum StoreType {
+        /** 單一實例記憶體 */
+        MEMORY,
+        /** 資料表 idempotency_keys，多個實例共用；DDL 見 {@link JdbcIdempotencyStore#SCHEMA_LOCATION} */
+        JDBC
+    }
+
+    /**
+     * 啟用 Idempotency-Key 處理
+     */
+    private boolean enabled = false;
+
+    private StoreType store = StoreType.MEMORY;
+
+    /**
+     * 紀錄保存時間，客戶端在此期間內重送都會得到相同回應
+     */
+    private Duration ttl = Duration.ofHours(24);
+
+    /**
+     * store=memory 時最多保存的紀錄數，超過時淘汰最舊的紀錄
+     */
+    private int maxEntries = 10_000;
+
+    /**
+     * 請求與回應內容上限；帶 key 的請求超過時回應 413，回應超過時不保存
+     */
+    private DataSize maxBodySize = DataSize.ofMegabytes(1);
+
+    /**
+     * 重複請求等待第一次執行完成的上限，逾時回應 409
+     */
+    private Duration waitTimeout = Duration.ofSeconds(10);
+
+    /**
+     * store=jdbc 時執行中的紀錄超過此時間視為執行的實例已中止
+     */
+    private Duration lockTimeout = Duration.ofMinutes(1);
+
+    /**
+     * store=jdbc 時刪除過期紀錄的間隔
+     */
+    private Duration purgeInterval = Duration.ofMinutes(10);
+
+    /**
+     * 需要處理的 HTTP 方法
+     */
+    private List<String> methods = new ArrayList<>(List.of("POST", "PATCH"));
+
+    /**
+     * 不處理的路徑 (Ant 樣式)；串流端點的內容無法整個讀入記憶體計算指紋，必須排除
+     */
+    private List<String> excludePatterns = new ArrayList<>(List.of("/api/products/bulk"));
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public StoreType getStore() {
+        return store;
+    }
+
+    public void setStore(StoreType store) {
+        this.store = store;
+    }
+
+    public Duration getTtl() {
+        return ttl;
+    }
+
+    public void setTtl(Duration ttl) {
+        this.ttl = ttl;
+    }
+
+    public int getMaxEntries() {
+        return maxEntries;
+    }
+
+    public void setMaxEntries(int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    public DataSize getMaxBodySize() {
+        return maxBodySize;
+    }
+
+    public void setMaxBodySize(DataSize maxBodySize) {
+        this.maxBodySize = maxBodySize;
+    }
+
+    public Duration getWaitTimeout() {
+        return waitTimeout;
+    }
+
+    public void setWaitTimeout(Duration waitTimeout) {
+        this.waitTimeout = waitTimeout;
+    }
+
+    public Duration getLockTimeout() {
+        return lockTimeout;
+    }
+
+    public void setLockTimeout(Duration lockTimeout) {
+        this.lockTimeout = lockTimeout;
+    }
+
+    public Duration getPurgeInterval() {
+        return purgeInterval;
+    }
+
+    public void setPurgeInterval(Duration purgeInterval) {
+        this.purgeInterval = purgeInterval;
+    }
+
+    public List<String> getMethods() {
+        return methods;
+    }
+
+    public void setMethods(List<String> methods) {
+        this.methods = methods;
+    }
+
+    public List<String> getExcludePatterns() {
+        return excludePatterns;
+    }
+
+    public void setExcludePatterns(List<String> excludePatterns) {
+        this.excludePatterns = excludePatterns;
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.ecommerce.common.idempotency;
+
+/**
+ * 一個 Idempotency-Key 目前的狀態
+ *
+ * @param fingerprint 第一次請求的內容指紋
+ * @param response    已完成時的回應；仍在執行時為 null
+ */
+public record IdempotencyRecord(String fingerprint, StoredResponse response) {
+
+    public boolean completed() {
+        return response != null;
+    }
+}
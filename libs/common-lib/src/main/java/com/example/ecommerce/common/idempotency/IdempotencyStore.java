@@ -0,0 +1,36 @@
+package com.example.ecommerce.common.idempotency;
+
+import java.time.Duration;
+
+/**
+ * Idempotency-Key 的保存位置
+ *
+ * <p>紀錄在固定的 TTL 後過期；過期或被釋放的 key 可再次執行。</p>
+ */
+public interface IdempotencyStore {
+
+    /**
+     * 以 key 登記一個執行中的請求
+     *
+     * @return null 表示登記成功，由呼叫端執行並呼叫 {@link #complete} 或 {@link #release}；
+     *         否則為既有紀錄 (執行中或已完成)
+     */
+    IdempotencyRecord begin(String key, String fingerprint);
+
+    /**
+     * 保存執行結果並喚醒等待中的重複請求
+     */
+    void complete(String key, StoredResponse response);
+
+    /**
+     * 放棄登記 (執行失敗、回應不保存)，之後相同 key 的請求會重新執行
+     */
+    void release(String key);
+
+    /**
+     * 等待執行中的請求完成
+     *
+     * @return 完成時為含回應的紀錄；逾時為仍在執行的紀錄；已被釋放或不存在時為 null
+     */
+    IdempotencyRecord await(String key, Duration timeout) throws InterruptedException;
+}
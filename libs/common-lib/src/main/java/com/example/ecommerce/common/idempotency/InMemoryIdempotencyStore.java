@@ -0,0 +1,124 @@
+package com.example.ecommerce.common.idempotency;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 單一實例的 Idempotency-Key 紀錄
+ *
+ * <p>所有紀錄的 TTL 相同，依登記順序保存即為過期順序：每次登記從最舊的一端清除過期紀錄，
+ * 超過 {@code maxEntries} 時淘汰最舊的紀錄。執行中的紀錄以 {@link CompletableFuture} 讓重複請求等待結果。</p>
+ */
+public class InMemoryIdempotencyStore implements IdempotencyStore {
+
+    private final Duration ttl;
+    private final int maxEntries;
+    private final Clock clock;
+
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>();
+
+    public InMemoryIdempotencyStore(Duration ttl, int maxEntries, Clock clock) {
+        this.ttl = ttl;
+        this.maxEntries = maxEntries;
+        this.clock = clock;
+    }
+
+    @Override
+    public synchronized IdempotencyRecord begin(String key, String fingerprint) {
+        Instant now = clock.instant();
+        purgeExpired(now);
+        Entry existing = entries.get(key);
+        if (existing != null) {
+            return existing.record();
+        }
+        if (entries.size() >= maxEntries) {
+            Iterator<Entry> eldest = entries.values().iterator();
+            eldest.next();
+            eldest.remove();
+        }
+        entries.put(key, new Entry(fingerprint, now.plus(ttl)));
+        return null;
+    }
+
+    @Override
+    public void complete(String key, StoredResponse response) {
+        Entry entry;
+        synchronized (this) {
+            entry = entries.get(key);
+        }
+        if (entry != null) {
+            entry.result.complete(response);
+        }
+    }
+
+    @Override
+    public void release(String key) {
+        Entry entry;
+        synchronized (this) {
+            entry = entries.get(key);
+            if (entry == null || entry.result.isDone()) {
+                return;
+            }
+            entries.remove(key);
+        }
+        entry.result.complete(null);
+    }
+
+    @Override
+    public IdempotencyRecord await(String key, Duration timeout) throws InterruptedException {
+        Entry entry;
+        synchronized (this) {
+            entry = entries.get(key);
+        }
+        if (entry == null) {
+            return null;
+        }
+        try {
+            StoredResponse response = entry.result.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+            return response != null ? new IdempotencyRecord(entry.fingerprint, response) : null;
+        } catch (TimeoutException e) {
+            return entry.record();
+        } catch (ExecutionException e) {
+            return null;
+        }
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private void purgeExpired(Instant now) {
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (iterator.hasNext()) {
+            Entry entry = iterator.next();
+            if (entry.expiresAt.isAfter(now)) {
+                return;
+            }
+            iterator.remove();
+        }
+    }
+
+    private static final class Entry {
+
+        final String fingerprint;
+        final Instant expiresAt;
+        final CompletableFuture<StoredResponse> result = new CompletableFuture<>();
+
+        Entry(String fingerprint, Instant expiresAt) {
+            this.fingerprint = fingerprint;
+            this.expiresAt = expiresAt;
+        }
+
+        IdempotencyRecord record() {
+            return new IdempotencyRecord(fingerprint, result.getNow(null));
+        }
+    }
+}
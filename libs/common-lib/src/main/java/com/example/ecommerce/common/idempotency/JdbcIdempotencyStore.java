@@ -0,0 +1,212 @@
+package com.example.ecommerce.common.idempotency;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.BadSqlGrammarException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.Closeable;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 以資料表保存 Idempotency-Key，多個實例共用
+ *
+ * <p>登記以主鍵 INSERT 搶占，重複請求等待時輪詢同一列。執行中的列超過 {@code lockTimeout}
+ * 仍未完成時視為執行的實例已中止，可由下一個請求接手。過期的列由背景執行緒定期刪除。</p>
+ *
+ * <p>資料表 DDL 隨本程式庫提供於 {@link #SCHEMA_LOCATION}，但不會自動套用：各服務的 migration 版本各自編號，
+ * 使用 jdbc store 的服務必須把這份 DDL 複製為自己的 Flyway migration (product-service 為 V107)。
+ * {@link #start} 時檢查資料表，缺少時直接失敗，不會等到第一個請求才出錯。</p>
+ */
+public class JdbcIdempotencyStore implements IdempotencyStore, Closeable {
+
+    private static final Logger log = LoggerFactory.getLogger(JdbcIdempotencyStore.class);
+
+    /**
+     * 資料表 DDL (classpath)
+     */
+    public static final String SCHEMA_LOCATION = "classpath:com/example/ecommerce/common/idempotency/idempotency_keys.sql";
+
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(50);
+    private static final String HEADER_SEPARATOR = ": ";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Duration ttl;
+    private final Duration lockTimeout;
+    private final Clock clock;
+
+    private ScheduledExecutorService purger;
+
+    public JdbcIdempotencyStore(JdbcTemplate jdbcTemplate, Duration ttl, Duration lockTimeout, Clock clock) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.ttl = ttl;
+        this.lockTimeout = lockTimeout;
+        this.clock = clock;
+    }
+
+    /**
+     * 確認資料表存在並啟動定期刪除過期紀錄
+     *
+     * @throws IllegalStateException 缺少 idempotency_keys 資料表
+     */
+    public synchronized void start(Duration purgeInterval) {
+        if (purger != null) {
+            return;
+        }
+        verifySchema();
+        purger = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "idempotency-key-purger");
+            thread.setDaemon(true);
+            return thread;
+        });
+        purger.scheduleWithFixedDelay(() -> {
+            try {
+                purgeExpired();
+            } catch (RuntimeException e) {
+                log.warn("Failed to purge expired idempotency keys", e);
+            }
+        }, purgeInterval.toMillis(), purgeInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    private void verifySchema() {
+        try {
+            jdbcTemplate.queryForObject("SELECT COUNT(*) FROM idempotency_keys WHERE 1 = 0", Integer.class);
+        } catch (BadSqlGrammarException e) {
+            throw new IllegalStateException("Table idempotency_keys is missing: idempotency.store=jdbc requires "
+                + "the service to create it from " + SCHEMA_LOCATION, e);
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        if (purger != null) {
+            purger.shutdownNow();
+            purger = null;
+        }
+    }
+
+    @Override
+    public IdempotencyRecord begin(String key, String fingerprint) {
+        Instant now = clock.instant();
+        if (tryInsert(key, fingerprint, now)) {
+            return null;
+        }
+        // 過期或執行中止的列可以接手：條件式刪除後再搶一次，同時接手的請求只有一個會成功
+        int taken = jdbcTemplate.update("""
+            DELETE FROM idempotency_keys
+            WHERE idempotency_key = ?
+              AND (expires_at <= ? OR (status_code IS NULL AND created_at <= ?))
+            """, key, Timestamp.from(now), Timestamp.from(now.minus(lockTimeout)));
+        if (taken > 0 && tryInsert(key, fingerprint, now)) {
+            return null;
+        }
+        IdempotencyRecord existing = find(key);
+        // 在查詢前被釋放：讓呼叫端等待後重新登記
+        return existing != null ? existing : new IdempotencyRecord(fingerprint, null);
+    }
+
+    @Override
+    public void complete(String key, StoredResponse response) {
+        jdbcTemplate.update("""
+            UPDATE idempotency_keys
+            SET status_code = ?, content_type = ?, response_headers = ?, response_body = ?
+            WHERE idempotency_key = ?
+            """, response.status(), response.contentType(), encodeHeaders(response.headers()),
+            Base64.getEncoder().encodeToString(response.body()), key);
+    }
+
+    @Override
+    public void release(String key) {
+        jdbcTemplate.update("DELETE FROM idempotency_keys WHERE idempotency_key = ? AND status_code IS NULL", key);
+    }
+
+    @Override
+    public IdempotencyRecord await(String key, Duration timeout) throws InterruptedException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (true) {
+            IdempotencyRecord record = find(key);
+            if (record == null || record.completed() || System.nanoTime() >= deadline) {
+                return record;
+            }
+            Thread.sleep(Math.min(POLL_INTERVAL.toMillis(),
+                Math.max(1, TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime()))));
+        }
+    }
+
+    /**
+     * @return 刪除的過期紀錄數
+     */
+    public int purgeExpired() {
+        int purged = jdbcTemplate.update(
+            "DELETE FROM idempotency_keys WHERE expires_at <= ?", Timestamp.from(clock.instant()));
+        if (purged > 0) {
+            log.debug("Purged {} expired idempotency keys", purged);
+        }
+        return purged;
+    }
+
+    private boolean tryInsert(String key, String fingerprint, Instant now) {
+        try {
+            jdbcTemplate.update("""
+                INSERT INTO idempotency_keys (idempotency_key, fingerprint, created_at, expires_at)
+                VALUES (?, ?, ?, ?)
+                """, key, fingerprint, Timestamp.from(now), Timestamp.from(now.plus(ttl)));
+            return true;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+
+    private IdempotencyRecord find(String key) {
+        List<IdempotencyRecord> records = jdbcTemplate.query("""
+            SELECT fingerprint, status_code, content_type, response_headers, response_body
+            FROM idempotency_keys
+            WHERE idempotency_key = ? AND expires_at > ?
+            """, (rs, rowNum) -> {
+                int status = rs.getInt("status_code");
+                StoredResponse response = rs.wasNull() ? null : new StoredResponse(status,
+                    rs.getString("content_type"),
+                    decodeHeaders(rs.getString("response_headers")),
+                    Base64.getDecoder().decode(rs.getString("response_body")));
+                return new IdempotencyRecord(rs.getString("fingerprint"), response);
+            }, key, Timestamp.from(clock.instant()));
+        return records.isEmpty() ? null : records.get(0);
+    }
+
+    /**
+     * 每行一個 {@code name: value}；標頭名稱與值不含換行
+     */
+    static String encodeHeaders(Map<String, List<String>> headers) {
+        StringBuilder encoded = new StringBuilder();
+        headers.forEach((name, values) -> values.forEach(value ->
+            encoded.append(name).append(HEADER_SEPARATOR).append(value).append('\n')));
+        return encoded.toString();
+    }
+
+    static Map<String, List<String>> decodeHeaders(String encoded) {
+        Map<String, List<String>> headers = new LinkedHashMap<>();
+        if (encoded == null) {
+            return headers;
+        }
+        for (String line : encoded.split("\n")) {
+            int separator = line.indexOf(HEADER_SEPARATOR);
+            if (separator > 0) {
+                headers.computeIfAbsent(line.substring(0, separator), name -> new ArrayList<>())
+                    .add(line.substring(separator + HEADER_SEPARATOR.length()));
+            }
+        }
+        return headers;
+    }
+}
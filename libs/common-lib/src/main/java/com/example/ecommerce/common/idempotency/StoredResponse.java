@@ -0,0 +1,19 @@
+package com.example.ecommerce.common.idempotency;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 保存供重送時回放的回應
+ *
+ * @param status      HTTP 狀態碼
+ * @param contentType Content-Type，可為 null
+ * @param headers     其他回應標頭 (不含 Content-Type、Content-Length 等傳輸相關標頭)
+ * @param body        回應內容
+ */
+public record StoredResponse(int status, String contentType, Map<String, List<String>> headers, byte[] body) {
+
+    public StoredResponse {
+        headers = Map.copyOf(headers);
+    }
+}
@@ -0,0 +1,17 @@
+-- Idempotency-Key records used by JdbcIdempotencyStore (idempotency.store=jdbc)
+-- Not applied automatically: each service that uses the jdbc store copies this DDL
+-- into a Flyway migration of its own (product-service: V107).
+-- A row without status_code is a request still executing; retries wait on it instead of running again.
+
+CREATE TABLE idempotency_keys (
+    idempotency_key  VARCHAR(512)                NOT NULL PRIMARY KEY,
+    fingerprint      VARCHAR(64)                 NOT NULL,
+    status_code      INT,
+    content_type     VARCHAR(255),
+    response_headers TEXT,
+    response_body    TEXT,
+    created_at       TIMESTAMP WITH TIME ZONE    NOT NULL,
+    expires_at       TIMESTAMP WITH TIME ZONE    NOT NULL
+);
+
+CREATE INDEX idx_idempotency_keys_expires_at ON idempotency_keys (expires_at);
@@ -0,0 +1,290 @@
+package com.example.ecommerce.common.idempotency;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("IdempotencyFilter Tests")
+class IdempotencyFilterTest {
+
+    private final InMemoryIdempotencyStore store = new InMemoryIdempotencyStore(
+        Duration.ofHours(1), 100, new MutableClock(Instant.parse("2026-01-01T00:00:00Z")));
+    private final IdempotencyFilter filter = new IdempotencyFilter(
+        store, Set.of("POST"), List.of("/api/products/bulk"), 1024, Duration.ofSeconds(5));
+    private final AtomicInteger executions = new AtomicInteger();
+
+    /**
+     * 模擬建立商品：讀取內容並回應 201
+     */
+    private final FilterChain createProduct = (request, response) -> {
+        int execution = executions.incrementAndGet();
+        String body = new String(request.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+        HttpServletResponse http = (HttpServletResponse) response;
+        http.setStatus(201);
+        http.setHeader("Location", "/api/products/" + execution);
+        http.setContentType("application/json");
+        http.getWriter().write("{\"execution\":" + execution + ",\"echo\":" + body + "}");
+    };
+
+    @Nested
+    @DisplayName("Replay")
+    class Replay {
+
+        @Test
+        @DisplayName("should execute once and replay the stored response on retries")
+        void shouldReplayRetries() throws Exception {
+            // when
+            MockHttpServletResponse first = post("key-1", "{\"name\":\"Book\"}", createProduct);
+            MockHttpServletResponse retry = post("key-1", "{\"name\":\"Book\"}", createProduct);
+
+            // then
+            assertThat(executions).hasValue(1);
+            assertThat(first.getStatus()).isEqualTo(201);
+            assertThat(first.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isNull();
+            assertThat(retry.getStatus()).isEqualTo(201);
+            assertThat(retry.getHeader("Location")).isEqualTo("/api/products/1");
+            assertThat(retry.getContentType()).startsWith("application/json");
+            assertThat(retry.getContentAsString()).isEqualTo(first.getContentAsString());
+            assertThat(retry.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isEqualTo("true");
+        }
+
+        @Test
+        @DisplayName("should scope keys to the authenticated user")
+        void shouldScopeKeysToUser() throws Exception {
+            post("key-1", "{}", createProduct, "alice");
+            post("key-1", "{}", createProduct, "bob");
+
+            assertThat(executions).hasValue(2);
+        }
+
+        @Test
+        @DisplayName("should not store error responses")
+        void shouldNotStoreErrors() throws Exception {
+            FilterChain failing = (request, response) -> {
+                executions.incrementAndGet();
+                ((HttpServletResponse) response).sendError(400, "Invalid product");
+            };
+
+            post("key-1", "{}", failing);
+            MockHttpServletResponse retry = post("key-1", "{}", createProduct);
+
+            assertThat(executions).hasValue(2);
+            assertThat(retry.getStatus()).isEqualTo(201);
+        }
+
+        @Test
+        @DisplayName("should release the key when the request throws")
+        void shouldReleaseOnException() throws Exception {
+            FilterChain throwing = (request, response) -> {
+                throw new IllegalStateException("Database down");
+            };
+
+            assertThatThrownBy(() -> post("key-1", "{}", throwing)).isInstanceOf(IllegalStateException.class);
+            assertThat(post("key-1", "{}", createProduct).getStatus()).isEqualTo(201);
+        }
+    }
+
+    @Nested
+    @DisplayName("Cached body")
+    class CachedBody {
+
+        @Test
+        @DisplayName("should notify a non-blocking reader that the whole body is available")
+        void shouldSupportReadListener() throws Exception {
+            List<String> events = new ArrayList<>();
+            FilterChain nonBlocking = (request, response) -> {
+                ServletInputStream input = request.getInputStream();
+                input.setReadListener(new ReadListener() {
+                    @Override
+                    public void onDataAvailable() throws IOException {
+                        events.add("data:" + new String(input.readAllBytes(), StandardCharsets.UTF_8));
+                    }
+
+                    @Override
+                    public void onAllDataRead() {
+                        events.add("done:" + input.isFinished());
+                    }
+
+                    @Override
+                    public void onError(Throwable t) {
+                        events.add("error");
+                    }
+                });
+                ((HttpServletResponse) response).setStatus(201);
+            };
+
+            post("key-1", "{\"name\":\"Book\"}", nonBlocking);
+
+            assertThat(events).containsExactly("data:{\"name\":\"Book\"}", "done:true");
+        }
+    }
+
+    @Nested
+    @DisplayName("Validation")
+    class Validation {
+
+        @Test
+        @DisplayName("should reject a reused key with a different request")
+        void shouldRejectDifferentRequest() throws Exception {
+            post("key-1", "{\"name\":\"Book\"}", createProduct);
+
+            MockHttpServletResponse response = post("key-1", "{\"name\":\"Pen\"}", createProduct);
+
+            assertThat(response.getStatus()).isEqualTo(422);
+            assertThat(executions).hasValue(1);
+        }
+
+        @Test
+        @DisplayName("should reject oversized keys and bodies")
+        void shouldRejectOversized() throws Exception {
+            assertThat(post("k".repeat(256), "{}", createProduct).getStatus()).isEqualTo(400);
+            assertThat(post("key-1", "\"" + "x".repeat(1024) + "\"", createProduct).getStatus()).isEqualTo(413);
+            assertThat(executions).hasValue(0);
+        }
+
+        @Test
+        @DisplayName("should pass through requests without a key or with other methods")
+        void shouldPassThrough() throws Exception {
+            MockHttpServletRequest get = new MockHttpServletRequest("GET", "/api/products");
+            get.addHeader(IdempotencyFilter.HEADER, "key-1");
+            filter.doFilter(get, new MockHttpServletResponse(), createProduct);
+            filter.doFilter(get, new MockHttpServletResponse(), createProduct);
+            post(null, "{}", createProduct);
+            post(null, "{}", createProduct);
+
+            assertThat(executions).hasValue(4);
+            assertThat(store.size()).isZero();
+        }
+
+        @Test
+        @DisplayName("should pass through unauthenticated requests instead of sharing one key space")
+        void shouldPassThroughAnonymous() throws Exception {
+            post("key-1", "{}", createProduct, null);
+            post("key-1", "{}", createProduct, null);
+
+            assertThat(executions).hasValue(2);
+            assertThat(store.size()).isZero();
+        }
+
+        @Test
+        @DisplayName("should pass through excluded streaming endpoints without reading the body")
+        void shouldPassThroughExcludedPaths() throws Exception {
+            MockHttpServletRequest bulk = request("key-1", "{\"line\":1}", "alice");
+            bulk.setRequestURI("/api/products/bulk");
+            List<Boolean> unwrapped = new ArrayList<>();
+            FilterChain streaming = (request, response) -> unwrapped.add(request == bulk);
+
+            filter.doFilter(bulk, new MockHttpServletResponse(), streaming);
+
+            assertThat(unwrapped).containsExactly(true);
+            assertThat(store.size()).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("Concurrency")
+    class Concurrency {
+
+        @Test
+        @DisplayName("should coalesce concurrent duplicates into one execution")
+        void shouldCoalesceInFlightDuplicates() throws Exception {
+            // given
+            CountDownLatch started = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            FilterChain slow = (request, response) -> {
+                started.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                createProduct.doFilter(request, response);
+            };
+            CompletableFuture<MockHttpServletResponse> first =
+                CompletableFuture.supplyAsync(() -> postUnchecked("key-1", "{}", slow));
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+            // when
+            CompletableFuture<MockHttpServletResponse> duplicate =
+                CompletableFuture.supplyAsync(() -> postUnchecked("key-1", "{}", slow));
+            Thread.sleep(100);
+            release.countDown();
+
+            // then
+            assertThat(executions).hasValue(1);
+            assertThat(duplicate.get(5, TimeUnit.SECONDS).getContentAsString())
+                .isEqualTo(first.get(5, TimeUnit.SECONDS).getContentAsString());
+            assertThat(duplicate.get().getHeader(IdempotencyFilter.REPLAYED_HEADER)).isEqualTo("true");
+        }
+
+        @Test
+        @DisplayName("should answer 409 when the first request is still running after the wait timeout")
+        void shouldConflictAfterWaitTimeout() throws Exception {
+            IdempotencyFilter impatient = new IdempotencyFilter(
+                store, Set.of("POST"), List.of(), 1024, Duration.ofMillis(20));
+            store.begin("alice:key-1", IdempotencyFilter.fingerprint(request("key-1", "{}", "alice"), bytes("{}")));
+
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            impatient.doFilter(request("key-1", "{}", "alice"), response, createProduct);
+
+            assertThat(response.getStatus()).isEqualTo(409);
+            assertThat(response.getHeader("Retry-After")).isEqualTo("1");
+            assertThat(executions).hasValue(0);
+        }
+    }
+
+    private MockHttpServletResponse post(String key, String body, FilterChain chain) throws Exception {
+        return post(key, body, chain, "alice");
+    }
+
+    private MockHttpServletResponse post(String key, String body, FilterChain chain, String user) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request(key, body, user), response, chain);
+        return response;
+    }
+
+    private MockHttpServletResponse postUnchecked(String key, String body, FilterChain chain) {
+        try {
+            return post(key, body, chain);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static MockHttpServletRequest request(String key, String body, String user) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/products");
+        if (key != null) {
+            request.addHeader(IdempotencyFilter.HEADER, key);
+        }
+        if (user != null) {
+            request.setUserPrincipal(() -> user);
+        }
+        request.setContentType("application/json");
+        request.setContent(bytes(body));
+        return request;
+    }
+
+    private static byte[] bytes(String body) {
+        return body.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,112 @@
+package com.example.ecommerce.common.idempotency;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("InMemoryIdempotencyStore Tests")
+class InMemoryIdempotencyStoreTest {
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2026-01-01T00:00:00Z"));
+    private final InMemoryIdempotencyStore store = new InMemoryIdempotencyStore(Duration.ofHours(1), 3, clock);
+
+    @Test
+    @DisplayName("should register a new key once and return the stored response afterwards")
+    void shouldReturnStoredResponse() {
+        // when
+        assertThat(store.begin("key", "fp")).isNull();
+        IdempotencyRecord inFlight = store.begin("key", "fp");
+        store.complete("key", response("created"));
+
+        // then
+        assertThat(inFlight.completed()).isFalse();
+        IdempotencyRecord completed = store.begin("key", "fp");
+        assertThat(completed.fingerprint()).isEqualTo("fp");
+        assertThat(new String(completed.response().body(), StandardCharsets.UTF_8)).isEqualTo("created");
+    }
+
+    @Test
+    @DisplayName("should wake up waiting duplicates when the first request completes")
+    void shouldWakeUpWaiters() throws Exception {
+        // given
+        store.begin("key", "fp");
+        CompletableFuture<IdempotencyRecord> waiter = CompletableFuture.supplyAsync(() -> {
+            try {
+                return store.await("key", Duration.ofSeconds(5));
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        // when
+        store.complete("key", response("created"));
+
+        // then
+        assertThat(waiter.get().completed()).isTrue();
+    }
+
+    @Test
+    @DisplayName("should let the next request execute after a release")
+    void shouldReleaseKey() throws Exception {
+        // given
+        store.begin("key", "fp");
+
+        // when
+        store.release("key");
+
+        // then
+        assertThat(store.await("key", Duration.ofMillis(10))).isNull();
+        assertThat(store.begin("key", "fp")).isNull();
+    }
+
+    @Test
+    @DisplayName("should return the in-flight record when waiting times out")
+    void shouldTimeOutWaiting() throws Exception {
+        store.begin("key", "fp");
+
+        IdempotencyRecord record = store.await("key", Duration.ofMillis(10));
+
+        assertThat(record).isNotNull();
+        assertThat(record.completed()).isFalse();
+    }
+
+    @Test
+    @DisplayName("should expire records after the TTL")
+    void shouldExpireRecords() {
+        // given
+        store.begin("key", "fp");
+        store.complete("key", response("created"));
+
+        // when
+        clock.advance(Duration.ofHours(1));
+
+        // then
+        assertThat(store.begin("key", "fp")).isNull();
+        assertThat(store.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should evict the oldest record when full")
+    void shouldBoundEntries() {
+        for (String key : List.of("a", "b", "c", "d")) {
+            store.begin(key, "fp");
+            store.complete(key, response(key));
+        }
+
+        assertThat(store.size()).isEqualTo(3);
+        assertThat(store.begin("a", "fp")).isNull();
+        assertThat(store.begin("d", "fp")).isNotNull();
+    }
+
+    private static StoredResponse response(String body) {
+        return new StoredResponse(201, "application/json", Map.of(), body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,119 @@
+package com.example.ecommerce.common.idempotency;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import javax.sql.DataSource;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("JdbcIdempotencyStore Tests (H2)")
+class JdbcIdempotencyStoreTest {
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2026-01-01T00:00:00Z"));
+    private JdbcTemplate jdbcTemplate;
+    private JdbcIdempotencyStore store;
+
+    @BeforeEach
+    void setUp() {
+        DataSource dataSource = new DriverManagerDataSource(
+            "jdbc:h2:mem:idempotency-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        // 以程式庫提供的 DDL 建表，確認它與 store 的 SQL 一致
+        new ResourceDatabasePopulator(new DefaultResourceLoader().getResource(JdbcIdempotencyStore.SCHEMA_LOCATION))
+            .execute(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        store = new JdbcIdempotencyStore(jdbcTemplate, Duration.ofHours(1), Duration.ofMinutes(1), clock);
+    }
+
+    @Test
+    @DisplayName("should store and return the response with its headers")
+    void shouldStoreResponse() throws Exception {
+        // given
+        assertThat(store.begin("key", "fp")).isNull();
+        assertThat(store.begin("key", "fp").completed()).isFalse();
+
+        // when
+        store.complete("key", new StoredResponse(201, "application/json",
+            Map.of("Location", List.of("/api/products/1"), "X-Trace", List.of("a", "b")),
+            "{\"id\":1}".getBytes(StandardCharsets.UTF_8)));
+
+        // then
+        IdempotencyRecord record = store.await("key", Duration.ofSeconds(1));
+        assertThat(record.completed()).isTrue();
+        assertThat(record.response().status()).isEqualTo(201);
+        assertThat(record.response().contentType()).isEqualTo("application/json");
+        assertThat(record.response().headers())
+            .containsEntry("Location", List.of("/api/products/1"))
+            .containsEntry("X-Trace", List.of("a", "b"));
+        assertThat(new String(record.response().body(), StandardCharsets.UTF_8)).isEqualTo("{\"id\":1}");
+    }
+
+    @Test
+    @DisplayName("should release in-flight keys only")
+    void shouldReleaseInFlightKeys() throws Exception {
+        store.begin("failed", "fp");
+        store.begin("done", "fp");
+        store.complete("done", new StoredResponse(200, null, Map.of(), new byte[0]));
+
+        store.release("failed");
+        store.release("done");
+
+        assertThat(store.await("failed", Duration.ofMillis(10))).isNull();
+        assertThat(store.begin("failed", "fp")).isNull();
+        assertThat(store.begin("done", "fp").completed()).isTrue();
+    }
+
+    @Test
+    @DisplayName("should take over abandoned and expired keys")
+    void shouldTakeOverStaleKeys() {
+        // given
+        store.begin("abandoned", "fp");
+        store.begin("expired", "fp");
+        store.complete("expired", new StoredResponse(200, null, Map.of(), new byte[0]));
+
+        // when
+        clock.advance(Duration.ofMinutes(2));
+
+        // then
+        assertThat(store.begin("abandoned", "fp")).isNull();
+        assertThat(store.begin("expired", "fp").completed()).isTrue();
+        clock.advance(Duration.ofHours(1));
+        assertThat(store.begin("expired", "fp")).isNull();
+    }
+
+    @Test
+    @DisplayName("should purge expired keys")
+    void shouldPurgeExpiredKeys() {
+        store.begin("old", "fp");
+        clock.advance(Duration.ofMinutes(30));
+        store.begin("new", "fp");
+        clock.advance(Duration.ofMinutes(30));
+
+        assertThat(store.purgeExpired()).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM idempotency_keys", Integer.class)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should fail to start when the table is missing")
+    void shouldFailWithoutTable() {
+        JdbcIdempotencyStore withoutTable = new JdbcIdempotencyStore(new JdbcTemplate(new DriverManagerDataSource(
+            "jdbc:h2:mem:idempotency-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "")),
+            Duration.ofHours(1), Duration.ofMinutes(1), clock);
+
+        assertThatThrownBy(() -> withoutTable.start(Duration.ofMinutes(1)))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining(JdbcIdempotencyStore.SCHEMA_LOCATION);
+        withoutTable.close();
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.ecommerce.security.config;
+
+import com.example.ecommerce.security.jwks.JwksManager;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.proc.JWSVerificationKeySelector;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jwt.proc.DefaultJWTProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtValidators;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * JWT 解碼配置 - 使用本機快取的 JWKS
+ *
+ * <p>啟動時不進行 OIDC discovery，IdP 暫時無法連線也能啟動並驗證 Token。</p>
+ */
+@Configuration
+@EnableConfigurationProperties(JwksProperties.class)
+@ConditionalOnProperty(prefix = "security.jwks", name = "enabled", havingValue = "true")
+public class JwksConfig {
+
+    @Bean(initMethod = "start", destroyMethod = "close")
+    public JwksManager jwksManager(JwksProperties properties) {
+        return new JwksManager(properties);
+    }
+
+    @Bean
+    public JwtDecoder jwtDecoder(JwksManager jwksManager, JwksProperties properties) {
+        Set<JWSAlgorithm> algorithms = properties.getJwsAlgorithms().stream()
+                .map(JWSAlgorithm::parse)
+                .collect(Collectors.toSet());
+
+        DefaultJWTProcessor<SecurityContext> processor = new DefaultJWTProcessor<>();
+        processor.setJWSKeySelector(new JWSVerificationKeySelector<>(algorithms, jwksManager));
+        // Claim 驗證交給 Spring Security 的 OAuth2TokenValidator
+        processor.setJWTClaimsSetVerifier((claims, context) -> { });
+
+        NimbusJwtDecoder decoder = new NimbusJwtDecoder(processor);
+        decoder.setJwtValidator(properties.getIssuerUri() != null && !properties.getIssuerUri().isBlank()
+                ? JwtValidators.createDefaultWithIssuer(properties.getIssuerUri())
+                : JwtValidators.createDefault());
+        return decoder;
+    }
+}
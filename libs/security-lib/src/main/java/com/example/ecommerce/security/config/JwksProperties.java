@@ -0,0 +1,199 @@
+package com.example.ecommerce.security.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.core.io.Resource;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * JWKS 快取設定
+ *
+ * <pre>
+ * security:
+ *   jwks:
+ *     enabled: true
+ *     issuer-uri: http://localhost:8180/realms/rbac-sso-realm
+ *     bootstrap-location: classpath:jwks/bootstrap.json
+ *     snapshot-path: /var/cache/product-service/jwks.json
+ *     refresh-interval: 5m
+ *     refresh-jitter: 30s
+ *     unknown-kid-min-interval: 30s
+ * </pre>
+ */
+@ConfigurationProperties(prefix = "security.jwks")
+public class JwksProperties {
+
+    /**
+     * 啟用 JWKS 快取 (取代啟動時的 OIDC discovery)
+     */
+    private boolean enabled = false;
+
+    /**
+     * Token 發行者，用於驗證 iss claim 與推導 JWKS 端點
+     */
+    private String issuerUri;
+
+    /**
+     * JWKS 端點；未設定時使用 Keycloak 慣例 {issuer}/protocol/openid-connect/certs
+     */
+    private String jwkSetUri;
+
+    /**
+     * 沒有快照時使用的初始金鑰集 (例如隨映像檔發佈的 JWKS 檔案)
+     */
+    private Resource bootstrapLocation;
+
+    /**
+     * 最後一次成功取得的金鑰集存放位置；未設定則不保存
+     */
+    private Path snapshotPath;
+
+    /**
+     * 背景更新間隔
+     */
+    private Duration refreshInterval = Duration.ofMinutes(5);
+
+    /**
+     * 更新間隔的隨機偏移上限 (避免多個實例同時向 IdP 請求)
+     */
+    private Duration refreshJitter = Duration.ofSeconds(30);
+
+    /**
+     * 更新失敗後的重試間隔
+     */
+    private Duration retryInterval = Duration.ofSeconds(30);
+
+    /**
+     * 遇到未知 kid 時，兩次即時重新取得之間的最短間隔
+     */
+    private Duration unknownKidMinInterval = Duration.ofSeconds(30);
+
+    /**
+     * 連線逾時
+     */
+    private Duration connectTimeout = Duration.ofSeconds(2);
+
+    /**
+     * 讀取逾時
+     */
+    private Duration readTimeout = Duration.ofSeconds(3);
+
+    /**
+     * 允許的簽章演算法
+     */
+    private List<String> jwsAlgorithms = new ArrayList<>(List.of("RS256"));
+
+    /**
+     * 取得實際使用的 JWKS 端點
+     */
+    public String resolveJwkSetUri() {
+        if (jwkSetUri != null && !jwkSetUri.isBlank()) {
+            return jwkSetUri;
+        }
+        if (issuerUri == null || issuerUri.isBlank()) {
+            throw new IllegalStateException("security.jwks.issuer-uri or security.jwks.jwk-set-uri is required");
+        }
+        return issuerUri.endsWith("/")
+                ? issuerUri + "protocol/openid-connect/certs"
+                : issuerUri + "/protocol/openid-connect/certs";
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public String getIssuerUri() {
+        return issuerUri;
+    }
+
+    public void setIssuerUri(String issuerUri) {
+        this.issuerUri = issuerUri;
+    }
+
+    public String getJwkSetUri() {
+        return jwkSetUri;
+    }
+
+    public void setJwkSetUri(String jwkSetUri) {
+        this.jwkSetUri = jwkSetUri;
+    }
+
+    public Resource getBootstrapLocation() {
+        return bootstrapLocation;
+    }
+
+    public void setBootstrapLocation(Resource bootstrapLocation) {
+        this.bootstrapLocation = bootstrapLocation;
+    }
+
+    public Path getSnapshotPath() {
+        return snapshotPath;
+    }
+
+    public void setSnapshotPath(Path snapshotPath) {
+        this.snapshotPath = snapshotPath;
+    }
+
+    public Duration getRefreshInterval() {
+        return refreshInterval;
+    }
+
+    public void setRefreshInterval(Duration refreshInterval) {
+        this.refreshInterval = refreshInterval;
+    }
+
+    public Duration getRefreshJitter() {
+        return refreshJitter;
+    }
+
+    public void setRefreshJitter(Duration refreshJitter) {
+        this.refreshJitter = refreshJitter;
+    }
+
+    public Duration getRetryInterval() {
+        return retryInterval;
+    }
+
+    public void setRetryInterval(Duration retryInterval) {
+        this.retryInterval = retryInterval;
+    }
+
+    public Duration getUnknownKidMinInterval() {
+        return unknownKidMinInterval;
+    }
+
+    public void setUnknownKidMinInterval(Duration unknownKidMinInterval) {
+        this.unknownKidMinInterval = unknownKidMinInterval;
+    }
+
+    public Duration getConnectTimeout() {
+        return connectTimeout;
+    }
+
+    public void setConnectTimeout(Duration connectTimeout) {
+        this.connectTimeout = connectTimeout;
+    }
+
+    public Duration getReadTimeout() {
+        return readTimeout;
+    }
+
+    public void setReadTimeout(Duration readTimeout) {
+        this.readTimeout = readTimeout;
+    }
+
+    public List<String> getJwsAlgorithms() {
+        return jwsAlgorithms;
+    }
+
+    public void setJwsAlgorithms(List<String> jwsAlgorithms) {
+        this.jwsAlgorithms = jwsAlgorithms;
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.ecommerce.security.config;
+
+import com.example.ecommerce.security.filter.TokenRevocationFilter;
+import com.example.ecommerce.security.revocation.FileRevocationSource;
+import com.example.ecommerce.security.revocation.HttpRevocationSource;
+import com.example.ecommerce.security.revocation.InMemoryRevocationSource;
+import com.example.ecommerce.security.revocation.RevocationList;
+import com.example.ecommerce.security.revocation.RevocationSource;
+import com.example.ecommerce.security.revocation.RevocationSynchronizer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Token 撤銷清單配置
+ *
+ * <p>{@link TokenRevocationFilter} 由 {@link SecurityConfig} 加在 JWT 驗證之後，
+ * 不註冊為一般的 Servlet filter。</p>
+ */
+@Configuration
+@EnableConfigurationProperties(RevocationProperties.class)
+@ConditionalOnProperty(prefix = "security.revocation", name = "enabled", havingValue = "true")
+public class RevocationConfig {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public RevocationSource revocationSource(RevocationProperties properties, ObjectProvider<ObjectMapper> objectMapper) {
+        ObjectMapper mapper = objectMapper.getIfAvailable(ObjectMapper::new);
+        return switch (properties.getSource()) {
+            case FILE -> new FileRevocationSource(required(properties.getFile(), "file"), mapper);
+            case HTTP -> new HttpRevocationSource(required(properties.getUri(), "uri"), mapper, properties.getTimeout());
+            case MEMORY -> new InMemoryRevocationSource();
+        };
+    }
+
+    @Bean
+    public RevocationList revocationList(RevocationProperties properties) {
+        return new RevocationList(properties.getExpectedEntries(), properties.getFalsePositiveRate());
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "close")
+    public RevocationSynchronizer revocationSynchronizer(
+            RevocationList revocationList, RevocationSource revocationSource, RevocationProperties properties) {
+        return new RevocationSynchronizer(revocationList, revocationSource, properties.getPollInterval());
+    }
+
+    @Bean
+    public TokenRevocationFilter tokenRevocationFilter(RevocationList revocationList, RevocationProperties properties) {
+        return new TokenRevocationFilter(revocationList, properties.getClaims());
+    }
+
+    /**
+     * 只在 Security filter chain 中執行
+     */
+    @Bean
+    public FilterRegistrationBean<TokenRevocationFilter> tokenRevocationFilterRegistration(
+            TokenRevocationFilter tokenRevocationFilter) {
+        FilterRegistrationBean<TokenRevocationFilter> registration = new FilterRegistrationBean<>(tokenRevocationFilter);
+        registration.setEnabled(false);
+        return registration;
+    }
+
+    private static <T> T required(T value, String name) {
+        if (value == null) {
+            throw new IllegalStateException("security.revocation." + name + " is required for this source");
+        }
+        return value;
+    }
+}
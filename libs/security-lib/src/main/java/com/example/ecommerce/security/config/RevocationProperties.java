@@ -0,0 +1,153 @@
+package com.example.ecommerce.security.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Token 撤銷清單設定
+ *
+ * <pre>
+ * security:
+ *   revocation:
+ *     enabled: true
+ *     source: http
+ *     uri: http://auth-admin:8080/api/revocations
+ *     poll-interval: 10s
+ *     expected-entries: 100000
+ *     false-positive-rate: 0.01
+ * </pre>
+ */
+@ConfigurationProperties(prefix = "security.revocation")
+public class RevocationProperties {
+
+    /**
+     * 撤銷清單來源類型
+     */
+    public enum SourceType {
+        /** 本機 JSON 檔案 */
+        FILE,
+        /** HTTP 增量端點 */
+        HTTP,
+        /** 記憶體 (測試 / 本機開發) */
+        MEMORY
+    }
+
+    /**
+     * 啟用 Token 撤銷檢查
+     */
+    private boolean enabled = false;
+
+    private SourceType source = SourceType.MEMORY;
+
+    /**
+     * source=file 時的檔案路徑
+     */
+    private Path file;
+
+    /**
+     * source=http 時的端點
+     */
+    private URI uri;
+
+    /**
+     * 同步間隔
+     */
+    private Duration pollInterval = Duration.ofSeconds(10);
+
+    /**
+     * HTTP 來源逾時
+     */
+    private Duration timeout = Duration.ofSeconds(3);
+
+    /**
+     * 預期撤銷數量，決定 Bloom filter 初始大小
+     */
+    private long expectedEntries = 100_000;
+
+    /**
+     * Bloom filter 誤判率 (誤判只會多一次精確集合查詢)
+     */
+    private double falsePositiveRate = 0.01;
+
+    /**
+     * 要檢查的 JWT claim
+     */
+    private List<String> claims = new ArrayList<>(List.of("jti", "sid"));
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public SourceType getSource() {
+        return source;
+    }
+
+    public void setSource(SourceType source) {
+        this.source = source;
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    public void setFile(Path file) {
+        this.file = file;
+    }
+
+    public URI getUri() {
+        return uri;
+    }
+
+    public void setUri(URI uri) {
+        this.uri = uri;
+    }
+
+    public Duration getPollInterval() {
+        return pollInterval;
+    }
+
+    public void setPollInterval(Duration pollInterval) {
+        this.pollInterval = pollInterval;
+    }
+
+    public Duration getTimeout() {
+        return timeout;
+    }
+
+    public void setTimeout(Duration timeout) {
+        this.timeout = timeout;
+    }
+
+    public long getExpectedEntries() {
+        return expectedEntries;
+    }
+
+    public void setExpectedEntries(long expectedEntries) {
+        this.expectedEntries = expectedEntries;
+    }
+
+    public double getFalsePositiveRate() {
+        return falsePositiveRate;
+    }
+
+    public void setFalsePositiveRate(double falsePositiveRate) {
+        this.falsePositiveRate = falsePositiveRate;
+    }
+
+    public List<String> getClaims() {
+        return claims;
+    }
+
+    public void setClaims(List<String> claims) {
+        this.claims = claims;
+    }
+}
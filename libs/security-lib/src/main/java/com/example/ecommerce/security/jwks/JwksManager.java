@@ -0,0 +1,313 @@
+package com.example.ecommerce.security.jwks;
+
+import com.example.ecommerce.security.config.JwksProperties;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKMatcher;
+import com.nimbusds.jose.jwk.JWKSelector;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.source.JWKSource;
+import com.nimbusds.jose.proc.SecurityContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.Resource;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.text.ParseException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWKS 金鑰管理 - 可離線啟動的 {@link JWKSource}
+ *
+ * <p>取代 {@code JwtDecoders.fromIssuerLocation}：啟動時不連線 IdP，
+ * 依序從本機快照 ({@code snapshot-path}) 或初始檔案 ({@code bootstrap-location}) 載入金鑰，
+ * 再由背景執行緒向 JWKS 端點更新。</p>
+ *
+ * <ul>
+ *   <li>金鑰以 kid 建立索引，驗證時直接查表</li>
+ *   <li>背景定期更新，間隔加上隨機偏移</li>
+ *   <li>遇到未知 kid (金鑰輪替) 時立即重新取得，但受最短間隔限制，
+ *       避免偽造 kid 的 Token 打爆 IdP</li>
+ *   <li>每次取得新金鑰集後寫入快照，下次啟動即可離線使用</li>
+ * </ul>
+ */
+public class JwksManager implements JWKSource<SecurityContext>, Closeable {
+
+    private static final Logger log = LoggerFactory.getLogger(JwksManager.class);
+
+    /**
+     * JWKS 回應大小上限
+     */
+    private static final int MAX_RESPONSE_BYTES = 512 * 1024;
+
+    private final JwksProperties properties;
+    private final URI jwkSetUri;
+    private final HttpClient httpClient;
+    private final Clock clock;
+
+    /**
+     * 未知 kid 的重新取得互斥，同時到達的請求等待同一次取得的結果
+     */
+    private final Object unknownKidLock = new Object();
+
+    private volatile KeySet keySet = KeySet.EMPTY;
+    private Instant lastUnknownKidRefresh = Instant.MIN;
+
+    private ScheduledExecutorService scheduler;
+
+    public JwksManager(JwksProperties properties) {
+        this(properties, HttpClient.newBuilder()
+                .connectTimeout(properties.getConnectTimeout())
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .build(), Clock.systemUTC());
+    }
+
+    JwksManager(JwksProperties properties, HttpClient httpClient, Clock clock) {
+        this.properties = properties;
+        this.jwkSetUri = URI.create(properties.resolveJwkSetUri());
+        this.httpClient = httpClient;
+        this.clock = clock;
+    }
+
+    /**
+     * 載入本機金鑰並啟動背景更新，不等待網路
+     */
+    public synchronized void start() {
+        if (scheduler != null) {
+            return;
+        }
+        loadLocal();
+
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "jwks-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // 本機金鑰可能已過時，立即在背景更新一次
+        scheduler.execute(this::scheduledRefresh);
+    }
+
+    @Override
+    public synchronized void close() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+    }
+
+    @Override
+    public List<JWK> get(JWKSelector selector, SecurityContext context) {
+        List<JWK> matches = select(keySet, selector);
+        if (!matches.isEmpty()) {
+            return matches;
+        }
+
+        Set<String> keyIds = selector.getMatcher().getKeyIDs();
+        if (keyIds == null || keyIds.isEmpty() || keySet.containsAny(keyIds)) {
+            return matches;
+        }
+
+        // 未知 kid：可能是 IdP 剛輪替金鑰
+        if (refreshForUnknownKid(keyIds)) {
+            return select(keySet, selector);
+        }
+        return Collections.emptyList();
+    }
+
+    /**
+     * 立即向 JWKS 端點取得金鑰
+     *
+     * @return 是否成功
+     */
+    public boolean refresh() {
+        try {
+            JWKSet fetched = fetch();
+            apply(fetched, "remote");
+            return true;
+        } catch (Exception e) {
+            log.warn("Failed to refresh JWKS from {}: {}", jwkSetUri, e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * 目前已載入的 kid
+     */
+    public Set<String> getKeyIds() {
+        return keySet.byKid.keySet();
+    }
+
+    /**
+     * 最後一次成功載入金鑰的時間與來源
+     */
+    public Instant getLastUpdated() {
+        return keySet.loadedAt;
+    }
+
+    public String getSource() {
+        return keySet.source;
+    }
+
+    private boolean refreshForUnknownKid(Set<String> keyIds) {
+        synchronized (unknownKidLock) {
+            // 其他請求可能已經取得新金鑰
+            if (keySet.containsAny(keyIds)) {
+                return true;
+            }
+            Instant now = clock.instant();
+            if (now.isBefore(lastUnknownKidRefresh.plus(properties.getUnknownKidMinInterval()))) {
+                log.debug("Unknown kid {}, refetch rate limited", keyIds);
+                return false;
+            }
+            lastUnknownKidRefresh = now;
+
+            log.info("Unknown kid {}, refetching JWKS", keyIds);
+            return refresh() && keySet.containsAny(keyIds);
+        }
+    }
+
+    private void scheduledRefresh() {
+        boolean success = refresh();
+        Duration base = success ? properties.getRefreshInterval() : properties.getRetryInterval();
+        long jitter = properties.getRefreshJitter().toMillis();
+        long delay = base.toMillis() + (jitter > 0 ? ThreadLocalRandom.current().nextLong(-jitter, jitter + 1) : 0);
+
+        synchronized (this) {
+            if (scheduler != null) {
+                scheduler.schedule(this::scheduledRefresh, Math.max(delay, 1000), TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    private void loadLocal() {
+        Path snapshot = properties.getSnapshotPath();
+        if (snapshot != null && Files.isRegularFile(snapshot)) {
+            try {
+                apply(JWKSet.parse(Files.readString(snapshot)), "snapshot");
+                return;
+            } catch (Exception e) {
+                log.warn("Ignoring unreadable JWKS snapshot {}: {}", snapshot, e.getMessage());
+            }
+        }
+
+        Resource bootstrap = properties.getBootstrapLocation();
+        if (bootstrap != null && bootstrap.exists()) {
+            try (InputStream in = bootstrap.getInputStream()) {
+                apply(JWKSet.parse(new String(in.readAllBytes(), StandardCharsets.UTF_8)), "bootstrap");
+                return;
+            } catch (Exception e) {
+                log.warn("Ignoring unreadable JWKS bootstrap {}: {}", bootstrap, e.getMessage());
+            }
+        }
+
+        log.warn("No local JWKS available, tokens are rejected until {} is reachable", jwkSetUri);
+    }
+
+    private JWKSet fetch() throws IOException, InterruptedException, ParseException {
+        HttpRequest request = HttpRequest.newBuilder(jwkSetUri)
+                .timeout(properties.getReadTimeout())
+                .header("Accept", "application/json")
+                .GET()
+                .build();
+        HttpResponse<byte[]> response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() != 200) {
+            throw new IOException("HTTP " + response.statusCode());
+        }
+        if (response.body().length > MAX_RESPONSE_BYTES) {
+            throw new IOException("JWKS response exceeds " + MAX_RESPONSE_BYTES + " bytes");
+        }
+        return JWKSet.parse(new String(response.body(), StandardCharsets.UTF_8));
+    }
+
+    private synchronized void apply(JWKSet jwkSet, String source) {
+        JWKSet publicKeys = jwkSet.toPublicJWKSet();
+        if (publicKeys.getKeys().isEmpty()) {
+            throw new IllegalArgumentException("JWKS contains no keys");
+        }
+        boolean changed = !publicKeys.getKeys().equals(keySet.jwkSet.getKeys());
+        keySet = new KeySet(publicKeys, source, clock.instant());
+
+        if (changed) {
+            log.info("Loaded JWKS from {}: kids={}", source, keySet.byKid.keySet());
+            if ("remote".equals(source)) {
+                writeSnapshot(publicKeys);
+            }
+        }
+    }
+
+    private void writeSnapshot(JWKSet jwkSet) {
+        Path snapshot = properties.getSnapshotPath();
+        if (snapshot == null) {
+            return;
+        }
+        try {
+            Path directory = snapshot.toAbsolutePath().getParent();
+            Files.createDirectories(directory);
+            Path tmp = Files.createTempFile(directory, snapshot.getFileName().toString(), ".tmp");
+            Files.writeString(tmp, jwkSet.toString(true));
+            Files.move(tmp, snapshot, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.warn("Failed to write JWKS snapshot {}: {}", snapshot, e.getMessage());
+        }
+    }
+
+    private static List<JWK> select(KeySet keySet, JWKSelector selector) {
+        JWKMatcher matcher = selector.getMatcher();
+        Set<String> keyIds = matcher.getKeyIDs();
+        if (keyIds != null && keyIds.size() == 1) {
+            JWK jwk = keySet.byKid.get(keyIds.iterator().next());
+            return jwk != null && matcher.matches(jwk) ? List.of(jwk) : Collections.emptyList();
+        }
+        return selector.select(keySet.jwkSet);
+    }
+
+    /**
+     * 不可變的金鑰集與 kid 索引
+     */
+    private static final class KeySet {
+
+        static final KeySet EMPTY = new KeySet(new JWKSet(), "none", Instant.EPOCH);
+
+        final JWKSet jwkSet;
+        final Map<String, JWK> byKid;
+        final String source;
+        final Instant loadedAt;
+
+        KeySet(JWKSet jwkSet, String source, Instant loadedAt) {
+            Map<String, JWK> index = new LinkedHashMap<>();
+            for (JWK jwk : jwkSet.getKeys()) {
+                if (jwk.getKeyID() != null) {
+                    index.putIfAbsent(jwk.getKeyID(), jwk);
+                }
+            }
+            this.jwkSet = jwkSet;
+            this.byKid = Collections.unmodifiableMap(index);
+            this.source = source;
+            this.loadedAt = loadedAt;
+        }
+
+        boolean containsAny(Set<String> keyIds) {
+            return keyIds.stream().anyMatch(byKid::containsKey);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.ecommerce.security.revocation;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 字串 Bloom filter
+ *
+ * <p>單一寫入者、多讀取者：位元以 {@link AtomicLongArray} 保存，讀取不需加鎖。
+ * 使用 Kirsch-Mitzenmacher 雙重雜湊，由一個 64-bit 雜湊推導出 k 個位置。</p>
+ */
+public class BloomFilter {
+
+    private static final long SEED = 0x9E3779B97F4A7C15L;
+
+    private final AtomicLongArray bits;
+    private final long bitCount;
+    private final int hashCount;
+    private final long expectedEntries;
+
+    /**
+     * @param expectedEntries   預期元素數量
+     * @param falsePositiveRate 在預期數量下的誤判率 (0, 1)
+     */
+    public BloomFilter(long expectedEntries, double falsePositiveRate) {
+        if (expectedEntries <= 0) {
+            throw new IllegalArgumentException("expectedEntries must be positive");
+        }
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("falsePositiveRate must be between 0 and 1");
+        }
+        long optimalBits = (long) Math.ceil(-expectedEntries * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        int words = (int) Math.min(Integer.MAX_VALUE - 8, (optimalBits + 63) / 64);
+        this.bits = new AtomicLongArray(words);
+        this.bitCount = (long) words * 64;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedEntries * Math.log(2)));
+        this.expectedEntries = expectedEntries;
+    }
+
+    public void put(String value) {
+        long h1 = hash(value);
+        long h2 = fmix64(h1 ^ SEED);
+        for (int i = 1; i <= hashCount; i++) {
+            long index = index(h1 + i * h2);
+            int word = (int) (index >>> 6);
+            long mask = 1L << index;
+            long current = bits.get(word);
+            if ((current & mask) == 0) {
+                bits.getAndUpdate(word, w -> w | mask);
+            }
+        }
+    }
+
+    /**
+     * @return false 表示一定不存在；true 表示可能存在
+     */
+    public boolean mightContain(String value) {
+        long h1 = hash(value);
+        long h2 = fmix64(h1 ^ SEED);
+        for (int i = 1; i <= hashCount; i++) {
+            long index = index(h1 + i * h2);
+            if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public long expectedEntries() {
+        return expectedEntries;
+    }
+
+    public int hashCount() {
+        return hashCount;
+    }
+
+    /**
+     * 位元陣列大小 (bytes)
+     */
+    public long sizeInBytes() {
+        return bitCount / 8;
+    }
+
+    private long index(long combined) {
+        return (combined & Long.MAX_VALUE) % bitCount;
+    }
+
+    /**
+     * 64-bit FNV-1a (逐 char，不配置記憶體) 加上 MurmurHash3 fmix64 收尾
+     */
+    static long hash(String value) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            h ^= value.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        return fmix64(h);
+    }
+
+    private static long fmix64(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.ecommerce.security.revocation;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+
+/**
+ * 從本機 JSON 檔案讀取撤銷清單 (例如由 ConfigMap 掛載)
+ *
+ * <p>檔案內容為完整清單 ({@code "full": true} 可省略)；檔案未變更時不重新解析。
+ * 版本取自檔案中的 {@code version}，未提供時使用修改時間。</p>
+ */
+public class FileRevocationSource implements RevocationSource {
+
+    private final Path path;
+    private final ObjectMapper objectMapper;
+
+    private long lastModified = -1;
+    private long lastVersion;
+
+    public FileRevocationSource(Path path, ObjectMapper objectMapper) {
+        this.path = path;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public synchronized RevocationDelta fetchSince(long sinceVersion) throws Exception {
+        long modified = Files.getLastModifiedTime(path).toMillis();
+        if (modified == lastModified && sinceVersion == lastVersion) {
+            return RevocationDelta.unchanged(sinceVersion);
+        }
+
+        RevocationDelta content = objectMapper.readValue(path.toFile(), RevocationDelta.class);
+        long version = content.version() > 0 ? content.version() : modified;
+        lastModified = modified;
+        lastVersion = version;
+        if (version == sinceVersion) {
+            return RevocationDelta.unchanged(sinceVersion);
+        }
+        return new RevocationDelta(version, true, content.revoked(), Set.of());
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.ecommerce.security.revocation;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+
+/**
+ * 從 HTTP 端點增量取得撤銷清單
+ *
+ * <p>請求 {@code GET {uri}?since={version}}，回應 {@link RevocationDelta} JSON；
+ * 伺服器無法提供增量時可回傳 {@code "full": true} 的完整清單。
+ * 304 或 204 表示沒有變更。</p>
+ */
+public class HttpRevocationSource implements RevocationSource {
+
+    private final URI uri;
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final Duration timeout;
+
+    public HttpRevocationSource(URI uri, ObjectMapper objectMapper, Duration timeout) {
+        this.uri = uri;
+        this.objectMapper = objectMapper;
+        this.timeout = timeout;
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(timeout)
+                .build();
+    }
+
+    @Override
+    public RevocationDelta fetchSince(long sinceVersion) throws IOException, InterruptedException {
+        String separator = uri.getQuery() == null ? "?" : "&";
+        HttpRequest request = HttpRequest.newBuilder(URI.create(uri + separator + "since=" + sinceVersion))
+                .timeout(timeout)
+                .header("Accept", "application/json")
+                .GET()
+                .build();
+
+        HttpResponse<byte[]> response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        return switch (response.statusCode()) {
+            case 200 -> objectMapper.readValue(response.body(), RevocationDelta.class);
+            case 204, 304 -> RevocationDelta.unchanged(sinceVersion);
+            default -> throw new IOException("HTTP " + response.statusCode() + " from " + uri);
+        };
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.ecommerce.security.revocation;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 記憶體內的撤銷清單來源 - 供測試與本機開發使用
+ */
+public class InMemoryRevocationSource implements RevocationSource {
+
+    private final List<RevocationDelta> changes = new ArrayList<>();
+
+    public synchronized void revoke(String... values) {
+        changes.add(new RevocationDelta(changes.size() + 1, false, Set.of(values), Set.of()));
+    }
+
+    public synchronized void restore(String... values) {
+        changes.add(new RevocationDelta(changes.size() + 1, false, Set.of(), Set.of(values)));
+    }
+
+    @Override
+    public synchronized RevocationDelta fetchSince(long sinceVersion) {
+        if (sinceVersion >= changes.size()) {
+            return RevocationDelta.unchanged(sinceVersion);
+        }
+        Set<String> revoked = new HashSet<>();
+        Set<String> restored = new HashSet<>();
+        for (RevocationDelta change : changes.subList((int) sinceVersion, changes.size())) {
+            change.revoked().forEach(value -> {
+                revoked.add(value);
+                restored.remove(value);
+            });
+            change.restored().forEach(value -> {
+                restored.add(value);
+                revoked.remove(value);
+            });
+        }
+        return new RevocationDelta(changes.size(), false, revoked, restored);
+    }
+}
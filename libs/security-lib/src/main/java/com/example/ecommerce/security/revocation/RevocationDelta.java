@@ -0,0 +1,37 @@
+package com.example.ecommerce.security.revocation;
+
+import java.util.Set;
+
+/**
+ * 撤銷清單的增量變更
+ *
+ * <p>JSON 格式 (HTTP 與檔案來源共用)：</p>
+ * <pre>
+ * {
+ *   "version": 42,
+ *   "full": false,
+ *   "revoked": ["9f1c...", "sid-abc"],
+ *   "restored": ["7a2b..."]
+ * }
+ * </pre>
+ *
+ * @param version  套用後的版本
+ * @param full     true 表示 {@code revoked} 為完整清單，取代目前內容
+ * @param revoked  新增的撤銷值 (jti / sid)
+ * @param restored 移除的撤銷值 (通常是 Token 已過期)
+ */
+public record RevocationDelta(long version, boolean full, Set<String> revoked, Set<String> restored) {
+
+    public RevocationDelta {
+        revoked = revoked != null ? Set.copyOf(revoked) : Set.of();
+        restored = restored != null ? Set.copyOf(restored) : Set.of();
+    }
+
+    public static RevocationDelta unchanged(long version) {
+        return new RevocationDelta(version, false, Set.of(), Set.of());
+    }
+
+    public boolean isEmpty() {
+        return !full && revoked.isEmpty() && restored.isEmpty();
+    }
+}
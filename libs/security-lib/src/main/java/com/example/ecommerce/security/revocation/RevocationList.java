@@ -0,0 +1,99 @@
+package com.example.ecommerce.security.revocation;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 已撤銷的 Token 識別值 (jti / sid)
+ *
+ * <p>查詢先經 {@link BloomFilter}：絕大多數 Token 未被撤銷，只需一次 Bloom 查詢即可判定；
+ * Bloom 命中時再以精確集合確認，排除誤判。</p>
+ *
+ * <p>由單一同步執行緒套用 {@link RevocationDelta}，請求執行緒只讀取。Bloom filter 無法移除元素，
+ * 因此在移除累積過多或超過預期容量時重建 (新 filter 建好後整個替換)。</p>
+ */
+public class RevocationList {
+
+    /**
+     * 移除數量超過目前大小的此比例時重建 Bloom filter
+     */
+    private static final double REBUILD_RATIO = 0.2;
+
+    private final long initialCapacity;
+    private final double falsePositiveRate;
+
+    private final Set<String> exact = ConcurrentHashMap.newKeySet();
+    private volatile BloomFilter bloom;
+    private volatile long version;
+    private long removedSinceRebuild;
+
+    /**
+     * @param expectedEntries   預期撤銷數量 (超過時自動擴充)
+     * @param falsePositiveRate Bloom filter 誤判率
+     */
+    public RevocationList(long expectedEntries, double falsePositiveRate) {
+        this.initialCapacity = expectedEntries;
+        this.falsePositiveRate = falsePositiveRate;
+        this.bloom = new BloomFilter(expectedEntries, falsePositiveRate);
+    }
+
+    /**
+     * 是否已撤銷
+     */
+    public boolean isRevoked(String value) {
+        return value != null && bloom.mightContain(value) && exact.contains(value);
+    }
+
+    /**
+     * 套用增量變更
+     */
+    public synchronized void apply(RevocationDelta delta) {
+        if (delta.full()) {
+            exact.retainAll(delta.revoked());
+            exact.addAll(delta.revoked());
+            rebuild();
+        } else {
+            for (String value : delta.revoked()) {
+                if (exact.add(value)) {
+                    bloom.put(value);
+                }
+            }
+            for (String value : delta.restored()) {
+                if (exact.remove(value)) {
+                    removedSinceRebuild++;
+                }
+            }
+            if (exact.size() > bloom.expectedEntries()
+                    || removedSinceRebuild > Math.max(1000, exact.size() * REBUILD_RATIO)) {
+                rebuild();
+            }
+        }
+        version = delta.version();
+    }
+
+    public long version() {
+        return version;
+    }
+
+    public int size() {
+        return exact.size();
+    }
+
+    /**
+     * Bloom filter 位元陣列大小 (bytes)
+     */
+    public long bloomSizeInBytes() {
+        return bloom.sizeInBytes();
+    }
+
+    private void rebuild() {
+        long capacity = initialCapacity;
+        while (capacity < exact.size()) {
+            capacity *= 2;
+        }
+        BloomFilter rebuilt = new BloomFilter(capacity, falsePositiveRate);
+        exact.forEach(rebuilt::put);
+        bloom = rebuilt;
+        removedSinceRebuild = 0;
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.ecommerce.security.revocation;
+
+/**
+ * 撤銷清單來源
+ *
+ * @see FileRevocationSource
+ * @see HttpRevocationSource
+ * @see InMemoryRevocationSource
+ */
+public interface RevocationSource {
+
+    /**
+     * 取得指定版本之後的變更
+     *
+     * @param sinceVersion 目前已套用的版本，0 表示尚未載入
+     * @return 變更內容；沒有變更時回傳 {@link RevocationDelta#unchanged(long)}
+     * @throws Exception 來源無法讀取
+     */
+    RevocationDelta fetchSince(long sinceVersion) throws Exception;
+}
@@ -0,0 +1,82 @@
+package com.example.ecommerce.security.revocation;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 定期從 {@link RevocationSource} 取得增量並套用到 {@link RevocationList}
+ */
+public class RevocationSynchronizer implements Closeable {
+
+    private static final Logger log = LoggerFactory.getLogger(RevocationSynchronizer.class);
+
+    private final RevocationList revocationList;
+    private final RevocationSource source;
+    private final Duration pollInterval;
+
+    private volatile Instant lastSync;
+    private ScheduledExecutorService scheduler;
+
+    public RevocationSynchronizer(RevocationList revocationList, RevocationSource source, Duration pollInterval) {
+        this.revocationList = revocationList;
+        this.source = source;
+        this.pollInterval = pollInterval;
+    }
+
+    public synchronized void start() {
+        if (scheduler != null) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "token-revocation-sync");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::sync, 0, pollInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public synchronized void close() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+    }
+
+    /**
+     * 立即同步一次
+     *
+     * @return 是否成功
+     */
+    public boolean sync() {
+        try {
+            long current = revocationList.version();
+            RevocationDelta delta = source.fetchSince(current);
+            if (!delta.isEmpty()) {
+                revocationList.apply(delta);
+                log.info("Applied revocation delta {} -> {}: +{} -{}{}, total={}",
+                        current, delta.version(), delta.revoked().size(), delta.restored().size(),
+                        delta.full() ? " (full)" : "", revocationList.size());
+            }
+            lastSync = Instant.now();
+            return true;
+        } catch (Exception e) {
+            log.warn("Failed to sync token revocation list: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * 最後一次成功同步的時間，尚未同步時為 null
+     */
+    public Instant getLastSync() {
+        return lastSync;
+    }
+}
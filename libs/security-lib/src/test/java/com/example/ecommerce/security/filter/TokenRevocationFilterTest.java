@@ -0,0 +1,112 @@
+package com.example.ecommerce.security.filter;
+
+import com.example.ecommerce.security.revocation.RevocationDelta;
+import com.example.ecommerce.security.revocation.RevocationList;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("TokenRevocationFilter Tests")
+class TokenRevocationFilterTest {
+
+    private RevocationList revocationList;
+    private TokenRevocationFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        revocationList = new RevocationList(100, 0.01);
+        revocationList.apply(new RevocationDelta(1, false, Set.of("revoked-jti", "revoked-sid"), Set.of()));
+        filter = new TokenRevocationFilter(revocationList, List.of("jti", "sid"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("should pass tokens that are not revoked")
+    void shouldPassValidToken() throws Exception {
+        // given
+        authenticate("valid-jti", "valid-sid");
+        MockFilterChain chain = new MockFilterChain();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        filter.doFilter(new MockHttpServletRequest(), response, chain);
+
+        // then
+        assertThat(chain.getRequest()).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    @DisplayName("should reject a token with a revoked jti")
+    void shouldRejectRevokedJti() throws Exception {
+        // given
+        authenticate("revoked-jti", "valid-sid");
+        MockFilterChain chain = new MockFilterChain();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        filter.doFilter(new MockHttpServletRequest(), response, chain);
+
+        // then
+        assertThat(chain.getRequest()).isNull();
+        assertThat(response.getStatus()).isEqualTo(401);
+        assertThat(response.getHeader("WWW-Authenticate")).contains("invalid_token");
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    }
+
+    @Test
+    @DisplayName("should reject every token of a revoked session")
+    void shouldRejectRevokedSession() throws Exception {
+        // given
+        authenticate("valid-jti", "revoked-sid");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        filter.doFilter(new MockHttpServletRequest(), response, new MockFilterChain());
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(401);
+    }
+
+    @Test
+    @DisplayName("should ignore unauthenticated requests")
+    void shouldIgnoreUnauthenticated() throws Exception {
+        // given
+        MockFilterChain chain = new MockFilterChain();
+
+        // when
+        filter.doFilter(new MockHttpServletRequest(), new MockHttpServletResponse(), chain);
+
+        // then
+        assertThat(chain.getRequest()).isNotNull();
+    }
+
+    private static void authenticate(String jti, String sid) {
+        Jwt jwt = Jwt.withTokenValue("token")
+                .header("alg", "RS256")
+                .claim("jti", jti)
+                .claim("sid", sid)
+                .subject("user-1")
+                .issuedAt(Instant.now())
+                .expiresAt(Instant.now().plusSeconds(300))
+                .build();
+        SecurityContextHolder.getContext().setAuthentication(new JwtAuthenticationToken(jwt));
+    }
+}
@@ -0,0 +1,249 @@
+package com.example.ecommerce.security.jwks;
+
+import com.example.ecommerce.security.config.JwksConfig;
+import com.example.ecommerce.security.config.JwksProperties;
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+
+import java.net.InetSocketAddress;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("JwksManager Tests")
+class JwksManagerTest {
+
+    private static final String ISSUER = "http://localhost:8180/realms/test";
+
+    @TempDir
+    Path tempDir;
+
+    private HttpServer idp;
+    private final AtomicReference<JWKSet> served = new AtomicReference<>();
+    private final AtomicInteger requests = new AtomicInteger();
+
+    private RSAKey key1;
+    private RSAKey key2;
+    private JwksManager manager;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        key1 = new RSAKeyGenerator(2048).keyID("key-1").generate();
+        key2 = new RSAKeyGenerator(2048).keyID("key-2").generate();
+
+        idp = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        idp.createContext("/certs", exchange -> {
+            requests.incrementAndGet();
+            JWKSet jwkSet = served.get();
+            if (jwkSet == null) {
+                exchange.sendResponseHeaders(503, -1);
+            } else {
+                byte[] body = jwkSet.toString(true).getBytes(StandardCharsets.UTF_8);
+                exchange.sendResponseHeaders(200, body.length);
+                exchange.getResponseBody().write(body);
+            }
+            exchange.close();
+        });
+        idp.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (manager != null) {
+            manager.close();
+        }
+        idp.stop(0);
+    }
+
+    @Nested
+    @DisplayName("startup")
+    class StartupTests {
+
+        @Test
+        @DisplayName("should validate tokens from the bootstrap file while the IdP is down")
+        void shouldUseBootstrapWhileIdpDown() throws Exception {
+            // given
+            Path bootstrap = tempDir.resolve("bootstrap.json");
+            Files.writeString(bootstrap, new JWKSet(key1).toString(true));
+            JwksProperties properties = properties();
+            properties.setBootstrapLocation(new FileSystemResource(bootstrap));
+
+            // when
+            manager = new JwksManager(properties);
+            manager.start();
+            Jwt jwt = decoder(properties).decode(token(key1));
+
+            // then
+            assertThat(manager.getSource()).isEqualTo("bootstrap");
+            assertThat(manager.getKeyIds()).containsExactly("key-1");
+            assertThat(jwt.getSubject()).isEqualTo("user-1");
+        }
+
+        @Test
+        @DisplayName("should persist the last good key set and start from it")
+        void shouldPersistSnapshot() {
+            // given
+            served.set(new JWKSet(key1));
+            JwksProperties properties = properties();
+            properties.setSnapshotPath(tempDir.resolve("cache/jwks.json"));
+            manager = new JwksManager(properties);
+            assertThat(manager.refresh()).isTrue();
+            manager.close();
+
+            // when - IdP is down on the next start
+            served.set(null);
+            manager = new JwksManager(properties);
+            manager.start();
+
+            // then
+            assertThat(manager.getSource()).isEqualTo("snapshot");
+            assertThat(manager.getKeyIds()).containsExactly("key-1");
+            assertThat(tempDir.resolve("cache/jwks.json")).content().doesNotContain("\"d\"");
+        }
+
+        @Test
+        @DisplayName("should keep the current keys when a refresh fails")
+        void shouldKeepKeysOnFailedRefresh() {
+            // given
+            served.set(new JWKSet(key1));
+            manager = new JwksManager(properties());
+            manager.refresh();
+
+            // when
+            served.set(null);
+            boolean refreshed = manager.refresh();
+
+            // then
+            assertThat(refreshed).isFalse();
+            assertThat(manager.getKeyIds()).containsExactly("key-1");
+        }
+    }
+
+    @Nested
+    @DisplayName("unknown kid")
+    class UnknownKidTests {
+
+        @Test
+        @DisplayName("should refetch the key set when the IdP rotated its key")
+        void shouldRefetchOnRotation() throws Exception {
+            // given
+            served.set(new JWKSet(key1));
+            JwksProperties properties = properties();
+            manager = new JwksManager(properties);
+            manager.refresh();
+
+            // when
+            served.set(new JWKSet(List.of(key1, key2)));
+            Jwt jwt = decoder(properties).decode(token(key2));
+
+            // then
+            assertThat(jwt.getSubject()).isEqualTo("user-1");
+            assertThat(manager.getKeyIds()).containsExactlyInAnyOrder("key-1", "key-2");
+            assertThat(requests).hasValue(2);
+        }
+
+        @Test
+        @DisplayName("should rate-limit refetches for unknown kids")
+        void shouldRateLimitRefetch() throws Exception {
+            // given
+            served.set(new JWKSet(key1));
+            JwksProperties properties = properties();
+            MutableClock clock = new MutableClock();
+            manager = new JwksManager(properties, HttpClient.newHttpClient(), clock);
+            manager.refresh();
+            JwtDecoder decoder = decoder(properties);
+            RSAKey forged = new RSAKeyGenerator(2048).keyID("forged").generate();
+
+            // when
+            for (int i = 0; i < 10; i++) {
+                String token = token(forged);
+                assertThatThrownBy(() -> decoder.decode(token)).isInstanceOf(JwtException.class);
+            }
+            int afterBurst = requests.get();
+            clock.advance(properties.getUnknownKidMinInterval());
+            assertThatThrownBy(() -> decoder.decode(token(forged))).isInstanceOf(JwtException.class);
+
+            // then - one initial fetch, one refetch for the burst, one after the interval
+            assertThat(afterBurst).isEqualTo(2);
+            assertThat(requests).hasValue(3);
+        }
+    }
+
+    private JwksProperties properties() {
+        JwksProperties properties = new JwksProperties();
+        properties.setEnabled(true);
+        properties.setIssuerUri(ISSUER);
+        properties.setJwkSetUri("http://127.0.0.1:" + idp.getAddress().getPort() + "/certs");
+        properties.setRefreshInterval(Duration.ofHours(1));
+        return properties;
+    }
+
+    private JwtDecoder decoder(JwksProperties properties) {
+        return new JwksConfig().jwtDecoder(manager, properties);
+    }
+
+    private static String token(RSAKey key) throws JOSEException {
+        JWTClaimsSet claims = new JWTClaimsSet.Builder()
+                .issuer(ISSUER)
+                .subject("user-1")
+                .expirationTime(Date.from(Instant.now().plusSeconds(300)))
+                .build();
+        SignedJWT jwt = new SignedJWT(new JWSHeader.Builder(JWSAlgorithm.RS256).keyID(key.getKeyID()).build(), claims);
+        jwt.sign(new RSASSASigner(key));
+        return jwt.serialize();
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant now = Instant.parse("2024-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.example.ecommerce.security.revocation;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 1M 筆撤銷資料下的記憶體用量與查詢延遲
+ *
+ * <p>比較 Bloom filter 快速路徑 (未撤銷的 Token，一般情況) 與已撤銷 Token 的查詢成本，
+ * 並估算 Bloom filter 與精確集合的記憶體。數值只記錄到 log，斷言只檢查誤判率。</p>
+ */
+@Tag("benchmark")
+@DisplayName("RevocationList Benchmark (1M entries)")
+class RevocationListBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(RevocationListBenchmarkTest.class);
+
+    private static final int ENTRIES = 1_000_000;
+    private static final int LOOKUPS = 1_000_000;
+
+    @Test
+    @DisplayName("should keep the common case to a Bloom lookup at 1M entries")
+    void benchmark() {
+        String[] revoked = new String[ENTRIES];
+        for (int i = 0; i < ENTRIES; i++) {
+            revoked[i] = UUID.randomUUID().toString();
+        }
+        String[] present = Arrays.copyOf(revoked, LOOKUPS / 10);
+        String[] absent = new String[LOOKUPS];
+        for (int i = 0; i < LOOKUPS; i++) {
+            absent[i] = UUID.randomUUID().toString();
+        }
+
+        // 不含字串本身 (由 Token 來源持有)，只計算 Bloom filter 與精確集合的結構
+        long heapBefore = usedHeap();
+        RevocationList list = new RevocationList(ENTRIES, 0.01);
+        list.apply(new RevocationDelta(1, true, Set.of(revoked), Set.of()));
+        long heapAfter = usedHeap();
+
+        // warm up
+        int hits = 0;
+        for (int round = 0; round < 3; round++) {
+            for (String value : absent) {
+                hits += list.isRevoked(value) ? 1 : 0;
+            }
+        }
+
+        long start = System.nanoTime();
+        for (String value : absent) {
+            hits += list.isRevoked(value) ? 1 : 0;
+        }
+        double absentNanos = (System.nanoTime() - start) / (double) absent.length;
+
+        start = System.nanoTime();
+        int found = 0;
+        for (String value : present) {
+            found += list.isRevoked(value) ? 1 : 0;
+        }
+        double presentNanos = (System.nanoTime() - start) / (double) present.length;
+
+        // 對照：只用精確集合
+        Set<String> exactOnly = ConcurrentHashMap.newKeySet(ENTRIES);
+        exactOnly.addAll(Arrays.asList(revoked));
+        start = System.nanoTime();
+        for (String value : absent) {
+            hits += exactOnly.contains(value) ? 1 : 0;
+        }
+        double exactOnlyNanos = (System.nanoTime() - start) / (double) absent.length;
+
+        BloomFilter bloom = new BloomFilter(ENTRIES, 0.01);
+        for (String value : revoked) {
+            bloom.put(value);
+        }
+        int falsePositives = 0;
+        for (String value : absent) {
+            falsePositives += bloom.mightContain(value) ? 1 : 0;
+        }
+        double falsePositiveRate = falsePositives / (double) absent.length;
+
+        log.info("Revocation list with {} entries: bloom={} KiB (k={}), bloom + exact set ~{} MiB, false positive rate={}",
+                ENTRIES, list.bloomSizeInBytes() / 1024, bloom.hashCount(),
+                (heapAfter - heapBefore) / (1024 * 1024), String.format("%.4f", falsePositiveRate));
+        log.info("Lookup not revoked (bloom fast path): {} ns/op, revoked (bloom + exact set): {} ns/op, "
+                        + "exact set only: {} ns/op",
+                String.format("%.1f", absentNanos), String.format("%.1f", presentNanos),
+                String.format("%.1f", exactOnlyNanos));
+
+        assertThat(hits).isZero();
+        assertThat(found).isEqualTo(present.length);
+        assertThat(list.bloomSizeInBytes()).isLessThan(2L * 1024 * 1024);
+        assertThat(falsePositiveRate).isLessThan(0.02);
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,145 @@
+package com.example.ecommerce.security.revocation;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("RevocationList Tests")
+class RevocationListTest {
+
+    @Nested
+    @DisplayName("apply()")
+    class ApplyTests {
+
+        @Test
+        @DisplayName("should revoke and restore values from incremental deltas")
+        void shouldApplyIncrementalDeltas() {
+            // given
+            RevocationList list = new RevocationList(100, 0.01);
+
+            // when
+            list.apply(new RevocationDelta(1, false, Set.of("jti-1", "jti-2"), Set.of()));
+            list.apply(new RevocationDelta(2, false, Set.of("sid-1"), Set.of("jti-1")));
+
+            // then
+            assertThat(list.isRevoked("jti-1")).isFalse();
+            assertThat(list.isRevoked("jti-2")).isTrue();
+            assertThat(list.isRevoked("sid-1")).isTrue();
+            assertThat(list.isRevoked("other")).isFalse();
+            assertThat(list.isRevoked(null)).isFalse();
+            assertThat(list.version()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("should replace the content with a full delta")
+        void shouldReplaceWithFullDelta() {
+            // given
+            RevocationList list = new RevocationList(100, 0.01);
+            list.apply(new RevocationDelta(1, false, Set.of("jti-1", "jti-2"), Set.of()));
+
+            // when
+            list.apply(new RevocationDelta(7, true, Set.of("jti-2", "jti-3"), Set.of()));
+
+            // then
+            assertThat(list.isRevoked("jti-1")).isFalse();
+            assertThat(list.isRevoked("jti-2")).isTrue();
+            assertThat(list.isRevoked("jti-3")).isTrue();
+            assertThat(list.size()).isEqualTo(2);
+            assertThat(list.version()).isEqualTo(7);
+        }
+
+        @Test
+        @DisplayName("should grow the Bloom filter beyond the expected entries")
+        void shouldGrowBeyondExpectedEntries() {
+            // given
+            RevocationList list = new RevocationList(100, 0.01);
+            long initialSize = list.bloomSizeInBytes();
+            Set<String> values = Set.copyOf(IntStream.range(0, 1000).mapToObj(i -> "jti-" + i).toList());
+
+            // when
+            list.apply(new RevocationDelta(1, false, values, Set.of()));
+
+            // then
+            assertThat(list.bloomSizeInBytes()).isGreaterThan(initialSize);
+            assertThat(values).allMatch(list::isRevoked);
+        }
+    }
+
+    @Nested
+    @DisplayName("sources")
+    class SourceTests {
+
+        @TempDir
+        Path tempDir;
+
+        @Test
+        @DisplayName("should sync incremental changes from the in-memory source")
+        void shouldSyncFromInMemorySource() {
+            // given
+            InMemoryRevocationSource source = new InMemoryRevocationSource();
+            RevocationList list = new RevocationList(100, 0.01);
+            RevocationSynchronizer synchronizer = new RevocationSynchronizer(list, source, Duration.ofHours(1));
+            source.revoke("jti-1", "jti-2");
+            synchronizer.sync();
+
+            // when
+            source.restore("jti-1");
+            source.revoke("jti-3");
+            boolean synced = synchronizer.sync();
+
+            // then
+            assertThat(synced).isTrue();
+            assertThat(list.isRevoked("jti-1")).isFalse();
+            assertThat(list.isRevoked("jti-2")).isTrue();
+            assertThat(list.isRevoked("jti-3")).isTrue();
+            assertThat(list.version()).isEqualTo(3);
+            assertThat(synchronizer.getLastSync()).isNotNull();
+        }
+
+        @Test
+        @DisplayName("should load the full list from a file and skip unchanged files")
+        void shouldLoadFromFile() throws Exception {
+            // given
+            Path file = tempDir.resolve("revocations.json");
+            Files.writeString(file, "{\"version\": 5, \"revoked\": [\"jti-1\", \"sid-1\"]}");
+            FileRevocationSource source = new FileRevocationSource(file, new ObjectMapper());
+
+            // when
+            RevocationDelta first = source.fetchSince(0);
+            RevocationDelta second = source.fetchSince(first.version());
+
+            // then
+            assertThat(first.full()).isTrue();
+            assertThat(first.version()).isEqualTo(5);
+            assertThat(first.revoked()).containsExactlyInAnyOrder("jti-1", "sid-1");
+            assertThat(second.isEmpty()).isTrue();
+        }
+
+        @Test
+        @DisplayName("should keep the current list when the source fails")
+        void shouldKeepListOnSourceFailure() {
+            // given
+            RevocationList list = new RevocationList(100, 0.01);
+            list.apply(new RevocationDelta(1, false, Set.of("jti-1"), Set.of()));
+            RevocationSynchronizer synchronizer = new RevocationSynchronizer(list,
+                    since -> { throw new IllegalStateException("unavailable"); }, Duration.ofHours(1));
+
+            // when
+            boolean synced = synchronizer.sync();
+
+            // then
+            assertThat(synced).isFalse();
+            assertThat(list.isRevoked("jti-1")).isTrue();
+        }
+    }
+}
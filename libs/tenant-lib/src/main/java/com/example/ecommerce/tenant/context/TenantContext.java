@@ -27,7 +27,6 @@ public class TenantContext {
      * 檢查是否為系統級租戶（可存取所有資料）
      */
     public static boolean isSystemTenant() {
-        String tenant = getCurrentTenant();
-        return "system".equals(tenant);
+        return TenantScope.isSystem(getCurrentTenant());
     }
 }
@@ -0,0 +1,56 @@
+package com.example.ecommerce.tenant.context;
+
+/**
+ * 租戶範圍 - 系統級租戶 (system) 可存取所有租戶的資料
+ *
+ * <p>查詢以 null 表示不限租戶；寫入時未指定租戶的資料歸屬 default 租戶。
+ * 系統租戶與預設租戶的判斷只在此處。</p>
+ */
+public final class TenantScope {
+
+    /**
+     * 系統級租戶 ID (ADMIN 角色且未指定租戶時使用)
+     */
+    public static final String SYSTEM_TENANT = "system";
+
+    /**
+     * 未指定租戶時，寫入資料歸屬的租戶 ID
+     */
+    public static final String DEFAULT_TENANT = "default";
+
+    private TenantScope() {
+        // 不允許實例化
+    }
+
+    public static boolean isSystem(String tenantId) {
+        return SYSTEM_TENANT.equals(tenantId);
+    }
+
+    /**
+     * @return 系統租戶為 null (所有租戶)，其他租戶原樣回傳
+     */
+    public static String effective(String tenantId) {
+        return isSystem(tenantId) ? null : tenantId;
+    }
+
+    /**
+     * 目前請求租戶的查詢範圍
+     */
+    public static String current() {
+        return effective(TenantContext.getCurrentTenant());
+    }
+
+    /**
+     * @return 寫入資料歸屬的租戶，未指定時為 {@link #DEFAULT_TENANT}
+     */
+    public static String owner(String tenantId) {
+        return tenantId == null || tenantId.isBlank() ? DEFAULT_TENANT : tenantId;
+    }
+
+    /**
+     * 目前請求寫入資料歸屬的租戶
+     */
+    public static String currentOwner() {
+        return owner(TenantContext.getCurrentTenant());
+    }
+}
@@ -1,6 +1,7 @@
 package com.example.ecommerce.tenant.filter;
 
 import com.example.ecommerce.tenant.context.TenantContext;
+import com.example.ecommerce.tenant.context.TenantScope;
 import jakarta.servlet.*;
 import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.security.core.Authentication;
@@ -42,7 +43,7 @@ public class TenantFilter implements Filter {
 
             // 如果有 ADMIN 角色，返回 system（可存取所有租戶）
             if (hasRole(jwt, "ADMIN")) {
-                return "system";
+                return TenantScope.SYSTEM_TENANT;
             }
 
             // 從 groups claim 中提取租戶（格式：/tenantX）
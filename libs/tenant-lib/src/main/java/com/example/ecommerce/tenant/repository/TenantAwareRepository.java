@@ -1,6 +1,6 @@
 package com.example.ecommerce.tenant.repository;
 
-import com.example.ecommerce.tenant.context.TenantContext;
+import com.example.ecommerce.tenant.context.TenantScope;
 import jakarta.persistence.EntityManager;
 import org.hibernate.Session;
 import org.springframework.data.jpa.repository.support.JpaEntityInformation;
@@ -38,8 +38,8 @@ public class TenantAwareRepository<T, ID extends Serializable>
     }
 
     private void enableTenantFilter() {
-        String currentTenant = TenantContext.getCurrentTenant();
-        if (currentTenant != null && !"system".equals(currentTenant)) {
+        String currentTenant = TenantScope.current();
+        if (currentTenant != null) {
             Session session = entityManager.unwrap(Session.class);
             session.enableFilter("tenantFilter")
                    .setParameter("tenantId", currentTenant);
@@ -0,0 +1,79 @@
+package com.example.ecommerce.product.adapter.inbound.rest;
+
+import com.example.ecommerce.product.adapter.inbound.rest.bulk.CsvProductRowReader;
+import com.example.ecommerce.product.adapter.inbound.rest.bulk.NdjsonImportResponse;
+import com.example.ecommerce.product.adapter.inbound.rest.bulk.NdjsonProductRowReader;
+import com.example.ecommerce.product.application.dto.BulkImportResult;
+import com.example.ecommerce.product.application.port.input.command.BulkProductRow;
+import com.example.ecommerce.product.application.service.ProductBulkImportService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+
+@RestController
+@RequestMapping("/api/products")
+@Tag(name = "Product Commands", description = "商品寫入操作 API")
+public class ProductBulkController {
+
+    public static final String NDJSON = "application/x-ndjson";
+    public static final String CSV = "text/csv";
+
+    private final ProductBulkImportService importService;
+    private final ObjectMapper objectMapper;
+
+    public ProductBulkController(ProductBulkImportService importService, ObjectMapper objectMapper) {
+        this.importService = importService;
+        this.objectMapper = objectMapper;
+    }
+
+    @PostMapping(value = "/bulk", consumes = {NDJSON, CSV}, produces = NDJSON)
+    @PreAuthorize("hasAnyRole('ADMIN', 'TENANT_ADMIN')")
+    @Operation(summary = "批次建立商品",
+        description = "以 NDJSON 或 CSV 串流上傳商品，逐 chunk 寫入並以 NDJSON 串流回報錯誤列與進度，"
+            + "需要 ADMIN 或 TENANT_ADMIN 角色")
+    public void importProducts(
+            @RequestParam(defaultValue = "false") boolean reportCreated,
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+
+        Charset charset = request.getCharacterEncoding() != null
+            ? Charset.forName(request.getCharacterEncoding()) : StandardCharsets.UTF_8;
+        BufferedReader reader = new BufferedReader(new InputStreamReader(request.getInputStream(), charset));
+        Iterator<BulkProductRow> rows = MediaType.parseMediaType(request.getContentType())
+            .isCompatibleWith(MediaType.parseMediaType(CSV))
+            ? new CsvProductRowReader(reader)
+            : new NdjsonProductRowReader(reader, objectMapper.reader());
+
+        try {
+            // CSV 標題列在第一次讀取時檢查，錯誤時尚未開始回應
+            rows.hasNext();
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        }
+
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(NDJSON);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        Writer writer = new OutputStreamWriter(response.getOutputStream(), StandardCharsets.UTF_8);
+        NdjsonImportResponse listener = new NdjsonImportResponse(writer, objectMapper, reportCreated);
+
+        BulkImportResult result = importService.importProducts(rows, listener);
+        listener.summary(result);
+    }
+}
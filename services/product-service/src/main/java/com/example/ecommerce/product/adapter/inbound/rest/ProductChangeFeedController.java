@@ -0,0 +1,94 @@
+package com.example.ecommerce.product.adapter.inbound.rest;
+
+import com.example.ecommerce.product.adapter.inbound.rest.feed.ChangeFeedConnection;
+import com.example.ecommerce.product.adapter.inbound.rest.feed.ProductChangeFeed;
+import com.example.ecommerce.product.application.event.ProductChanged;
+import com.example.ecommerce.product.config.ProductChangeFeedConfig;
+import com.example.ecommerce.product.config.ProductChangeFeedProperties;
+import com.example.ecommerce.tenant.context.TenantScope;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+
+/**
+ * 商品變更推播 (Server-Sent Events)
+ *
+ * <p>事件名稱為領域事件類型，ID 為 outbox 序號，內容為 {@link ProductChanged}。
+ * 斷線重連時瀏覽器會自動帶上 Last-Event-ID，從重播緩衝區補送；收到 {@code reset} 事件時
+ * 表示中間的變更已無法補送，客戶端應重新讀取商品列表。</p>
+ */
+@RestController
+@RequestMapping("/api/products/changes")
+@Tag(name = "Product Queries", description = "商品查詢操作 API")
+@Conditional(ProductChangeFeedConfig.FeedEnabled.class)
+public class ProductChangeFeedController {
+
+    static final String RESET_EVENT = "reset";
+
+    private final ProductChangeFeed changeFeed;
+    private final ProductChangeFeedProperties properties;
+
+    public ProductChangeFeedController(ProductChangeFeed changeFeed, ProductChangeFeedProperties properties) {
+        this.changeFeed = changeFeed;
+        this.properties = properties;
+    }
+
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "訂閱商品變更",
+            description = "以 Server-Sent Events 推送目前租戶的商品變更，支援 Last-Event-ID 重連補送")
+    public SseEmitter changes(@RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        // 系統管理員接收所有租戶，一般使用者只接收自己的租戶
+        String tenantId = TenantScope.current();
+        SseEmitter emitter = new SseEmitter(properties.getTimeout().toMillis());
+        ProductChangeFeed.Subscription subscription;
+        try {
+            subscription = changeFeed.subscribe(
+                tenantId, lastEventId, new SseConnection(emitter));
+        } catch (IllegalStateException e) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, e.getMessage(), e);
+        }
+        emitter.onCompletion(subscription::close);
+        emitter.onTimeout(subscription::close);
+        emitter.onError(error -> subscription.close());
+        return emitter;
+    }
+
+    private static final class SseConnection implements ChangeFeedConnection {
+
+        private final SseEmitter emitter;
+
+        SseConnection(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        @Override
+        public void send(ProductChanged event) throws IOException {
+            emitter.send(SseEmitter.event()
+                .id(Long.toString(event.sequence()))
+                .name(event.eventType())
+                .data(event, MediaType.APPLICATION_JSON));
+        }
+
+        @Override
+        public void sendReset() throws IOException {
+            emitter.send(SseEmitter.event().name(RESET_EVENT).data(""));
+        }
+
+        @Override
+        public void sendHeartbeat() throws IOException {
+            emitter.send(SseEmitter.event().comment("heartbeat"));
+        }
+
+        @Override
+        public void close() {
+            emitter.complete();
+        }
+    }
+}
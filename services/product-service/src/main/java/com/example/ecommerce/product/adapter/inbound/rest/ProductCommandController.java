@@ -1,6 +1,7 @@
 package com.example.ecommerce.product.adapter.inbound.rest;
 
 import com.example.ecommerce.common.dto.ApiResponse;
+import com.example.ecommerce.product.application.dto.BulkPriceChangeResult;
 import com.example.ecommerce.product.adapter.inbound.rest.dto.*;
 import com.example.ecommerce.product.application.port.input.command.*;
 import com.example.ecommerce.product.application.service.ProductCommandService;
@@ -60,6 +61,19 @@ public class ProductCommandController {
         return ApiResponse.success(null, "Product updated successfully");
     }
 
+    @PostMapping("/price-changes")
+    @PreAuthorize("hasAnyRole('ADMIN', 'TENANT_ADMIN')")
+    @Operation(summary = "批次調價", description = "依百分比調整目前租戶 (可限定分類) 所有上架商品的價格，需要 ADMIN 或 TENANT_ADMIN 角色")
+    public ApiResponse<BulkPriceChangeResult> changePrices(@Valid @RequestBody BulkChangePriceRequest request) {
+        BulkChangePriceCommand cmd = new BulkChangePriceCommand(
+            request.category(),
+            request.percentage()
+        );
+
+        BulkPriceChangeResult result = commandService.handle(cmd);
+        return ApiResponse.success(result, "Product prices changed successfully");
+    }
+
     @DeleteMapping("/{id}")
     @ResponseStatus(HttpStatus.NO_CONTENT)
     @PreAuthorize("hasRole('ADMIN')")
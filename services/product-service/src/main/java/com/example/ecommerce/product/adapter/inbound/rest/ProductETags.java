@@ -0,0 +1,43 @@
+package com.example.ecommerce.product.adapter.inbound.rest;
+
+import com.example.ecommerce.product.application.dto.CatalogVersion;
+import com.example.ecommerce.product.application.dto.ProductView;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * 商品回應的 ETag
+ *
+ * <p>單一商品以 ID 與樂觀鎖版本組成，每次更新都會改變，不受時鐘精度影響；
+ * 最後異動時間只用於 Last-Modified。列表以租戶與目錄版本組成，同一 URL 換租戶時 ETag 也不同。</p>
+ */
+final class ProductETags {
+
+    private ProductETags() {
+    }
+
+    static String product(UUID id, long version) {
+        return "\"" + id + "-" + version + "\"";
+    }
+
+    static Instant lastModified(ProductView product) {
+        return product.updatedAt() != null ? product.updatedAt() : product.createdAt();
+    }
+
+    static String catalog(CatalogVersion version) {
+        String scope = version.tenantId() == null
+            ? "*"
+            : Base64.getUrlEncoder().withoutPadding().encodeToString(version.tenantId().getBytes(StandardCharsets.UTF_8));
+        return "\"catalog-" + scope + "-" + version.version() + "\"";
+    }
+
+    /**
+     * @return epoch 毫秒，沒有時間時為 -1 (不送 Last-Modified)
+     */
+    static long millis(Instant instant) {
+        return instant != null ? instant.toEpochMilli() : -1;
+    }
+}
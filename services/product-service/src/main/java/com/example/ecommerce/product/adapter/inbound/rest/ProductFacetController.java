@@ -0,0 +1,30 @@
+package com.example.ecommerce.product.adapter.inbound.rest;
+
+import com.example.ecommerce.common.dto.ApiResponse;
+import com.example.ecommerce.product.application.dto.ProductFacets;
+import com.example.ecommerce.product.application.port.input.query.GetProductFacetsQuery;
+import com.example.ecommerce.product.application.service.ProductFacetService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/products/facets")
+@Tag(name = "Product Facets", description = "商品分類與價格區間數量 API")
+@ConditionalOnProperty(prefix = "product.facets", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ProductFacetController {
+
+    private final ProductFacetService facetService;
+
+    public ProductFacetController(ProductFacetService facetService) {
+        this.facetService = facetService;
+    }
+
+    @GetMapping
+    @Operation(summary = "分類與價格區間數量",
+            description = "上架商品的各分類數量與價格區間數量；帶 category 時價格區間只計算該分類")
+    public ApiResponse<ProductFacets> facets(@RequestParam(required = false) String category) {
+        return ApiResponse.success(facetService.handle(new GetProductFacetsQuery(category)));
+    }
+}
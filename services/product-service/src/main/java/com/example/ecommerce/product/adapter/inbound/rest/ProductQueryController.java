@@ -2,15 +2,32 @@ package com.example.ecommerce.product.adapter.inbound.rest;
 
 import com.example.ecommerce.common.dto.ApiResponse;
 import com.example.ecommerce.common.dto.PagedResult;
+import com.example.ecommerce.product.application.dto.CatalogVersion;
+import com.example.ecommerce.product.application.dto.ProductRevision;
+import com.example.ecommerce.product.application.dto.ProductVersion;
 import com.example.ecommerce.product.application.dto.ProductView;
+import com.example.ecommerce.product.application.dto.ReadCoalescingStats;
+import com.example.ecommerce.product.application.dto.TenantProductCounts;
 import com.example.ecommerce.product.application.port.input.query.*;
 import com.example.ecommerce.product.application.service.ProductQueryService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.time.Instant;
+import java.util.Optional;
 import java.util.UUID;
 
+/**
+ * 商品查詢 API
+ *
+ * <p>回應帶 ETag 與 Last-Modified；帶 If-None-Match / If-Modified-Since 且未變更時回應 304 (無內容)。
+ * 單一商品只讀取最後異動時間比對，列表只比對目錄版本，都不載入商品資料。</p>
+ */
 @RestController
 @RequestMapping("/api/products")
 @Tag(name = "Product Queries", description = "商品查詢 API")
@@ -23,23 +40,84 @@ public class ProductQueryController {
     }
 
     @GetMapping("/{id}")
-    @Operation(summary = "查詢單一商品", description = "根據 ID 查詢商品詳情")
-    public ApiResponse<ProductView> getProduct(@PathVariable UUID id) {
+    @Operation(summary = "查詢單一商品", description = "根據 ID 查詢商品詳情，支援條件式 GET")
+    public ApiResponse<ProductView> getProduct(@PathVariable UUID id, WebRequest request) {
+        boolean conditional = isConditional(request);
+        if (conditional) {
+            ProductRevision revision = queryService.handle(new GetProductRevisionQuery(id));
+            if (request.checkNotModified(ProductETags.product(id, revision.version()),
+                    ProductETags.millis(revision.lastModified()))) {
+                return null;
+            }
+        }
         ProductView product = queryService.handle(new GetProductByIdQuery(id));
+        if (!conditional) {
+            // 條件式請求的標頭已由上面設定 (可能比內容舊，最多讓客戶端多取一次)，不能再比對一次
+            request.checkNotModified(ProductETags.product(id, product.version()),
+                ProductETags.millis(ProductETags.lastModified(product)));
+        }
         return ApiResponse.success(product);
     }
 
     @GetMapping
-    @Operation(summary = "查詢商品列表", description = "分頁查詢商品列表，可依分類過濾")
+    @Operation(summary = "查詢商品列表",
+            description = "分頁查詢商品列表，可依分類過濾；帶 cursor 參數 (第一頁為空字串) 時改用 cursor 分頁")
     public ApiResponse<PagedResult<ProductView>> listProducts(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size,
             @RequestParam(required = false) String category,
             @RequestParam(defaultValue = "createdAt") String sortBy,
-            @RequestParam(defaultValue = "DESC") String sortDirection) {
+            @RequestParam(defaultValue = "DESC") String sortDirection,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "false") boolean includeTotal,
+            WebRequest request) {
 
-        ListProductsQuery query = new ListProductsQuery(page, size, category, sortBy, sortDirection);
+        // 版本在查詢之前讀取：內容只可能比 ETag 新
+        Optional<CatalogVersion> version = queryService.handle(new GetCatalogVersionQuery());
+        if (version.isPresent() && request.checkNotModified(
+                ProductETags.catalog(version.get()), ProductETags.millis(version.get().updatedAt()))) {
+            return null;
+        }
+
+        ListProductsQuery query = new ListProductsQuery(
+            page, size, category, sortBy, sortDirection, cursor, includeTotal || cursor == null);
         PagedResult<ProductView> result = queryService.handle(query);
         return ApiResponse.success(result);
     }
+
+    @GetMapping("/{id}/history")
+    @Operation(summary = "查詢商品歷史版本",
+            description = "商品在 at (ISO-8601，預設現在) 當時的內容，由最近的快照加上其後的異動重建")
+    public ApiResponse<ProductVersion> getProductHistory(
+            @PathVariable UUID id,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant at) {
+        return ApiResponse.success(queryService.handle(new GetProductHistoryQuery(id, at)));
+    }
+
+    @GetMapping("/archived/{id}")
+    @Operation(summary = "查詢已封存商品",
+            description = "已刪除且超過保留期的商品移出商品表後，仍可依原 ID 查詢 (稽核紀錄引用)")
+    public ApiResponse<ProductView> getArchivedProduct(@PathVariable UUID id) {
+        return ApiResponse.success(queryService.handle(new GetArchivedProductQuery(id)));
+    }
+
+    @GetMapping("/counts")
+    @Operation(summary = "租戶商品數量",
+            description = "目前租戶的商品總數、上架數與各狀態數量，由計數表讀取")
+    public ApiResponse<TenantProductCounts> counts() {
+        return ApiResponse.success(queryService.handle(new GetProductCountsQuery()));
+    }
+
+    @GetMapping("/read-coalescing")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "單一商品讀取合併統計",
+            description = "並行查詢同一商品時共用一次讀取的次數，以及被合併最多的商品，需要 ADMIN 角色")
+    public ApiResponse<ReadCoalescingStats> readCoalescing(@RequestParam(defaultValue = "20") int limit) {
+        return ApiResponse.success(queryService.handle(new GetReadCoalescingStatsQuery(limit)));
+    }
+
+    private static boolean isConditional(WebRequest request) {
+        return request.getHeader(HttpHeaders.IF_NONE_MATCH) != null
+            || request.getHeader(HttpHeaders.IF_MODIFIED_SINCE) != null;
+    }
 }
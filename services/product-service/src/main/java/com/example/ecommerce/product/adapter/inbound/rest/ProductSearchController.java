@@ -0,0 +1,43 @@
+package com.example.ecommerce.product.adapter.inbound.rest;
+
+import com.example.ecommerce.common.dto.ApiResponse;
+import com.example.ecommerce.product.application.dto.ProductSearchHit;
+import com.example.ecommerce.product.application.port.input.query.SearchProductsQuery;
+import com.example.ecommerce.product.application.port.input.query.SuggestProductTermsQuery;
+import com.example.ecommerce.product.application.service.ProductSearchService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/products/search")
+@Tag(name = "Product Search", description = "商品全文搜尋 API")
+@ConditionalOnProperty(prefix = "product.search", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ProductSearchController {
+
+    private final ProductSearchService searchService;
+
+    public ProductSearchController(ProductSearchService searchService) {
+        this.searchService = searchService;
+    }
+
+    @GetMapping
+    @Operation(summary = "全文搜尋商品",
+            description = "比對名稱、商品代碼、分類與描述，依相關度排序；最後一個詞未以空白結尾時做前綴比對")
+    public ApiResponse<List<ProductSearchHit>> search(
+            @RequestParam("q") String text,
+            @RequestParam(defaultValue = "20") int limit) {
+        return ApiResponse.success(searchService.handle(new SearchProductsQuery(text, limit)));
+    }
+
+    @GetMapping("/suggestions")
+    @Operation(summary = "搜尋自動完成", description = "以最後一個詞為前綴，依出現商品數列出索引詞")
+    public ApiResponse<List<String>> suggest(
+            @RequestParam String prefix,
+            @RequestParam(defaultValue = "10") int limit) {
+        return ApiResponse.success(searchService.handle(new SuggestProductTermsQuery(prefix, limit)));
+    }
+}
@@ -0,0 +1,170 @@
+package com.example.ecommerce.product.adapter.inbound.rest.bulk;
+
+import com.example.ecommerce.product.adapter.inbound.rest.dto.CreateProductRequest;
+import com.example.ecommerce.product.application.port.input.command.BulkProductRow;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * 逐筆讀取 CSV (RFC 4180：逗號分隔、雙引號包覆、{@code ""} 跳脫、引號內可換行)
+ *
+ * <p>第一列為標題，欄位依名稱對應：productCode, name, price, category, description
+ * (不分大小寫，順序不限；只有 name 與 price 必填)。行號以資料列計算，不含標題列。</p>
+ */
+public class CsvProductRowReader implements Iterator<BulkProductRow> {
+
+    private static final List<String> COLUMNS = List.of("productcode", "name", "price", "category", "description");
+
+    private final Reader reader;
+    private final Map<String, Integer> columns = new HashMap<>();
+    private long lineNumber;
+    private boolean headerRead;
+    private boolean eof;
+    private BulkProductRow next;
+
+    public CsvProductRowReader(Reader reader) {
+        // 引號結尾需要往前看一個字元
+        this.reader = reader.markSupported() ? reader : new BufferedReader(reader);
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null) {
+            next = readNext();
+        }
+        return next != null;
+    }
+
+    @Override
+    public BulkProductRow next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        BulkProductRow row = next;
+        next = null;
+        return row;
+    }
+
+    private BulkProductRow readNext() {
+        if (!headerRead) {
+            readHeader();
+        }
+        while (true) {
+            List<String> fields = readRecord();
+            if (fields == null) {
+                return null;
+            }
+            lineNumber++;
+            if (fields.size() == 1 && fields.get(0).isEmpty()) {
+                continue;
+            }
+            return toRow(fields);
+        }
+    }
+
+    private void readHeader() {
+        headerRead = true;
+        List<String> header = readRecord();
+        if (header == null) {
+            return;
+        }
+        for (int i = 0; i < header.size(); i++) {
+            String name = header.get(i).trim().toLowerCase(Locale.ROOT);
+            if (COLUMNS.contains(name)) {
+                columns.put(name, i);
+            }
+        }
+        if (!columns.containsKey("name") || !columns.containsKey("price")) {
+            throw new IllegalArgumentException("CSV header must contain 'name' and 'price' columns, got: " + header);
+        }
+    }
+
+    private BulkProductRow toRow(List<String> fields) {
+        String price = field(fields, "price");
+        BigDecimal amount;
+        try {
+            amount = price != null ? new BigDecimal(price) : null;
+        } catch (NumberFormatException e) {
+            return BulkProductRow.invalid(lineNumber, "Invalid price: " + price);
+        }
+        return ProductRows.toRow(lineNumber, new CreateProductRequest(
+            field(fields, "productcode"),
+            field(fields, "name"),
+            amount,
+            field(fields, "category"),
+            field(fields, "description")));
+    }
+
+    private String field(List<String> fields, String column) {
+        Integer index = columns.get(column);
+        if (index == null || index >= fields.size()) {
+            return null;
+        }
+        String value = fields.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    /**
+     * 讀取一筆紀錄；已到結尾時回傳 null
+     */
+    private List<String> readRecord() {
+        if (eof) {
+            return null;
+        }
+        try {
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean quoted = false;
+            boolean any = false;
+            int c;
+            while ((c = reader.read()) != -1) {
+                any = true;
+                if (quoted) {
+                    if (c == '"') {
+                        reader.mark(1);
+                        int peek = reader.read();
+                        if (peek == '"') {
+                            field.append('"');
+                        } else {
+                            quoted = false;
+                            if (peek != -1) {
+                                reader.reset();
+                            }
+                        }
+                    } else {
+                        field.append((char) c);
+                    }
+                } else if (c == '"') {
+                    quoted = true;
+                } else if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else if (c == '\n') {
+                    fields.add(field.toString());
+                    return fields;
+                } else if (c != '\r') {
+                    field.append((char) c);
+                }
+            }
+            eof = true;
+            if (!any) {
+                return null;
+            }
+            fields.add(field.toString());
+            return fields;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
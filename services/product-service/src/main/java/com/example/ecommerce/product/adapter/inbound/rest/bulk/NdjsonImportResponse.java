@@ -0,0 +1,97 @@
+package com.example.ecommerce.product.adapter.inbound.rest.bulk;
+
+import com.example.ecommerce.product.application.dto.BulkImportResult;
+import com.example.ecommerce.product.application.service.ProductBulkImportService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 以 NDJSON 串流回報匯入進度：每個錯誤列、(選擇性) 每個建立的商品、每個 chunk 與最後的摘要各一行
+ *
+ * <p>每個 chunk 完成後 flush，用戶端不必等整個檔案處理完才看到結果。</p>
+ */
+public class NdjsonImportResponse implements ProductBulkImportService.Listener {
+
+    private final Writer writer;
+    private final ObjectMapper objectMapper;
+    private final boolean reportCreated;
+
+    public NdjsonImportResponse(Writer writer, ObjectMapper objectMapper, boolean reportCreated) {
+        this.writer = writer;
+        this.objectMapper = objectMapper;
+        this.reportCreated = reportCreated;
+    }
+
+    @Override
+    public void rowFailed(long line, String productCode, String message) {
+        Map<String, Object> event = event("error");
+        event.put("line", line);
+        if (productCode != null) {
+            event.put("productCode", productCode);
+        }
+        event.put("message", message);
+        write(event);
+    }
+
+    @Override
+    public void rowCreated(long line, UUID productId, String productCode) {
+        if (!reportCreated) {
+            return;
+        }
+        Map<String, Object> event = event("created");
+        event.put("line", line);
+        event.put("id", productId);
+        event.put("productCode", productCode);
+        write(event);
+    }
+
+    @Override
+    public void chunkCompleted(int chunk, int created, int failed) {
+        Map<String, Object> event = event("chunk");
+        event.put("chunk", chunk);
+        event.put("created", created);
+        event.put("failed", failed);
+        write(event);
+        flush();
+    }
+
+    public void summary(BulkImportResult result) {
+        Map<String, Object> event = event("summary");
+        event.put("importId", result.importId());
+        event.put("received", result.received());
+        event.put("created", result.created());
+        event.put("failed", result.failed());
+        event.put("durationMs", result.durationMs());
+        write(event);
+        flush();
+    }
+
+    private static Map<String, Object> event(String type) {
+        Map<String, Object> event = new LinkedHashMap<>();
+        event.put("type", type);
+        return event;
+    }
+
+    private void write(Map<String, Object> event) {
+        try {
+            writer.write(objectMapper.writeValueAsString(event));
+            writer.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void flush() {
+        try {
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.ecommerce.product.adapter.inbound.rest.bulk;
+
+import com.example.ecommerce.product.adapter.inbound.rest.dto.CreateProductRequest;
+import com.example.ecommerce.product.application.port.input.command.BulkProductRow;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * 逐行讀取 NDJSON，每行一個 {@link CreateProductRequest}
+ *
+ * <p>每次只持有一行；格式錯誤只影響該行。空白行略過，行號仍照實計算。</p>
+ */
+public class NdjsonProductRowReader implements Iterator<BulkProductRow> {
+
+    private final BufferedReader reader;
+    private final ObjectReader objectReader;
+    private long lineNumber;
+    private BulkProductRow next;
+
+    public NdjsonProductRowReader(BufferedReader reader, ObjectReader objectReader) {
+        this.reader = reader;
+        this.objectReader = objectReader.forType(CreateProductRequest.class);
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null) {
+            next = readNext();
+        }
+        return next != null;
+    }
+
+    @Override
+    public BulkProductRow next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        BulkProductRow row = next;
+        next = null;
+        return row;
+    }
+
+    private BulkProductRow readNext() {
+        try {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                try {
+                    CreateProductRequest request = objectReader.readValue(line);
+                    return ProductRows.toRow(lineNumber, request);
+                } catch (JsonProcessingException e) {
+                    return BulkProductRow.invalid(lineNumber, "Malformed JSON: " + e.getOriginalMessage());
+                }
+            }
+            return null;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
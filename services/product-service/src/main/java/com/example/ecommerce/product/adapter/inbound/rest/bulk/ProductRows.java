@@ -0,0 +1,30 @@
+package com.example.ecommerce.product.adapter.inbound.rest.bulk;
+
+import com.example.ecommerce.product.adapter.inbound.rest.dto.CreateProductRequest;
+import com.example.ecommerce.product.application.port.input.command.BulkProductRow;
+import com.example.ecommerce.product.application.port.input.command.CreateProductCommand;
+
+/**
+ * 將解析後的請求轉為匯入資料列，驗證錯誤轉為該列的錯誤訊息
+ */
+final class ProductRows {
+
+    private ProductRows() {
+    }
+
+    static BulkProductRow toRow(long line, CreateProductRequest request) {
+        if (request == null) {
+            return BulkProductRow.invalid(line, "Empty row");
+        }
+        try {
+            return BulkProductRow.valid(line, new CreateProductCommand(
+                request.productCode(),
+                request.name(),
+                request.price(),
+                request.category(),
+                request.description()));
+        } catch (IllegalArgumentException e) {
+            return BulkProductRow.invalid(line, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.ecommerce.product.adapter.inbound.rest.dto;
+
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotNull;
+import java.math.BigDecimal;
+
+public record BulkChangePriceRequest(
+    String category,
+
+    @NotNull(message = "Percentage is required")
+    @DecimalMin(value = "-100", inclusive = false, message = "Percentage must be greater than -100")
+    BigDecimal percentage
+) {}
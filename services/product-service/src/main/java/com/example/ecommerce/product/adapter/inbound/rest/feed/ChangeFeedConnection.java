@@ -0,0 +1,31 @@
+package com.example.ecommerce.product.adapter.inbound.rest.feed;
+
+import com.example.ecommerce.product.application.event.ProductChanged;
+
+import java.io.IOException;
+
+/**
+ * 變更推播的一條客戶端連線
+ *
+ * <p>由 {@link ProductChangeFeed} 的傳送執行緒呼叫，同一連線不會被並行呼叫；
+ * 拋出例外時連線即被移除。</p>
+ */
+public interface ChangeFeedConnection {
+
+    void send(ProductChanged event) throws IOException;
+
+    /**
+     * 要求的 Last-Event-ID 已不在重播緩衝區，客戶端需重新讀取完整資料
+     */
+    void sendReset() throws IOException;
+
+    /**
+     * 閒置時的保活訊息，也用於發現已斷開的連線
+     */
+    void sendHeartbeat() throws IOException;
+
+    /**
+     * 由伺服器端結束連線 (落後過多、服務關閉)
+     */
+    void close();
+}
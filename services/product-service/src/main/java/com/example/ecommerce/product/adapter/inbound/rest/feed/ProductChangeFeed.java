@@ -0,0 +1,365 @@
+package com.example.ecommerce.product.adapter.inbound.rest.feed;
+
+import com.example.ecommerce.product.application.event.ProductChangeNotice;
+import com.example.ecommerce.product.application.event.ProductChanged;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.Closeable;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 商品變更推播：依租戶將 {@link ProductChanged} 推送給訂閱的連線
+ *
+ * <p>最近的事件保存在固定大小的環狀緩衝區，事件 ID 為 outbox 序號。每個訂閱者只記錄自己在緩衝區的位置，
+ * 不另外複製事件；重連時依 Last-Event-ID 找到位置後從下一筆繼續，已被覆蓋或不認得的 ID 先送出 reset，
+ * 要求客戶端重新讀取完整資料。</p>
+ *
+ * <p>背壓：發布端從不等待連線。事件只寫入緩衝區並排入傳送執行緒，落後超過 {@code maxLag} 筆的訂閱者
+ * 會被斷線，客戶端以最後收到的 ID 重連即可從緩衝區補齊，記憶體用量與訂閱者速度無關。</p>
+ *
+ * <p>本機 relay 送出的事件由 {@link #onProductChanged} 接收；有跨實例廣播時也接收其他實例的事件，
+ * 同一序號只會推送一次。</p>
+ */
+public class ProductChangeFeed implements Closeable {
+
+    private static final Logger log = LoggerFactory.getLogger(ProductChangeFeed.class);
+
+    private static final int SEND_BATCH_SIZE = 100;
+
+    private final int bufferSize;
+    private final int maxLag;
+    private final int maxSubscribers;
+    private final Executor deliveryExecutor;
+    private final Duration heartbeatInterval;
+
+    private final ProductChanged[] ring;
+    private final Map<Long, Long> positions = new HashMap<>();
+    private final Set<Subscriber> subscribers = new LinkedHashSet<>();
+    private long next;
+
+    private final AtomicLong published = new AtomicLong();
+    private final AtomicLong slowConsumers = new AtomicLong();
+    private final AtomicLong resets = new AtomicLong();
+
+    private ScheduledExecutorService heartbeats;
+
+    /**
+     * @param bufferSize        重播緩衝區的事件數
+     * @param maxLag            訂閱者最多落後的事件數，超過即斷線，不可大於 bufferSize
+     * @param maxSubscribers    同時訂閱的連線上限
+     * @param deliveryExecutor  傳送事件的執行緒
+     * @param heartbeatInterval 保活訊息間隔
+     */
+    public ProductChangeFeed(int bufferSize, int maxLag, int maxSubscribers,
+                             Executor deliveryExecutor, Duration heartbeatInterval) {
+        if (bufferSize <= 0 || maxLag <= 0 || maxLag > bufferSize) {
+            throw new IllegalArgumentException(
+                "Require 0 < maxLag <= bufferSize, got maxLag=" + maxLag + ", bufferSize=" + bufferSize);
+        }
+        this.bufferSize = bufferSize;
+        this.maxLag = maxLag;
+        this.maxSubscribers = maxSubscribers;
+        this.deliveryExecutor = deliveryExecutor;
+        this.heartbeatInterval = heartbeatInterval;
+        this.ring = new ProductChanged[bufferSize];
+    }
+
+    /**
+     * 啟動保活排程
+     */
+    public synchronized void start() {
+        if (heartbeats != null) {
+            return;
+        }
+        heartbeats = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "product-change-feed-heartbeat");
+            thread.setDaemon(true);
+            return thread;
+        });
+        heartbeats.scheduleWithFixedDelay(this::heartbeat,
+            heartbeatInterval.toMillis(), heartbeatInterval.toMillis(), TimeUnit.MILLISECONDS);
+        log.info("Started product change feed: bufferSize={}, maxLag={}, maxSubscribers={}",
+            bufferSize, maxLag, maxSubscribers);
+    }
+
+    /**
+     * 結束所有連線並停止傳送執行緒
+     */
+    @Override
+    public void close() {
+        List<Subscriber> closing;
+        synchronized (this) {
+            if (heartbeats != null) {
+                heartbeats.shutdownNow();
+                heartbeats = null;
+            }
+            closing = new ArrayList<>(subscribers);
+        }
+        closing.forEach(Subscriber::close);
+        if (deliveryExecutor instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProductChanged(ProductChanged event) {
+        publish(event);
+    }
+
+    /**
+     * 其他實例的事件；舊格式訊息沒有序號，無法提供重連位置，略過
+     */
+    public void onRemoteChange(ProductChangeNotice notice) {
+        if (notice.hasEvent()) {
+            publish(notice.change());
+        }
+    }
+
+    /**
+     * 寫入緩衝區並通知相同租戶的訂閱者；重複的序號 (重送、其他實例轉送) 忽略
+     */
+    public void publish(ProductChanged event) {
+        List<Subscriber> ready = new ArrayList<>();
+        List<Subscriber> lagging = new ArrayList<>();
+        synchronized (this) {
+            if (positions.containsKey(event.sequence())) {
+                return;
+            }
+            long position = next++;
+            int slot = (int) (position % bufferSize);
+            ProductChanged overwritten = ring[slot];
+            if (overwritten != null) {
+                positions.remove(overwritten.sequence());
+            }
+            ring[slot] = event;
+            positions.put(event.sequence(), position);
+
+            for (Subscriber subscriber : subscribers) {
+                if (next - subscriber.cursor > maxLag) {
+                    lagging.add(subscriber);
+                } else if (subscriber.accepts(event)) {
+                    ready.add(subscriber);
+                } else if (subscriber.cursor == position) {
+                    // 閒置且已追上：其他租戶的事件直接跳過，不計入落後
+                    subscriber.cursor = next;
+                }
+            }
+        }
+        published.incrementAndGet();
+        ready.forEach(Subscriber::schedule);
+        for (Subscriber subscriber : lagging) {
+            slowConsumers.incrementAndGet();
+            log.debug("Disconnecting product change subscriber of tenant {}: more than {} events behind",
+                subscriber.tenantId, maxLag);
+            subscriber.close();
+        }
+    }
+
+    /**
+     * 訂閱變更
+     *
+     * @param tenantId    只接收此租戶的事件，null 表示所有租戶
+     * @param lastEventId 客戶端最後收到的事件 ID (Last-Event-ID)，null 表示只接收之後的新事件
+     * @param connection  客戶端連線
+     * @return 取消訂閱用的 handle
+     * @throws IllegalStateException 訂閱數已達上限
+     */
+    public Subscription subscribe(String tenantId, String lastEventId, ChangeFeedConnection connection) {
+        Subscriber subscriber = new Subscriber(tenantId, connection);
+        synchronized (this) {
+            if (subscribers.size() >= maxSubscribers) {
+                throw new IllegalStateException("Too many change feed subscribers: " + maxSubscribers);
+            }
+            subscriber.cursor = next;
+            if (lastEventId != null && !lastEventId.isBlank()) {
+                Long position = resumePosition(lastEventId.trim());
+                if (position != null) {
+                    subscriber.cursor = position + 1;
+                } else {
+                    subscriber.resetPending = true;
+                    resets.incrementAndGet();
+                }
+            }
+            // 立即送出一筆保活訊息，讓客戶端收到回應標頭
+            subscriber.heartbeatPending = true;
+            subscribers.add(subscriber);
+        }
+        subscriber.schedule();
+        return subscriber::close;
+    }
+
+    /**
+     * 對所有訂閱者排入保活訊息
+     */
+    public void heartbeat() {
+        List<Subscriber> all;
+        synchronized (this) {
+            subscribers.forEach(subscriber -> subscriber.heartbeatPending = true);
+            all = new ArrayList<>(subscribers);
+        }
+        all.forEach(Subscriber::schedule);
+    }
+
+    private Long resumePosition(String lastEventId) {
+        try {
+            Long position = positions.get(Long.parseLong(lastEventId));
+            // 緩衝區剩餘的事件不足以在落後上限內補齊時，直接要求重新讀取
+            return position != null && next - position - 1 <= maxLag ? position : null;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    public synchronized int subscriberCount() {
+        return subscribers.size();
+    }
+
+    public synchronized int bufferedCount() {
+        return (int) Math.min(next, bufferSize);
+    }
+
+    public long publishedCount() {
+        return published.get();
+    }
+
+    /**
+     * 因落後過多而被斷線的訂閱者數
+     */
+    public long slowConsumerCount() {
+        return slowConsumers.get();
+    }
+
+    /**
+     * 因 Last-Event-ID 已不在緩衝區而要求重新讀取的次數
+     */
+    public long resetCount() {
+        return resets.get();
+    }
+
+    /**
+     * 取消訂閱；重複呼叫無作用
+     */
+    @FunctionalInterface
+    public interface Subscription {
+        void close();
+    }
+
+    /**
+     * 一個訂閱者；cursor 及各 pending 旗標由 feed 的鎖保護，同時最多一個傳送工作
+     */
+    private final class Subscriber {
+
+        final String tenantId;
+        final ChangeFeedConnection connection;
+        final AtomicBoolean scheduled = new AtomicBoolean();
+        final AtomicBoolean closed = new AtomicBoolean();
+
+        long cursor;
+        boolean resetPending;
+        boolean heartbeatPending;
+
+        Subscriber(String tenantId, ChangeFeedConnection connection) {
+            this.tenantId = tenantId;
+            this.connection = connection;
+        }
+
+        boolean accepts(ProductChanged event) {
+            return tenantId == null || Objects.equals(tenantId, event.tenantId());
+        }
+
+        void schedule() {
+            if (!closed.get() && scheduled.compareAndSet(false, true)) {
+                deliveryExecutor.execute(this::drain);
+            }
+        }
+
+        void close() {
+            if (!closed.compareAndSet(false, true)) {
+                return;
+            }
+            synchronized (ProductChangeFeed.this) {
+                subscribers.remove(this);
+            }
+            try {
+                connection.close();
+            } catch (RuntimeException e) {
+                log.debug("Failed to close product change connection", e);
+            }
+        }
+
+        private void drain() {
+            try {
+                while (!closed.get()) {
+                    List<ProductChanged> batch = new ArrayList<>();
+                    boolean reset;
+                    boolean heartbeat;
+                    synchronized (ProductChangeFeed.this) {
+                        reset = resetPending;
+                        resetPending = false;
+                        collect(batch);
+                        heartbeat = heartbeatPending && batch.isEmpty() && !reset;
+                        heartbeatPending = false;
+                    }
+                    if (!reset && !heartbeat && batch.isEmpty()) {
+                        break;
+                    }
+                    if (reset) {
+                        connection.sendReset();
+                    }
+                    for (ProductChanged event : batch) {
+                        connection.send(event);
+                    }
+                    if (heartbeat) {
+                        connection.sendHeartbeat();
+                    }
+                }
+            } catch (Exception e) {
+                log.debug("Product change subscriber of tenant {} disconnected: {}", tenantId, e.toString());
+                close();
+            } finally {
+                scheduled.set(false);
+            }
+            if (hasWork()) {
+                schedule();
+            }
+        }
+
+        /**
+         * 從 cursor 讀取最多一批相同租戶的事件並前進；呼叫端持有 feed 的鎖
+         */
+        private void collect(List<ProductChanged> batch) {
+            // 被覆蓋的位置已無法補送，由 publish 端的落後檢查斷線
+            cursor = Math.max(cursor, next - bufferSize);
+            while (cursor < next && batch.size() < SEND_BATCH_SIZE) {
+                ProductChanged event = ring[(int) (cursor % bufferSize)];
+                cursor++;
+                if (accepts(event)) {
+                    batch.add(event);
+                }
+            }
+        }
+
+        private boolean hasWork() {
+            synchronized (ProductChangeFeed.this) {
+                return !closed.get() && (cursor < next || resetPending || heartbeatPending);
+            }
+        }
+    }
+}
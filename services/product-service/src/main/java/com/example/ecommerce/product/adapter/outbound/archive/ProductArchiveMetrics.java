@@ -0,0 +1,63 @@
+package com.example.ecommerce.product.adapter.outbound.archive;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 商品封存作業指標
+ *
+ * <ul>
+ *   <li>{@code product.archive.archived}：已搬移到封存表的商品數</li>
+ *   <li>{@code product.archive.batch}：每批 (每個交易) 的執行時間</li>
+ *   <li>{@code product.archive.backlog}：上次執行後仍待封存的商品數</li>
+ *   <li>{@code product.archive.last.success}：上次成功執行完成的時間 (epoch 秒)</li>
+ *   <li>{@code product.archive.failures}：失敗的執行次數</li>
+ * </ul>
+ */
+public class ProductArchiveMetrics {
+
+    private final Counter archived;
+    private final Timer batch;
+    private final Counter failures;
+    private final AtomicLong backlog = new AtomicLong();
+    private final AtomicLong lastSuccessEpochSecond = new AtomicLong();
+
+    public ProductArchiveMetrics(MeterRegistry registry) {
+        this.archived = Counter.builder("product.archive.archived")
+            .description("Deleted products moved to products_archive")
+            .register(registry);
+        this.batch = Timer.builder("product.archive.batch")
+            .description("Duration of one archival batch transaction")
+            .register(registry);
+        this.failures = Counter.builder("product.archive.failures")
+            .description("Archival runs that failed")
+            .register(registry);
+        Gauge.builder("product.archive.backlog", backlog, AtomicLong::get)
+            .description("Deleted products older than the minimum age still in products")
+            .register(registry);
+        Gauge.builder("product.archive.last.success", lastSuccessEpochSecond, AtomicLong::get)
+            .description("Completion time of the last successful archival run")
+            .baseUnit("seconds")
+            .register(registry);
+    }
+
+    public void recordBatch(int count, Duration duration) {
+        archived.increment(count);
+        batch.record(duration);
+    }
+
+    public void recordRun(long remaining, Instant completedAt) {
+        backlog.set(remaining);
+        lastSuccessEpochSecond.set(completedAt.getEpochSecond());
+    }
+
+    public void recordFailure() {
+        failures.increment();
+    }
+}
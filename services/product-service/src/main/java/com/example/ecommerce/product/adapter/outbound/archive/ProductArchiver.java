@@ -0,0 +1,167 @@
+package com.example.ecommerce.product.adapter.outbound.archive;
+
+import com.example.ecommerce.product.adapter.outbound.persistence.JdbcProductArchive;
+import com.example.ecommerce.product.adapter.outbound.persistence.JdbcProductArchive.ArchivePosition;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.Closeable;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 將超過保留期的已刪除商品搬到 products_archive
+ *
+ * <p>每批在一個交易中搬移最多 {@code batchSize} 筆，依 (updated_at, id) keyset 前進，
+ * 不以 OFFSET 重新掃描已處理的列；批次之間暫停 {@code batchPause}，
+ * 單次執行最多 {@code maxBatchesPerRun} 批，避免長交易與持續佔用資料庫。
+ * 未處理完的部分留待下次執行。</p>
+ */
+public class ProductArchiver implements Closeable {
+
+    private static final Logger log = LoggerFactory.getLogger(ProductArchiver.class);
+
+    private final JdbcProductArchive archive;
+    private final TransactionTemplate transactionTemplate;
+    private final ProductArchiveMetrics metrics;
+    private final Duration minAge;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+    private final Duration batchPause;
+    private final Duration interval;
+    private final Clock clock;
+
+    private ScheduledExecutorService executor;
+
+    public ProductArchiver(JdbcProductArchive archive,
+                           TransactionTemplate transactionTemplate,
+                           ProductArchiveMetrics metrics,
+                           Duration minAge,
+                           int batchSize,
+                           int maxBatchesPerRun,
+                           Duration batchPause,
+                           Duration interval,
+                           Clock clock) {
+        this.archive = archive;
+        this.transactionTemplate = transactionTemplate;
+        this.metrics = metrics;
+        this.minAge = minAge;
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.batchPause = batchPause;
+        this.interval = interval;
+        this.clock = clock;
+    }
+
+    /**
+     * 啟動背景排程執行緒
+     */
+    public synchronized void start() {
+        if (executor != null) {
+            return;
+        }
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "product-archiver");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleWithFixedDelay(this::runSafely,
+            interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+        log.info("Started product archiver: minAge={}, batchSize={}, interval={}", minAge, batchSize, interval);
+    }
+
+    @Override
+    public synchronized void close() {
+        if (executor == null) {
+            return;
+        }
+        executor.shutdownNow();
+        executor = null;
+        log.info("Stopped product archiver");
+    }
+
+    /**
+     * 搬移最後異動早於 (現在 - minAge) 的已刪除商品，最多 maxBatchesPerRun 批
+     */
+    public Run archiveOnce() {
+        Instant cutoff = clock.instant().minus(minAge);
+        ArchivePosition position = null;
+        int archived = 0;
+        int batches = 0;
+        while (batches < maxBatchesPerRun) {
+            ArchivePosition after = position;
+            long started = System.nanoTime();
+            Batch batch = transactionTemplate.execute(status -> moveBatch(cutoff, after));
+            batch = batch != null ? batch : Batch.EMPTY;
+            metrics.recordBatch(batch.archived(), Duration.ofNanos(System.nanoTime() - started));
+            archived += batch.archived();
+            batches++;
+            if (batch.scanned() < batchSize || !pause()) {
+                break;
+            }
+            position = batch.last();
+        }
+        long remaining = archive.countEligible(cutoff);
+        metrics.recordRun(remaining, clock.instant());
+        if (archived > 0) {
+            log.info("Archived {} deleted products in {} batches, {} remaining", archived, batches, remaining);
+        }
+        return new Run(archived, batches, remaining);
+    }
+
+    private Batch moveBatch(Instant cutoff, ArchivePosition after) {
+        List<ArchivePosition> locked = archive.lockBatch(cutoff, after, batchSize);
+        if (locked.isEmpty()) {
+            return Batch.EMPTY;
+        }
+        List<UUID> ids = locked.stream().map(ArchivePosition::id).toList();
+        int moved = archive.moveAll(ids, clock.instant());
+        return new Batch(locked.size(), moved, locked.get(locked.size() - 1));
+    }
+
+    /**
+     * 批次間暫停，讓出資料庫給線上流量
+     *
+     * @return false 表示執行緒被中斷 (關閉中)，應停止本次執行
+     */
+    private boolean pause() {
+        if (batchPause.isZero()) {
+            return true;
+        }
+        try {
+            Thread.sleep(batchPause.toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void runSafely() {
+        try {
+            archiveOnce();
+        } catch (RuntimeException e) {
+            metrics.recordFailure();
+            log.warn("Product archival failed, retrying in {}", interval, e);
+        }
+    }
+
+    /**
+     * @param archived  搬移的商品數
+     * @param batches   執行的批次數
+     * @param remaining 執行後仍待封存的商品數
+     */
+    public record Run(int archived, int batches, long remaining) {
+    }
+
+    private record Batch(int scanned, int archived, ArchivePosition last) {
+        static final Batch EMPTY = new Batch(0, 0, null);
+    }
+}
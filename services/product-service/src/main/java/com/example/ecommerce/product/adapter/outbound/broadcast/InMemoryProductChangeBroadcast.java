@@ -0,0 +1,28 @@
+package com.example.ecommerce.product.adapter.outbound.broadcast;
+
+import com.example.ecommerce.product.application.event.ProductChangeNotice;
+import com.example.ecommerce.product.application.port.output.ProductChangeBroadcast;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * 同一 JVM 內的廣播 (單一實例部署 / 測試)
+ *
+ * <p>同步呼叫所有接收端；測試時可讓多個快取共用同一個廣播模擬多實例。</p>
+ */
+public class InMemoryProductChangeBroadcast implements ProductChangeBroadcast {
+
+    private final List<Consumer<ProductChangeNotice>> listeners = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(ProductChangeNotice notice) {
+        listeners.forEach(listener -> listener.accept(notice));
+    }
+
+    @Override
+    public void subscribe(Consumer<ProductChangeNotice> listener) {
+        listeners.add(listener);
+    }
+}
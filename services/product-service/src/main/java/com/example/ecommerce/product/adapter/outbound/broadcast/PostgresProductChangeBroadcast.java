@@ -0,0 +1,133 @@
+package com.example.ecommerce.product.adapter.outbound.broadcast;
+
+import com.example.ecommerce.product.application.event.ProductChangeNotice;
+import com.example.ecommerce.product.application.port.output.ProductChangeBroadcast;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+/**
+ * 以 PostgreSQL LISTEN / NOTIFY 廣播商品異動
+ *
+ * <p>發送使用 {@code pg_notify}；接收由背景 daemon thread 持有一條專用連線執行 LISTEN，
+ * 連線中斷時依 {@code retryInterval} 重新連線。重新連線期間錯過的通知無法補回，
+ * 由快取的 TTL 兜底。</p>
+ */
+public class PostgresProductChangeBroadcast implements ProductChangeBroadcast, Closeable {
+
+    private static final Logger log = LoggerFactory.getLogger(PostgresProductChangeBroadcast.class);
+
+    private static final Pattern CHANNEL_NAME = Pattern.compile("[a-z_][a-z0-9_]{0,62}");
+    private static final int POLL_TIMEOUT_MILLIS = 500;
+
+    private final DataSource dataSource;
+    private final String channel;
+    private final Duration retryInterval;
+
+    private final List<Consumer<ProductChangeNotice>> listeners = new CopyOnWriteArrayList<>();
+
+    private volatile boolean running;
+    private Thread thread;
+
+    public PostgresProductChangeBroadcast(DataSource dataSource, String channel, Duration retryInterval) {
+        if (!CHANNEL_NAME.matcher(channel).matches()) {
+            throw new IllegalArgumentException("Invalid PostgreSQL channel name: " + channel);
+        }
+        this.dataSource = dataSource;
+        this.channel = channel;
+        this.retryInterval = retryInterval;
+    }
+
+    @Override
+    public void publish(ProductChangeNotice notice) {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement("SELECT pg_notify(?, ?)")) {
+            statement.setString(1, channel);
+            statement.setString(2, ProductChangeNoticeCodec.encode(notice));
+            statement.execute();
+        } catch (SQLException e) {
+            // 廣播失敗不影響本機處理，其他實例的快取由 TTL 兜底
+            log.warn("Failed to broadcast change of product {}: {}",
+                notice.change().productId(), e.getMessage());
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<ProductChangeNotice> listener) {
+        listeners.add(listener);
+    }
+
+    public synchronized void start() {
+        if (thread != null) {
+            return;
+        }
+        running = true;
+        thread = new Thread(this::listen, "product-change-listener");
+        thread.setDaemon(true);
+        thread.start();
+        log.info("Listening for product changes on channel '{}'", channel);
+    }
+
+    @Override
+    public synchronized void close() {
+        if (thread == null) {
+            return;
+        }
+        running = false;
+        thread.interrupt();
+        thread = null;
+    }
+
+    private void listen() {
+        while (running) {
+            try (Connection connection = dataSource.getConnection()) {
+                connection.setAutoCommit(true);
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + channel);
+                }
+                PGConnection pg = connection.unwrap(PGConnection.class);
+                while (running) {
+                    PGNotification[] notifications = pg.getNotifications(POLL_TIMEOUT_MILLIS);
+                    if (notifications != null) {
+                        for (PGNotification notification : notifications) {
+                            dispatch(notification.getParameter());
+                        }
+                    }
+                }
+            } catch (SQLException e) {
+                if (!running) {
+                    return;
+                }
+                log.warn("Product change listener connection lost, retrying in {}: {}", retryInterval, e.getMessage());
+                try {
+                    Thread.sleep(retryInterval.toMillis());
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private void dispatch(String payload) {
+        try {
+            ProductChangeNotice notice = ProductChangeNoticeCodec.decode(payload);
+            listeners.forEach(listener -> listener.accept(notice));
+        } catch (RuntimeException e) {
+            log.warn("Ignoring malformed product change '{}': {}", payload, e.getMessage());
+        }
+    }
+}
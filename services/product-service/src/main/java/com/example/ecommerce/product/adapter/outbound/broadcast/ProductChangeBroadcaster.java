@@ -0,0 +1,42 @@
+package com.example.ecommerce.product.adapter.outbound.broadcast;
+
+import com.example.ecommerce.product.application.event.ProductChangeNotice;
+import com.example.ecommerce.product.application.event.ProductChanged;
+import com.example.ecommerce.product.application.port.output.ProductChangeBroadcast;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.function.Consumer;
+
+/**
+ * 將本機的商品異動廣播給其他實例，並把其他實例的異動交給本機的接收端
+ *
+ * <p>與讀取快取、搜尋等接收端各自獨立：任一功能停用都不影響其他功能收到跨實例的異動。
+ * 廣播會送回自己，{@link #subscribeRemote} 依來源實例略過本機送出的通知。</p>
+ */
+public class ProductChangeBroadcaster {
+
+    private final ProductChangeBroadcast broadcast;
+    private final String instanceId;
+
+    public ProductChangeBroadcaster(ProductChangeBroadcast broadcast, String instanceId) {
+        this.broadcast = broadcast;
+        this.instanceId = instanceId;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProductChanged(ProductChanged event) {
+        broadcast.publish(new ProductChangeNotice(instanceId, event));
+    }
+
+    /**
+     * 只接收其他實例送出的通知
+     */
+    public void subscribeRemote(Consumer<ProductChangeNotice> listener) {
+        broadcast.subscribe(notice -> {
+            if (!instanceId.equals(notice.origin())) {
+                listener.accept(notice);
+            }
+        });
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.ecommerce.product.adapter.outbound.broadcast;
+
+import com.example.ecommerce.product.application.event.ProductChangeNotice;
+import com.example.ecommerce.product.application.event.ProductChanged;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * {@link ProductChangeNotice} 的文字格式 (PostgreSQL NOTIFY payload)
+ *
+ * <p>{@code origin|productId|epochMillis;sequence;eventType|tenantId}，租戶放最後以容許任意字元；
+ * 同時接受舊版實例送出、沒有 {@code ;sequence;eventType} 的格式。</p>
+ */
+public final class ProductChangeNoticeCodec {
+
+    private static final String SEPARATOR = "|";
+    private static final String EVENT_SEPARATOR = ";";
+
+    private ProductChangeNoticeCodec() {
+    }
+
+    public static String encode(ProductChangeNotice notice) {
+        ProductChanged change = notice.change();
+        String event = notice.hasEvent()
+            ? EVENT_SEPARATOR + change.sequence() + EVENT_SEPARATOR + change.eventType()
+            : "";
+        return notice.origin() + SEPARATOR + change.productId() + SEPARATOR + change.occurredAt().toEpochMilli()
+            + event + SEPARATOR + change.tenantId();
+    }
+
+    /**
+     * @throws IllegalArgumentException 格式錯誤
+     */
+    public static ProductChangeNotice decode(String payload) {
+        String[] parts = payload.split("\\|", 4);
+        if (parts.length != 4) {
+            throw new IllegalArgumentException("Invalid product change payload: " + payload);
+        }
+        String[] timeAndEvent = parts[2].split(EVENT_SEPARATOR, 3);
+        if (timeAndEvent.length == 2) {
+            throw new IllegalArgumentException("Invalid product change payload: " + payload);
+        }
+        Instant occurredAt = Instant.ofEpochMilli(Long.parseLong(timeAndEvent[0]));
+        long sequence = timeAndEvent.length == 3 ? Long.parseLong(timeAndEvent[1]) : -1;
+        String eventType = timeAndEvent.length == 3 ? timeAndEvent[2] : null;
+        return new ProductChangeNotice(parts[0],
+            new ProductChanged(sequence, parts[3], UUID.fromString(parts[1]), eventType, occurredAt));
+    }
+}
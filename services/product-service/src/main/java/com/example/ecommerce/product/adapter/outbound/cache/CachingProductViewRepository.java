@@ -0,0 +1,169 @@
+package com.example.ecommerce.product.adapter.outbound.cache;
+
+import com.example.ecommerce.product.application.dto.ProductReadKey;
+import com.example.ecommerce.product.application.dto.ProductRevision;
+import com.example.ecommerce.product.application.dto.ProductView;
+import com.example.ecommerce.product.application.port.output.ProductViewRepository;
+import com.example.ecommerce.product.application.service.SingleFlight;
+import com.example.ecommerce.product.domain.repository.ProductKeyset;
+import com.example.ecommerce.product.domain.repository.ProductSearchCriteria;
+import com.example.ecommerce.product.domain.repository.ProductSort;
+import com.example.ecommerce.tenant.context.TenantScope;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 在 Read Model 前加上本機快取
+ *
+ * <p>快取單一商品與分類列表 (含總筆數)；Cursor 分頁與不分類的列表直接查詢資料庫。
+ * 商品快取以 (查詢租戶, 商品 ID) 為鍵，商品異動時清除該商品在各租戶下的項目；
+ * 列表快取依租戶建立索引，商品異動時只清除該租戶 (與跨租戶的 system) 的列表。</p>
+ *
+ * <p>商品未命中時的資料庫讀取經過 {@link SingleFlight} 合併；命中直接回傳，不計入合併統計。</p>
+ */
+public class CachingProductViewRepository implements ProductViewRepository {
+
+    private final ProductViewRepository delegate;
+    private final GroupedCache<ProductKey, UUID, ProductView> products;
+    private final GroupedCache<ListKey, TenantGroup, List<ProductView>> lists;
+    private final GroupedCache<ProductSearchCriteria, TenantGroup, Long> counts;
+    private final SingleFlight<ProductReadKey, ProductView> productReads;
+    private final ProductCacheMetrics metrics;
+    private final Clock clock;
+
+    public CachingProductViewRepository(ProductViewRepository delegate,
+                                        GroupedCache<ProductKey, UUID, ProductView> products,
+                                        GroupedCache<ListKey, TenantGroup, List<ProductView>> lists,
+                                        GroupedCache<ProductSearchCriteria, TenantGroup, Long> counts,
+                                        SingleFlight<ProductReadKey, ProductView> productReads,
+                                        ProductCacheMetrics metrics,
+                                        Clock clock) {
+        this.delegate = delegate;
+        this.products = products;
+        this.lists = lists;
+        this.counts = counts;
+        this.productReads = productReads;
+        this.metrics = metrics;
+        this.clock = clock;
+    }
+
+    /**
+     * 商品快取，依商品 ID 建立索引
+     */
+    public static GroupedCache<ProductKey, UUID, ProductView> productCache(long maximumSize, Duration ttl) {
+        return new GroupedCache<>(maximumSize, ttl, ProductKey::productId);
+    }
+
+    /**
+     * 分類列表快取，依租戶建立索引
+     */
+    public static GroupedCache<ListKey, TenantGroup, List<ProductView>> listCache(long maximumSize, Duration ttl) {
+        return new GroupedCache<>(maximumSize, ttl, key -> TenantGroup.of(key.criteria()));
+    }
+
+    /**
+     * 分類總筆數快取，依租戶建立索引
+     */
+    public static GroupedCache<ProductSearchCriteria, TenantGroup, Long> countCache(long maximumSize, Duration ttl) {
+        return new GroupedCache<>(maximumSize, ttl, TenantGroup::of);
+    }
+
+    @Override
+    public Optional<ProductView> findById(UUID id) {
+        ProductKey key = ProductKey.current(id);
+        return Optional.ofNullable(products.get(key,
+            k -> delegate.findById(k.productId()).orElse(null),
+            load -> productReads.execute(new ProductReadKey(key.tenantId(), id), load)));
+    }
+
+    /**
+     * 已快取的商品直接取其版本與時間，否則只查詢這兩個欄位 (不放入快取)
+     */
+    @Override
+    public Optional<ProductRevision> findRevision(UUID id) {
+        ProductView cached = products.getIfPresent(ProductKey.current(id));
+        if (cached != null) {
+            return Optional.of(new ProductRevision(cached.version(),
+                cached.updatedAt() != null ? cached.updatedAt() : cached.createdAt()));
+        }
+        return delegate.findRevision(id);
+    }
+
+    @Override
+    public List<ProductView> findPage(ProductSearchCriteria criteria, int page, int size, ProductSort sort) {
+        if (criteria.category() == null) {
+            return delegate.findPage(criteria, page, size, sort);
+        }
+        return lists.get(new ListKey(criteria, page, size, sort),
+            key -> List.copyOf(delegate.findPage(criteria, page, size, sort)));
+    }
+
+    @Override
+    public List<ProductView> findAfter(ProductSearchCriteria criteria, ProductKeyset after, int limit,
+                                       ProductSort sort) {
+        return delegate.findAfter(criteria, after, limit, sort);
+    }
+
+    @Override
+    public long count(ProductSearchCriteria criteria) {
+        if (criteria.category() == null) {
+            return delegate.count(criteria);
+        }
+        return counts.get(criteria, delegate::count);
+    }
+
+    /**
+     * 清除商品與其租戶的列表快取，只處理索引中該商品與該租戶的項目
+     *
+     * @param remote     是否來自其他實例的廣播 (只影響指標)
+     * @param occurredAt 領域事件發生時間
+     */
+    public void invalidate(String tenantId, UUID productId, Instant occurredAt, boolean remote) {
+        products.invalidateGroup(productId);
+        TenantGroup tenant = new TenantGroup(tenantId);
+        lists.invalidateGroup(tenant);
+        lists.invalidateGroup(TenantGroup.ALL);
+        counts.invalidateGroup(tenant);
+        counts.invalidateGroup(TenantGroup.ALL);
+        if (occurredAt != null) {
+            metrics.recordInvalidationLag(remote, Duration.between(occurredAt, clock.instant()));
+        }
+    }
+
+    public void invalidateAll() {
+        products.invalidateAll();
+        lists.invalidateAll();
+        counts.invalidateAll();
+    }
+
+    /**
+     * 商品快取鍵：查詢租戶 (system 為 null) 與商品 ID
+     */
+    public record ProductKey(String tenantId, UUID productId) {
+        static ProductKey current(UUID productId) {
+            return new ProductKey(TenantScope.current(), productId);
+        }
+    }
+
+    /**
+     * 列表快取鍵
+     */
+    public record ListKey(ProductSearchCriteria criteria, int page, int size, ProductSort sort) {
+    }
+
+    /**
+     * 列表快取的租戶索引，tenantId 為 null 表示跨租戶 (system) 的查詢
+     */
+    public record TenantGroup(String tenantId) {
+        static final TenantGroup ALL = new TenantGroup(null);
+
+        static TenantGroup of(ProductSearchCriteria criteria) {
+            return new TenantGroup(criteria.tenantId());
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package com.example.ecommerce.product.adapter.outbound.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 有上限與存活時間的本機快取 (Caffeine)，另以群組索引快取鍵，失效時只處理該群組的鍵
+ *
+ * <p>讀取不加鎖；載入前先把鍵加入群組索引，群組失效時若該鍵仍在載入，Caffeine 會等載入完成後再移除，
+ * 失效前讀到的舊資料不會留在快取中。被容量或存活時間淘汰的鍵同時自索引移除。null 值不快取。</p>
+ *
+ * @param <K> 快取鍵
+ * @param <G> 群組 (例如租戶、商品 ID)
+ * @param <V> 快取值
+ */
+public class GroupedCache<K, G, V> {
+
+    private final Cache<K, V> cache;
+    private final Function<? super K, ? extends G> groupOf;
+    private final ConcurrentHashMap<G, Set<K>> groups = new ConcurrentHashMap<>();
+
+    /**
+     * @param groupOf 鍵所屬的群組，不可回傳 null
+     */
+    public GroupedCache(long maximumSize, Duration ttl, Function<? super K, ? extends G> groupOf) {
+        this(maximumSize, ttl, groupOf, Ticker.systemTicker(), ForkJoinPool.commonPool());
+    }
+
+    GroupedCache(long maximumSize, Duration ttl, Function<? super K, ? extends G> groupOf,
+                 Ticker ticker, Executor executor) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("maximumSize must be positive");
+        }
+        this.groupOf = groupOf;
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(ttl)
+            .ticker(ticker)
+            .executor(executor)
+            .recordStats()
+            .<K, V>evictionListener(this::onEviction)
+            .build();
+    }
+
+    /**
+     * 取得快取值，不存在或過期時呼叫 {@code loader} 載入；同一個鍵同時只有一個載入
+     *
+     * @return 快取或載入的值，載入結果為 null 時回傳 null
+     */
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        return cache.get(key, k -> load(k, loader));
+    }
+
+    /**
+     * 同 {@link #get(Object, Function)}，但未命中時的載入交由 {@code onMiss} 執行 (例如合併不同請求的載入)
+     *
+     * <p>命中時不經過 {@code onMiss}；載入在 Caffeine 的逐鍵鎖之外開始，同一個鍵的其他請求會先到達 {@code onMiss}。
+     * 每次呼叫只計入一次命中或未命中。</p>
+     */
+    public V get(K key, Function<? super K, ? extends V> loader, Function<Supplier<V>, V> onMiss) {
+        V cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+        return onMiss.apply(() -> cache.asMap().computeIfAbsent(key, k -> load(k, loader)));
+    }
+
+    /**
+     * 取得未過期的快取值，不載入也不計入命中率
+     */
+    public V getIfPresent(K key) {
+        return cache.asMap().get(key);
+    }
+
+    public void invalidate(K key) {
+        unindex(key);
+        cache.invalidate(key);
+    }
+
+    /**
+     * 移除一個群組的所有項目，成本與該群組的項目數成正比
+     */
+    public void invalidateGroup(G group) {
+        Set<K> keys = groups.remove(group);
+        if (keys != null) {
+            cache.invalidateAll(keys);
+        }
+    }
+
+    public void invalidateAll() {
+        for (G group : List.copyOf(groups.keySet())) {
+            invalidateGroup(group);
+        }
+        cache.invalidateAll();
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    public long hitCount() {
+        return cache.stats().hitCount();
+    }
+
+    public long missCount() {
+        return cache.stats().missCount();
+    }
+
+    public long evictionCount() {
+        return cache.stats().evictionCount();
+    }
+
+    /**
+     * 命中率，尚無請求時為 0
+     */
+    public double hitRatio() {
+        CacheStats stats = cache.stats();
+        return stats.requestCount() == 0 ? 0.0 : stats.hitRate();
+    }
+
+    /**
+     * 執行待處理的淘汰 (測試用)
+     */
+    void cleanUp() {
+        cache.cleanUp();
+    }
+
+    /**
+     * 群組索引中的鍵數 (測試用)
+     */
+    int indexedKeys() {
+        return groups.values().stream().mapToInt(Set::size).sum();
+    }
+
+    private V load(K key, Function<? super K, ? extends V> loader) {
+        index(key);
+        V value = null;
+        try {
+            value = loader.apply(key);
+            return value;
+        } finally {
+            if (value == null) {
+                unindex(key);
+            }
+        }
+    }
+
+    private void index(K key) {
+        groups.compute(groupOf.apply(key), (group, keys) -> {
+            Set<K> indexed = keys != null ? keys : ConcurrentHashMap.newKeySet();
+            indexed.add(key);
+            return indexed;
+        });
+    }
+
+    private void unindex(K key) {
+        groups.computeIfPresent(groupOf.apply(key), (group, keys) -> {
+            keys.remove(key);
+            return keys.isEmpty() ? null : keys;
+        });
+    }
+
+    private void onEviction(K key, V value, RemovalCause cause) {
+        if (key != null) {
+            unindex(key);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.ecommerce.product.adapter.outbound.cache;
+
+import com.example.ecommerce.product.application.event.ProductChangeNotice;
+import com.example.ecommerce.product.application.event.ProductChanged;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 依商品異動清除快取
+ *
+ * <p>在交易提交後才清除，避免其他請求在提交前把舊資料重新載入快取。
+ * 其他實例的異動經跨實例廣播送到 {@link #onRemoteChange}。</p>
+ */
+public class ProductCacheInvalidationListener {
+
+    private static final Logger log = LoggerFactory.getLogger(ProductCacheInvalidationListener.class);
+
+    private final CachingProductViewRepository cache;
+    private final TrackingProductCatalogVersions catalogVersions;
+
+    public ProductCacheInvalidationListener(CachingProductViewRepository cache) {
+        this(cache, null);
+    }
+
+    /**
+     * @param catalogVersions 清除列表快取時一併推進的目錄版本，null 表示不追蹤
+     */
+    public ProductCacheInvalidationListener(CachingProductViewRepository cache,
+                                            TrackingProductCatalogVersions catalogVersions) {
+        this.cache = cache;
+        this.catalogVersions = catalogVersions;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProductChanged(ProductChanged event) {
+        invalidate(event.tenantId(), () ->
+            cache.invalidate(event.tenantId(), event.productId(), event.occurredAt(), false));
+    }
+
+    /**
+     * 其他實例的異動 (本機送出的通知已由廣播端略過)
+     */
+    public void onRemoteChange(ProductChangeNotice notice) {
+        ProductChanged change = notice.change();
+        log.debug("Invalidating product {} from instance {}", change.productId(), notice.origin());
+        invalidate(change.tenantId(), () ->
+            cache.invalidate(change.tenantId(), change.productId(), change.occurredAt(), true));
+    }
+
+    private void invalidate(String tenantId, Runnable invalidation) {
+        if (catalogVersions != null) {
+            catalogVersions.advance(tenantId, invalidation);
+        } else {
+            invalidation.run();
+        }
+    }
+}
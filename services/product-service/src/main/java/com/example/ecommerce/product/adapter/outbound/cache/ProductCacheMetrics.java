@@ -0,0 +1,59 @@
+package com.example.ecommerce.product.adapter.outbound.cache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.time.Duration;
+
+/**
+ * 商品快取指標
+ *
+ * <ul>
+ *   <li>{@code product.cache.gets{cache,result}}：命中 / 未命中次數</li>
+ *   <li>{@code product.cache.hit.ratio{cache}}：命中率</li>
+ *   <li>{@code product.cache.size{cache}}、{@code product.cache.evictions{cache}}</li>
+ *   <li>{@code product.cache.invalidation.lag{source}}：領域事件發生到快取失效的延遲，
+ *       source=local 為本實例，source=remote 為其他實例廣播</li>
+ * </ul>
+ */
+public class ProductCacheMetrics {
+
+    private final Timer localLag;
+    private final Timer remoteLag;
+
+    public ProductCacheMetrics(MeterRegistry registry) {
+        this.localLag = lagTimer(registry, "local");
+        this.remoteLag = lagTimer(registry, "remote");
+    }
+
+    public void bind(MeterRegistry registry, String name, GroupedCache<?, ?, ?> cache) {
+        FunctionCounter.builder("product.cache.gets", cache, GroupedCache::hitCount)
+            .tag("cache", name).tag("result", "hit")
+            .register(registry);
+        FunctionCounter.builder("product.cache.gets", cache, GroupedCache::missCount)
+            .tag("cache", name).tag("result", "miss")
+            .register(registry);
+        FunctionCounter.builder("product.cache.evictions", cache, GroupedCache::evictionCount)
+            .tag("cache", name)
+            .register(registry);
+        Gauge.builder("product.cache.hit.ratio", cache, GroupedCache::hitRatio)
+            .tag("cache", name)
+            .register(registry);
+        Gauge.builder("product.cache.size", cache, GroupedCache::size)
+            .tag("cache", name)
+            .register(registry);
+    }
+
+    public void recordInvalidationLag(boolean remote, Duration lag) {
+        (remote ? remoteLag : localLag).record(lag.isNegative() ? Duration.ZERO : lag);
+    }
+
+    private static Timer lagTimer(MeterRegistry registry, String source) {
+        return Timer.builder("product.cache.invalidation.lag")
+            .description("Time from a product domain event to the cache invalidation")
+            .tag("source", source)
+            .register(registry);
+    }
+}
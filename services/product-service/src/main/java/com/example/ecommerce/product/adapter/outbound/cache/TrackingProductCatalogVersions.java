@@ -0,0 +1,59 @@
+package com.example.ecommerce.product.adapter.outbound.cache;
+
+import com.example.ecommerce.product.adapter.outbound.persistence.JdbcProductCatalogVersions;
+import com.example.ecommerce.product.application.dto.CatalogVersion;
+import com.example.ecommerce.product.application.port.output.ProductCatalogVersions;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 與本機列表快取同步的目錄版本
+ *
+ * <p>資料庫的版本在 relay 提交時就已遞增，但本機 (尤其是其他實例) 的列表快取要等失效通知才清除；
+ * 直接讀資料庫版本會把快取裡的舊列表標上新版本，客戶端之後就一直收到 304。
+ * 因此只在清除快取時推進版本：先讀資料庫版本、再清除、最後記下該版本。
+ * 之後讀到的列表一定不舊於記下的版本，ETag 最多偏舊 (多一次完整回應)，不會誤回 304。</p>
+ *
+ * <p>查詢不存取資料庫。啟動時載入所有租戶版本，之後未出現過的租戶版本為 0。</p>
+ */
+public class TrackingProductCatalogVersions implements ProductCatalogVersions {
+
+    private final JdbcProductCatalogVersions delegate;
+    private final Map<String, CatalogVersion> versions = new ConcurrentHashMap<>();
+
+    public TrackingProductCatalogVersions(JdbcProductCatalogVersions delegate) {
+        this.delegate = delegate;
+        versions.putAll(delegate.findAll());
+    }
+
+    @Override
+    public CatalogVersion current(String tenantId) {
+        if (tenantId != null) {
+            return versions.getOrDefault(tenantId, new CatalogVersion(tenantId, 0, null));
+        }
+        long total = 0;
+        Instant updatedAt = null;
+        for (CatalogVersion version : versions.values()) {
+            total += version.version();
+            if (updatedAt == null || (version.updatedAt() != null && version.updatedAt().isAfter(updatedAt))) {
+                updatedAt = version.updatedAt();
+            }
+        }
+        return new CatalogVersion(null, total, updatedAt);
+    }
+
+    /**
+     * 清除租戶的快取並推進其版本
+     *
+     * @param invalidation 清除快取的動作
+     */
+    public void advance(String tenantId, Runnable invalidation) {
+        CatalogVersion latest = delegate.current(tenantId);
+        invalidation.run();
+        // 並行推進時保留較大的版本
+        versions.merge(tenantId, latest, (current, candidate) ->
+            candidate.version() > current.version() ? candidate : current);
+    }
+}
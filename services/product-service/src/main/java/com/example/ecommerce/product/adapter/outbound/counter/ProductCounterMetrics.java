@@ -0,0 +1,54 @@
+package com.example.ecommerce.product.adapter.outbound.counter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 租戶商品計數修正作業指標
+ *
+ * <ul>
+ *   <li>{@code product.counters.drift}：修正的計數差異 (正常應維持為 0)</li>
+ *   <li>{@code product.counters.reconcile}：每次修正所有租戶的執行時間</li>
+ *   <li>{@code product.counters.last.reconcile}：上次成功執行完成的時間 (epoch 秒)</li>
+ *   <li>{@code product.counters.reconcile.failures}：失敗的執行次數</li>
+ * </ul>
+ */
+public class ProductCounterMetrics {
+
+    private final Counter drift;
+    private final Timer reconcile;
+    private final Counter failures;
+    private final AtomicLong lastReconcileEpochSecond = new AtomicLong();
+
+    public ProductCounterMetrics(MeterRegistry registry) {
+        this.drift = Counter.builder("product.counters.drift")
+            .description("Product count drift corrected by reconciliation")
+            .register(registry);
+        this.reconcile = Timer.builder("product.counters.reconcile")
+            .description("Duration of one reconciliation of all tenant counters")
+            .register(registry);
+        this.failures = Counter.builder("product.counters.reconcile.failures")
+            .description("Counter reconciliation runs that failed")
+            .register(registry);
+        Gauge.builder("product.counters.last.reconcile", lastReconcileEpochSecond, AtomicLong::get)
+            .description("Completion time of the last successful counter reconciliation")
+            .baseUnit("seconds")
+            .register(registry);
+    }
+
+    public void recordRun(long corrected, Duration duration, Instant completedAt) {
+        drift.increment(corrected);
+        reconcile.record(duration);
+        lastReconcileEpochSecond.set(completedAt.getEpochSecond());
+    }
+
+    public void recordFailure() {
+        failures.increment();
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.ecommerce.product.adapter.outbound.counter;
+
+import com.example.ecommerce.product.adapter.outbound.persistence.JdbcProductTenantCounters;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.Closeable;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 定期以商品表重新計數，修正租戶商品計數的差異
+ *
+ * <p>計數與商品在同一交易寫入，正常不會有差異；差異來自繞過 repository 的寫入
+ * (手動 SQL、資料修復) 或部署計數表前已存在的商品。每個租戶一個交易，
+ * 鎖定期間只阻擋該租戶的商品寫入。</p>
+ */
+public class ProductCounterReconciler implements Closeable {
+
+    private static final Logger log = LoggerFactory.getLogger(ProductCounterReconciler.class);
+
+    private final JdbcProductTenantCounters counters;
+    private final TransactionTemplate transactionTemplate;
+    private final ProductCounterMetrics metrics;
+    private final Duration interval;
+    private final Clock clock;
+
+    private ScheduledExecutorService executor;
+
+    public ProductCounterReconciler(JdbcProductTenantCounters counters,
+                                    TransactionTemplate transactionTemplate,
+                                    ProductCounterMetrics metrics,
+                                    Duration interval,
+                                    Clock clock) {
+        this.counters = counters;
+        this.transactionTemplate = transactionTemplate;
+        this.metrics = metrics;
+        this.interval = interval;
+        this.clock = clock;
+    }
+
+    /**
+     * 啟動背景排程執行緒，啟動後先執行一次 (補上部署前已存在的商品)
+     */
+    public synchronized void start() {
+        if (executor != null) {
+            return;
+        }
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "product-counter-reconciler");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleWithFixedDelay(this::runSafely, 0, interval.toMillis(), TimeUnit.MILLISECONDS);
+        log.info("Started product counter reconciler: interval={}", interval);
+    }
+
+    @Override
+    public synchronized void close() {
+        if (executor == null) {
+            return;
+        }
+        executor.shutdownNow();
+        executor = null;
+        log.info("Stopped product counter reconciler");
+    }
+
+    /**
+     * 逐一修正所有租戶的計數
+     */
+    public Run reconcileOnce() {
+        long started = System.nanoTime();
+        List<String> tenantIds = counters.tenantIds();
+        int corrected = 0;
+        long drift = 0;
+        for (String tenantId : tenantIds) {
+            Long tenantDrift = transactionTemplate.execute(status -> counters.reconcile(tenantId));
+            if (tenantDrift != null && tenantDrift > 0) {
+                log.warn("Corrected product counters of tenant {} by {}", tenantId, tenantDrift);
+                corrected++;
+                drift += tenantDrift;
+            }
+        }
+        metrics.recordRun(drift, Duration.ofNanos(System.nanoTime() - started), clock.instant());
+        return new Run(tenantIds.size(), corrected, drift);
+    }
+
+    private void runSafely() {
+        try {
+            reconcileOnce();
+        } catch (RuntimeException e) {
+            metrics.recordFailure();
+            log.warn("Product counter reconciliation failed, retrying in {}", interval, e);
+        }
+    }
+
+    /**
+     * @param tenants   檢查的租戶數
+     * @param corrected 有差異並已修正的租戶數
+     * @param drift     修正的差異總和
+     */
+    public record Run(int tenants, int corrected, long drift) {
+    }
+}
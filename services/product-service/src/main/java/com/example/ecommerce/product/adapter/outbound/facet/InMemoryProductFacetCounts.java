@@ -0,0 +1,289 @@
+package com.example.ecommerce.product.adapter.outbound.facet;
+
+import com.example.ecommerce.product.application.dto.ProductFacets;
+import com.example.ecommerce.product.application.event.ProductChangeNotice;
+import com.example.ecommerce.product.application.event.ProductChanged;
+import com.example.ecommerce.product.application.port.output.ProductFacetCounts;
+import com.example.ecommerce.product.domain.model.valueobject.Cents;
+import com.example.ecommerce.product.domain.model.valueobject.ProductStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.Closeable;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 每個租戶的分類 / 價格區間計數，常駐記憶體
+ *
+ * <p>另記錄每個上架商品目前計入的 (租戶, 分類, 區間)。收到商品異動通知 ({@link ProductChanged}，
+ * 以及其他實例廣播的 {@link ProductChangeNotice}) 時，背景執行緒批次重讀這些商品，
+ * 舊位置減一、新位置加一。</p>
+ *
+ * <p>上架 / 下架 ({@code activate} / {@code deactivate}) 沒有領域事件，直接改資料庫的作業也不會通知，
+ * 因此定期以全量讀取重算 (reconcile) 並替換，同時記錄與遞增結果的差異。
+ * 重算與遞增更新互斥 ({@code updateLock})，重算期間的通知留在待更新集合，替換後才套用。</p>
+ */
+public class InMemoryProductFacetCounts implements ProductFacetCounts, Closeable {
+
+    private static final Logger log = LoggerFactory.getLogger(InMemoryProductFacetCounts.class);
+
+    /**
+     * 商品目前計入的位置
+     */
+    private record Entry(String tenantId, String category, int bucket) {
+    }
+
+    /**
+     * 重算時整份替換
+     */
+    private record State(Map<UUID, Entry> entries, Map<String, TenantFacetCounts> tenants) {
+    }
+
+    private final ProductFacetSource source;
+    private final PriceBuckets priceBuckets;
+    private final int refreshBatchSize;
+    private final Duration refreshInterval;
+    private final Duration reconcileInterval;
+
+    private final Object updateLock = new Object();
+    private final Set<UUID> pending = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean wakeUpPending = new AtomicBoolean();
+    private volatile State state = new State(new HashMap<>(), new ConcurrentHashMap<>());
+    private volatile long lastDrift;
+    private ScheduledExecutorService executor;
+
+    public InMemoryProductFacetCounts(ProductFacetSource source,
+                                      PriceBuckets priceBuckets,
+                                      int refreshBatchSize,
+                                      Duration refreshInterval,
+                                      Duration reconcileInterval) {
+        this.source = source;
+        this.priceBuckets = priceBuckets;
+        this.refreshBatchSize = refreshBatchSize;
+        this.refreshInterval = refreshInterval;
+        this.reconcileInterval = reconcileInterval;
+    }
+
+    /**
+     * 從資料庫載入計數並啟動背景執行緒
+     */
+    public synchronized void start() {
+        if (executor != null) {
+            return;
+        }
+        reconcile();
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "product-facet-counts");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleWithFixedDelay(this::refreshSafely,
+            refreshInterval.toMillis(), refreshInterval.toMillis(), TimeUnit.MILLISECONDS);
+        executor.scheduleWithFixedDelay(this::reconcileSafely,
+            reconcileInterval.toMillis(), reconcileInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public synchronized void close() {
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProductChanged(ProductChanged event) {
+        markStale(event.productId());
+    }
+
+    /**
+     * 其他實例的商品異動；自己發出的廣播也會收到，重讀一次不影響結果
+     */
+    public void onRemoteChange(ProductChangeNotice notice) {
+        markStale(notice.change().productId());
+    }
+
+    public void markStale(UUID productId) {
+        pending.add(productId);
+        wakeUp();
+    }
+
+    @Override
+    public ProductFacets facets(String tenantId, String category) {
+        Map<String, Long> categories = new HashMap<>();
+        long[] buckets = new long[priceBuckets.size() + 1];
+        Map<String, TenantFacetCounts> tenants = state.tenants();
+        if (tenantId != null) {
+            TenantFacetCounts counts = tenants.get(tenantId);
+            if (counts != null) {
+                counts.addTo(categories, buckets, category, category != null);
+            }
+        } else {
+            tenants.values().forEach(counts -> counts.addTo(categories, buckets, category, category != null));
+        }
+
+        List<ProductFacets.CategoryCount> categoryCounts = categories.entrySet().stream()
+            .map(entry -> new ProductFacets.CategoryCount(entry.getKey(), entry.getValue()))
+            .sorted(Comparator.comparingLong(ProductFacets.CategoryCount::count).reversed()
+                .thenComparing(ProductFacets.CategoryCount::category, Comparator.nullsLast(Comparator.naturalOrder())))
+            .toList();
+        return new ProductFacets(buckets[priceBuckets.size()], categoryCounts, priceBuckets.toBuckets(buckets));
+    }
+
+    /**
+     * 計入的上架商品數
+     */
+    public int size() {
+        return state.entries().size();
+    }
+
+    public int pendingCount() {
+        return pending.size();
+    }
+
+    /**
+     * 最近一次重算時，遞增結果與資料庫不一致的格數總和
+     */
+    public long lastDrift() {
+        return lastDrift;
+    }
+
+    /**
+     * 重讀待更新的商品，每次最多 refreshBatchSize 筆，直到集合清空
+     *
+     * @return 處理的商品數
+     */
+    public int refreshPending() {
+        synchronized (updateLock) {
+            return refreshPendingLocked();
+        }
+    }
+
+    private int refreshPendingLocked() {
+        int total = 0;
+        while (!pending.isEmpty()) {
+            List<UUID> batch = new ArrayList<>(refreshBatchSize);
+            Iterator<UUID> iterator = pending.iterator();
+            while (iterator.hasNext() && batch.size() < refreshBatchSize) {
+                batch.add(iterator.next());
+                iterator.remove();
+            }
+            Map<UUID, ProductFacetSource.FacetRow> loaded = new HashMap<>();
+            try {
+                source.findByIds(batch).forEach(row -> loaded.put(row.id(), row));
+            } catch (RuntimeException e) {
+                // 下次再試
+                pending.addAll(batch);
+                throw e;
+            }
+            State current = state;
+            for (UUID productId : batch) {
+                ProductFacetSource.FacetRow row = loaded.get(productId);
+                Entry entry = row != null && ProductStatus.ACTIVE.name().equals(row.status()) ? entry(row) : null;
+                Entry previous = entry != null
+                    ? current.entries().put(productId, entry)
+                    : current.entries().remove(productId);
+                if (!Objects.equals(previous, entry)) {
+                    count(current, previous, -1);
+                    count(current, entry, 1);
+                }
+            }
+            total += batch.size();
+        }
+        return total;
+    }
+
+    /**
+     * 以資料庫全量重算並替換目前計數
+     *
+     * @return 與遞增結果不一致的格數總和
+     */
+    public long reconcile() {
+        synchronized (updateLock) {
+            return reconcileLocked();
+        }
+    }
+
+    private long reconcileLocked() {
+        long start = System.currentTimeMillis();
+        State rebuilt = new State(new HashMap<>(), new ConcurrentHashMap<>());
+        source.forEachActive(row -> {
+            Entry entry = entry(row);
+            rebuilt.entries().put(row.id(), entry);
+            count(rebuilt, entry, 1);
+        });
+
+        State previous = state;
+        long drift = 0;
+        Set<String> tenantIds = new HashSet<>(previous.tenants().keySet());
+        tenantIds.addAll(rebuilt.tenants().keySet());
+        TenantFacetCounts empty = new TenantFacetCounts(priceBuckets.size());
+        for (String tenantId : tenantIds) {
+            drift += previous.tenants().getOrDefault(tenantId, empty)
+                .distance(rebuilt.tenants().getOrDefault(tenantId, empty));
+        }
+        state = rebuilt;
+        lastDrift = drift;
+        if (drift > 0 && !previous.entries().isEmpty()) {
+            log.info("Reconciled product facet counts: {} products, drift {} in {}ms",
+                rebuilt.entries().size(), drift, System.currentTimeMillis() - start);
+        } else {
+            log.debug("Reconciled product facet counts: {} products in {}ms",
+                rebuilt.entries().size(), System.currentTimeMillis() - start);
+        }
+        return drift;
+    }
+
+    private Entry entry(ProductFacetSource.FacetRow row) {
+        return new Entry(row.tenantId(), row.category(), priceBuckets.indexOf(Cents.of(row.price())));
+    }
+
+    private void count(State target, Entry entry, long delta) {
+        if (entry != null) {
+            target.tenants().computeIfAbsent(entry.tenantId(), id -> new TenantFacetCounts(priceBuckets.size()))
+                .add(entry.category(), entry.bucket(), delta);
+        }
+    }
+
+    private synchronized void wakeUp() {
+        if (executor != null && wakeUpPending.compareAndSet(false, true)) {
+            executor.execute(() -> {
+                wakeUpPending.set(false);
+                refreshSafely();
+            });
+        }
+    }
+
+    private void refreshSafely() {
+        try {
+            refreshPending();
+        } catch (RuntimeException e) {
+            log.warn("Product facet refresh failed, {} products pending", pending.size(), e);
+        }
+    }
+
+    private void reconcileSafely() {
+        try {
+            reconcile();
+        } catch (RuntimeException e) {
+            log.warn("Product facet reconciliation failed", e);
+        }
+    }
+}
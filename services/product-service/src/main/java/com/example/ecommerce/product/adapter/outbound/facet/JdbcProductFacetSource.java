@@ -0,0 +1,66 @@
+package com.example.ecommerce.product.adapter.outbound.facet;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * 以 JDBC 讀取計數欄位
+ *
+ * <p>只讀五個欄位；全量讀取以 fetch size 分段，在唯讀交易中執行。</p>
+ */
+public class JdbcProductFacetSource implements ProductFacetSource {
+
+    private static final String COLUMNS = "SELECT id, tenant_id, category, price, status FROM products";
+
+    private static final int FETCH_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public JdbcProductFacetSource(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    @Override
+    public void forEachActive(Consumer<FacetRow> consumer) {
+        readOnlyTransaction.executeWithoutResult(status -> jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(COLUMNS + " WHERE status = 'ACTIVE'");
+            ps.setFetchSize(FETCH_SIZE);
+            return ps;
+        }, (RowCallbackHandler) rs -> consumer.accept(map(rs, rs.getRow()))));
+    }
+
+    @Override
+    public List<FacetRow> findByIds(Collection<UUID> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return namedJdbcTemplate.query(COLUMNS + " WHERE id IN (:ids)", Map.of("ids", ids),
+            JdbcProductFacetSource::map);
+    }
+
+    private static FacetRow map(ResultSet rs, int rowNum) throws SQLException {
+        return new FacetRow(
+            rs.getObject("id", UUID.class),
+            rs.getString("tenant_id"),
+            rs.getString("category"),
+            rs.getBigDecimal("price"),
+            rs.getString("status"));
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.ecommerce.product.adapter.outbound.facet;
+
+import com.example.ecommerce.product.application.dto.ProductFacets;
+import com.example.ecommerce.product.domain.model.valueobject.Cents;
+import com.example.ecommerce.product.domain.model.valueobject.Money;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 價格區間邊界
+ *
+ * <p>邊界 b0 &lt; b1 &lt; ... &lt; bn 切出 [b0, b1)、[b1, b2) ... [bn, ∞)；低於 b0 的價格歸入第一個區間。
+ * 邊界以分 (long) 保存，分類價格時不建立物件。</p>
+ */
+public final class PriceBuckets {
+
+    private final long[] bounds;
+
+    public PriceBuckets(List<BigDecimal> bounds) {
+        if (bounds.isEmpty()) {
+            throw new IllegalArgumentException("At least one price bucket bound is required");
+        }
+        long[] sorted = bounds.stream().mapToLong(Cents::of).sorted().toArray();
+        for (int i = 1; i < sorted.length; i++) {
+            if (sorted[i] == sorted[i - 1]) {
+                throw new IllegalArgumentException("Duplicate price bucket bound: " + BigDecimal.valueOf(sorted[i], 2));
+            }
+        }
+        this.bounds = sorted;
+    }
+
+    public int size() {
+        return bounds.length;
+    }
+
+    public int indexOf(Money price) {
+        return indexOf(price.cents());
+    }
+
+    /**
+     * 價格 (分) 所在區間的索引 (二分搜尋)
+     */
+    public int indexOf(long cents) {
+        int low = 1;
+        int high = bounds.length - 1;
+        int index = 0;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (cents < bounds[mid]) {
+                high = mid - 1;
+            } else {
+                index = mid;
+                low = mid + 1;
+            }
+        }
+        return index;
+    }
+
+    List<ProductFacets.PriceBucket> toBuckets(long[] counts) {
+        List<ProductFacets.PriceBucket> buckets = new ArrayList<>(bounds.length);
+        for (int i = 0; i < bounds.length; i++) {
+            BigDecimal to = i + 1 < bounds.length ? BigDecimal.valueOf(bounds[i + 1], 2) : null;
+            buckets.add(new ProductFacets.PriceBucket(BigDecimal.valueOf(bounds[i], 2), to, counts[i]));
+        }
+        return buckets;
+    }
+}
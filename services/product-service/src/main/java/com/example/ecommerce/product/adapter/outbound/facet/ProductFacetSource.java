@@ -0,0 +1,29 @@
+package com.example.ecommerce.product.adapter.outbound.facet;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * 計數所需的商品欄位來源
+ */
+public interface ProductFacetSource {
+
+    /**
+     * 商品的計數欄位
+     */
+    record FacetRow(UUID id, String tenantId, String category, BigDecimal price, String status) {
+    }
+
+    /**
+     * 逐筆讀取所有上架商品
+     */
+    void forEachActive(Consumer<FacetRow> consumer);
+
+    /**
+     * 依 ID 讀取商品 (任何狀態)；不存在的 ID 不回傳
+     */
+    List<FacetRow> findByIds(Collection<UUID> ids);
+}
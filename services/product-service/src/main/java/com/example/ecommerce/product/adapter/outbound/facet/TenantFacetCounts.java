@@ -0,0 +1,66 @@
+package com.example.ecommerce.product.adapter.outbound.facet;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 單一租戶的計數：分類 → 各價格區間商品數
+ *
+ * <p>每個分類的陣列最後一格存該分類的總數，另維護全部分類的區間合計，讀取不需加總。</p>
+ */
+class TenantFacetCounts {
+
+    private final int buckets;
+    private final Map<String, long[]> byCategory = new HashMap<>();
+    private final long[] allCategories;
+
+    TenantFacetCounts(int buckets) {
+        this.buckets = buckets;
+        this.allCategories = new long[buckets + 1];
+    }
+
+    synchronized void add(String category, int bucket, long delta) {
+        long[] counts = byCategory.computeIfAbsent(category, c -> new long[buckets + 1]);
+        counts[bucket] += delta;
+        counts[buckets] += delta;
+        allCategories[bucket] += delta;
+        allCategories[buckets] += delta;
+        if (counts[buckets] == 0) {
+            byCategory.remove(category);
+        }
+    }
+
+    /**
+     * 把計數加到 target：categories 為分類總數，buckets 為指定分類 (null 為全部) 的區間數 (最後一格為總數)
+     */
+    synchronized void addTo(Map<String, Long> categories, long[] target, String category, boolean filtered) {
+        byCategory.forEach((name, counts) -> categories.merge(name, counts[buckets], Long::sum));
+        long[] source = filtered ? byCategory.get(category) : allCategories;
+        if (source != null) {
+            for (int i = 0; i <= buckets; i++) {
+                target[i] += source[i];
+            }
+        }
+    }
+
+    synchronized long total() {
+        return allCategories[buckets];
+    }
+
+    /**
+     * 與另一份計數每一格差值的絕對值總和
+     */
+    synchronized long distance(TenantFacetCounts other) {
+        long distance = 0;
+        Map<String, long[]> all = new HashMap<>(byCategory);
+        other.byCategory.forEach(all::putIfAbsent);
+        for (String category : all.keySet()) {
+            long[] mine = byCategory.getOrDefault(category, new long[buckets + 1]);
+            long[] theirs = other.byCategory.getOrDefault(category, new long[buckets + 1]);
+            for (int i = 0; i < buckets; i++) {
+                distance += Math.abs(mine[i] - theirs[i]);
+            }
+        }
+        return distance;
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.ecommerce.product.adapter.outbound.history;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.time.Instant;
+
+/**
+ * 一筆商品異動 (一個領域事件)
+ *
+ * @param sequence   outbox 序號
+ * @param eventType  領域事件類型
+ * @param payload    outbox 的事件 JSON
+ * @param occurredAt 領域事件發生時間
+ */
+public record HistoryDelta(
+    long sequence,
+    String eventType,
+    JsonNode payload,
+    Instant occurredAt
+) {
+}
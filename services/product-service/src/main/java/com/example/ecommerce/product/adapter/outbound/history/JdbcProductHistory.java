@@ -0,0 +1,242 @@
+package com.example.ecommerce.product.adapter.outbound.history;
+
+import com.example.ecommerce.product.adapter.outbound.outbox.OutboxMessage;
+import com.example.ecommerce.product.application.dto.ProductVersion;
+import com.example.ecommerce.product.application.port.output.ProductHistory;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 以 product_history_snapshots / product_history_deltas 保存商品歷史
+ *
+ * <p>寫入由 outbox relay 在發布事件的交易中呼叫：每個事件一筆異動，
+ * 商品建立時與每累積 {@code snapshotInterval} 筆異動時寫入完整快照。
+ * 重建時間點 T 只讀取 T 之前最近的快照與其後最多 {@code snapshotInterval} 筆異動，
+ * 成本與商品的歷史長度無關。</p>
+ *
+ * <p>歷史從功能啟用後的第一個事件開始：之前就存在的商品 (沒有 ProductCreated 異動)
+ * 以當時 products 的資料列作為第一個快照。</p>
+ */
+public class JdbcProductHistory implements ProductHistory {
+
+    private static final String MERGE_DELTA_SQL = """
+        MERGE INTO product_history_deltas d
+        USING (VALUES (CAST(? AS UUID), CAST(? AS BIGINT))) AS c (product_id, sequence)
+        ON d.product_id = c.product_id AND d.sequence = c.sequence
+        WHEN NOT MATCHED THEN INSERT (product_id, sequence, tenant_id, event_type, payload, occurred_at)
+            VALUES (c.product_id, c.sequence, ?, ?, ?, ?)
+        """;
+
+    private static final String MERGE_SNAPSHOT_SQL = """
+        MERGE INTO product_history_snapshots s
+        USING (VALUES (CAST(? AS UUID), CAST(? AS BIGINT))) AS c (product_id, sequence)
+        ON s.product_id = c.product_id AND s.sequence = c.sequence
+        WHEN NOT MATCHED THEN INSERT (product_id, sequence, tenant_id, state, valid_from)
+            VALUES (c.product_id, c.sequence, ?, ?, ?)
+        """;
+
+    private static final String CURRENT_ROW_SQL = """
+        SELECT id, product_code, name, price, category, description, status, tenant_id,
+               created_by, created_at, updated_by, updated_at
+        FROM products WHERE id = ?
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final ObjectReader payloadReader;
+    private final int snapshotInterval;
+
+    public JdbcProductHistory(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper, int snapshotInterval) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.payloadReader = objectMapper.reader().with(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS);
+        this.snapshotInterval = snapshotInterval;
+    }
+
+    /**
+     * 記錄一批事件 (依 sequence 排序)，需在呼叫端的交易中執行；重送的事件不重複記錄
+     */
+    public void append(List<OutboxMessage> messages) {
+        if (messages.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(MERGE_DELTA_SQL, messages, messages.size(), (ps, message) -> {
+            ps.setObject(1, message.aggregateId());
+            ps.setLong(2, message.sequence());
+            ps.setString(3, message.tenantId());
+            ps.setString(4, message.eventType());
+            ps.setString(5, message.payload());
+            ps.setObject(6, utc(message.occurredAt()));
+        });
+
+        Map<UUID, String> tenants = new LinkedHashMap<>();
+        messages.forEach(message -> tenants.put(message.aggregateId(), message.tenantId()));
+        tenants.forEach(this::snapshotIfDue);
+    }
+
+    /**
+     * 沒有快照時寫入第一個快照，距上一個快照已累積 snapshotInterval 筆異動時寫入新快照
+     */
+    private void snapshotIfDue(UUID productId, String tenantId) {
+        Optional<Snapshot> latest = latestSnapshot(productId);
+        List<HistoryDelta> deltas = deltasAfter(productId, latest.map(Snapshot::sequence).orElse(-1L), null);
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        ProductHistoryState state = latest.map(Snapshot::state).orElse(null);
+        int sinceSnapshot = 0;
+        for (HistoryDelta delta : deltas) {
+            if (state == null) {
+                if (!ProductHistoryState.CREATED.equals(delta.eventType())) {
+                    seedFromCurrentRow(productId, tenantId, deltas.get(deltas.size() - 1));
+                    return;
+                }
+                state = ProductHistoryState.created(productId, tenantId, delta);
+                writeSnapshot(productId, tenantId, delta, state);
+                continue;
+            }
+            state = state.apply(delta);
+            if (++sinceSnapshot >= snapshotInterval) {
+                writeSnapshot(productId, tenantId, delta, state);
+                sinceSnapshot = 0;
+            }
+        }
+    }
+
+    private void seedFromCurrentRow(UUID productId, String tenantId, HistoryDelta last) {
+        jdbcTemplate.query(CURRENT_ROW_SQL, (rs, rowNum) -> new ProductHistoryState(
+                rs.getObject("id", UUID.class), rs.getString("product_code"), rs.getString("name"),
+                rs.getBigDecimal("price"), rs.getString("category"), rs.getString("description"),
+                rs.getString("status"), rs.getString("tenant_id"), rs.getString("created_by"),
+                instant(rs, "created_at"), rs.getString("updated_by"), instant(rs, "updated_at")), productId)
+            .stream()
+            .findFirst()
+            .ifPresent(state -> writeSnapshot(productId, tenantId, last, state));
+    }
+
+    private void writeSnapshot(UUID productId, String tenantId, HistoryDelta delta, ProductHistoryState state) {
+        jdbcTemplate.update(MERGE_SNAPSHOT_SQL,
+            productId, delta.sequence(), tenantId, toJson(state), utc(delta.occurredAt()));
+    }
+
+    @Override
+    public Optional<ProductVersion> findAt(UUID productId, String tenantId, Instant at) {
+        String sql = "SELECT sequence, state, valid_from FROM product_history_snapshots"
+            + " WHERE product_id = ? AND valid_from <= ?" + (tenantId != null ? " AND tenant_id = ?" : "")
+            + " ORDER BY valid_from DESC, sequence DESC LIMIT 1";
+        Object[] args = tenantId != null
+            ? new Object[]{productId, utc(at), tenantId}
+            : new Object[]{productId, utc(at)};
+        Optional<Snapshot> snapshot = jdbcTemplate.query(sql, this::snapshot, args).stream().findFirst();
+        if (snapshot.isEmpty()) {
+            return Optional.empty();
+        }
+
+        ProductHistoryState state = snapshot.get().state();
+        long sequence = snapshot.get().sequence();
+        Instant validFrom = snapshot.get().validFrom();
+        List<HistoryDelta> deltas = deltasAfter(productId, sequence, at);
+        for (HistoryDelta delta : deltas) {
+            state = state.apply(delta);
+            sequence = delta.sequence();
+            validFrom = delta.occurredAt();
+        }
+        return Optional.of(new ProductVersion(
+            state.toView(), sequence, validFrom, snapshot.get().sequence(), deltas.size()));
+    }
+
+    /**
+     * 商品的快照數
+     */
+    public long snapshotCount(UUID productId) {
+        Long count = jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM product_history_snapshots WHERE product_id = ?", Long.class, productId);
+        return count != null ? count : 0;
+    }
+
+    private Optional<Snapshot> latestSnapshot(UUID productId) {
+        return jdbcTemplate.query("""
+                SELECT sequence, state, valid_from FROM product_history_snapshots
+                WHERE product_id = ? ORDER BY sequence DESC LIMIT 1
+                """, this::snapshot, productId)
+            .stream()
+            .findFirst();
+    }
+
+    /**
+     * 序號大於 {@code afterSequence} 的異動
+     *
+     * @param upTo 只取發生時間不晚於此時間的異動，null 表示不限
+     */
+    private List<HistoryDelta> deltasAfter(UUID productId, long afterSequence, Instant upTo) {
+        String sql = "SELECT sequence, event_type, payload, occurred_at FROM product_history_deltas"
+            + " WHERE product_id = ? AND sequence > ?" + (upTo != null ? " AND occurred_at <= ?" : "")
+            + " ORDER BY sequence";
+        Object[] args = upTo != null
+            ? new Object[]{productId, afterSequence, utc(upTo)}
+            : new Object[]{productId, afterSequence};
+        List<HistoryDelta> deltas = new ArrayList<>();
+        jdbcTemplate.query(sql, (RowCallbackHandler) rs -> deltas.add(new HistoryDelta(
+            rs.getLong("sequence"),
+            rs.getString("event_type"),
+            readPayload(rs.getString("payload")),
+            instant(rs, "occurred_at"))), args);
+        return deltas;
+    }
+
+    private Snapshot snapshot(ResultSet rs, int rowNum) throws SQLException {
+        try {
+            return new Snapshot(rs.getLong("sequence"),
+                objectMapper.readValue(rs.getString("state"), ProductHistoryState.class),
+                instant(rs, "valid_from"));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot read product history snapshot", e);
+        }
+    }
+
+    private JsonNode readPayload(String payload) {
+        try {
+            return payloadReader.readTree(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot read product history delta", e);
+        }
+    }
+
+    private String toJson(ProductHistoryState state) {
+        try {
+            return objectMapper.writeValueAsString(state);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize product history snapshot", e);
+        }
+    }
+
+    private static Instant instant(ResultSet rs, String column) throws SQLException {
+        OffsetDateTime value = rs.getObject(column, OffsetDateTime.class);
+        return value != null ? value.toInstant() : null;
+    }
+
+    private static OffsetDateTime utc(Instant instant) {
+        return instant != null ? instant.atOffset(ZoneOffset.UTC) : null;
+    }
+
+    private record Snapshot(long sequence, ProductHistoryState state, Instant validFrom) {
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.ecommerce.product.adapter.outbound.history;
+
+import com.example.ecommerce.product.application.dto.ProductView;
+import com.example.ecommerce.product.domain.model.valueobject.ProductStatus;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * 快照保存的商品完整內容，套用異動後產生新的狀態
+ *
+ * <p>異動套用方式與 {@code Product} 聚合的行為一致：ProductUpdated 只覆寫有值的欄位。</p>
+ */
+public record ProductHistoryState(
+    UUID id,
+    String productCode,
+    String name,
+    BigDecimal price,
+    String category,
+    String description,
+    String status,
+    String tenantId,
+    String createdBy,
+    Instant createdAt,
+    String updatedBy,
+    Instant updatedAt
+) {
+
+    static final String CREATED = "ProductCreated";
+
+    /**
+     * 由 ProductCreated 建立初始狀態
+     */
+    static ProductHistoryState created(UUID id, String tenantId, HistoryDelta delta) {
+        JsonNode p = delta.payload();
+        String createdBy = text(p, "createdBy");
+        return new ProductHistoryState(id, text(p, "productCode"), text(p, "name"), decimal(p, "price"),
+            text(p, "category"), text(p, "description"), ProductStatus.ACTIVE.name(), tenantId,
+            createdBy, delta.occurredAt(), createdBy, delta.occurredAt());
+    }
+
+    static ProductHistoryState of(ProductView view) {
+        return new ProductHistoryState(view.id(), view.productCode(), view.name(), view.price(), view.category(),
+            view.description(), view.status(), view.tenantId(), view.createdBy(), view.createdAt(),
+            view.updatedBy(), view.updatedAt());
+    }
+
+    ProductHistoryState apply(HistoryDelta delta) {
+        JsonNode p = delta.payload();
+        Instant at = delta.occurredAt();
+        return switch (delta.eventType()) {
+            case "ProductUpdated" -> new ProductHistoryState(id, productCode,
+                orElse(text(p, "name"), name), orElse(decimal(p, "price"), price),
+                orElse(text(p, "category"), category), orElse(text(p, "description"), description),
+                status, tenantId, createdBy, createdAt, text(p, "updatedBy"), at);
+            case "ProductPriceChanged" -> new ProductHistoryState(id, productCode, name, decimal(p, "newPrice"),
+                category, description, status, tenantId, createdBy, createdAt, text(p, "changedBy"), at);
+            case "ProductDeleted" -> new ProductHistoryState(id, productCode, name, price, category, description,
+                ProductStatus.DELETED.name(), tenantId, createdBy, createdAt, text(p, "deletedBy"), at);
+            default -> this;
+        };
+    }
+
+    ProductView toView() {
+        return new ProductView(id, productCode, name, price, category, description, status, tenantId,
+            createdBy, createdAt, updatedBy, updatedAt, null);
+    }
+
+    private static String text(JsonNode payload, String field) {
+        JsonNode node = payload.get(field);
+        return node != null && !node.isNull() ? node.asText() : null;
+    }
+
+    private static BigDecimal decimal(JsonNode payload, String field) {
+        JsonNode node = payload.get(field);
+        return node != null && !node.isNull() ? node.decimalValue() : null;
+    }
+
+    private static <T> T orElse(T value, T current) {
+        return value != null ? value : current;
+    }
+}
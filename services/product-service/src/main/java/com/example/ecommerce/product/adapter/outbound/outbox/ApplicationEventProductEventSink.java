@@ -0,0 +1,34 @@
+package com.example.ecommerce.product.adapter.outbound.outbox;
+
+import com.example.ecommerce.product.application.event.ProductChanged;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.List;
+
+/**
+ * 以 Spring ApplicationEvent 在同一程序內發布 {@link ProductChanged}
+ *
+ * <p>relay 在交易中呼叫，{@code @TransactionalEventListener} 會在 outbox 刪除提交後才收到。</p>
+ */
+public class ApplicationEventProductEventSink implements ProductEventSink {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    public ApplicationEventProductEventSink(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Override
+    public String name() {
+        return "application-events";
+    }
+
+    @Override
+    public void publish(List<OutboxMessage> messages) {
+        for (OutboxMessage message : messages) {
+            eventPublisher.publishEvent(new ProductChanged(
+                message.sequence(), message.tenantId(), message.aggregateId(),
+                message.eventType(), message.occurredAt()));
+        }
+    }
+}
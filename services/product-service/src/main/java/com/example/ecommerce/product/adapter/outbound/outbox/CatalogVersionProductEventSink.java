@@ -0,0 +1,36 @@
+package com.example.ecommerce.product.adapter.outbound.outbox;
+
+import com.example.ecommerce.product.adapter.outbound.persistence.JdbcProductCatalogVersions;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 依發布的事件遞增租戶目錄版本
+ *
+ * <p>與 outbox 刪除在同一交易：版本遞增與事件發布一起提交或回滾。
+ * 重送時版本會多遞增，只造成客戶端多一次完整回應，不會誤回 304。</p>
+ */
+public class CatalogVersionProductEventSink implements ProductEventSink {
+
+    private final JdbcProductCatalogVersions catalogVersions;
+
+    public CatalogVersionProductEventSink(JdbcProductCatalogVersions catalogVersions) {
+        this.catalogVersions = catalogVersions;
+    }
+
+    @Override
+    public String name() {
+        return "catalog-version";
+    }
+
+    @Override
+    public void publish(List<OutboxMessage> messages) {
+        Map<String, Integer> changes = new HashMap<>();
+        for (OutboxMessage message : messages) {
+            changes.merge(message.tenantId(), 1, Integer::sum);
+        }
+        catalogVersions.increment(changes);
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.ecommerce.product.adapter.outbound.outbox;
+
+import com.example.ecommerce.product.adapter.outbound.history.JdbcProductHistory;
+
+import java.util.List;
+
+/**
+ * 將發布的事件記入商品歷史
+ *
+ * <p>與 outbox 刪除在同一交易：歷史與事件發布一起提交或回滾，不會漏記或多記。</p>
+ */
+public class HistoryProductEventSink implements ProductEventSink {
+
+    private final JdbcProductHistory history;
+
+    public HistoryProductEventSink(JdbcProductHistory history) {
+        this.history = history;
+    }
+
+    @Override
+    public String name() {
+        return "history";
+    }
+
+    @Override
+    public void publish(List<OutboxMessage> messages) {
+        history.append(messages);
+    }
+}
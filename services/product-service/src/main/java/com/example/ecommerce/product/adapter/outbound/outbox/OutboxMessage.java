@@ -0,0 +1,24 @@
+package com.example.ecommerce.product.adapter.outbound.outbox;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * 從 outbox 取出、待發布的商品領域事件
+ *
+ * @param sequence    outbox 序號，同一聚合內遞增
+ * @param aggregateId 商品 ID
+ * @param tenantId    商品所屬租戶
+ * @param eventType   領域事件類型
+ * @param payload     JSON 內容
+ * @param occurredAt  領域事件發生時間
+ */
+public record OutboxMessage(
+    long sequence,
+    UUID aggregateId,
+    String tenantId,
+    String eventType,
+    String payload,
+    Instant occurredAt
+) {
+}
@@ -0,0 +1,19 @@
+package com.example.ecommerce.product.adapter.outbound.outbox;
+
+import java.util.List;
+
+/**
+ * outbox 事件的發布目的地
+ *
+ * <p>訊息依 sequence 排序傳入；拋出例外時整批保留在 outbox 下次重送 (at-least-once)，
+ * 實作需能容忍重複。</p>
+ */
+public interface ProductEventSink {
+
+    /**
+     * 名稱，用於指標標籤
+     */
+    String name();
+
+    void publish(List<OutboxMessage> messages);
+}
@@ -0,0 +1,67 @@
+package com.example.ecommerce.product.adapter.outbound.outbox;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Outbox relay 指標
+ *
+ * <ul>
+ *   <li>{@code product.outbox.lag}：領域事件發生到送出的延遲</li>
+ *   <li>{@code product.outbox.oldest.age}：最舊待送事件的等待秒數 (每次輪詢後更新)</li>
+ *   <li>{@code product.outbox.batch.size}：每批筆數</li>
+ *   <li>{@code product.outbox.published{sink}} / {@code product.outbox.failures{sink}}</li>
+ * </ul>
+ */
+public class ProductOutboxMetrics {
+
+    private final MeterRegistry registry;
+    private final Timer lag;
+    private final DistributionSummary batchSize;
+    private final AtomicLong oldestAgeMillis = new AtomicLong();
+    private final Map<String, Counter> published = new ConcurrentHashMap<>();
+    private final Map<String, Counter> failures = new ConcurrentHashMap<>();
+
+    public ProductOutboxMetrics(MeterRegistry registry) {
+        this.registry = registry;
+        this.lag = Timer.builder("product.outbox.lag")
+            .description("Time from a product domain event to its relay")
+            .register(registry);
+        this.batchSize = DistributionSummary.builder("product.outbox.batch.size")
+            .register(registry);
+        Gauge.builder("product.outbox.oldest.age", oldestAgeMillis, age -> age.get() / 1000.0)
+            .description("Age in seconds of the oldest pending outbox event")
+            .baseUnit("seconds")
+            .register(registry);
+    }
+
+    public void recordBatch(int size) {
+        batchSize.record(size);
+    }
+
+    public void recordLag(Duration duration) {
+        lag.record(duration.isNegative() ? Duration.ZERO : duration);
+    }
+
+    public void recordPublished(String sink, int count) {
+        published.computeIfAbsent(sink, name -> Counter.builder("product.outbox.published")
+            .tag("sink", name).register(registry)).increment(count);
+    }
+
+    public void recordFailure(String sink) {
+        failures.computeIfAbsent(sink, name -> Counter.builder("product.outbox.failures")
+            .tag("sink", name).register(registry)).increment();
+    }
+
+    public void recordOldestAge(Duration age) {
+        oldestAgeMillis.set(age.toMillis());
+    }
+}
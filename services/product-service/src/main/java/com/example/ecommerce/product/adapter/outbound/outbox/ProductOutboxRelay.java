@@ -0,0 +1,172 @@
+package com.example.ecommerce.product.adapter.outbound.outbox;
+
+import com.example.ecommerce.product.adapter.outbound.persistence.ProductOutboxWriter.ProductOutboxAppended;
+import com.example.ecommerce.product.adapter.outbound.persistence.SpringDataProductOutboxRepository;
+import com.example.ecommerce.product.adapter.outbound.persistence.entity.ProductOutboxJpaEntity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.Closeable;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 將 outbox 中的商品事件批次送往各 {@link ProductEventSink}
+ *
+ * <p>每批在一個交易中：以 {@code FOR UPDATE SKIP LOCKED} 鎖定各聚合最早的事件，
+ * 取出這些聚合的待送事件，依序交給所有 sink，成功後刪除。sink 失敗時交易回滾，
+ * 事件留在 outbox 下次重送 (at-least-once)。多個實例可同時執行，
+ * 同一聚合同時只會由一個 relay 處理，聚合內順序不變。</p>
+ *
+ * <p>背景執行緒依 poll interval 輪詢；商品交易提交後也會立即喚醒，一般延遲僅為一次批次處理時間。</p>
+ */
+public class ProductOutboxRelay implements Closeable {
+
+    private static final Logger log = LoggerFactory.getLogger(ProductOutboxRelay.class);
+
+    private final SpringDataProductOutboxRepository outboxRepo;
+    private final TransactionTemplate transactionTemplate;
+    private final List<ProductEventSink> sinks;
+    private final ProductOutboxMetrics metrics;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+    private final Duration pollInterval;
+    private final Clock clock;
+
+    private final AtomicBoolean wakeUpPending = new AtomicBoolean();
+    private ScheduledExecutorService executor;
+
+    public ProductOutboxRelay(SpringDataProductOutboxRepository outboxRepo,
+                              TransactionTemplate transactionTemplate,
+                              List<ProductEventSink> sinks,
+                              ProductOutboxMetrics metrics,
+                              int batchSize,
+                              int maxBatchesPerRun,
+                              Duration pollInterval,
+                              Clock clock) {
+        this.outboxRepo = outboxRepo;
+        this.transactionTemplate = transactionTemplate;
+        this.sinks = List.copyOf(sinks);
+        this.metrics = metrics;
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.pollInterval = pollInterval;
+        this.clock = clock;
+    }
+
+    /**
+     * 啟動背景輪詢執行緒
+     */
+    public synchronized void start() {
+        if (executor != null) {
+            return;
+        }
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "product-outbox-relay");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleWithFixedDelay(this::runSafely,
+            pollInterval.toMillis(), pollInterval.toMillis(), TimeUnit.MILLISECONDS);
+        log.info("Started product outbox relay: sinks={}, batchSize={}, pollInterval={}",
+            sinks.stream().map(ProductEventSink::name).toList(), batchSize, pollInterval);
+    }
+
+    @Override
+    public synchronized void close() {
+        if (executor == null) {
+            return;
+        }
+        executor.shutdownNow();
+        executor = null;
+        log.info("Stopped product outbox relay");
+    }
+
+    /**
+     * 商品交易提交後立即喚醒 relay；已有待執行的喚醒時不重複排入
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onOutboxAppended(ProductOutboxAppended event) {
+        wakeUp();
+    }
+
+    public synchronized void wakeUp() {
+        if (executor != null && wakeUpPending.compareAndSet(false, true)) {
+            executor.execute(() -> {
+                wakeUpPending.set(false);
+                runSafely();
+            });
+        }
+    }
+
+    /**
+     * 處理待送事件，批次已滿時繼續下一批，最多 maxBatchesPerRun 批
+     *
+     * @return 送出的事件數
+     */
+    public int relayOnce() {
+        int total = 0;
+        for (int i = 0; i < maxBatchesPerRun; i++) {
+            Integer relayed = transactionTemplate.execute(status -> relayBatch());
+            int count = relayed != null ? relayed : 0;
+            total += count;
+            if (count < batchSize) {
+                break;
+            }
+        }
+        Instant oldest = outboxRepo.findOldestOccurredAt();
+        metrics.recordOldestAge(oldest != null ? Duration.between(oldest, clock.instant()) : Duration.ZERO);
+        return total;
+    }
+
+    private int relayBatch() {
+        List<UUID> aggregates = outboxRepo.lockAggregateHeads(batchSize).stream()
+            .map(ProductOutboxJpaEntity::getAggregateId)
+            .toList();
+        if (aggregates.isEmpty()) {
+            return 0;
+        }
+        List<ProductOutboxJpaEntity> rows =
+            outboxRepo.findByAggregateIdInOrderByIdAsc(aggregates, Limit.of(batchSize));
+        List<OutboxMessage> messages = rows.stream()
+            .map(row -> new OutboxMessage(row.getId(), row.getAggregateId(), row.getTenantId(),
+                row.getEventType(), row.getPayload(), row.getOccurredAt()))
+            .toList();
+
+        for (ProductEventSink sink : sinks) {
+            try {
+                sink.publish(messages);
+            } catch (RuntimeException e) {
+                metrics.recordFailure(sink.name());
+                throw e;
+            }
+            metrics.recordPublished(sink.name(), messages.size());
+        }
+
+        outboxRepo.deleteAllByIdInBatch(rows.stream().map(ProductOutboxJpaEntity::getId).toList());
+
+        Instant now = clock.instant();
+        messages.forEach(message -> metrics.recordLag(Duration.between(message.occurredAt(), now)));
+        metrics.recordBatch(messages.size());
+        return messages.size();
+    }
+
+    private void runSafely() {
+        try {
+            relayOnce();
+        } catch (RuntimeException e) {
+            log.warn("Product outbox relay failed, retrying in {}", pollInterval, e);
+        }
+    }
+}
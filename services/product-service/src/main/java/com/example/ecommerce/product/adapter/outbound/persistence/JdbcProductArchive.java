@@ -0,0 +1,153 @@
+package com.example.ecommerce.product.adapter.outbound.persistence;
+
+import com.example.ecommerce.product.application.dto.ProductView;
+import com.example.ecommerce.product.application.port.output.ProductArchive;
+import com.example.ecommerce.product.domain.model.valueobject.ProductStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 以 products_archive 表保存已封存商品
+ *
+ * <p>封存一批在呼叫端的交易中執行：依 (updated_at, id) 順序鎖定一批 DELETED 商品
+ * (已被其他實例鎖定的略過)，以 INSERT ... SELECT 複製到封存表後刪除原列。
+ * 已刪除的商品不能再修改，鎖定只防止兩個實例同時搬移同一列。</p>
+ */
+@Component
+public class JdbcProductArchive implements ProductArchive {
+
+    private static final String COLUMNS = """
+        id, product_code, name, price, category, description, status, tenant_id,
+        created_by, created_at, updated_by, updated_at, version""";
+
+    private static final String LOCK_BATCH_SQL = """
+        SELECT id, updated_at FROM products
+        WHERE status = ? AND updated_at < ?
+          AND (updated_at > ? OR (updated_at = ? AND id > ?))
+        ORDER BY updated_at, id
+        LIMIT ?
+        FOR UPDATE SKIP LOCKED
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private final JdbcProductTenantCounters counters;
+
+    public JdbcProductArchive(JdbcTemplate jdbcTemplate, JdbcProductTenantCounters counters) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.counters = counters;
+    }
+
+    @Override
+    public Optional<ProductView> findById(UUID id, String tenantId) {
+        String sql = "SELECT " + COLUMNS + " FROM products_archive WHERE id = ?"
+            + (tenantId != null ? " AND tenant_id = ?" : "");
+        Object[] args = tenantId != null ? new Object[]{id, tenantId} : new Object[]{id};
+        return jdbcTemplate.query(sql, JdbcProductArchive::view, args).stream().findFirst();
+    }
+
+    /**
+     * 鎖定位置 {@code after} 之後、最後異動早於 {@code cutoff} 的已刪除商品，需在呼叫端的交易中執行
+     *
+     * @param after 上一批最後一筆的位置，null 表示從頭開始
+     */
+    public List<ArchivePosition> lockBatch(Instant cutoff, ArchivePosition after, int limit) {
+        ArchivePosition from = after != null ? after : ArchivePosition.START;
+        return jdbcTemplate.query(LOCK_BATCH_SQL,
+            (rs, rowNum) -> new ArchivePosition(
+                rs.getObject("updated_at", OffsetDateTime.class).toInstant(),
+                rs.getObject("id", UUID.class)),
+            ProductStatus.DELETED.name(), utc(cutoff),
+            utc(from.updatedAt()), utc(from.updatedAt()), from.id(), limit);
+    }
+
+    /**
+     * 複製到封存表並刪除原列，需在呼叫端的交易中執行 (兩步驟同一交易，不會遺失或重複)；
+     * 各租戶的已刪除商品數在同一交易中扣除
+     *
+     * @return 搬移筆數
+     */
+    public int moveAll(List<UUID> ids, Instant archivedAt) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        Map<String, Object> params = Map.of(
+            "ids", ids, "status", ProductStatus.DELETED.name(), "archivedAt", utc(archivedAt));
+        List<JdbcProductTenantCounters.Delta> removed = namedJdbcTemplate.query(
+            "SELECT tenant_id, COUNT(*) AS moved FROM products WHERE id IN (:ids) AND status = :status"
+                + " GROUP BY tenant_id", params,
+            (rs, rowNum) -> new JdbcProductTenantCounters.Delta(
+                rs.getString("tenant_id"), ProductStatus.DELETED, -rs.getLong("moved")));
+        int copied = namedJdbcTemplate.update(
+            "INSERT INTO products_archive (" + COLUMNS + ", archived_at) SELECT " + COLUMNS
+                + ", :archivedAt FROM products WHERE id IN (:ids) AND status = :status", params);
+        int deleted = namedJdbcTemplate.update(
+            "DELETE FROM products WHERE id IN (:ids) AND status = :status", params);
+        if (copied != deleted) {
+            throw new IllegalStateException(
+                "Archived " + copied + " products but deleted " + deleted + ", rolling back the batch");
+        }
+        counters.apply(removed);
+        return deleted;
+    }
+
+    /**
+     * 尚待封存的筆數 (以 status, updated_at 索引計算)
+     */
+    public long countEligible(Instant cutoff) {
+        Long count = jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM products WHERE status = ? AND updated_at < ?",
+            Long.class, ProductStatus.DELETED.name(), utc(cutoff));
+        return count != null ? count : 0;
+    }
+
+    public long countArchived() {
+        Long count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM products_archive", Long.class);
+        return count != null ? count : 0;
+    }
+
+    private static ProductView view(ResultSet rs, int rowNum) throws SQLException {
+        return new ProductView(
+            rs.getObject("id", UUID.class),
+            rs.getString("product_code"),
+            rs.getString("name"),
+            rs.getBigDecimal("price"),
+            rs.getString("category"),
+            rs.getString("description"),
+            rs.getString("status"),
+            rs.getString("tenant_id"),
+            rs.getString("created_by"),
+            instant(rs, "created_at"),
+            rs.getString("updated_by"),
+            instant(rs, "updated_at"),
+            rs.getLong("version"));
+    }
+
+    private static Instant instant(ResultSet rs, String column) throws SQLException {
+        OffsetDateTime value = rs.getObject(column, OffsetDateTime.class);
+        return value != null ? value.toInstant() : null;
+    }
+
+    private static OffsetDateTime utc(Instant instant) {
+        return instant != null ? instant.atOffset(ZoneOffset.UTC) : null;
+    }
+
+    /**
+     * 封存掃描的 keyset 位置
+     */
+    public record ArchivePosition(Instant updatedAt, UUID id) {
+        static final ArchivePosition START = new ArchivePosition(Instant.EPOCH, new UUID(0L, 0L));
+    }
+}
@@ -0,0 +1,188 @@
+package com.example.ecommerce.product.adapter.outbound.persistence;
+
+import com.example.ecommerce.product.application.port.output.ProductBulkWriter;
+import com.example.ecommerce.product.domain.event.ProductPriceChanged;
+import com.example.ecommerce.product.domain.model.aggregate.Product;
+import com.example.ecommerce.product.domain.model.valueobject.Money;
+import com.example.ecommerce.product.domain.model.valueobject.ProductId;
+import com.example.ecommerce.product.domain.model.valueobject.ProductStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * 以 JDBC batch 新增商品與批次調價
+ *
+ * <p>新商品版本為 0，與 JPA persist 的結果一致；調價與 JPA 更新一樣遞增版本。
+ * 領域事件同樣經 {@link ProductEventWriter} 交出。</p>
+ */
+@Component
+public class JdbcProductBulkWriter implements ProductBulkWriter {
+
+    /**
+     * 一個調價語句可涵蓋的商品數上限：驅動程式每個語句至多綁定 32767 個參數，
+     * 每個商品佔 3 個，另有租戶、修改者、修改時間 3 個
+     */
+    public static final int MAX_PRICE_CHANGES_PER_STATEMENT = (32767 - 3) / 3;
+
+    private static final String INSERT_SQL = """
+        INSERT INTO products (id, product_code, name, price, category, description, status, tenant_id,
+                              created_by, created_at, updated_by, updated_at, version)
+        VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0)
+        """;
+
+    private static final String INSERT_PRICE_CHANGE_SQL = """
+        INSERT INTO product_price_changes (change_id, product_id, tenant_id, old_price, new_price, changed_by, changed_at)
+        VALUES (?, ?, ?, ?, ?, ?, ?)
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private final ProductEventWriter events;
+    private final JdbcProductTenantCounters counters;
+
+    public JdbcProductBulkWriter(JdbcTemplate jdbcTemplate, ProductEventWriter events,
+                                 JdbcProductTenantCounters counters) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.events = events;
+        this.counters = counters;
+    }
+
+    @Override
+    public Set<String> findExistingCodes(Collection<String> productCodes) {
+        if (productCodes.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(namedJdbcTemplate.queryForList(
+            "SELECT product_code FROM products WHERE product_code IN (:codes)",
+            Map.of("codes", productCodes), String.class));
+    }
+
+    @Override
+    public void insertAll(List<Product> products) {
+        if (products.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, products, products.size(), (ps, product) -> {
+            ps.setObject(1, product.getId().value());
+            ps.setString(2, product.getProductCode().value());
+            ps.setString(3, product.getName());
+            ps.setBigDecimal(4, product.getPrice().amount());
+            ps.setString(5, product.getCategory());
+            ps.setString(6, product.getDescription());
+            ps.setString(7, product.getStatus().name());
+            ps.setString(8, product.getTenantId());
+            ps.setString(9, product.getCreatedBy());
+            ps.setObject(10, utc(product.getCreatedAt()));
+            ps.setString(11, product.getUpdatedBy());
+            ps.setObject(12, utc(product.getUpdatedAt()));
+        });
+        events.appendAll(products);
+        counters.apply(products.stream()
+            .map(product -> new JdbcProductTenantCounters.Delta(product.getTenantId(), product.getStatus(), 1))
+            .toList());
+    }
+
+    /**
+     * 單一查詢以 fetch size 分段取回，不逐批重新查詢 (避免每批各自排序或掃描)
+     */
+    @Override
+    public void streamActivePrices(String tenantId, String category, int chunkSize,
+                                   Consumer<List<PricedProduct>> consumer) {
+        String sql = "SELECT id, version, price FROM products WHERE tenant_id = ? AND status = ?"
+            + (category != null ? " AND category = ?" : "");
+        List<PricedProduct> chunk = new ArrayList<>(chunkSize);
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(sql);
+            ps.setFetchSize(chunkSize);
+            ps.setString(1, tenantId);
+            ps.setString(2, ProductStatus.ACTIVE.name());
+            if (category != null) {
+                ps.setString(3, category);
+            }
+            return ps;
+        }, (RowCallbackHandler) rs -> {
+            chunk.add(new PricedProduct(
+                rs.getObject("id", UUID.class),
+                rs.getLong("version"),
+                Money.of(rs.getBigDecimal("price"))));
+            if (chunk.size() == chunkSize) {
+                consumer.accept(List.copyOf(chunk));
+                chunk.clear();
+            }
+        });
+        if (!chunk.isEmpty()) {
+            consumer.accept(List.copyOf(chunk));
+        }
+    }
+
+    /**
+     * 一個 MERGE 以 VALUES 列出整批 (id, 讀取時的版本, 新價格)，只有版本相符的商品會被更新；
+     * 更新筆數不符即表示有商品在讀取後被修改
+     */
+    @Override
+    public void updatePrices(UUID changeId, String tenantId, List<PriceChange> changes,
+                             String changedBy, Instant changedAt) {
+        if (changes.isEmpty()) {
+            return;
+        }
+        StringBuilder sql = new StringBuilder("MERGE INTO products p USING (VALUES ");
+        List<Object> args = new ArrayList<>(changes.size() * 3 + 3);
+        for (int i = 0; i < changes.size(); i++) {
+            PriceChange change = changes.get(i);
+            sql.append(i == 0 ? "" : ", ")
+                .append("(CAST(? AS UUID), CAST(? AS BIGINT), CAST(? AS NUMERIC(10, 2)))");
+            args.add(change.productId());
+            args.add(change.version());
+            args.add(change.newPrice().amount());
+        }
+        sql.append(") AS c (id, version, price) ON p.id = c.id AND p.version = c.version AND p.tenant_id = ?")
+            .append(" WHEN MATCHED THEN UPDATE SET price = c.price, version = p.version + 1,")
+            .append(" updated_by = ?, updated_at = ?");
+        args.add(tenantId);
+        args.add(changedBy);
+        args.add(utc(changedAt));
+
+        int updated = jdbcTemplate.update(sql.toString(), args.toArray());
+        if (updated != changes.size()) {
+            throw new ObjectOptimisticLockingFailureException(
+                "Bulk price change " + changeId + ": " + (changes.size() - updated)
+                    + " of " + changes.size() + " products were modified concurrently", null);
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_PRICE_CHANGE_SQL, changes, changes.size(), (ps, change) -> {
+            ps.setObject(1, changeId);
+            ps.setObject(2, change.productId());
+            ps.setString(3, tenantId);
+            ps.setBigDecimal(4, change.oldPrice().amount());
+            ps.setBigDecimal(5, change.newPrice().amount());
+            ps.setString(6, changedBy);
+            ps.setObject(7, utc(changedAt));
+        });
+
+        events.appendPriceChanges(tenantId, changes.stream()
+            .map(change -> new ProductPriceChanged(ProductId.of(change.productId()), change.oldPrice(),
+                change.newPrice(), changedBy, changedAt))
+            .toList());
+    }
+
+    private static OffsetDateTime utc(Instant instant) {
+        return instant != null ? instant.atOffset(ZoneOffset.UTC) : null;
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.ecommerce.product.adapter.outbound.persistence;
+
+import com.example.ecommerce.product.application.dto.CatalogVersion;
+import com.example.ecommerce.product.application.port.output.ProductCatalogVersions;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 以 product_catalog_versions 表保存各租戶的目錄版本
+ *
+ * <p>由 outbox relay 在發布事件的交易中遞增 (每批每租戶一次)，商品寫入的交易不碰這張表。
+ * 時間取資料庫時間，多個實例輪流 relay 時也不受主機時鐘誤差影響。</p>
+ */
+public class JdbcProductCatalogVersions implements ProductCatalogVersions {
+
+    private static final String INCREMENT_SQL = """
+        MERGE INTO product_catalog_versions v
+        USING (VALUES (CAST(? AS VARCHAR(255)), CAST(? AS BIGINT))) AS c (tenant_id, changes)
+        ON v.tenant_id = c.tenant_id
+        WHEN MATCHED THEN UPDATE SET version = v.version + c.changes, updated_at = CURRENT_TIMESTAMP
+        WHEN NOT MATCHED THEN INSERT (tenant_id, version, updated_at)
+            VALUES (c.tenant_id, c.changes, CURRENT_TIMESTAMP)
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcProductCatalogVersions(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public CatalogVersion current(String tenantId) {
+        if (tenantId == null) {
+            return jdbcTemplate.queryForObject(
+                "SELECT COALESCE(SUM(version), 0) AS version, MAX(updated_at) AS updated_at "
+                    + "FROM product_catalog_versions",
+                (rs, rowNum) -> version(null, rs));
+        }
+        List<CatalogVersion> versions = jdbcTemplate.query(
+            "SELECT version, updated_at FROM product_catalog_versions WHERE tenant_id = ?",
+            (rs, rowNum) -> version(tenantId, rs), tenantId);
+        return versions.isEmpty() ? new CatalogVersion(tenantId, 0, null) : versions.get(0);
+    }
+
+    /**
+     * 所有租戶的版本
+     */
+    public Map<String, CatalogVersion> findAll() {
+        Map<String, CatalogVersion> versions = new HashMap<>();
+        jdbcTemplate.query("SELECT tenant_id, version, updated_at FROM product_catalog_versions", rs -> {
+            String tenantId = rs.getString("tenant_id");
+            versions.put(tenantId, version(tenantId, rs));
+        });
+        return versions;
+    }
+
+    /**
+     * 遞增各租戶的版本，需在呼叫端的交易中執行
+     *
+     * @param changes 租戶 → 異動筆數
+     */
+    public void increment(Map<String, Integer> changes) {
+        if (changes.isEmpty()) {
+            return;
+        }
+        List<Map.Entry<String, Integer>> rows = new ArrayList<>(changes.entrySet());
+        jdbcTemplate.batchUpdate(INCREMENT_SQL, rows, rows.size(), (ps, row) -> {
+            ps.setString(1, row.getKey());
+            ps.setLong(2, row.getValue());
+        });
+    }
+
+    private static CatalogVersion version(String tenantId, ResultSet rs) throws SQLException {
+        OffsetDateTime updatedAt = rs.getObject("updated_at", OffsetDateTime.class);
+        return new CatalogVersion(tenantId, rs.getLong("version"), updatedAt != null ? updatedAt.toInstant() : null);
+    }
+}
@@ -0,0 +1,207 @@
+package com.example.ecommerce.product.adapter.outbound.persistence;
+
+import com.example.ecommerce.product.application.dto.TenantProductCounts;
+import com.example.ecommerce.product.application.port.output.ProductTenantCounters;
+import com.example.ecommerce.product.domain.model.valueobject.ProductStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 以 product_tenant_counters 表維護各租戶、各狀態的商品數
+ *
+ * <p>每個 (租戶, 狀態) 分成 {@link #STRIPES} 列，寫入隨機挑一列增減，同租戶的並行寫入
+ * 很少鎖同一列；讀取加總各列 (每租戶最多 STRIPES × 狀態數列，與商品數無關)。
+ * 增減在呼叫端 (商品寫入) 的交易中執行，依 (租戶, 狀態) 排序後寫入，避免交易間以相反順序鎖定而死結。</p>
+ *
+ * <p>{@link #reconcile} 以商品表重新計數並修正差異，同時補齊所有分段列，
+ * 之後的寫入只會更新既有列。</p>
+ */
+@Component
+public class JdbcProductTenantCounters implements ProductTenantCounters {
+
+    /**
+     * 每個 (租戶, 狀態) 的分段列數；調整後讀取與修正仍正確，只影響之後的寫入分布
+     */
+    public static final int STRIPES = 16;
+
+    private static final String ADD_SQL = """
+        MERGE INTO product_tenant_counters c
+        USING (VALUES (CAST(? AS VARCHAR(255)), CAST(? AS VARCHAR(20)), CAST(? AS INTEGER), CAST(? AS BIGINT)))
+            AS d (tenant_id, status, stripe, delta)
+        ON c.tenant_id = d.tenant_id AND c.status = d.status AND c.stripe = d.stripe
+        WHEN MATCHED THEN UPDATE SET product_count = c.product_count + d.delta
+        WHEN NOT MATCHED THEN INSERT (tenant_id, status, stripe, product_count)
+            VALUES (d.tenant_id, d.status, d.stripe, d.delta)
+        """;
+
+    private static final String SEED_SQL = """
+        MERGE INTO product_tenant_counters c
+        USING (VALUES (CAST(? AS VARCHAR(255)), CAST(? AS VARCHAR(20)), CAST(? AS INTEGER)))
+            AS d (tenant_id, status, stripe)
+        ON c.tenant_id = d.tenant_id AND c.status = d.status AND c.stripe = d.stripe
+        WHEN NOT MATCHED THEN INSERT (tenant_id, status, stripe, product_count)
+            VALUES (d.tenant_id, d.status, d.stripe, 0)
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcProductTenantCounters(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public TenantProductCounts counts(String tenantId) {
+        Map<String, Long> byStatus = new TreeMap<>();
+        String sql = "SELECT status, SUM(product_count) AS product_count FROM product_tenant_counters"
+            + (tenantId != null ? " WHERE tenant_id = ?" : "") + " GROUP BY status";
+        Object[] args = tenantId != null ? new Object[]{tenantId} : new Object[0];
+        jdbcTemplate.query(sql, rs -> {
+            long count = rs.getLong("product_count");
+            if (count != 0) {
+                byStatus.put(rs.getString("status"), count);
+            }
+        }, args);
+        long total = byStatus.values().stream().mapToLong(Long::longValue).sum();
+        return new TenantProductCounts(tenantId, total,
+            byStatus.getOrDefault(ProductStatus.ACTIVE.name(), 0L), Map.copyOf(byStatus));
+    }
+
+    /**
+     * 增減一個狀態的商品數，需在寫入商品的交易中執行
+     */
+    public void add(String tenantId, ProductStatus status, long delta) {
+        apply(List.of(new Delta(tenantId, status, delta)));
+    }
+
+    /**
+     * 商品狀態變更：舊狀態減一、新狀態加一，需在寫入商品的交易中執行
+     */
+    public void transition(String tenantId, ProductStatus from, ProductStatus to) {
+        if (from == to) {
+            return;
+        }
+        apply(List.of(new Delta(tenantId, from, -1), new Delta(tenantId, to, 1)));
+    }
+
+    /**
+     * 整批增減寫到同一分段，相同 (租戶, 狀態) 先合併；需在寫入商品的交易中執行
+     */
+    public void apply(List<Delta> deltas) {
+        Map<CounterKey, Long> merged = new HashMap<>();
+        for (Delta delta : deltas) {
+            merged.merge(new CounterKey(delta.tenantId(), delta.status().name()), delta.delta(), Long::sum);
+        }
+        List<Map.Entry<CounterKey, Long>> rows = new ArrayList<>(merged.entrySet());
+        rows.removeIf(row -> row.getValue() == 0);
+        if (rows.isEmpty()) {
+            return;
+        }
+        rows.sort(Map.Entry.comparingByKey(CounterKey.LOCK_ORDER));
+        int stripe = ThreadLocalRandom.current().nextInt(STRIPES);
+        jdbcTemplate.batchUpdate(ADD_SQL, rows, rows.size(), (ps, row) -> {
+            ps.setString(1, row.getKey().tenantId());
+            ps.setString(2, row.getKey().status());
+            ps.setInt(3, stripe);
+            ps.setLong(4, row.getValue());
+        });
+    }
+
+    /**
+     * 有商品或計數的租戶
+     */
+    public List<String> tenantIds() {
+        return jdbcTemplate.queryForList("""
+            SELECT tenant_id FROM products WHERE tenant_id IS NOT NULL GROUP BY tenant_id
+            UNION
+            SELECT tenant_id FROM product_tenant_counters GROUP BY tenant_id
+            """, String.class);
+    }
+
+    /**
+     * 以商品表重新計數一個租戶並修正差異，需在呼叫端的交易中執行
+     *
+     * <p>先鎖定租戶的所有計數列：進行中的寫入已更新計數列，須等它提交後才會計數，
+     * 之後的寫入則等本交易提交後才增減，兩者都不會被重複或遺漏。差異寫入分段 0。</p>
+     *
+     * @return 修正的差異 (各狀態差異絕對值的總和)
+     */
+    public long reconcile(String tenantId) {
+        Map<String, Long> counted = new HashMap<>();
+        Set<String> existing = new HashSet<>();
+        jdbcTemplate.query("""
+            SELECT status, stripe, product_count FROM product_tenant_counters
+            WHERE tenant_id = ?
+            ORDER BY status, stripe
+            FOR UPDATE
+            """, rs -> {
+            counted.merge(rs.getString("status"), rs.getLong("product_count"), Long::sum);
+            existing.add(rs.getString("status") + ":" + rs.getInt("stripe"));
+        }, tenantId);
+
+        Map<String, Long> actual = new HashMap<>();
+        jdbcTemplate.query(
+            "SELECT status, COUNT(*) AS product_count FROM products WHERE tenant_id = ? GROUP BY status",
+            rs -> actual.put(rs.getString("status"), rs.getLong("product_count")), tenantId);
+
+        seed(tenantId, existing);
+
+        List<Delta> corrections = new ArrayList<>();
+        for (ProductStatus status : ProductStatus.values()) {
+            long diff = actual.getOrDefault(status.name(), 0L) - counted.getOrDefault(status.name(), 0L);
+            if (diff != 0) {
+                corrections.add(new Delta(tenantId, status, diff));
+            }
+        }
+        if (corrections.isEmpty()) {
+            return 0;
+        }
+        jdbcTemplate.batchUpdate(ADD_SQL, corrections, corrections.size(), (ps, delta) -> {
+            ps.setString(1, delta.tenantId());
+            ps.setString(2, delta.status().name());
+            ps.setInt(3, 0);
+            ps.setLong(4, delta.delta());
+        });
+        return corrections.stream().mapToLong(delta -> Math.abs(delta.delta())).sum();
+    }
+
+    /**
+     * 補齊租戶缺少的分段列 (計數為 0)
+     */
+    private void seed(String tenantId, Set<String> existing) {
+        List<Object[]> missing = new ArrayList<>();
+        for (ProductStatus status : ProductStatus.values()) {
+            for (int stripe = 0; stripe < STRIPES; stripe++) {
+                if (!existing.contains(status.name() + ":" + stripe)) {
+                    missing.add(new Object[]{tenantId, status.name(), stripe});
+                }
+            }
+        }
+        if (!missing.isEmpty()) {
+            jdbcTemplate.batchUpdate(SEED_SQL, missing);
+        }
+    }
+
+    /**
+     * 一個 (租戶, 狀態) 的增減量
+     */
+    public record Delta(String tenantId, ProductStatus status, long delta) {
+    }
+
+    /**
+     * 與 {@link #reconcile} 鎖定計數列的順序 (status, stripe) 一致
+     */
+    private record CounterKey(String tenantId, String status) {
+        static final Comparator<CounterKey> LOCK_ORDER =
+            Comparator.comparing(CounterKey::tenantId).thenComparing(CounterKey::status);
+    }
+}
@@ -1,25 +1,39 @@
 package com.example.ecommerce.product.adapter.outbound.persistence;
 
+import com.example.ecommerce.common.exception.BusinessException;
 import com.example.ecommerce.product.adapter.outbound.persistence.entity.ProductJpaEntity;
 import com.example.ecommerce.product.adapter.outbound.persistence.mapper.ProductMapper;
 import com.example.ecommerce.product.domain.model.aggregate.Product;
 import com.example.ecommerce.product.domain.model.valueobject.*;
 import com.example.ecommerce.product.domain.repository.ProductRepository;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Repository
 public class JpaProductRepository implements ProductRepository {
 
+    private static final String PRODUCT_CODE_CONSTRAINT = "uk_products_product_code";
+    private static final String UNIQUE_VIOLATION = "23505";
+
     private final SpringDataProductRepository jpaRepo;
     private final ProductMapper mapper;
+    private final ProductEventWriter events;
+    private final JdbcProductTenantCounters counters;
 
-    public JpaProductRepository(SpringDataProductRepository jpaRepo, ProductMapper mapper) {
+    public JpaProductRepository(SpringDataProductRepository jpaRepo, ProductMapper mapper,
+                                ProductEventWriter events, JdbcProductTenantCounters counters) {
         this.jpaRepo = jpaRepo;
         this.mapper = mapper;
+        this.events = events;
+        this.counters = counters;
     }
 
     @Override
@@ -54,15 +68,87 @@ public class JpaProductRepository implements ProductRepository {
     }
 
     @Override
+    @Transactional
     public Product save(Product product) {
+        // 新商品沒有原狀態；既有商品已由命令端在同一交易載入，取得原狀態不會再查詢資料庫
+        Optional<String> previousStatus = product.getVersion() != null
+            ? jpaRepo.findById(product.getId().value()).map(ProductJpaEntity::getStatus)
+            : Optional.empty();
         ProductJpaEntity entity = mapper.toEntity(product);
         ProductJpaEntity saved = jpaRepo.save(entity);
+        // 領域事件與商品在同一交易寫入 outbox，由 relay 非同步發布 (停用 relay 時提交後直接發布)
+        events.append(product, product.pullDomainEvents());
+        // 租戶商品數與商品在同一交易增減
+        if (previousStatus.isPresent()) {
+            counters.transition(product.getTenantId(), ProductStatus.valueOf(previousStatus.get()), product.getStatus());
+        } else {
+            counters.add(product.getTenantId(), product.getStatus(), 1);
+        }
         return mapper.toDomain(saved);
     }
 
     @Override
+    @Transactional
+    public Product add(Product product) {
+        return addAll(List.of(product)).get(0);
+    }
+
+    /**
+     * 以 persist 排入 Hibernate 批次，整批只 flush 一次；outbox 與租戶計數各一次 JDBC batch
+     */
+    @Override
+    @Transactional
+    public List<Product> addAll(List<Product> products) {
+        List<ProductJpaEntity> saved = new ArrayList<>(products.size());
+        for (Product product : products) {
+            saved.add(jpaRepo.save(mapper.toEntity(product)));
+        }
+        try {
+            jpaRepo.flush();
+        } catch (DataIntegrityViolationException e) {
+            if (isProductCodeViolation(e)) {
+                throw new BusinessException("Product code already exists: " + codes(products), "DUPLICATE_PRODUCT_CODE");
+            }
+            throw e;
+        }
+        events.appendAll(products);
+        counters.apply(products.stream()
+            .map(product -> new JdbcProductTenantCounters.Delta(product.getTenantId(), product.getStatus(), 1))
+            .toList());
+        return saved.stream().map(mapper::toDomain).collect(Collectors.toList());
+    }
+
+    /**
+     * 依違反的約束名稱判斷，不比對錯誤訊息；H2 回報的名稱帶 schema 與索引後綴，PostgreSQL 為原名
+     */
+    private static boolean isProductCodeViolation(DataIntegrityViolationException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation) {
+                String constraint = violation.getConstraintName();
+                return UNIQUE_VIOLATION.equals(violation.getSQLState())
+                    && constraint != null
+                    && constraint.toLowerCase(Locale.ROOT).contains(PRODUCT_CODE_CONSTRAINT);
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 單筆時為該代碼；整批時資料庫只回報第一個衝突，列出批次中的代碼
+     */
+    private static String codes(List<Product> products) {
+        return products.stream()
+            .map(product -> product.getProductCode().value())
+            .collect(Collectors.joining(", "));
+    }
+
+    @Override
+    @Transactional
     public void delete(ProductId id) {
+        Optional<ProductJpaEntity> existing = jpaRepo.findById(id.value());
         jpaRepo.deleteById(id.value());
+        existing.ifPresent(entity ->
+            counters.add(entity.getTenantId(), ProductStatus.valueOf(entity.getStatus()), -1));
     }
 
     @Override
@@ -70,8 +156,11 @@ public class JpaProductRepository implements ProductRepository {
         return jpaRepo.existsByProductCode(code.value());
     }
 
+    /**
+     * 由租戶計數加總，不 COUNT 商品表
+     */
     @Override
     public long countByTenantId(String tenantId) {
-        return jpaRepo.countByTenantId(tenantId);
+        return counters.counts(tenantId).total();
     }
 }
@@ -0,0 +1,91 @@
+package com.example.ecommerce.product.adapter.outbound.persistence;
+
+import com.example.ecommerce.product.adapter.outbound.persistence.entity.ProductJpaEntity;
+import com.example.ecommerce.product.application.dto.ProductRevision;
+import com.example.ecommerce.product.application.dto.ProductView;
+import com.example.ecommerce.product.application.port.output.ProductViewRepository;
+import com.example.ecommerce.product.domain.repository.ProductKeyset;
+import com.example.ecommerce.product.domain.repository.ProductSearchCriteria;
+import com.example.ecommerce.product.domain.repository.ProductSort;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 以建構子投影 (SELECT new ProductView(...)) 實作查詢端 Read Model
+ */
+@Repository
+public class JpaProductViewRepository implements ProductViewRepository {
+
+    private final SpringDataProductRepository jpaRepo;
+    private final EntityManager entityManager;
+
+    public JpaProductViewRepository(SpringDataProductRepository jpaRepo, EntityManager entityManager) {
+        this.jpaRepo = jpaRepo;
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public Optional<ProductView> findById(UUID id) {
+        return jpaRepo.findViewById(id);
+    }
+
+    @Override
+    public Optional<ProductRevision> findRevision(UUID id) {
+        return jpaRepo.findRevisionById(id);
+    }
+
+    @Override
+    public List<ProductView> findPage(ProductSearchCriteria criteria, int page, int size, ProductSort sort) {
+        return entityManager.createQuery(select(ProductSpecifications.matching(criteria), sort))
+            .setFirstResult(page * size)
+            .setMaxResults(size)
+            .getResultList();
+    }
+
+    @Override
+    public List<ProductView> findAfter(ProductSearchCriteria criteria, ProductKeyset after, int limit,
+                                       ProductSort sort) {
+        Specification<ProductJpaEntity> spec = ProductSpecifications.matching(criteria)
+            .and(ProductSpecifications.after(after, sort));
+        return entityManager.createQuery(select(spec, sort))
+            .setMaxResults(limit)
+            .getResultList();
+    }
+
+    @Override
+    public long count(ProductSearchCriteria criteria) {
+        return jpaRepo.count(ProductSpecifications.matching(criteria));
+    }
+
+    private CriteriaQuery<ProductView> select(Specification<ProductJpaEntity> spec, ProductSort sort) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<ProductView> query = cb.createQuery(ProductView.class);
+        Root<ProductJpaEntity> p = query.from(ProductJpaEntity.class);
+
+        query.select(cb.construct(ProductView.class,
+            p.get("id"), p.get("productCode"), p.get("name"), p.get("price"), p.get("category"),
+            p.get("description"), p.get("status"), p.get("tenantId"), p.get("createdBy"),
+            p.get("createdAt"), p.get("updatedBy"), p.get("updatedAt"), p.get("version")));
+
+        Predicate where = spec.toPredicate(p, query, cb);
+        if (where != null) {
+            query.where(where);
+        }
+
+        // 以 id 作為次要排序，確保相同排序值時分頁穩定
+        String property = sort.field().property();
+        query.orderBy(sort.ascending()
+            ? List.of(cb.asc(p.get(property)), cb.asc(p.get("id")))
+            : List.of(cb.desc(p.get(property)), cb.desc(p.get("id"))));
+        return query;
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.ecommerce.product.adapter.outbound.persistence;
+
+import com.example.ecommerce.product.application.event.ProductChanged;
+import com.example.ecommerce.product.domain.event.DomainEvent;
+import com.example.ecommerce.product.domain.event.ProductPriceChanged;
+import com.example.ecommerce.product.domain.model.aggregate.Product;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 停用 outbox relay 時，直接在本機發布 {@link ProductChanged}，不寫入 outbox
+ *
+ * <p>事件在交易中發布，{@code @TransactionalEventListener} (快取、搜尋、分類計數) 在提交後才收到，
+ * 回滾的異動不會通知。沒有 outbox 序號 ({@link #NO_SEQUENCE})，也不保證送達：
+ * 程序在提交後、通知前結束時，讀取端只能等快取過期或重建索引。</p>
+ */
+@Component
+@ConditionalOnProperty(prefix = "product.outbox", name = "enabled", havingValue = "false")
+public class LocalProductEventWriter implements ProductEventWriter {
+
+    /**
+     * 未經 outbox 的事件序號
+     */
+    public static final long NO_SEQUENCE = 0;
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    public LocalProductEventWriter(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Override
+    public void append(Product product, List<DomainEvent> events) {
+        for (DomainEvent event : events) {
+            publish(product.getId().value(), product.getTenantId(), event);
+        }
+    }
+
+    @Override
+    public void appendAll(List<Product> products) {
+        for (Product product : products) {
+            append(product, product.pullDomainEvents());
+        }
+    }
+
+    @Override
+    public void appendPriceChanges(String tenantId, List<ProductPriceChanged> events) {
+        for (ProductPriceChanged event : events) {
+            publish(event.productId().value(), tenantId, event);
+        }
+    }
+
+    private void publish(UUID productId, String tenantId, DomainEvent event) {
+        eventPublisher.publishEvent(new ProductChanged(
+            NO_SEQUENCE, tenantId, productId, event.getClass().getSimpleName(), event.occurredAt()));
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.ecommerce.product.adapter.outbound.persistence;
+
+import com.example.ecommerce.product.domain.event.DomainEvent;
+import com.example.ecommerce.product.domain.event.ProductPriceChanged;
+import com.example.ecommerce.product.domain.model.aggregate.Product;
+
+import java.util.List;
+
+/**
+ * 商品寫入時交出領域事件，在商品異動的交易中呼叫
+ *
+ * <p>啟用 outbox relay 時寫入 outbox ({@link ProductOutboxWriter})；
+ * 停用時在提交後直接於本機發布 ({@link LocalProductEventWriter})。</p>
+ */
+public interface ProductEventWriter {
+
+    void append(Product product, List<DomainEvent> events);
+
+    /**
+     * 取出各商品的領域事件一併交出
+     */
+    void appendAll(List<Product> products);
+
+    /**
+     * 不經聚合的批次調價事件 (同一租戶)
+     */
+    void appendPriceChanges(String tenantId, List<ProductPriceChanged> events);
+}
@@ -0,0 +1,162 @@
+package com.example.ecommerce.product.adapter.outbound.persistence;
+
+import com.example.ecommerce.product.domain.event.*;
+import com.example.ecommerce.product.domain.model.aggregate.Product;
+import com.example.ecommerce.product.domain.model.valueobject.Money;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 將聚合的領域事件寫入 outbox，與商品異動在同一交易中提交
+ *
+ * <p>以 JDBC 批次寫入：outbox ID 由資料庫 identity 產生 (決定事件順序)，若經由 Hibernate persist
+ * 會立即執行 INSERT 並提前送出佇列中的商品 INSERT，使商品寫入無法批次。</p>
+ *
+ * <p>只在啟用 outbox relay 時使用，停用時沒有程序取出 outbox，改由 {@link LocalProductEventWriter} 發布。</p>
+ */
+@Component
+@ConditionalOnProperty(prefix = "product.outbox", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ProductOutboxWriter implements ProductEventWriter {
+
+    private static final String INSERT_SQL = """
+        INSERT INTO product_outbox (aggregate_id, tenant_id, event_type, payload, occurred_at, created_at)
+        VALUES (?, ?, ?, ?, ?, ?)
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public ProductOutboxWriter(JdbcTemplate jdbcTemplate,
+                               ObjectMapper objectMapper,
+                               ApplicationEventPublisher eventPublisher) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Override
+    public void append(Product product, List<DomainEvent> events) {
+        List<Object[]> rows = new ArrayList<>(events.size());
+        addRows(rows, product, events, Instant.now().atOffset(ZoneOffset.UTC));
+        write(rows);
+    }
+
+    /**
+     * 取出各商品的領域事件，以一次 JDBC batch 寫入
+     */
+    @Override
+    public void appendAll(List<Product> products) {
+        OffsetDateTime now = Instant.now().atOffset(ZoneOffset.UTC);
+        List<Object[]> rows = new ArrayList<>(products.size());
+        for (Product product : products) {
+            addRows(rows, product, product.pullDomainEvents(), now);
+        }
+        write(rows);
+    }
+
+    /**
+     * 不經聚合的批次調價事件 (同一租戶)，以一次 JDBC batch 寫入
+     */
+    @Override
+    public void appendPriceChanges(String tenantId, List<ProductPriceChanged> events) {
+        OffsetDateTime now = Instant.now().atOffset(ZoneOffset.UTC);
+        List<Object[]> rows = new ArrayList<>(events.size());
+        for (ProductPriceChanged event : events) {
+            rows.add(row(event.productId().value(), tenantId, event, now));
+        }
+        write(rows);
+    }
+
+    private void addRows(List<Object[]> rows, Product product, List<DomainEvent> events, OffsetDateTime now) {
+        for (DomainEvent event : events) {
+            rows.add(row(product.getId().value(), product.getTenantId(), event, now));
+        }
+    }
+
+    private Object[] row(UUID aggregateId, String tenantId, DomainEvent event, OffsetDateTime now) {
+        return new Object[]{
+            aggregateId,
+            tenantId,
+            event.getClass().getSimpleName(),
+            toJson(event),
+            event.occurredAt().atOffset(ZoneOffset.UTC),
+            now
+        };
+    }
+
+    private void write(List<Object[]> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+
+        // 提交後通知 relay 立即處理，不必等下一次輪詢
+        eventPublisher.publishEvent(new ProductOutboxAppended(rows.size()));
+    }
+
+    private String toJson(DomainEvent event) {
+        try {
+            return objectMapper.writeValueAsString(payload(event));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize " + event.getClass().getSimpleName(), e);
+        }
+    }
+
+    /**
+     * 值物件展開為基本型別，payload 不依賴領域類別的序列化方式
+     */
+    static Map<String, Object> payload(DomainEvent event) {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        if (event instanceof ProductCreated e) {
+            payload.put("productId", e.productId().value());
+            payload.put("productCode", e.productCode().value());
+            payload.put("name", e.name());
+            payload.put("price", amount(e.price()));
+            payload.put("category", e.category());
+            payload.put("description", e.description());
+            payload.put("createdBy", e.createdBy());
+        } else if (event instanceof ProductUpdated e) {
+            payload.put("productId", e.productId().value());
+            payload.put("name", e.name());
+            payload.put("price", amount(e.price()));
+            payload.put("category", e.category());
+            payload.put("description", e.description());
+            payload.put("updatedBy", e.updatedBy());
+        } else if (event instanceof ProductPriceChanged e) {
+            payload.put("productId", e.productId().value());
+            payload.put("oldPrice", amount(e.oldPrice()));
+            payload.put("newPrice", amount(e.newPrice()));
+            payload.put("changedBy", e.changedBy());
+        } else if (event instanceof ProductDeleted e) {
+            payload.put("productId", e.productId().value());
+            payload.put("deletedBy", e.deletedBy());
+        }
+        payload.put("occurredAt", event.occurredAt().toString());
+        return payload;
+    }
+
+    private static BigDecimal amount(Money money) {
+        return money != null ? money.amount() : null;
+    }
+
+    /**
+     * outbox 有新資料 (交易內發布，relay 在提交後處理)
+     */
+    public record ProductOutboxAppended(int count) {
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.ecommerce.product.adapter.outbound.persistence;
+
+import com.example.ecommerce.product.adapter.outbound.persistence.entity.ProductJpaEntity;
+import com.example.ecommerce.product.domain.repository.ProductKeyset;
+import com.example.ecommerce.product.domain.repository.ProductSearchCriteria;
+import com.example.ecommerce.product.domain.repository.ProductSort;
+import jakarta.persistence.criteria.Path;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.UUID;
+
+/**
+ * 將 {@link ProductSearchCriteria} 轉為 JPA 查詢條件
+ */
+final class ProductSpecifications {
+
+    private ProductSpecifications() {
+    }
+
+    static Specification<ProductJpaEntity> matching(ProductSearchCriteria criteria) {
+        return Specification.where(equal("tenantId", criteria.tenantId()))
+            .and(equal("category", criteria.category()))
+            .and(equal("status", criteria.status() != null ? criteria.status().name() : null));
+    }
+
+    /**
+     * 排序位置之後的資料：(sortKey, id) 大於 (遞增) 或小於 (遞減) 上一頁最後一筆
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    static Specification<ProductJpaEntity> after(ProductKeyset keyset, ProductSort sort) {
+        if (keyset == null) {
+            return null;
+        }
+        Comparable value = keyset.sortValue();
+        UUID id = keyset.id().value();
+        return (root, query, cb) -> {
+            Path<Comparable> sortKey = root.get(sort.field().property());
+            Path<UUID> idPath = root.get("id");
+            return sort.ascending()
+                ? cb.or(cb.greaterThan(sortKey, value),
+                        cb.and(cb.equal(sortKey, value), cb.greaterThan(idPath, id)))
+                : cb.or(cb.lessThan(sortKey, value),
+                        cb.and(cb.equal(sortKey, value), cb.lessThan(idPath, id)));
+        };
+    }
+
+    private static Specification<ProductJpaEntity> equal(String attribute, String value) {
+        return value == null ? null : (root, query, cb) -> cb.equal(root.get(attribute), value);
+    }
+}
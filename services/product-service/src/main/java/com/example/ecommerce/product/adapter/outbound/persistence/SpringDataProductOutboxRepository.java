@@ -0,0 +1,39 @@
+package com.example.ecommerce.product.adapter.outbound.persistence;
+
+import com.example.ecommerce.product.adapter.outbound.persistence.entity.ProductOutboxJpaEntity;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import jakarta.persistence.LockModeType;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface SpringDataProductOutboxRepository extends JpaRepository<ProductOutboxJpaEntity, Long> {
+
+    /**
+     * 鎖定各聚合最早的待送事件，已被其他 relay 鎖定的直接略過
+     *
+     * <p>只鎖聚合的第一筆，同一聚合的後續事件不會被其他 relay 搶先送出，確保聚合內的順序。</p>
+     */
+    @Query(value = """
+        SELECT o.* FROM product_outbox o
+        WHERE o.id IN (SELECT MIN(h.id) FROM product_outbox h GROUP BY h.aggregate_id)
+        ORDER BY o.id
+        LIMIT :limit
+        FOR UPDATE SKIP LOCKED
+        """, nativeQuery = true)
+    List<ProductOutboxJpaEntity> lockAggregateHeads(@Param("limit") int limit);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    List<ProductOutboxJpaEntity> findByAggregateIdInOrderByIdAsc(Collection<UUID> aggregateIds, Limit limit);
+
+    @Query(value = "SELECT MIN(occurred_at) FROM product_outbox", nativeQuery = true)
+    Instant findOldestOccurredAt();
+}
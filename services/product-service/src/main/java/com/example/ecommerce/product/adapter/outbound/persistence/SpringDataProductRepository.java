@@ -1,7 +1,12 @@
 package com.example.ecommerce.product.adapter.outbound.persistence;
 
 import com.example.ecommerce.product.adapter.outbound.persistence.entity.ProductJpaEntity;
+import com.example.ecommerce.product.application.dto.ProductRevision;
+import com.example.ecommerce.product.application.dto.ProductView;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -9,10 +14,28 @@ import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface SpringDataProductRepository extends JpaRepository<ProductJpaEntity, UUID> {
+public interface SpringDataProductRepository extends JpaRepository<ProductJpaEntity, UUID>,
+        JpaSpecificationExecutor<ProductJpaEntity> {
     Optional<ProductJpaEntity> findByProductCode(String productCode);
     List<ProductJpaEntity> findByTenantId(String tenantId);
     List<ProductJpaEntity> findByCategory(String category);
     boolean existsByProductCode(String productCode);
     long countByTenantId(String tenantId);
+
+    @Query("""
+        select new com.example.ecommerce.product.application.dto.ProductView(
+            p.id, p.productCode, p.name, p.price, p.category, p.description, p.status,
+            p.tenantId, p.createdBy, p.createdAt, p.updatedBy, p.updatedAt, p.version)
+        from ProductJpaEntity p
+        where p.id = :id
+        """)
+    Optional<ProductView> findViewById(@Param("id") UUID id);
+
+    @Query("""
+        select new com.example.ecommerce.product.application.dto.ProductRevision(
+            p.version, coalesce(p.updatedAt, p.createdAt))
+        from ProductJpaEntity p
+        where p.id = :id
+        """)
+    Optional<ProductRevision> findRevisionById(@Param("id") UUID id);
 }
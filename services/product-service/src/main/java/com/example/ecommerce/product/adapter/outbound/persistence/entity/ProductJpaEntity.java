@@ -1,13 +1,23 @@
 package com.example.ecommerce.product.adapter.outbound.persistence.entity;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.DynamicUpdate;
+import org.springframework.data.domain.Persistable;
+
 import java.math.BigDecimal;
 import java.time.Instant;
 import java.util.UUID;
 
+/**
+ * 商品 JPA 實體
+ *
+ * <p>ID 由領域產生，以 {@code version} 判斷新舊：新商品直接 persist (單一 INSERT，可批次)，
+ * 不會先 SELECT；既有商品 merge 時依版本做樂觀鎖，UPDATE 只含異動欄位。</p>
+ */
 @Entity
 @Table(name = "products")
-public class ProductJpaEntity {
+@DynamicUpdate
+public class ProductJpaEntity implements Persistable<UUID> {
 
     @Id
     private UUID id;
@@ -44,7 +54,16 @@ public class ProductJpaEntity {
     @Column(name = "updated_at")
     private Instant updatedAt;
 
+    @Version
+    private Long version;
+
+    @Override
+    public boolean isNew() {
+        return version == null;
+    }
+
     // Getters and Setters
+    @Override
     public UUID getId() { return id; }
     public void setId(UUID id) { this.id = id; }
 
@@ -80,4 +99,7 @@ public class ProductJpaEntity {
 
     public Instant getUpdatedAt() { return updatedAt; }
     public void setUpdatedAt(Instant updatedAt) { this.updatedAt = updatedAt; }
+
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
 }
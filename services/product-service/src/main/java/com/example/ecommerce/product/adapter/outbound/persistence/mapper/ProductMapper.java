@@ -21,7 +21,8 @@ public class ProductMapper {
             entity.getCreatedBy(),
             entity.getCreatedAt(),
             entity.getUpdatedBy(),
-            entity.getUpdatedAt()
+            entity.getUpdatedAt(),
+            entity.getVersion()
         );
     }
 
@@ -39,6 +40,7 @@ public class ProductMapper {
         entity.setCreatedAt(product.getCreatedAt());
         entity.setUpdatedBy(product.getUpdatedBy());
         entity.setUpdatedAt(product.getUpdatedAt());
+        entity.setVersion(product.getVersion());
         return entity;
     }
 }
@@ -0,0 +1,320 @@
+package com.example.ecommerce.product.adapter.outbound.search;
+
+import com.example.ecommerce.product.application.dto.ProductSearchHit;
+import com.example.ecommerce.product.application.dto.ProductView;
+import com.example.ecommerce.product.application.event.ProductChangeNotice;
+import com.example.ecommerce.product.application.event.ProductChanged;
+import com.example.ecommerce.product.application.port.output.ProductSearchIndex;
+import com.example.ecommerce.product.domain.model.valueobject.ProductStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 每個租戶一份記憶體倒排索引
+ *
+ * <p>啟動時從快照或資料庫建立；之後依商品異動通知 ({@link ProductChanged}，以及其他實例廣播的
+ * {@link ProductChangeNotice}) 把商品 ID 放入待更新集合，
+ * 背景執行緒以一次 IN 查詢批次重讀這些商品再更新索引。重讀資料庫而不依事件內容套用，
+ * 事件重送或亂序都只會得到最新狀態；索引中較新的資料也不會被舊資料覆蓋。</p>
+ *
+ * <p>建立索引期間收到的通知留在待更新集合，建立完成後才處理，不會被全量載入的舊資料覆蓋。</p>
+ */
+public class InMemoryProductSearchIndex implements ProductSearchIndex, Closeable {
+
+    private static final Logger log = LoggerFactory.getLogger(InMemoryProductSearchIndex.class);
+
+    private static final Comparator<ProductSearchHit> BY_SCORE =
+        Comparator.comparingDouble(ProductSearchHit::score);
+
+    private final ProductSearchSource source;
+    private final ProductSearchSnapshot snapshot;
+    private final int maxPrefixExpansions;
+    private final int refreshBatchSize;
+    private final Duration refreshInterval;
+    private final Duration snapshotInterval;
+    private final Duration snapshotMaxAge;
+    private final Duration catchUpMargin;
+    private final Clock clock;
+
+    private final Map<String, TenantSearchIndex> tenants = new ConcurrentHashMap<>();
+    private final Map<UUID, String> tenantOf = new ConcurrentHashMap<>();
+    private final Set<UUID> pending = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean wakeUpPending = new AtomicBoolean();
+    private ScheduledExecutorService executor;
+
+    /**
+     * @param snapshot 快照檔，null 表示不使用
+     */
+    public InMemoryProductSearchIndex(ProductSearchSource source,
+                                      ProductSearchSnapshot snapshot,
+                                      int maxPrefixExpansions,
+                                      int refreshBatchSize,
+                                      Duration refreshInterval,
+                                      Duration snapshotInterval,
+                                      Duration snapshotMaxAge,
+                                      Duration catchUpMargin,
+                                      Clock clock) {
+        this.source = source;
+        this.snapshot = snapshot;
+        this.maxPrefixExpansions = maxPrefixExpansions;
+        this.refreshBatchSize = refreshBatchSize;
+        this.refreshInterval = refreshInterval;
+        this.snapshotInterval = snapshotInterval;
+        this.snapshotMaxAge = snapshotMaxAge;
+        this.catchUpMargin = catchUpMargin;
+        this.clock = clock;
+    }
+
+    /**
+     * 建立索引並啟動背景更新執行緒
+     */
+    public synchronized void start() {
+        if (executor != null) {
+            return;
+        }
+        load();
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "product-search-index");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleWithFixedDelay(this::refreshSafely,
+            refreshInterval.toMillis(), refreshInterval.toMillis(), TimeUnit.MILLISECONDS);
+        if (snapshot != null && !snapshotInterval.isZero() && !snapshotInterval.isNegative()) {
+            executor.scheduleWithFixedDelay(this::writeSnapshotSafely,
+                snapshotInterval.toMillis(), snapshotInterval.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * 停止背景執行緒並寫入快照
+     */
+    @Override
+    public synchronized void close() {
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+        writeSnapshotSafely();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProductChanged(ProductChanged event) {
+        markStale(event.productId());
+    }
+
+    /**
+     * 其他實例的商品異動；自己發出的廣播也會收到，重讀一次不影響結果
+     */
+    public void onRemoteChange(ProductChangeNotice notice) {
+        markStale(notice.change().productId());
+    }
+
+    public void markStale(UUID productId) {
+        pending.add(productId);
+        wakeUp();
+    }
+
+    @Override
+    public List<ProductSearchHit> search(String tenantId, String text, int limit) {
+        List<String> terms = SearchTokenizer.queryTerms(text);
+        if (terms.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        boolean prefix = !text.isEmpty() && !Character.isWhitespace(text.charAt(text.length() - 1));
+        if (tenantId != null) {
+            TenantSearchIndex index = tenants.get(tenantId);
+            return index != null ? index.search(terms, prefix, limit, maxPrefixExpansions) : List.of();
+        }
+
+        // 所有租戶：各自取前 limit 筆再合併
+        PriorityQueue<ProductSearchHit> top = new PriorityQueue<>(limit + 1, BY_SCORE);
+        for (TenantSearchIndex index : tenants.values()) {
+            for (ProductSearchHit hit : index.search(terms, prefix, limit, maxPrefixExpansions)) {
+                top.add(hit);
+                if (top.size() > limit) {
+                    top.poll();
+                }
+            }
+        }
+        List<ProductSearchHit> hits = new ArrayList<>(top);
+        hits.sort(BY_SCORE.reversed());
+        return hits;
+    }
+
+    @Override
+    public List<String> suggest(String tenantId, String prefix, int limit) {
+        List<String> terms = SearchTokenizer.queryTerms(prefix);
+        if (terms.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        String last = terms.get(terms.size() - 1);
+        Map<String, Integer> counts = new HashMap<>();
+        for (Map.Entry<String, TenantSearchIndex> entry : tenants.entrySet()) {
+            if (tenantId == null || tenantId.equals(entry.getKey())) {
+                entry.getValue().termsWithPrefix(last, maxPrefixExpansions).forEach(
+                    (term, count) -> counts.merge(term, count, Integer::sum));
+            }
+        }
+        return counts.entrySet().stream()
+            .sorted(Map.Entry.<String, Integer>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()))
+            .limit(limit)
+            .map(Map.Entry::getKey)
+            .toList();
+    }
+
+    public int size() {
+        return tenantOf.size();
+    }
+
+    public int pendingCount() {
+        return pending.size();
+    }
+
+    /**
+     * 重讀待更新的商品，每次最多 refreshBatchSize 筆，直到集合清空
+     *
+     * @return 處理的商品數
+     */
+    public int refreshPending() {
+        int total = 0;
+        while (!pending.isEmpty()) {
+            List<UUID> batch = new ArrayList<>(refreshBatchSize);
+            Iterator<UUID> iterator = pending.iterator();
+            while (iterator.hasNext() && batch.size() < refreshBatchSize) {
+                batch.add(iterator.next());
+                iterator.remove();
+            }
+            Map<UUID, ProductView> loaded = new HashMap<>();
+            try {
+                source.findByIds(batch).forEach(product -> loaded.put(product.id(), product));
+            } catch (RuntimeException e) {
+                // 下次再試
+                pending.addAll(batch);
+                throw e;
+            }
+            for (UUID productId : batch) {
+                ProductView product = loaded.get(productId);
+                if (product != null) {
+                    apply(product);
+                } else {
+                    remove(productId);
+                }
+            }
+            total += batch.size();
+        }
+        return total;
+    }
+
+    /**
+     * 上架商品加入索引，其他狀態移出索引
+     */
+    void apply(ProductView product) {
+        if (!ProductStatus.ACTIVE.name().equals(product.status())) {
+            remove(product.id());
+            return;
+        }
+        String previousTenant = tenantOf.put(product.id(), product.tenantId());
+        if (previousTenant != null && !previousTenant.equals(product.tenantId())) {
+            tenant(previousTenant).remove(product.id());
+        }
+        tenant(product.tenantId()).put(product);
+    }
+
+    private void remove(UUID productId) {
+        String tenantId = tenantOf.remove(productId);
+        if (tenantId != null) {
+            tenant(tenantId).remove(productId);
+        }
+    }
+
+    private TenantSearchIndex tenant(String tenantId) {
+        return tenants.computeIfAbsent(tenantId, id -> new TenantSearchIndex());
+    }
+
+    /**
+     * 從快照 (加上之後的變更) 或資料庫建立索引，不啟動背景執行緒
+     */
+    void load() {
+        long start = System.currentTimeMillis();
+        ProductSearchSnapshot.Content content = snapshot != null
+            ? snapshot.read().filter(this::isFresh).orElse(null)
+            : null;
+        if (content != null) {
+            content.products().forEach(this::apply);
+            int loaded = size();
+            // 快照之後的變更 (含快照時尚未提交的交易) 從資料庫補讀
+            source.forEachChangedSince(content.takenAt().minus(catchUpMargin), this::apply);
+            log.info("Loaded product search index from snapshot {} ({} products, taken at {}), "
+                    + "{} products after catch-up in {}ms",
+                snapshot.path(), loaded, content.takenAt(), size(), System.currentTimeMillis() - start);
+        } else {
+            source.forEachActive(this::apply);
+            log.info("Built product search index from the database: {} products, {} tenants in {}ms",
+                size(), tenants.size(), System.currentTimeMillis() - start);
+        }
+    }
+
+    private boolean isFresh(ProductSearchSnapshot.Content content) {
+        boolean fresh = Duration.between(content.takenAt(), clock.instant()).compareTo(snapshotMaxAge) <= 0;
+        if (!fresh) {
+            log.info("Search snapshot taken at {} is older than {}, rebuilding from the database",
+                content.takenAt(), snapshotMaxAge);
+        }
+        return fresh;
+    }
+
+    private synchronized void wakeUp() {
+        if (executor != null && wakeUpPending.compareAndSet(false, true)) {
+            executor.execute(() -> {
+                wakeUpPending.set(false);
+                refreshSafely();
+            });
+        }
+    }
+
+    private void refreshSafely() {
+        try {
+            refreshPending();
+        } catch (RuntimeException e) {
+            log.warn("Product search index refresh failed, {} products pending", pending.size(), e);
+        }
+    }
+
+    private void writeSnapshotSafely() {
+        if (snapshot == null) {
+            return;
+        }
+        try {
+            Instant takenAt = clock.instant();
+            List<ProductView> products = new ArrayList<>(size());
+            tenants.values().forEach(index -> products.addAll(index.products()));
+            snapshot.write(takenAt, products);
+            log.debug("Wrote search snapshot {} with {} products", snapshot.path(), products.size());
+        } catch (IOException | RuntimeException e) {
+            log.warn("Cannot write search snapshot {}", snapshot.path(), e);
+        }
+    }
+}
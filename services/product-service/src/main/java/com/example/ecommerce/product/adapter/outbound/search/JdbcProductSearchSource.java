@@ -0,0 +1,102 @@
+package com.example.ecommerce.product.adapter.outbound.search;
+
+import com.example.ecommerce.product.application.dto.ProductView;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * 以 JDBC 讀取索引資料
+ *
+ * <p>全量讀取以 fetch size 分段，在唯讀交易中執行 (PostgreSQL 只在非 auto-commit 時使用 cursor，
+ * 否則會把整個結果集載入記憶體)。</p>
+ */
+public class JdbcProductSearchSource implements ProductSearchSource {
+
+    private static final String COLUMNS = """
+        SELECT id, product_code, name, price, category, description, status, tenant_id,
+               created_by, created_at, updated_by, updated_at, version
+        FROM products
+        """;
+
+    private static final int FETCH_SIZE = 1000;
+
+    private static final RowMapper<ProductView> MAPPER = JdbcProductSearchSource::map;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public JdbcProductSearchSource(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    @Override
+    public void forEachActive(Consumer<ProductView> consumer) {
+        stream(COLUMNS + " WHERE status = 'ACTIVE'", consumer);
+    }
+
+    @Override
+    public void forEachChangedSince(Instant since, Consumer<ProductView> consumer) {
+        OffsetDateTime value = since.atOffset(ZoneOffset.UTC);
+        stream(COLUMNS + " WHERE updated_at >= ? OR created_at >= ?", consumer, value, value);
+    }
+
+    @Override
+    public List<ProductView> findByIds(Collection<UUID> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return namedJdbcTemplate.query(COLUMNS + " WHERE id IN (:ids)", Map.of("ids", ids), MAPPER);
+    }
+
+    private void stream(String sql, Consumer<ProductView> consumer, Object... args) {
+        readOnlyTransaction.executeWithoutResult(status -> jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(sql);
+            ps.setFetchSize(FETCH_SIZE);
+            for (int i = 0; i < args.length; i++) {
+                ps.setObject(i + 1, args[i]);
+            }
+            return ps;
+        }, (RowCallbackHandler) rs -> consumer.accept(map(rs, rs.getRow()))));
+    }
+
+    private static ProductView map(ResultSet rs, int rowNum) throws SQLException {
+        return new ProductView(
+            rs.getObject("id", UUID.class),
+            rs.getString("product_code"),
+            rs.getString("name"),
+            rs.getBigDecimal("price"),
+            rs.getString("category"),
+            rs.getString("description"),
+            rs.getString("status"),
+            rs.getString("tenant_id"),
+            rs.getString("created_by"),
+            instant(rs.getObject("created_at", OffsetDateTime.class)),
+            rs.getString("updated_by"),
+            instant(rs.getObject("updated_at", OffsetDateTime.class)),
+            rs.getLong("version"));
+    }
+
+    private static Instant instant(OffsetDateTime value) {
+        return value != null ? value.toInstant() : null;
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.ecommerce.product.adapter.outbound.search;
+
+import com.example.ecommerce.product.application.dto.ProductView;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 索引快照檔：已索引的商品 (gzip JSON)，重新啟動時不必從資料庫全量載入
+ *
+ * <p>只存商品資料，倒排索引在載入時重建 (斷詞比讀取整張表快得多)。
+ * 先寫入暫存檔再搬移，中途失敗不會留下不完整的快照。</p>
+ */
+public class ProductSearchSnapshot {
+
+    private static final Logger log = LoggerFactory.getLogger(ProductSearchSnapshot.class);
+
+    static final int FORMAT_VERSION = 1;
+
+    private final Path path;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * @param takenAt  開始收集商品的時間；載入後從此時間 (減去安全邊際) 補讀變更
+     * @param products 已索引的商品
+     */
+    public record Content(int version, Instant takenAt, List<ProductView> products) {
+    }
+
+    public ProductSearchSnapshot(Path path, ObjectMapper objectMapper) {
+        this.path = path;
+        this.objectMapper = objectMapper;
+    }
+
+    public void write(Instant takenAt, List<ProductView> products) throws IOException {
+        Path directory = path.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path temp = Files.createTempFile(directory, path.getFileName().toString(), ".tmp");
+        try {
+            try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(temp))) {
+                objectMapper.writeValue(out, new Content(FORMAT_VERSION, takenAt, products));
+            }
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * 讀取快照；不存在、格式版本不符或讀取失敗時回傳 empty (改為全量載入)
+     */
+    public Optional<Content> read() {
+        if (!Files.isRegularFile(path)) {
+            return Optional.empty();
+        }
+        try (InputStream in = new GZIPInputStream(Files.newInputStream(path))) {
+            Content content = objectMapper.readValue(in, Content.class);
+            if (content.version() != FORMAT_VERSION || content.takenAt() == null || content.products() == null) {
+                log.warn("Ignoring search snapshot {} with unsupported format", path);
+                return Optional.empty();
+            }
+            return Optional.of(content);
+        } catch (IOException e) {
+            log.warn("Cannot read search snapshot {}, rebuilding from the database", path, e);
+            return Optional.empty();
+        }
+    }
+
+    public Path path() {
+        return path;
+    }
+}
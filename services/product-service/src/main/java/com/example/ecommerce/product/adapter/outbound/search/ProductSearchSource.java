@@ -0,0 +1,30 @@
+package com.example.ecommerce.product.adapter.outbound.search;
+
+import com.example.ecommerce.product.application.dto.ProductView;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * 搜尋索引的資料來源，只在建立與更新索引時使用
+ */
+public interface ProductSearchSource {
+
+    /**
+     * 逐筆讀取所有上架商品
+     */
+    void forEachActive(Consumer<ProductView> consumer);
+
+    /**
+     * 逐筆讀取在指定時間之後建立或修改的商品 (不限狀態)
+     */
+    void forEachChangedSince(Instant since, Consumer<ProductView> consumer);
+
+    /**
+     * 依 ID 讀取商品 (不限狀態)；不存在的 ID 不回傳
+     */
+    List<ProductView> findByIds(Collection<UUID> ids);
+}
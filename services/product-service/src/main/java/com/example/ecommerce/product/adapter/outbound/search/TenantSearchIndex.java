@@ -0,0 +1,288 @@
+package com.example.ecommerce.product.adapter.outbound.search;
+
+import com.example.ecommerce.product.application.dto.ProductSearchHit;
+import com.example.ecommerce.product.application.dto.ProductView;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 單一租戶的倒排索引
+ *
+ * <p>詞 → (商品 → 加權詞頻)。詞以 {@link TreeMap} 排序，前綴查詢為一段 subMap。
+ * 名稱與代碼的詞權重 3、分類 2、描述 1；排序採 BM25，長描述不會壓過名稱相符的商品。</p>
+ *
+ * <p>讀寫以 read-write lock 保護：搜尋可並行，更新只在異動時短暫持有寫鎖。</p>
+ */
+class TenantSearchIndex {
+
+    private static final float NAME_WEIGHT = 3f;
+    private static final float CATEGORY_WEIGHT = 2f;
+    private static final float DESCRIPTION_WEIGHT = 1f;
+
+    /**
+     * 前綴展開的詞比完整相符的詞分數低
+     */
+    private static final double PREFIX_FACTOR = 0.8;
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private static final Comparator<ProductSearchHit> BY_SCORE =
+        Comparator.comparingDouble(ProductSearchHit::score)
+            .thenComparing(hit -> hit.product().id(), Comparator.reverseOrder());
+
+    private final Map<UUID, Document> documents = new HashMap<>();
+    private final TreeMap<String, Map<UUID, Float>> postings = new TreeMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private double totalLength;
+
+    private record Document(ProductView product, Map<String, Float> terms, float length) {
+    }
+
+    /**
+     * 新增或取代商品；比索引中版本舊的資料 (updatedAt 較早) 不套用
+     *
+     * @return 是否已套用
+     */
+    boolean put(ProductView product) {
+        Map<String, Float> terms = new HashMap<>();
+        addTerms(terms, product.name(), NAME_WEIGHT);
+        addTerms(terms, product.productCode(), NAME_WEIGHT);
+        addTerms(terms, product.category(), CATEGORY_WEIGHT);
+        addTerms(terms, product.description(), DESCRIPTION_WEIGHT);
+        float length = 0;
+        for (float weight : terms.values()) {
+            length += weight;
+        }
+
+        lock.writeLock().lock();
+        try {
+            Document existing = documents.get(product.id());
+            if (existing != null && isOlder(product, existing.product())) {
+                return false;
+            }
+            if (existing != null) {
+                unindex(existing);
+            }
+            Document document = new Document(product, terms, length);
+            documents.put(product.id(), document);
+            terms.forEach((term, weight) -> postings.computeIfAbsent(term, t -> new HashMap<>()).put(product.id(), weight));
+            totalLength += length;
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    boolean remove(UUID productId) {
+        lock.writeLock().lock();
+        try {
+            Document existing = documents.remove(productId);
+            if (existing == null) {
+                return false;
+            }
+            unindex(existing);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @param terms  查詢詞，每個詞都必須符合
+     * @param prefix 最後一個詞是否以前綴比對
+     */
+    List<ProductSearchHit> search(List<String> terms, boolean prefix, int limit, int maxExpansions) {
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            int count = documents.size();
+            if (count == 0) {
+                return List.of();
+            }
+            double averageLength = totalLength / count;
+
+            // 每個查詢詞展開成 (詞, posting)，從符合商品最少的詞開始逐一比對其他詞
+            List<List<Map.Entry<String, Map<UUID, Float>>>> groups = new ArrayList<>(terms.size());
+            for (int i = 0; i < terms.size(); i++) {
+                boolean last = i == terms.size() - 1;
+                List<Map.Entry<String, Map<UUID, Float>>> expansions =
+                    expand(terms.get(i), prefix && last, maxExpansions);
+                if (expansions.isEmpty()) {
+                    return List.of();
+                }
+                groups.add(expansions);
+            }
+            groups.sort(Comparator.comparingInt(TenantSearchIndex::postingSize));
+
+            Map<UUID, Double> candidates = new HashMap<>();
+            for (Map.Entry<String, Map<UUID, Float>> expansion : groups.get(0)) {
+                double idf = idf(count, expansion.getValue().size());
+                double factor = factor(expansion.getKey(), terms);
+                expansion.getValue().forEach((productId, tf) ->
+                    candidates.merge(productId, factor * bm25(idf, tf, productId, averageLength), Math::max));
+            }
+
+            PriorityQueue<ProductSearchHit> top = new PriorityQueue<>(limit + 1, BY_SCORE);
+            candidates:
+            for (Map.Entry<UUID, Double> candidate : candidates.entrySet()) {
+                UUID productId = candidate.getKey();
+                double score = candidate.getValue();
+                for (int g = 1; g < groups.size(); g++) {
+                    double best = 0;
+                    for (Map.Entry<String, Map<UUID, Float>> expansion : groups.get(g)) {
+                        Float tf = expansion.getValue().get(productId);
+                        if (tf != null) {
+                            double idf = idf(count, expansion.getValue().size());
+                            best = Math.max(best,
+                                factor(expansion.getKey(), terms) * bm25(idf, tf, productId, averageLength));
+                        }
+                    }
+                    if (best == 0) {
+                        continue candidates;
+                    }
+                    score += best;
+                }
+                top.add(new ProductSearchHit(documents.get(productId).product(), score));
+                if (top.size() > limit) {
+                    top.poll();
+                }
+            }
+
+            List<ProductSearchHit> hits = new ArrayList<>(top);
+            hits.sort(BY_SCORE.reversed());
+            return hits;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 以前綴列出詞與其出現的商品數
+     */
+    Map<String, Integer> termsWithPrefix(String prefix, int maxTerms) {
+        lock.readLock().lock();
+        try {
+            Map<String, Integer> result = new HashMap<>();
+            for (Map.Entry<String, Map<UUID, Float>> entry : withPrefix(prefix).entrySet()) {
+                if (result.size() == maxTerms) {
+                    break;
+                }
+                result.put(entry.getKey(), entry.getValue().size());
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    boolean contains(UUID productId) {
+        lock.readLock().lock();
+        try {
+            return documents.containsKey(productId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    List<ProductView> products() {
+        lock.readLock().lock();
+        try {
+            return documents.values().stream().map(Document::product).toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 完整比對只有詞本身；前綴比對依字典序最多展開 maxExpansions 個詞。
+     * 同一商品符合多個展開詞時只取分數最高者，避免一個前綴重複加分
+     */
+    private List<Map.Entry<String, Map<UUID, Float>>> expand(String term, boolean prefix, int maxExpansions) {
+        if (!prefix) {
+            Map<UUID, Float> posting = postings.get(term);
+            return posting != null ? List.of(Map.entry(term, posting)) : List.of();
+        }
+        List<Map.Entry<String, Map<UUID, Float>>> expansions = new ArrayList<>();
+        for (Map.Entry<String, Map<UUID, Float>> entry : withPrefix(term).entrySet()) {
+            if (expansions.size() == maxExpansions) {
+                break;
+            }
+            expansions.add(entry);
+        }
+        return expansions;
+    }
+
+    private static int postingSize(List<Map.Entry<String, Map<UUID, Float>>> expansions) {
+        int size = 0;
+        for (Map.Entry<String, Map<UUID, Float>> expansion : expansions) {
+            size += expansion.getValue().size();
+        }
+        return size;
+    }
+
+    /**
+     * 前綴展開出的詞 (非查詢詞本身) 分數打折
+     */
+    private static double factor(String indexedTerm, List<String> queryTerms) {
+        return queryTerms.contains(indexedTerm) ? 1.0 : PREFIX_FACTOR;
+    }
+
+    private static double idf(int count, int df) {
+        return Math.log(1 + (count - df + 0.5) / (df + 0.5));
+    }
+
+    private double bm25(double idf, float tf, UUID productId, double averageLength) {
+        double norm = K1 * (1 - B + B * documents.get(productId).length() / averageLength);
+        return idf * tf * (K1 + 1) / (tf + norm);
+    }
+
+    private NavigableMap<String, Map<UUID, Float>> withPrefix(String prefix) {
+        return postings.subMap(prefix, true, prefix + Character.MAX_VALUE, false);
+    }
+
+    private void unindex(Document document) {
+        UUID productId = document.product().id();
+        for (String term : document.terms().keySet()) {
+            Map<UUID, Float> posting = postings.get(term);
+            if (posting != null) {
+                posting.remove(productId);
+                if (posting.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+        totalLength -= document.length();
+    }
+
+    private static void addTerms(Map<String, Float> terms, String text, float weight) {
+        for (String token : SearchTokenizer.tokenize(text)) {
+            terms.merge(token, weight, Float::sum);
+        }
+    }
+
+    private static boolean isOlder(ProductView candidate, ProductView existing) {
+        return candidate.updatedAt() != null && existing.updatedAt() != null
+            && candidate.updatedAt().isBefore(existing.updatedAt());
+    }
+}
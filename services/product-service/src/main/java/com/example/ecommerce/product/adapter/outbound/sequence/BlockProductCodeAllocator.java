@@ -0,0 +1,136 @@
+package com.example.ecommerce.product.adapter.outbound.sequence;
+
+import com.example.ecommerce.product.application.port.output.ProductCodeAllocator;
+import com.example.ecommerce.product.domain.model.valueobject.ProductCode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 以 hi/lo 區塊配發商品代碼
+ *
+ * <p>每個代碼範圍一次向 {@link BlockSource} 取得一個區塊編號 (hi)，區塊內的代碼
+ * {@code min + hi * blockSize + lo} 在記憶體中以 CAS 配發，不需存取資料庫。
+ * 區塊剩餘數量降到 refillThreshold 時於背景預先取得下一個區塊，一般請求不會等待資料庫。</p>
+ *
+ * <p>實例重啟時未用完的代碼會被略過，代碼不保證連續。</p>
+ */
+public class BlockProductCodeAllocator implements ProductCodeAllocator, Closeable {
+
+    private static final Logger log = LoggerFactory.getLogger(BlockProductCodeAllocator.class);
+
+    private final BlockSource blockSource;
+    private final ProductCodeRangeResolver ranges;
+    private final int blockSize;
+    private final int refillThreshold;
+    private final ExecutorService prefetcher;
+    private final Map<String, RangeState> states = new ConcurrentHashMap<>();
+
+    public BlockProductCodeAllocator(BlockSource blockSource, ProductCodeRangeResolver ranges,
+                                     int blockSize, int refillThreshold) {
+        if (blockSize < 1 || refillThreshold < 0 || refillThreshold >= blockSize) {
+            throw new IllegalArgumentException(
+                "Invalid block size " + blockSize + " / refill threshold " + refillThreshold);
+        }
+        this.blockSource = blockSource;
+        this.ranges = ranges;
+        this.blockSize = blockSize;
+        this.refillThreshold = refillThreshold;
+        this.prefetcher = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "product-code-prefetch");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public ProductCode allocate(String tenantId) {
+        ProductCodeRange range = ranges.rangeFor(tenantId);
+        RangeState state = states.computeIfAbsent(range.name(), name -> new RangeState(range));
+        while (true) {
+            Block block = state.current;
+            long value = block.next.getAndIncrement();
+            if (value <= block.end) {
+                if (block.end - value == refillThreshold) {
+                    state.prefetch();
+                }
+                return ProductCode.of(String.format("P%06d", value));
+            }
+            state.refill(block);
+        }
+    }
+
+    @Override
+    public void close() {
+        prefetcher.shutdownNow();
+    }
+
+    private Block fetch(ProductCodeRange range) {
+        long hi = blockSource.nextBlock(range.sequence());
+        long start = range.min() + hi * blockSize;
+        if (hi < 0 || start > range.max()) {
+            throw new IllegalStateException("Product code range '" + range.name() + "' is exhausted");
+        }
+        long end = Math.min(start + blockSize - 1, range.max());
+        log.debug("Reserved product codes {}-{} from range '{}'", start, end, range.name());
+        return new Block(start, end);
+    }
+
+    /**
+     * 已保留的代碼區塊，next 超過 end 即用完
+     */
+    private static final class Block {
+        static final Block EMPTY = new Block(1, 0);
+
+        final AtomicLong next;
+        final long end;
+
+        Block(long start, long end) {
+            this.next = new AtomicLong(start);
+            this.end = end;
+        }
+    }
+
+    private final class RangeState {
+        final ProductCodeRange range;
+        volatile Block current = Block.EMPTY;
+        private CompletableFuture<Block> pending;  // guarded by this
+
+        RangeState(ProductCodeRange range) {
+            this.range = range;
+        }
+
+        synchronized void prefetch() {
+            if (pending == null) {
+                pending = CompletableFuture.supplyAsync(() -> fetch(range), prefetcher);
+            }
+        }
+
+        /**
+         * 換上下一個區塊；其他執行緒已換過時直接返回
+         */
+        synchronized void refill(Block exhausted) {
+            if (current != exhausted) {
+                return;
+            }
+            Block next = null;
+            if (pending != null) {
+                try {
+                    next = pending.join();
+                } catch (CompletionException e) {
+                    log.warn("Prefetching product codes for range '{}' failed, fetching inline", range.name(), e);
+                }
+                pending = null;
+            }
+            current = next != null ? next : fetch(range);
+        }
+    }
+}
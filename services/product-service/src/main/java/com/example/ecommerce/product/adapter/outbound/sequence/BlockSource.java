@@ -0,0 +1,10 @@
+package com.example.ecommerce.product.adapter.outbound.sequence;
+
+/**
+ * 區塊編號來源 (hi/lo 的 hi)：每次呼叫取得一個全域不重複、遞增的編號
+ */
+@FunctionalInterface
+public interface BlockSource {
+
+    long nextBlock(String sequence);
+}
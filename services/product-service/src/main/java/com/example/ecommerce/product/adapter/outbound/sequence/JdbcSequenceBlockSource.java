@@ -0,0 +1,52 @@
+package com.example.ecommerce.product.adapter.outbound.sequence;
+
+import org.springframework.boot.jdbc.DatabaseDriver;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.jdbc.support.incrementer.DataFieldMaxValueIncrementer;
+import org.springframework.jdbc.support.incrementer.H2SequenceMaxValueIncrementer;
+import org.springframework.jdbc.support.incrementer.PostgresSequenceMaxValueIncrementer;
+
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 以資料庫 sequence 取得區塊編號
+ *
+ * <p>sequence 不受交易回滾影響，跨實例取得的編號永不重複。</p>
+ */
+public class JdbcSequenceBlockSource implements BlockSource {
+
+    private final DataSource dataSource;
+    private final DatabaseDriver driver;
+    private final Map<String, DataFieldMaxValueIncrementer> incrementers = new ConcurrentHashMap<>();
+
+    public JdbcSequenceBlockSource(DataSource dataSource) {
+        this.dataSource = dataSource;
+        this.driver = detectDriver(dataSource);
+    }
+
+    @Override
+    public long nextBlock(String sequence) {
+        return incrementers.computeIfAbsent(sequence, this::incrementer).nextLongValue();
+    }
+
+    private DataFieldMaxValueIncrementer incrementer(String sequence) {
+        return switch (driver) {
+            case POSTGRESQL -> new PostgresSequenceMaxValueIncrementer(dataSource, sequence);
+            case H2 -> new H2SequenceMaxValueIncrementer(dataSource, sequence);
+            default -> throw new IllegalStateException("Unsupported database for product code sequences: " + driver);
+        };
+    }
+
+    private static DatabaseDriver detectDriver(DataSource dataSource) {
+        try {
+            String productName = JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+            return DatabaseDriver.fromProductName(productName);
+        } catch (MetaDataAccessException e) {
+            throw new IllegalStateException("Cannot determine database type", e);
+        }
+    }
+}
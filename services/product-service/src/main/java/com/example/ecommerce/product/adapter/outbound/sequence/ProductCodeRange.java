@@ -0,0 +1,25 @@
+package com.example.ecommerce.product.adapter.outbound.sequence;
+
+/**
+ * 商品代碼數字範圍 (P + 6 位數)，由一個資料庫 sequence 配發區塊
+ *
+ * @param name     範圍名稱 (用於記錄與錯誤訊息)
+ * @param sequence 配發區塊編號的資料庫 sequence
+ * @param min      範圍最小值 (含)
+ * @param max      範圍最大值 (含)
+ */
+public record ProductCodeRange(String name, String sequence, long min, long max) {
+
+    public static final long MAX_CODE = 999_999;
+
+    public ProductCodeRange {
+        if (min < 0 || max > MAX_CODE || min > max) {
+            throw new IllegalArgumentException(
+                "Invalid product code range '" + name + "': " + min + "-" + max);
+        }
+    }
+
+    public boolean overlaps(ProductCodeRange other) {
+        return min <= other.max && other.min <= max;
+    }
+}
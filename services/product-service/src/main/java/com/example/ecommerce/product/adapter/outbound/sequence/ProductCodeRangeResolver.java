@@ -0,0 +1,32 @@
+package com.example.ecommerce.product.adapter.outbound.sequence;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 決定租戶使用的商品代碼範圍
+ */
+@FunctionalInterface
+public interface ProductCodeRangeResolver {
+
+    ProductCodeRange rangeFor(String tenantId);
+
+    /**
+     * 指定租戶使用專屬範圍，其餘使用預設範圍；範圍不可重疊
+     */
+    static ProductCodeRangeResolver of(ProductCodeRange defaultRange, Map<String, ProductCodeRange> tenantRanges) {
+        List<ProductCodeRange> ranges = new ArrayList<>(tenantRanges.values());
+        ranges.add(defaultRange);
+        for (int i = 0; i < ranges.size(); i++) {
+            for (int j = i + 1; j < ranges.size(); j++) {
+                if (ranges.get(i).overlaps(ranges.get(j))) {
+                    throw new IllegalArgumentException("Product code ranges overlap: '"
+                        + ranges.get(i).name() + "' and '" + ranges.get(j).name() + "'");
+                }
+            }
+        }
+        Map<String, ProductCodeRange> byTenant = Map.copyOf(tenantRanges);
+        return tenantId -> tenantId != null ? byTenant.getOrDefault(tenantId, defaultRange) : defaultRange;
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.ecommerce.product.application.dto;
+
+import java.util.UUID;
+
+/**
+ * 批次匯入結果
+ *
+ * @param importId   匯入 ID (稽核紀錄的 aggregateId)
+ * @param received   收到的資料列數
+ * @param created    成功建立的商品數
+ * @param failed     失敗的資料列數
+ * @param durationMs 處理時間
+ */
+public record BulkImportResult(UUID importId, long received, long created, long failed, long durationMs) {
+}
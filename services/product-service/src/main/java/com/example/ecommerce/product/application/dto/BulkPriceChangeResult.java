@@ -0,0 +1,14 @@
+package com.example.ecommerce.product.application.dto;
+
+import java.util.UUID;
+
+/**
+ * 批次調價結果
+ *
+ * @param changeId   調價 ID (稽核紀錄的 aggregateId，明細列的 change_id)
+ * @param matched    符合條件的商品數
+ * @param updated    價格實際變動的商品數 (四捨五入後價格不變者不更新)
+ * @param durationMs 處理時間
+ */
+public record BulkPriceChangeResult(UUID changeId, long matched, long updated, long durationMs) {
+}
@@ -0,0 +1,13 @@
+package com.example.ecommerce.product.application.dto;
+
+import java.time.Instant;
+
+/**
+ * 租戶商品目錄的版本，任何商品異動都會遞增
+ *
+ * @param tenantId  租戶，null 表示所有租戶 (各租戶版本的總和)
+ * @param version   版本
+ * @param updatedAt 最後異動時間，尚無異動時為 null
+ */
+public record CatalogVersion(String tenantId, long version, Instant updatedAt) {
+}
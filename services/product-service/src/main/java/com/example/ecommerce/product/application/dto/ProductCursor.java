@@ -0,0 +1,86 @@
+package com.example.ecommerce.product.application.dto;
+
+import com.example.ecommerce.product.domain.model.valueobject.ProductId;
+import com.example.ecommerce.product.domain.repository.ProductKeyset;
+import com.example.ecommerce.product.domain.repository.ProductSort;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 商品列表的 Cursor：記錄排序方式與上一頁最後一筆的 (排序值, ID)
+ *
+ * <p>對外以 base64url 字串傳遞，內容為 {@code 欄位|A/D|id|排序值}，用戶端應視為不透明字串。
+ * Cursor 自帶排序方式，翻頁時以 cursor 的排序為準，避免中途切換排序造成漏資料或重複。</p>
+ */
+public record ProductCursor(ProductSort sort, ProductKeyset keyset) {
+
+    private static final String SEPARATOR = "|";
+
+    /**
+     * 以本頁最後一筆商品建立下一頁的 cursor
+     */
+    public static ProductCursor after(ProductView last, ProductSort sort) {
+        return new ProductCursor(sort, new ProductKeyset(sortValue(last, sort.field()), ProductId.of(last.id())));
+    }
+
+    public String encode() {
+        String raw = sort.field().name() + SEPARATOR
+            + (sort.ascending() ? "A" : "D") + SEPARATOR
+            + keyset.id() + SEPARATOR
+            + format(keyset.sortValue());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 解析 cursor 字串
+     *
+     * @throws IllegalArgumentException cursor 格式錯誤
+     */
+    public static ProductCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            // 排序值放在最後，字串值本身可含分隔字元
+            String[] parts = raw.split("\\|", 4);
+            if (parts.length != 4 || !("A".equals(parts[1]) || "D".equals(parts[1]))) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            ProductSort.Field field = ProductSort.Field.valueOf(parts[0]);
+            if (!field.keysetSupported()) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            return new ProductCursor(
+                new ProductSort(field, "A".equals(parts[1])),
+                new ProductKeyset(parse(field, parts[3]), ProductId.of(parts[2]))
+            );
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor, e);
+        }
+    }
+
+    private static Comparable<?> sortValue(ProductView product, ProductSort.Field field) {
+        return switch (field) {
+            case CREATED_AT -> product.createdAt();
+            case UPDATED_AT -> product.updatedAt();
+            case NAME -> product.name();
+            case PRICE -> product.price();
+            case PRODUCT_CODE -> product.productCode();
+            case CATEGORY -> product.category();
+        };
+    }
+
+    private static String format(Comparable<?> value) {
+        return value instanceof BigDecimal decimal ? decimal.toPlainString() : value.toString();
+    }
+
+    private static Comparable<?> parse(ProductSort.Field field, String value) {
+        return switch (field) {
+            case CREATED_AT, UPDATED_AT -> Instant.parse(value);
+            case PRICE -> new BigDecimal(value);
+            default -> value;
+        };
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.ecommerce.product.application.dto;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 上架商品的分類與價格區間數量
+ *
+ * @param total        符合條件的上架商品數
+ * @param categories   各分類商品數，依數量遞減排序 (不受分類條件影響)
+ * @param priceBuckets 價格區間商品數，依價格遞增排序
+ */
+public record ProductFacets(
+    long total,
+    List<CategoryCount> categories,
+    List<PriceBucket> priceBuckets
+) {
+
+    /**
+     * @param category 分類，null 表示未分類
+     */
+    public record CategoryCount(String category, long count) {
+    }
+
+    /**
+     * 價格區間 [from, to)
+     *
+     * @param to 上限 (不含)，null 表示無上限
+     */
+    public record PriceBucket(BigDecimal from, BigDecimal to, long count) {
+    }
+}
@@ -0,0 +1,9 @@
+package com.example.ecommerce.product.application.dto;
+
+import java.util.UUID;
+
+/**
+ * 單一商品讀取合併的 key：含查詢租戶 (system 為 null)，讀取加上租戶條件時也不會把一個租戶的結果交給另一個租戶
+ */
+public record ProductReadKey(String tenantId, UUID productId) {
+}
@@ -0,0 +1,12 @@
+package com.example.ecommerce.product.application.dto;
+
+import java.time.Instant;
+
+/**
+ * 條件式 GET 的驗證資訊：ETag 以版本比對，lastModified 只用於 Last-Modified
+ *
+ * @param version      樂觀鎖版本，每次更新遞增
+ * @param lastModified 最後異動時間 (未曾更新則為建立時間)
+ */
+public record ProductRevision(Long version, Instant lastModified) {
+}
@@ -0,0 +1,10 @@
+package com.example.ecommerce.product.application.dto;
+
+/**
+ * 搜尋結果
+ *
+ * @param product 商品
+ * @param score   相關度分數，越高越相關
+ */
+public record ProductSearchHit(ProductView product, double score) {
+}
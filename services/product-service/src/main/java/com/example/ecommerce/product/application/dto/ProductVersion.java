@@ -0,0 +1,21 @@
+package com.example.ecommerce.product.application.dto;
+
+import java.time.Instant;
+
+/**
+ * 商品在某一時間點的內容，由最近的快照加上其後的異動重建
+ *
+ * @param product          當時的商品內容
+ * @param sequence         最後套用的事件序號
+ * @param validFrom        此版本的生效時間 (最後套用事件的發生時間)
+ * @param snapshotSequence 起始快照的事件序號
+ * @param deltasReplayed   在快照之上重播的異動數
+ */
+public record ProductVersion(
+    ProductView product,
+    long sequence,
+    Instant validFrom,
+    long snapshotSequence,
+    int deltasReplayed
+) {
+}
@@ -16,5 +16,6 @@ public record ProductView(
     String createdBy,
     Instant createdAt,
     String updatedBy,
-    Instant updatedAt
+    Instant updatedAt,
+    Long version
 ) {}
@@ -0,0 +1,25 @@
+package com.example.ecommerce.product.application.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 單一商品讀取的合併統計 (自服務啟動起累計)
+ *
+ * @param loads     實際執行的讀取次數
+ * @param coalesced 共用其他請求讀取結果的次數
+ * @param timeouts  等待逾時改為自行讀取的次數
+ * @param inFlight  目前進行中的讀取數
+ * @param hotProducts 被合併次數最多的商品，依次數遞減排序
+ */
+public record ReadCoalescingStats(
+    long loads,
+    long coalesced,
+    long timeouts,
+    int inFlight,
+    List<HotProduct> hotProducts
+) {
+
+    public record HotProduct(String tenantId, UUID productId, long coalesced, long timeouts) {
+    }
+}
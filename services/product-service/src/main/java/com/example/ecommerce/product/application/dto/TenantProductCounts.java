@@ -0,0 +1,21 @@
+package com.example.ecommerce.product.application.dto;
+
+import java.util.Map;
+
+/**
+ * 租戶的商品數量
+ *
+ * @param tenantId 租戶
+ * @param total    商品總數 (含已刪除、尚未封存的商品)
+ * @param active   上架中的商品數
+ * @param byStatus 狀態 → 商品數，沒有商品的狀態不列出
+ */
+public record TenantProductCounts(String tenantId, long total, long active, Map<String, Long> byStatus) {
+
+    /**
+     * 未刪除 (上架或下架中) 的商品數
+     */
+    public long live() {
+        return total - byStatus.getOrDefault("DELETED", 0L);
+    }
+}
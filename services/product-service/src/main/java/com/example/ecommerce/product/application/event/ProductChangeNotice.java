@@ -0,0 +1,17 @@
+package com.example.ecommerce.product.application.event;
+
+/**
+ * 跨實例廣播的商品異動
+ *
+ * @param origin 發送的實例 ID，接收端可略過自己發出的訊息
+ * @param change 商品異動；舊版實例送出的訊息沒有事件資訊，序號為 -1、事件類型為 null
+ */
+public record ProductChangeNotice(String origin, ProductChanged change) {
+
+    /**
+     * @return 帶有序號與事件類型，可供推播重連定位
+     */
+    public boolean hasEvent() {
+        return change.eventType() != null;
+    }
+}
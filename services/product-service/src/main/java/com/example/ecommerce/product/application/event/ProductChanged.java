@@ -0,0 +1,25 @@
+package com.example.ecommerce.product.application.event;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * 商品異動通知
+ *
+ * <p>由 outbox relay 依 Product 領域事件發布，只帶讀取端需要的識別資訊 (快取失效、索引更新等)。
+ * 同一商品的通知依 {@code sequence} 遞增順序送達。</p>
+ *
+ * @param sequence   outbox 序號
+ * @param tenantId   商品所屬租戶
+ * @param productId  商品 ID
+ * @param eventType  領域事件類型 (ProductCreated / ProductUpdated / ProductPriceChanged / ProductDeleted)
+ * @param occurredAt 領域事件發生時間
+ */
+public record ProductChanged(
+    long sequence,
+    String tenantId,
+    UUID productId,
+    String eventType,
+    Instant occurredAt
+) {
+}
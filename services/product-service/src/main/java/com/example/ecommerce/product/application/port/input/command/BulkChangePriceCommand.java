@@ -0,0 +1,31 @@
+package com.example.ecommerce.product.application.port.input.command;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+
+/**
+ * 批次調價：目前租戶的上架商品依百分比調整價格
+ *
+ * @param category   只調整此分類，null 表示全部分類
+ * @param percentage 調整百分比，例如 5 為 +5%、-10 為 -10%
+ */
+public record BulkChangePriceCommand(
+    String category,
+    BigDecimal percentage
+) {
+    private static final BigDecimal HUNDRED = BigDecimal.valueOf(100);
+
+    public BulkChangePriceCommand {
+        if (percentage == null || percentage.signum() == 0)
+            throw new IllegalArgumentException("Percentage is required and must not be zero");
+        if (percentage.compareTo(HUNDRED.negate()) <= 0)
+            throw new IllegalArgumentException("Percentage must be greater than -100");
+    }
+
+    /**
+     * 價格乘數，例如 +5% 為 1.05
+     */
+    public BigDecimal factor() {
+        return BigDecimal.ONE.add(percentage.divide(HUNDRED, MathContext.DECIMAL64));
+    }
+}
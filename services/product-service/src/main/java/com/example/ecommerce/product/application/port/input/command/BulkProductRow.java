@@ -0,0 +1,23 @@
+package com.example.ecommerce.product.application.port.input.command;
+
+/**
+ * 批次匯入的一列資料
+ *
+ * @param line    來源行號 (從 1 開始，CSV 不含標題列)
+ * @param command 解析成功時的建立命令
+ * @param error   解析或驗證失敗的原因，成功時為 null
+ */
+public record BulkProductRow(long line, CreateProductCommand command, String error) {
+
+    public static BulkProductRow valid(long line, CreateProductCommand command) {
+        return new BulkProductRow(line, command, null);
+    }
+
+    public static BulkProductRow invalid(long line, String error) {
+        return new BulkProductRow(line, null, error);
+    }
+
+    public boolean isValid() {
+        return error == null;
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.ecommerce.product.application.port.input.query;
+
+import java.util.UUID;
+
+/**
+ * 查詢已封存 (已刪除且已移出商品表) 的商品
+ */
+public record GetArchivedProductQuery(UUID productId) {
+    public GetArchivedProductQuery {
+        if (productId == null)
+            throw new IllegalArgumentException("Product ID is required");
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.ecommerce.product.application.port.input.query;
+
+/**
+ * 目前租戶 (系統管理員為所有租戶) 的商品目錄版本
+ */
+public record GetCatalogVersionQuery() {
+}
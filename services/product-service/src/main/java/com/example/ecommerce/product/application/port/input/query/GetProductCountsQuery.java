@@ -0,0 +1,7 @@
+package com.example.ecommerce.product.application.port.input.query;
+
+/**
+ * 查詢目前租戶的商品數量 (總數、上架數、各狀態)
+ */
+public record GetProductCountsQuery() {
+}
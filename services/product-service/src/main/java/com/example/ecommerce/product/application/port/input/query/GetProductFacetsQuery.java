@@ -0,0 +1,14 @@
+package com.example.ecommerce.product.application.port.input.query;
+
+/**
+ * 商品分類與價格區間數量
+ *
+ * @param category 只計算此分類的價格區間，null 表示所有分類
+ */
+public record GetProductFacetsQuery(
+    String category
+) {
+    public GetProductFacetsQuery {
+        if (category != null && category.isBlank()) category = null;
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.ecommerce.product.application.port.input.query;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * 查詢商品在某一時間點的內容
+ *
+ * @param at 時間點，null 表示現在
+ */
+public record GetProductHistoryQuery(UUID productId, Instant at) {
+    public GetProductHistoryQuery {
+        if (productId == null)
+            throw new IllegalArgumentException("Product ID is required");
+        if (at == null) at = Instant.now();
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.ecommerce.product.application.port.input.query;
+
+import java.util.UUID;
+
+/**
+ * 商品版本與最後異動時間 (條件式 GET 只需比對版本，不載入整筆資料)
+ */
+public record GetProductRevisionQuery(UUID productId) {
+    public GetProductRevisionQuery {
+        if (productId == null)
+            throw new IllegalArgumentException("Product ID is required");
+    }
+}
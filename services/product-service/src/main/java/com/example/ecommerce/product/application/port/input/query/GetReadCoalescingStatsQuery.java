@@ -0,0 +1,12 @@
+package com.example.ecommerce.product.application.port.input.query;
+
+/**
+ * 查詢單一商品讀取的合併統計
+ *
+ * @param limit 列出的熱門商品數上限
+ */
+public record GetReadCoalescingStatsQuery(int limit) {
+    public GetReadCoalescingStatsQuery {
+        if (limit <= 0 || limit > 100) limit = 20;
+    }
+}
@@ -1,11 +1,19 @@
 package com.example.ecommerce.product.application.port.input.query;
 
+/**
+ * 商品列表查詢
+ *
+ * @param cursor       null 表示 offset 分頁；非 null 表示 cursor 分頁，空字串為第一頁
+ * @param includeTotal cursor 分頁時是否計算總筆數 (offset 分頁一律計算)
+ */
 public record ListProductsQuery(
     int page,
     int size,
     String category,
     String sortBy,
-    String sortDirection
+    String sortDirection,
+    String cursor,
+    boolean includeTotal
 ) {
     public ListProductsQuery {
         if (page < 0) page = 0;
@@ -14,7 +22,15 @@ public record ListProductsQuery(
         if (sortDirection == null) sortDirection = "DESC";
     }
 
+    public ListProductsQuery(int page, int size, String category, String sortBy, String sortDirection) {
+        this(page, size, category, sortBy, sortDirection, null, true);
+    }
+
     public static ListProductsQuery defaultQuery() {
         return new ListProductsQuery(0, 20, null, "createdAt", "DESC");
     }
+
+    public boolean cursorMode() {
+        return cursor != null;
+    }
 }
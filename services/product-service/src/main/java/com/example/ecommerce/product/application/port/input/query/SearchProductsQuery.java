@@ -0,0 +1,17 @@
+package com.example.ecommerce.product.application.port.input.query;
+
+/**
+ * 商品全文搜尋
+ *
+ * @param text  搜尋字串；最後一個詞未以空白結尾時視為前綴 (autocomplete)
+ * @param limit 最多筆數
+ */
+public record SearchProductsQuery(
+    String text,
+    int limit
+) {
+    public SearchProductsQuery {
+        if (text == null) text = "";
+        if (limit <= 0 || limit > 100) limit = 20;
+    }
+}
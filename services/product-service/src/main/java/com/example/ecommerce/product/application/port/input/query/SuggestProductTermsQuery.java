@@ -0,0 +1,17 @@
+package com.example.ecommerce.product.application.port.input.query;
+
+/**
+ * 搜尋框自動完成
+ *
+ * @param prefix 已輸入的字串，以最後一個詞為前綴
+ * @param limit  最多筆數
+ */
+public record SuggestProductTermsQuery(
+    String prefix,
+    int limit
+) {
+    public SuggestProductTermsQuery {
+        if (prefix == null) prefix = "";
+        if (limit <= 0 || limit > 50) limit = 10;
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.ecommerce.product.application.port.output;
+
+import com.example.ecommerce.product.application.dto.ProductView;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 已封存商品 (Output Port)
+ *
+ * <p>已刪除且超過保留期的商品由封存作業移出 products，ID 不變，稽核紀錄仍可經此查回商品內容。</p>
+ */
+public interface ProductArchive {
+
+    /**
+     * @param tenantId 租戶，null 表示不限租戶 (系統管理員)
+     */
+    Optional<ProductView> findById(UUID id, String tenantId);
+}
@@ -0,0 +1,56 @@
+package com.example.ecommerce.product.application.port.output;
+
+import com.example.ecommerce.product.domain.model.aggregate.Product;
+import com.example.ecommerce.product.domain.model.valueobject.Money;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * 商品批次寫入 (Output Port)
+ *
+ * <p>大量新增與調價時繞過 ORM 的逐筆狀態管理，以 JDBC 批次寫入；須在交易中呼叫。</p>
+ */
+public interface ProductBulkWriter {
+
+    /**
+     * 在一次查詢中找出已存在的商品代碼
+     */
+    Set<String> findExistingCodes(Collection<String> productCodes);
+
+    /**
+     * 批次新增商品，並將各商品的領域事件寫入 outbox
+     */
+    void insertAll(List<Product> products);
+
+    /**
+     * 以一次查詢讀取租戶上架商品的價格與版本，每 chunkSize 筆交給 consumer 處理
+     *
+     * @param category 分類，null 表示不限
+     */
+    void streamActivePrices(String tenantId, String category, int chunkSize, Consumer<List<PricedProduct>> consumer);
+
+    /**
+     * 以一個語句更新整批價格，並批次寫入調價明細與 {@code ProductPriceChanged} 事件
+     *
+     * <p>以讀取時的版本做樂觀鎖：任一商品已被修改時拋出
+     * {@link org.springframework.orm.ObjectOptimisticLockingFailureException}，由呼叫端的交易回滾。</p>
+     */
+    void updatePrices(UUID changeId, String tenantId, List<PriceChange> changes, String changedBy, Instant changedAt);
+
+    /**
+     * 商品目前的價格與版本
+     */
+    record PricedProduct(UUID productId, long version, Money price) {
+    }
+
+    /**
+     * 單一商品的調價
+     */
+    record PriceChange(UUID productId, long version, Money oldPrice, Money newPrice) {
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.ecommerce.product.application.port.output;
+
+import com.example.ecommerce.product.application.dto.CatalogVersion;
+
+/**
+ * 租戶商品目錄版本 (Output Port)
+ *
+ * <p>用於列表的 ETag：版本相同表示列表內容不變，不需查詢商品即可回應 304。</p>
+ */
+public interface ProductCatalogVersions {
+
+    /**
+     * @param tenantId 租戶，null 表示所有租戶
+     */
+    CatalogVersion current(String tenantId);
+}
@@ -0,0 +1,20 @@
+package com.example.ecommerce.product.application.port.output;
+
+import com.example.ecommerce.product.application.event.ProductChangeNotice;
+
+import java.util.function.Consumer;
+
+/**
+ * 將商品異動廣播給其他服務實例 (Output Port)
+ *
+ * <p>讀取快取、變更推播、搜尋索引與 facet 計數都由此得知其他實例 relay 出的異動。</p>
+ */
+public interface ProductChangeBroadcast {
+
+    void publish(ProductChangeNotice notice);
+
+    /**
+     * 註冊接收端；也會收到自己發出的訊息，由接收端依 origin 過濾
+     */
+    void subscribe(Consumer<ProductChangeNotice> listener);
+}
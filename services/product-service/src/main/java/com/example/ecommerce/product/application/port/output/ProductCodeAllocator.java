@@ -0,0 +1,19 @@
+package com.example.ecommerce.product.application.port.output;
+
+import com.example.ecommerce.product.domain.model.valueobject.ProductCode;
+
+/**
+ * Product Code Allocator (Output Port)
+ *
+ * <p>跨實例不重複地配發商品代碼；唯一性最終仍由資料庫 unique constraint 保證，
+ * 新增前不需要再查詢代碼是否存在。</p>
+ */
+public interface ProductCodeAllocator {
+
+    /**
+     * 為租戶配發下一個商品代碼
+     *
+     * @param tenantId 租戶，決定使用的代碼範圍
+     */
+    ProductCode allocate(String tenantId);
+}
@@ -0,0 +1,17 @@
+package com.example.ecommerce.product.application.port.output;
+
+import com.example.ecommerce.product.application.dto.ProductFacets;
+
+/**
+ * 上架商品的分類與價格區間計數 (Output Port)
+ *
+ * <p>計數隨商品異動遞增維護，讀取成本只與分類、區間數有關，與商品數無關。</p>
+ */
+public interface ProductFacetCounts {
+
+    /**
+     * @param tenantId 租戶，null 表示所有租戶
+     * @param category 只計算此分類的價格區間，null 表示所有分類
+     */
+    ProductFacets facets(String tenantId, String category);
+}
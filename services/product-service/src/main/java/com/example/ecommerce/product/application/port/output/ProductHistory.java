@@ -0,0 +1,21 @@
+package com.example.ecommerce.product.application.port.output;
+
+import com.example.ecommerce.product.application.dto.ProductVersion;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 商品歷史 (Output Port)
+ *
+ * <p>由商品領域事件累積的定期快照與異動，可重建任一時間點的商品內容。</p>
+ */
+public interface ProductHistory {
+
+    /**
+     * @param tenantId 租戶，null 表示不限租戶 (系統管理員)
+     * @return {@code at} 當時的商品；商品尚未建立或早於歷史起點時為 empty
+     */
+    Optional<ProductVersion> findAt(UUID productId, String tenantId, Instant at);
+}
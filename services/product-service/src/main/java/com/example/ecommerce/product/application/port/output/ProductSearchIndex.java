@@ -0,0 +1,29 @@
+package com.example.ecommerce.product.application.port.output;
+
+import com.example.ecommerce.product.application.dto.ProductSearchHit;
+
+import java.util.List;
+
+/**
+ * 商品全文索引 (Output Port)
+ *
+ * <p>只索引上架商品；查詢不存取資料庫。</p>
+ */
+public interface ProductSearchIndex {
+
+    /**
+     * 依相關度排序搜尋商品名稱、代碼、分類與描述；所有詞都必須符合
+     *
+     * @param tenantId 租戶，null 表示所有租戶
+     * @param text     搜尋字串，最後一個詞未以空白結尾時視為前綴
+     * @param limit    最多筆數
+     */
+    List<ProductSearchHit> search(String tenantId, String text, int limit);
+
+    /**
+     * 以前綴補全索引中的詞，依出現的商品數遞減排序
+     *
+     * @param tenantId 租戶，null 表示所有租戶
+     */
+    List<String> suggest(String tenantId, String prefix, int limit);
+}
@@ -0,0 +1,16 @@
+package com.example.ecommerce.product.application.port.output;
+
+import com.example.ecommerce.product.application.dto.TenantProductCounts;
+
+/**
+ * 租戶商品數量 (Output Port)
+ *
+ * <p>由商品寫入在同一交易中增減，讀取不需 COUNT 商品表；用於配額檢查與管理介面。</p>
+ */
+public interface ProductTenantCounters {
+
+    /**
+     * @param tenantId 租戶，null 表示所有租戶
+     */
+    TenantProductCounts counts(String tenantId);
+}
@@ -0,0 +1,49 @@
+package com.example.ecommerce.product.application.port.output;
+
+import com.example.ecommerce.product.application.dto.ProductRevision;
+import com.example.ecommerce.product.application.dto.ProductView;
+import com.example.ecommerce.product.domain.repository.ProductKeyset;
+import com.example.ecommerce.product.domain.repository.ProductSearchCriteria;
+import com.example.ecommerce.product.domain.repository.ProductSort;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Product Read Model (Output Port)
+ *
+ * <p>查詢端直接由資料庫投影成 {@link ProductView}，不重建 Product 聚合；
+ * 命令端仍透過 {@link com.example.ecommerce.product.domain.repository.ProductRepository} 操作完整聚合。</p>
+ */
+public interface ProductViewRepository {
+
+    Optional<ProductView> findById(UUID id);
+
+    /**
+     * 版本與最後異動時間 (未曾更新則為建立時間)，只讀取這兩個欄位
+     */
+    Optional<ProductRevision> findRevision(UUID id);
+
+    /**
+     * Offset 分頁
+     *
+     * @param criteria 過濾條件
+     * @param page     頁碼 (從 0 開始)
+     * @param size     每頁筆數
+     * @param sort     排序
+     */
+    List<ProductView> findPage(ProductSearchCriteria criteria, int page, int size, ProductSort sort);
+
+    /**
+     * Keyset 分頁：取得排序位置 {@code after} 之後最多 {@code limit} 筆
+     *
+     * @param criteria 過濾條件
+     * @param after    上一頁最後一筆的位置，null 表示第一頁
+     * @param limit    最多筆數
+     * @param sort     排序 (欄位必須支援 keyset)
+     */
+    List<ProductView> findAfter(ProductSearchCriteria criteria, ProductKeyset after, int limit, ProductSort sort);
+
+    long count(ProductSearchCriteria criteria);
+}
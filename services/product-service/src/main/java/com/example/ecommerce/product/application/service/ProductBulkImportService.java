@@ -0,0 +1,289 @@
+package com.example.ecommerce.product.application.service;
+
+import com.example.audit.domain.model.AuditEventType;
+import com.example.audit.domain.model.AuditLog;
+import com.example.audit.domain.model.AuditLogId;
+import com.example.audit.domain.model.AuditResult;
+import com.example.audit.domain.port.AuditLogRepository;
+import com.example.audit.infrastructure.config.AuditProperties;
+import com.example.ecommerce.product.application.dto.BulkImportResult;
+import com.example.ecommerce.product.application.port.input.command.BulkProductRow;
+import com.example.ecommerce.product.application.port.input.command.CreateProductCommand;
+import com.example.ecommerce.product.application.port.output.ProductBulkWriter;
+import com.example.ecommerce.product.application.port.output.ProductCodeAllocator;
+import com.example.ecommerce.product.domain.model.aggregate.Product;
+import com.example.ecommerce.product.domain.model.valueobject.Money;
+import com.example.ecommerce.product.domain.model.valueobject.ProductCode;
+import com.example.ecommerce.security.util.SecurityUtils;
+import com.example.ecommerce.tenant.context.TenantScope;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 商品批次匯入
+ *
+ * <p>資料列以串流方式逐列讀入，每 chunk-size 列在一個交易中以 JDBC batch 寫入。
+ * 單列錯誤 (格式、代碼重複) 不影響同一 chunk 的其他資料列；每個 chunk 只寫一筆稽核紀錄。</p>
+ */
+@Service
+public class ProductBulkImportService {
+
+    private static final Logger log = LoggerFactory.getLogger(ProductBulkImportService.class);
+
+    static final String AUDIT_EVENT_TYPE = "PRODUCT_BULK_CREATED";
+
+    private final ProductBulkWriter bulkWriter;
+    private final ProductCodeAllocator codeAllocator;
+    private final AuditLogRepository auditLogRepository;
+    private final AuditProperties auditProperties;
+    private final TransactionTemplate transactionTemplate;
+    private final ProductBulkImportSettings settings;
+    private final ObjectMapper objectMapper;
+
+    public ProductBulkImportService(ProductBulkWriter bulkWriter,
+                                    ProductCodeAllocator codeAllocator,
+                                    AuditLogRepository auditLogRepository,
+                                    AuditProperties auditProperties,
+                                    PlatformTransactionManager transactionManager,
+                                    ProductBulkImportSettings settings,
+                                    ObjectMapper objectMapper) {
+        this.bulkWriter = bulkWriter;
+        this.codeAllocator = codeAllocator;
+        this.auditLogRepository = auditLogRepository;
+        this.auditProperties = auditProperties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.settings = settings;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 匯入過程的回報，在呼叫端執行緒上依序呼叫
+     */
+    public interface Listener {
+
+        void rowFailed(long line, String productCode, String message);
+
+        default void rowCreated(long line, UUID productId, String productCode) {
+        }
+
+        default void chunkCompleted(int chunk, int created, int failed) {
+        }
+    }
+
+    public BulkImportResult importProducts(Iterator<BulkProductRow> rows, Listener listener) {
+        long start = System.currentTimeMillis();
+        String currentUser = SecurityUtils.getCurrentUsername().orElse("system");
+        String tenantId = TenantScope.currentOwner();
+
+        ImportRun run = new ImportRun(UUID.randomUUID(), tenantId, currentUser, listener);
+        List<BulkProductRow> chunk = new ArrayList<>(settings.chunkSize());
+        while (rows.hasNext()) {
+            if (run.received == settings.maxRows()) {
+                BulkProductRow extra = rows.next();
+                listener.rowFailed(extra.line(), null,
+                    "Row limit of " + settings.maxRows() + " exceeded, remaining rows were not read");
+                run.failed++;
+                break;
+            }
+            chunk.add(rows.next());
+            run.received++;
+            if (chunk.size() == settings.chunkSize()) {
+                processChunk(run, chunk);
+                chunk = new ArrayList<>(settings.chunkSize());
+            }
+        }
+        if (!chunk.isEmpty()) {
+            processChunk(run, chunk);
+        }
+
+        BulkImportResult result = new BulkImportResult(run.importId, run.received, run.created, run.failed,
+            System.currentTimeMillis() - start);
+        log.info("Bulk import {} for tenant {}: {} rows, {} created, {} failed in {}ms",
+            run.importId, tenantId, result.received(), result.created(), result.failed(), result.durationMs());
+        return result;
+    }
+
+    private void processChunk(ImportRun run, List<BulkProductRow> rows) {
+        run.chunks++;
+        List<Candidate> candidates = new ArrayList<>(rows.size());
+        int failed = 0;
+
+        for (BulkProductRow row : rows) {
+            if (!row.isValid()) {
+                run.listener.rowFailed(row.line(), null, row.error());
+                failed++;
+                continue;
+            }
+            CreateProductCommand cmd = row.command();
+            try {
+                ProductCode code = hasCode(cmd) ? ProductCode.of(cmd.productCode()) : null;
+                if (code != null && !run.codes.add(code.value())) {
+                    throw new IllegalArgumentException("Duplicate product code in import: " + code.value());
+                }
+                candidates.add(new Candidate(row.line(), cmd, code));
+            } catch (IllegalArgumentException e) {
+                run.listener.rowFailed(row.line(), cmd.productCode(), e.getMessage());
+                failed++;
+            }
+        }
+
+        List<Product> products;
+        try {
+            products = transactionTemplate.execute(status -> write(run, candidates));
+        } catch (DataIntegrityViolationException e) {
+            // 查詢與寫入之間其他請求寫入了相同代碼：重新檢查後再試一次
+            log.debug("Bulk import {} chunk {} hit a concurrent duplicate, retrying", run.importId, run.chunks);
+            products = retry(run, candidates);
+        }
+
+        for (Candidate candidate : candidates) {
+            if (candidate.error != null) {
+                run.listener.rowFailed(candidate.line, candidate.code != null ? candidate.code.value() : null,
+                    candidate.error);
+                failed++;
+            }
+        }
+        for (int i = 0, p = 0; i < candidates.size(); i++) {
+            Candidate candidate = candidates.get(i);
+            if (candidate.error == null) {
+                Product product = products.get(p++);
+                run.listener.rowCreated(candidate.line, product.getId().value(), product.getProductCode().value());
+            }
+        }
+
+        run.created += products.size();
+        run.failed += failed;
+        run.listener.chunkCompleted(run.chunks, products.size(), failed);
+    }
+
+    private List<Product> retry(ImportRun run, List<Candidate> candidates) {
+        try {
+            return transactionTemplate.execute(status -> write(run, candidates));
+        } catch (DataIntegrityViolationException e) {
+            log.warn("Bulk import {} chunk {} rejected", run.importId, run.chunks, e);
+            candidates.forEach(candidate -> candidate.error = "Chunk rejected by the database, retry these rows");
+            return List.of();
+        }
+    }
+
+    /**
+     * 一個 chunk 的交易：一次查詢既有代碼、batch 寫入商品與 outbox、一筆稽核紀錄
+     */
+    private List<Product> write(ImportRun run, List<Candidate> candidates) {
+        Set<String> requested = new HashSet<>();
+        for (Candidate candidate : candidates) {
+            candidate.error = null;
+            if (candidate.code != null) {
+                requested.add(candidate.code.value());
+            }
+        }
+        Set<String> existing = bulkWriter.findExistingCodes(requested);
+
+        List<Product> products = new ArrayList<>(candidates.size());
+        for (Candidate candidate : candidates) {
+            if (candidate.code != null && existing.contains(candidate.code.value())) {
+                candidate.error = "Product code already exists: " + candidate.code.value();
+                continue;
+            }
+            try {
+                ProductCode code = candidate.code != null ? candidate.code : codeAllocator.allocate(run.tenantId);
+                CreateProductCommand cmd = candidate.command;
+                products.add(Product.create(code, cmd.name(), Money.of(cmd.price()), cmd.category(),
+                    cmd.description(), run.tenantId, run.username));
+            } catch (IllegalArgumentException e) {
+                candidate.error = e.getMessage();
+            }
+        }
+
+        bulkWriter.insertAll(products);
+        audit(run, products, candidates.size() - products.size());
+        return products;
+    }
+
+    private void audit(ImportRun run, List<Product> products, int failed) {
+        if (!auditProperties.isEnabled()) {
+            return;
+        }
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("importId", run.importId);
+        payload.put("chunk", run.chunks);
+        payload.put("tenantId", run.tenantId);
+        payload.put("created", products.size());
+        payload.put("failed", failed);
+        payload.put("productIds", products.stream().map(product -> product.getId().value()).toList());
+
+        String serviceName = auditProperties.getServiceName();
+        auditLogRepository.save(AuditLog.builder()
+            .id(AuditLogId.generate())
+            .timestamp(Instant.now())
+            .eventType(AuditEventType.of(AUDIT_EVENT_TYPE))
+            .aggregateType("Product")
+            .aggregateId(run.importId.toString())
+            .username(run.username)
+            .serviceName(serviceName != null ? serviceName : "unknown-service")
+            .action("importProducts")
+            .payload(toJson(payload))
+            .result(AuditResult.SUCCESS)
+            .build());
+    }
+
+    private String toJson(Map<String, Object> payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize bulk import audit payload", e);
+        }
+    }
+
+    private static boolean hasCode(CreateProductCommand cmd) {
+        return cmd.productCode() != null && !cmd.productCode().isBlank();
+    }
+
+    private static final class ImportRun {
+        final UUID importId;
+        final String tenantId;
+        final String username;
+        final Listener listener;
+        final Set<String> codes = new HashSet<>();
+        long received;
+        long created;
+        long failed;
+        int chunks;
+
+        ImportRun(UUID importId, String tenantId, String username, Listener listener) {
+            this.importId = importId;
+            this.tenantId = tenantId;
+            this.username = username;
+            this.listener = listener;
+        }
+    }
+
+    private static final class Candidate {
+        final long line;
+        final CreateProductCommand command;
+        final ProductCode code;
+        String error;
+
+        Candidate(long line, CreateProductCommand command, ProductCode code) {
+            this.line = line;
+            this.command = command;
+            this.code = code;
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.ecommerce.product.application.service;
+
+/**
+ * {@link ProductBulkImportService} 的設定值，由配置層依 product.bulk.* 屬性建立
+ *
+ * @param chunkSize 每個交易寫入的資料列數
+ * @param maxRows   單次匯入的資料列上限
+ */
+public record ProductBulkImportSettings(int chunkSize, long maxRows) {
+
+    public ProductBulkImportSettings {
+        if (chunkSize < 1)
+            throw new IllegalArgumentException("Chunk size must be positive, got: " + chunkSize);
+        if (maxRows < 1)
+            throw new IllegalArgumentException("Max rows must be positive, got: " + maxRows);
+    }
+}
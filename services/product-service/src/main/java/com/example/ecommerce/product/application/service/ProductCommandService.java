@@ -3,42 +3,70 @@ package com.example.ecommerce.product.application.service;
 import com.example.audit.annotation.Auditable;
 import com.example.ecommerce.common.exception.BusinessException;
 import com.example.ecommerce.common.exception.ResourceNotFoundException;
+import com.example.ecommerce.product.application.dto.BulkPriceChangeResult;
 import com.example.ecommerce.product.application.port.input.command.*;
+import com.example.ecommerce.product.application.port.output.ProductBulkWriter;
+import com.example.ecommerce.product.application.port.output.ProductBulkWriter.PriceChange;
+import com.example.ecommerce.product.application.port.output.ProductBulkWriter.PricedProduct;
+import com.example.ecommerce.product.application.port.output.ProductCodeAllocator;
+import com.example.ecommerce.product.application.port.output.ProductTenantCounters;
 import com.example.ecommerce.product.domain.model.aggregate.Product;
 import com.example.ecommerce.product.domain.model.valueobject.*;
 import com.example.ecommerce.product.domain.repository.ProductRepository;
 import com.example.ecommerce.security.util.SecurityUtils;
-import com.example.ecommerce.tenant.context.TenantContext;
+import com.example.ecommerce.tenant.context.TenantScope;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 
 @Service
 @Transactional
 public class ProductCommandService {
 
-    private final ProductRepository productRepository;
+    private static final Logger log = LoggerFactory.getLogger(ProductCommandService.class);
 
-    public ProductCommandService(ProductRepository productRepository) {
+    private final ProductRepository productRepository;
+    private final ProductCodeAllocator codeAllocator;
+    private final ProductBulkWriter bulkWriter;
+    private final ProductTenantCounters tenantCounters;
+    private final TransactionTemplate chunkTransaction;
+    private final ProductCommandSettings settings;
+
+    public ProductCommandService(ProductRepository productRepository,
+                                 ProductCodeAllocator codeAllocator,
+                                 ProductBulkWriter bulkWriter,
+                                 ProductTenantCounters tenantCounters,
+                                 PlatformTransactionManager transactionManager,
+                                 ProductCommandSettings settings) {
         this.productRepository = productRepository;
+        this.codeAllocator = codeAllocator;
+        this.bulkWriter = bulkWriter;
+        this.tenantCounters = tenantCounters;
+        this.chunkTransaction = new TransactionTemplate(transactionManager);
+        this.chunkTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.settings = settings;
     }
 
     @Auditable(eventType = "PRODUCT_CREATED", resourceType = "Product")
     public UUID handle(CreateProductCommand cmd) {
+        String currentUser = SecurityUtils.getCurrentUsername().orElse("system");
+        String tenantId = TenantScope.currentOwner();
+        checkQuota(tenantId);
+
+        // 重複代碼由 unique constraint 擋下，不先查詢
         ProductCode code = cmd.productCode() != null && !cmd.productCode().isBlank()
             ? ProductCode.of(cmd.productCode())
-            : ProductCode.generate();
-
-        if (productRepository.existsByProductCode(code)) {
-            throw new BusinessException("Product code already exists: " + code.value(), "DUPLICATE_PRODUCT_CODE");
-        }
-
-        String currentUser = SecurityUtils.getCurrentUsername().orElse("system");
-        String tenantId = TenantContext.getCurrentTenant();
-        if (tenantId == null || tenantId.isBlank()) {
-            tenantId = "default";
-        }
+            : codeAllocator.allocate(tenantId);
 
         Product product = Product.create(
             code,
@@ -50,10 +78,23 @@ public class ProductCommandService {
             currentUser
         );
 
-        productRepository.save(product);
+        productRepository.add(product);
         return product.getId().value();
     }
 
+    /**
+     * 以租戶計數檢查配額，不 COUNT 商品表
+     *
+     * <p>計數讀取不鎖定，並行建立時可能略為超出上限 (每個並行請求至多一筆)。</p>
+     */
+    private void checkQuota(String tenantId) {
+        long max = settings.maxProductsPerTenant();
+        if (max > 0 && tenantCounters.counts(tenantId).live() >= max) {
+            throw new BusinessException(
+                "Product quota exceeded for tenant " + tenantId + ": " + max, "PRODUCT_QUOTA_EXCEEDED");
+        }
+    }
+
     @Auditable(eventType = "PRODUCT_UPDATED", resourceType = "Product")
     public void handle(UpdateProductCommand cmd) {
         Product product = productRepository.findById(ProductId.of(cmd.productId()))
@@ -77,4 +118,74 @@ public class ProductCommandService {
 
         productRepository.save(product);
     }
+
+    /**
+     * 批次調價：每 chunk-size 筆以一個語句寫入，並在各自的交易中提交
+     *
+     * <p>讀取游標留在外層唯讀交易中，每個 chunk 以新交易寫入，鎖定時間與交易大小不隨商品數成長。
+     * 不載入聚合；新價格與 {@link Product#changePrice} 相同規則 (必須為正)。</p>
+     *
+     * <p>任一 chunk 失敗 (價格不為正、商品在讀取後被修改) 時只回滾該 chunk，先前的 chunk 已提交，
+     * 可由 product_price_changes 的 change_id 查出；之後的商品不再處理。</p>
+     */
+    @Transactional(readOnly = true)
+    @Auditable(eventType = "PRODUCT_PRICES_CHANGED", resourceType = "Product",
+        aggregateIdExpression = "#result.changeId")
+    public BulkPriceChangeResult handle(BulkChangePriceCommand cmd) {
+        long start = System.currentTimeMillis();
+        String currentUser = SecurityUtils.getCurrentUsername().orElse("system");
+        String tenantId = TenantScope.currentOwner();
+
+        // 係數只拆解一次，每個商品以 long 運算；價格不變的商品不建立 Money
+        PriceChangeRun run = new PriceChangeRun(UUID.randomUUID(), tenantId, currentUser, Instant.now(),
+            Cents.factor(cmd.factor()));
+        try {
+            bulkWriter.streamActivePrices(tenantId, cmd.category(), settings.priceChangeChunkSize(),
+                chunk -> {
+                    int updated = chunkTransaction.execute(status -> changeChunk(run, chunk));
+                    run.matched += chunk.size();
+                    run.updated += updated;
+                });
+        } catch (RuntimeException e) {
+            log.warn("Bulk price change {} for tenant {} stopped after {} products, {} updated and committed",
+                run.changeId, tenantId, run.matched, run.updated);
+            throw e;
+        }
+
+        return new BulkPriceChangeResult(run.changeId, run.matched, run.updated, System.currentTimeMillis() - start);
+    }
+
+    private int changeChunk(PriceChangeRun run, List<PricedProduct> chunk) {
+        List<PriceChange> changes = new ArrayList<>(chunk.size());
+        for (PricedProduct product : chunk) {
+            long newCents = run.factor.apply(product.price().cents());
+            if (newCents <= 0) {
+                throw new IllegalArgumentException("Amount must be positive, got: " + BigDecimal.valueOf(newCents, 2));
+            }
+            if (newCents != product.price().cents()) {
+                changes.add(new PriceChange(product.productId(), product.version(), product.price(),
+                    Money.ofCents(newCents)));
+            }
+        }
+        bulkWriter.updatePrices(run.changeId, run.tenantId, changes, run.username, run.changedAt);
+        return changes.size();
+    }
+
+    private static final class PriceChangeRun {
+        final UUID changeId;
+        final String tenantId;
+        final String username;
+        final Instant changedAt;
+        final Cents.Factor factor;
+        long matched;
+        long updated;
+
+        PriceChangeRun(UUID changeId, String tenantId, String username, Instant changedAt, Cents.Factor factor) {
+            this.changeId = changeId;
+            this.tenantId = tenantId;
+            this.username = username;
+            this.changedAt = changedAt;
+            this.factor = factor;
+        }
+    }
 }
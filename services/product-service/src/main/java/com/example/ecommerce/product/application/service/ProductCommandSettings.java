@@ -0,0 +1,17 @@
+package com.example.ecommerce.product.application.service;
+
+/**
+ * {@link ProductCommandService} 的設定值，由配置層依 product.* 屬性建立
+ *
+ * @param priceChangeChunkSize 批次調價時每個交易、每個更新語句涵蓋的商品數
+ * @param maxProductsPerTenant 每個租戶未刪除商品數的上限，0 表示不限制
+ */
+public record ProductCommandSettings(int priceChangeChunkSize, long maxProductsPerTenant) {
+
+    public ProductCommandSettings {
+        if (priceChangeChunkSize < 1)
+            throw new IllegalArgumentException("Price change chunk size must be positive, got: " + priceChangeChunkSize);
+        if (maxProductsPerTenant < 0)
+            throw new IllegalArgumentException("Max products per tenant must not be negative, got: " + maxProductsPerTenant);
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.ecommerce.product.application.service;
+
+import com.example.ecommerce.product.application.dto.ProductFacets;
+import com.example.ecommerce.product.application.port.input.query.GetProductFacetsQuery;
+import com.example.ecommerce.product.application.port.output.ProductFacetCounts;
+import com.example.ecommerce.tenant.context.TenantScope;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+/**
+ * 商品分類 / 價格區間數量 (Query Side)
+ *
+ * <p>只讀遞增維護的計數，不查詢資料庫。</p>
+ */
+@Service
+@ConditionalOnProperty(prefix = "product.facets", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ProductFacetService {
+
+    private final ProductFacetCounts facetCounts;
+
+    public ProductFacetService(ProductFacetCounts facetCounts) {
+        this.facetCounts = facetCounts;
+    }
+
+    public ProductFacets handle(GetProductFacetsQuery query) {
+        // 系統管理員計算所有租戶，一般使用者只計算自己的租戶
+        return facetCounts.facets(TenantScope.current(), query.category());
+    }
+}
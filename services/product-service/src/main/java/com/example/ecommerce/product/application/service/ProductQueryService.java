@@ -2,83 +2,176 @@ package com.example.ecommerce.product.application.service;
 
 import com.example.ecommerce.common.dto.PagedResult;
 import com.example.ecommerce.common.exception.ResourceNotFoundException;
+import com.example.ecommerce.product.application.dto.CatalogVersion;
+import com.example.ecommerce.product.application.dto.ProductCursor;
+import com.example.ecommerce.product.application.dto.ProductReadKey;
+import com.example.ecommerce.product.application.dto.ProductRevision;
+import com.example.ecommerce.product.application.dto.ProductVersion;
 import com.example.ecommerce.product.application.dto.ProductView;
+import com.example.ecommerce.product.application.dto.ReadCoalescingStats;
+import com.example.ecommerce.product.application.dto.TenantProductCounts;
 import com.example.ecommerce.product.application.port.input.query.*;
-import com.example.ecommerce.product.domain.model.aggregate.Product;
-import com.example.ecommerce.product.domain.model.valueobject.ProductId;
-import com.example.ecommerce.product.domain.repository.ProductRepository;
-import com.example.ecommerce.tenant.context.TenantContext;
+import com.example.ecommerce.product.application.port.output.ProductArchive;
+import com.example.ecommerce.product.application.port.output.ProductCatalogVersions;
+import com.example.ecommerce.product.application.port.output.ProductHistory;
+import com.example.ecommerce.product.application.port.output.ProductTenantCounters;
+import com.example.ecommerce.product.application.port.output.ProductViewRepository;
+import com.example.ecommerce.product.domain.model.valueobject.ProductStatus;
+import com.example.ecommerce.product.domain.repository.ProductSearchCriteria;
+import com.example.ecommerce.product.domain.repository.ProductSort;
+import com.example.ecommerce.tenant.context.TenantScope;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Optional;
 
+/**
+ * 商品查詢 (Query Side)
+ *
+ * <p>直接讀取 {@link ProductView} 投影，不重建 Product 聚合。</p>
+ */
 @Service
 @Transactional(readOnly = true)
 public class ProductQueryService {
 
-    private final ProductRepository productRepository;
+    private final ProductViewRepository viewRepository;
+    private final ObjectProvider<ProductCatalogVersions> catalogVersions;
+    private final SingleFlight<ProductReadKey, ProductView> productReads;
+    private final ProductArchive archive;
+    private final ProductHistory history;
+    private final ProductTenantCounters tenantCounters;
 
-    public ProductQueryService(ProductRepository productRepository) {
-        this.productRepository = productRepository;
+    public ProductQueryService(ProductViewRepository viewRepository,
+                               ObjectProvider<ProductCatalogVersions> catalogVersions,
+                               SingleFlight<ProductReadKey, ProductView> productReads,
+                               ProductArchive archive,
+                               ProductHistory history,
+                               ProductTenantCounters tenantCounters) {
+        this.viewRepository = viewRepository;
+        this.catalogVersions = catalogVersions;
+        this.productReads = productReads;
+        this.archive = archive;
+        this.history = history;
+        this.tenantCounters = tenantCounters;
     }
 
+    /**
+     * 快取未命中時，同一商品的並行查詢由快取合併為一次讀取
+     *
+     * <p>不開啟交易：等待合併結果的請求不佔用資料庫連線，讀取本身由 repository 在自己的交易中執行。</p>
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public ProductView handle(GetProductByIdQuery query) {
-        Product product = productRepository.findById(ProductId.of(query.productId()))
+        return viewRepository.findById(query.productId())
             .orElseThrow(() -> new ResourceNotFoundException("Product", query.productId()));
-        return toView(product);
+    }
+
+    /**
+     * 已封存的商品只在明確要求時查詢，一般使用者只能查到自己租戶的商品
+     */
+    public ProductView handle(GetArchivedProductQuery query) {
+        return archive.findById(query.productId(), TenantScope.current())
+            .orElseThrow(() -> new ResourceNotFoundException("Archived product", query.productId()));
+    }
+
+    /**
+     * 歷史不隨商品封存移除，已封存的商品同樣可以查詢
+     */
+    public ProductVersion handle(GetProductHistoryQuery query) {
+        return history.findAt(query.productId(), TenantScope.current(), query.at())
+            .orElseThrow(() -> new ResourceNotFoundException(
+                "Product " + query.productId() + " has no recorded history at " + query.at()));
+    }
+
+    /**
+     * 讀取計數表 (每租戶固定列數)，成本與商品數無關；系統管理員取得所有租戶的總和
+     */
+    public TenantProductCounts handle(GetProductCountsQuery query) {
+        return tenantCounters.counts(TenantScope.current());
+    }
+
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public ReadCoalescingStats handle(GetReadCoalescingStatsQuery query) {
+        return new ReadCoalescingStats(
+            productReads.loadCount(),
+            productReads.coalescedCount(),
+            productReads.timeoutCount(),
+            productReads.inFlightCount(),
+            productReads.topKeys(query.limit()).stream()
+                .map(stats -> new ReadCoalescingStats.HotProduct(stats.key().tenantId(), stats.key().productId(),
+                    stats.coalesced(), stats.timeouts()))
+                .toList());
+    }
+
+    public ProductRevision handle(GetProductRevisionQuery query) {
+        return viewRepository.findRevision(query.productId())
+            .orElseThrow(() -> new ResourceNotFoundException("Product", query.productId()));
+    }
+
+    /**
+     * 版本通常在記憶體中，不需開啟交易
+     *
+     * @return 目錄版本；未啟用 outbox 時版本不會遞增，回傳 empty
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public Optional<CatalogVersion> handle(GetCatalogVersionQuery query) {
+        ProductCatalogVersions versions = catalogVersions.getIfAvailable();
+        return versions != null
+            ? Optional.of(versions.current(TenantScope.current()))
+            : Optional.empty();
     }
 
     public PagedResult<ProductView> handle(ListProductsQuery query) {
-        String tenantId = TenantContext.getCurrentTenant();
-        List<Product> products;
-
-        if ("system".equals(tenantId)) {
-            // 系統管理員可以看到所有商品
-            products = query.category() != null
-                ? productRepository.findByCategory(query.category())
-                : productRepository.findAll();
-        } else {
-            // 一般使用者只能看到自己租戶的商品
-            products = productRepository.findByTenantId(tenantId);
-            if (query.category() != null) {
-                products = products.stream()
-                    .filter(p -> query.category().equals(p.getCategory()))
-                    .collect(Collectors.toList());
-            }
+        // 系統管理員可以看到所有租戶的商品，一般使用者只能看到自己租戶的商品；只顯示 ACTIVE 商品
+        ProductSearchCriteria criteria = new ProductSearchCriteria(
+            TenantScope.current(),
+            query.category(),
+            ProductStatus.ACTIVE
+        );
+
+        if (query.cursorMode()) {
+            return listByCursor(criteria, query);
         }
 
-        // 過濾只顯示 ACTIVE 商品
-        products = products.stream()
-            .filter(Product::isActive)
-            .collect(Collectors.toList());
+        List<ProductView> content = viewRepository.findPage(
+            criteria, query.page(), query.size(), ProductSort.of(query.sortBy(), query.sortDirection()));
 
-        // 簡單分頁處理
-        int start = query.page() * query.size();
-        int end = Math.min(start + query.size(), products.size());
-        List<ProductView> pageContent = products.subList(Math.min(start, products.size()), end)
-            .stream()
-            .map(this::toView)
-            .collect(Collectors.toList());
+        return new PagedResult<>(content, query.page(), query.size(), total(criteria, query, content));
+    }
 
-        return new PagedResult<>(pageContent, query.page(), query.size(), products.size());
+    /**
+     * 最後一頁 (未滿一頁) 可直接算出總筆數，省略 count 查詢
+     */
+    private long total(ProductSearchCriteria criteria, ListProductsQuery query, List<ProductView> content) {
+        boolean partialPage = content.size() < query.size() && (query.page() == 0 || !content.isEmpty());
+        return partialPage
+            ? (long) query.page() * query.size() + content.size()
+            : viewRepository.count(criteria);
     }
 
-    private ProductView toView(Product product) {
-        return new ProductView(
-            product.getId().value(),
-            product.getProductCode().value(),
-            product.getName(),
-            product.getPrice().amount(),
-            product.getCategory(),
-            product.getDescription(),
-            product.getStatus().name(),
-            product.getTenantId(),
-            product.getCreatedBy(),
-            product.getCreatedAt(),
-            product.getUpdatedBy(),
-            product.getUpdatedAt()
-        );
+    /**
+     * Keyset 分頁：以 (排序值, ID) 定位下一頁，查詢成本與翻到第幾頁無關
+     */
+    private PagedResult<ProductView> listByCursor(ProductSearchCriteria criteria, ListProductsQuery query) {
+        boolean first = query.cursor().isEmpty();
+        ProductCursor cursor = first
+            ? new ProductCursor(ProductSort.of(query.sortBy(), query.sortDirection()).forKeyset(), null)
+            : ProductCursor.decode(query.cursor());
+
+        // 多取一筆判斷是否有下一頁
+        List<ProductView> rows = viewRepository.findAfter(
+            criteria, cursor.keyset(), query.size() + 1, cursor.sort());
+        boolean hasNext = rows.size() > query.size();
+        List<ProductView> content = hasNext ? rows.subList(0, query.size()) : rows;
+
+        String nextCursor = hasNext
+            ? ProductCursor.after(content.get(content.size() - 1), cursor.sort()).encode()
+            : null;
+        long total = query.includeTotal() ? viewRepository.count(criteria) : PagedResult.UNKNOWN_TOTAL;
+
+        return PagedResult.ofCursor(content, query.size(), first, nextCursor, total);
     }
 }
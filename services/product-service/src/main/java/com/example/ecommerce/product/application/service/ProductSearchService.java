@@ -0,0 +1,36 @@
+package com.example.ecommerce.product.application.service;
+
+import com.example.ecommerce.product.application.dto.ProductSearchHit;
+import com.example.ecommerce.product.application.port.input.query.SearchProductsQuery;
+import com.example.ecommerce.product.application.port.input.query.SuggestProductTermsQuery;
+import com.example.ecommerce.product.application.port.output.ProductSearchIndex;
+import com.example.ecommerce.tenant.context.TenantScope;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * 商品全文搜尋 (Query Side)
+ *
+ * <p>只讀記憶體索引，不查詢資料庫；索引只含 ACTIVE 商品。
+ * 系統管理員搜尋所有租戶，一般使用者只搜尋自己的租戶。</p>
+ */
+@Service
+@ConditionalOnProperty(prefix = "product.search", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ProductSearchService {
+
+    private final ProductSearchIndex searchIndex;
+
+    public ProductSearchService(ProductSearchIndex searchIndex) {
+        this.searchIndex = searchIndex;
+    }
+
+    public List<ProductSearchHit> handle(SearchProductsQuery query) {
+        return searchIndex.search(TenantScope.current(), query.text(), query.limit());
+    }
+
+    public List<String> handle(SuggestProductTermsQuery query) {
+        return searchIndex.suggest(TenantScope.current(), query.prefix(), query.limit());
+    }
+}
@@ -0,0 +1,168 @@
+package com.example.ecommerce.product.application.service;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 合併同一 key 的並行載入 (single flight)
+ *
+ * <p>第一個請求在自己的執行緒上載入，同時到達的相同 key 請求等待並共用其結果 (包含例外)。
+ * 等待超過 {@code timeout} 的請求不再等待，改為自行載入，避免一個慢查詢拖住所有請求。
+ * 只合併進行中的載入，完成後不保留結果，不取代快取。</p>
+ *
+ * <p>被合併過的 key 另外記錄次數 (最多 {@code maxTrackedKeys} 個)，用於找出熱門 key。</p>
+ */
+public class SingleFlight<K, V> {
+
+    private final boolean enabled;
+    private final Duration timeout;
+    private final int maxTrackedKeys;
+
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<K, KeyCounters> keyCounters = new ConcurrentHashMap<>();
+
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+
+    public SingleFlight(Duration timeout, int maxTrackedKeys) {
+        this(true, timeout, maxTrackedKeys);
+    }
+
+    private SingleFlight(boolean enabled, Duration timeout, int maxTrackedKeys) {
+        this.enabled = enabled;
+        this.timeout = timeout;
+        this.maxTrackedKeys = maxTrackedKeys;
+    }
+
+    /**
+     * 不合併，每個請求各自載入
+     */
+    public static <K, V> SingleFlight<K, V> disabled() {
+        return new SingleFlight<>(false, Duration.ZERO, 0);
+    }
+
+    /**
+     * 載入 key 的值；相同 key 已在載入時等待其結果
+     */
+    public V execute(K key, Supplier<? extends V> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+        CompletableFuture<V> flight = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, flight);
+        if (existing != null) {
+            return await(key, existing, loader);
+        }
+
+        loads.increment();
+        try {
+            V value = loader.get();
+            flight.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    private V await(K key, CompletableFuture<V> flight, Supplier<? extends V> loader) {
+        KeyCounters counters = counters(key);
+        try {
+            V value = flight.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+            coalesced.increment();
+            if (counters != null) {
+                counters.coalesced.increment();
+            }
+            return value;
+        } catch (ExecutionException e) {
+            coalesced.increment();
+            if (counters != null) {
+                counters.coalesced.increment();
+            }
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            timeouts.increment();
+            if (counters != null) {
+                counters.timeouts.increment();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return loader.get();
+    }
+
+    private KeyCounters counters(K key) {
+        KeyCounters counters = keyCounters.get(key);
+        if (counters == null && keyCounters.size() < maxTrackedKeys) {
+            counters = keyCounters.computeIfAbsent(key, k -> new KeyCounters());
+        }
+        return counters;
+    }
+
+    /**
+     * 實際執行的載入次數
+     */
+    public long loadCount() {
+        return loads.sum();
+    }
+
+    /**
+     * 共用其他請求載入結果的次數
+     */
+    public long coalescedCount() {
+        return coalesced.sum();
+    }
+
+    /**
+     * 等待逾時改為自行載入的次數
+     */
+    public long timeoutCount() {
+        return timeouts.sum();
+    }
+
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+
+    /**
+     * 被合併次數最多的 key
+     */
+    public List<KeyStats<K>> topKeys(int limit) {
+        return keyCounters.entrySet().stream()
+            .map(entry -> new KeyStats<>(entry.getKey(),
+                entry.getValue().coalesced.sum(), entry.getValue().timeouts.sum()))
+            .sorted(Comparator.comparingLong((KeyStats<K> stats) -> stats.coalesced()).reversed())
+            .limit(limit)
+            .toList();
+    }
+
+    /**
+     * @param key       被合併的 key
+     * @param coalesced 共用結果的請求數
+     * @param timeouts  等待逾時的請求數
+     */
+    public record KeyStats<K>(K key, long coalesced, long timeouts) {
+    }
+
+    private static final class KeyCounters {
+        final LongAdder coalesced = new LongAdder();
+        final LongAdder timeouts = new LongAdder();
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.ecommerce.product.config;
+
+import com.example.ecommerce.product.adapter.outbound.archive.ProductArchiveMetrics;
+import com.example.ecommerce.product.adapter.outbound.archive.ProductArchiver;
+import com.example.ecommerce.product.adapter.outbound.persistence.JdbcProductArchive;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+
+/**
+ * 已刪除商品封存作業配置
+ *
+ * <p>只控制背景作業；{@link JdbcProductArchive} 一律存在，停用後已封存的商品仍可查詢。</p>
+ */
+@Configuration
+@EnableConfigurationProperties(ProductArchiveProperties.class)
+@ConditionalOnProperty(prefix = "product.archive", name = "enabled", havingValue = "true")
+public class ProductArchiveConfig {
+
+    /**
+     * 作業實作 Closeable，關閉時由容器自動呼叫 close()
+     */
+    @Bean
+    public ProductArchiver productArchiver(
+            JdbcProductArchive archive,
+            PlatformTransactionManager transactionManager,
+            ProductArchiveProperties properties,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        ProductArchiver archiver = new ProductArchiver(
+            archive,
+            new TransactionTemplate(transactionManager),
+            new ProductArchiveMetrics(meterRegistry.getIfAvailable(SimpleMeterRegistry::new)),
+            properties.getMinAge(),
+            properties.getBatchSize(),
+            properties.getMaxBatchesPerRun(),
+            properties.getBatchPause(),
+            properties.getInterval(),
+            Clock.systemUTC());
+        archiver.start();
+        return archiver;
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.ecommerce.product.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 已刪除商品封存設定
+ *
+ * <pre>
+ * product:
+ *   archive:
+ *     enabled: true
+ *     min-age: 90d
+ *     batch-size: 500
+ *     max-batches-per-run: 100
+ *     batch-pause: 100ms
+ *     interval: 1h
+ * </pre>
+ */
+@ConfigurationProperties(prefix = "product.archive")
+public class ProductArchiveProperties {
+
+    /**
+     * 啟用背景封存作業 (預設關閉)；關閉時已封存的商品仍可查詢
+     */
+    private boolean enabled = false;
+
+    /**
+     * 刪除後保留在 products 的時間
+     */
+    private Duration minAge = Duration.ofDays(90);
+
+    /**
+     * 每批 (每個交易) 最多搬移的商品數
+     */
+    private int batchSize = 500;
+
+    /**
+     * 單次執行最多的批次數，其餘留待下次
+     */
+    private int maxBatchesPerRun = 100;
+
+    /**
+     * 批次之間的暫停時間
+     */
+    private Duration batchPause = Duration.ofMillis(100);
+
+    /**
+     * 執行間隔
+     */
+    private Duration interval = Duration.ofHours(1);
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Duration getMinAge() {
+        return minAge;
+    }
+
+    public void setMinAge(Duration minAge) {
+        this.minAge = minAge;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public int getMaxBatchesPerRun() {
+        return maxBatchesPerRun;
+    }
+
+    public void setMaxBatchesPerRun(int maxBatchesPerRun) {
+        this.maxBatchesPerRun = maxBatchesPerRun;
+    }
+
+    public Duration getBatchPause() {
+        return batchPause;
+    }
+
+    public void setBatchPause(Duration batchPause) {
+        this.batchPause = batchPause;
+    }
+
+    public Duration getInterval() {
+        return interval;
+    }
+
+    public void setInterval(Duration interval) {
+        this.interval = interval;
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.ecommerce.product.config;
+
+import com.example.ecommerce.product.application.service.ProductBulkImportSettings;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 商品批次匯入配置
+ */
+@Configuration
+@EnableConfigurationProperties(ProductBulkProperties.class)
+public class ProductBulkConfig {
+
+    @Bean
+    public ProductBulkImportSettings productBulkImportSettings(ProductBulkProperties properties) {
+        return new ProductBulkImportSettings(properties.getChunkSize(), properties.getMaxRows());
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.ecommerce.product.config;
+
+import com.example.ecommerce.product.adapter.outbound.persistence.JdbcProductBulkWriter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 商品批次匯入與批次調價設定
+ *
+ * <pre>
+ * product:
+ *   bulk:
+ *     chunk-size: 500
+ *     max-rows: 1000000
+ * </pre>
+ */
+@ConfigurationProperties(prefix = "product.bulk")
+public class ProductBulkProperties {
+
+    /**
+     * 匯入時每個交易寫入的資料列數；調價時每個交易、每個更新語句涵蓋的商品數
+     *
+     * <p>上限為 {@link JdbcProductBulkWriter#MAX_PRICE_CHANGES_PER_STATEMENT}。</p>
+     */
+    private int chunkSize = 500;
+
+    /**
+     * 單次匯入的資料列上限，超過的部分回報為錯誤且不再讀取
+     */
+    private long maxRows = 1_000_000;
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    public void setChunkSize(int chunkSize) {
+        if (chunkSize < 1 || chunkSize > JdbcProductBulkWriter.MAX_PRICE_CHANGES_PER_STATEMENT) {
+            throw new IllegalArgumentException("product.bulk.chunk-size must be between 1 and "
+                + JdbcProductBulkWriter.MAX_PRICE_CHANGES_PER_STATEMENT + ", got: " + chunkSize);
+        }
+        this.chunkSize = chunkSize;
+    }
+
+    public long getMaxRows() {
+        return maxRows;
+    }
+
+    public void setMaxRows(long maxRows) {
+        this.maxRows = maxRows;
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.ecommerce.product.config;
+
+import com.example.ecommerce.product.adapter.outbound.broadcast.ProductChangeBroadcaster;
+import com.example.ecommerce.product.adapter.outbound.cache.CachingProductViewRepository;
+import com.example.ecommerce.product.adapter.outbound.cache.CachingProductViewRepository.ListKey;
+import com.example.ecommerce.product.adapter.outbound.cache.CachingProductViewRepository.ProductKey;
+import com.example.ecommerce.product.adapter.outbound.cache.CachingProductViewRepository.TenantGroup;
+import com.example.ecommerce.product.adapter.outbound.cache.GroupedCache;
+import com.example.ecommerce.product.adapter.outbound.cache.ProductCacheInvalidationListener;
+import com.example.ecommerce.product.adapter.outbound.cache.ProductCacheMetrics;
+import com.example.ecommerce.product.adapter.outbound.cache.TrackingProductCatalogVersions;
+import com.example.ecommerce.product.adapter.outbound.persistence.JdbcProductCatalogVersions;
+import com.example.ecommerce.product.adapter.outbound.persistence.JpaProductViewRepository;
+import com.example.ecommerce.product.application.dto.ProductReadKey;
+import com.example.ecommerce.product.application.dto.ProductView;
+import com.example.ecommerce.product.application.service.SingleFlight;
+import com.example.ecommerce.product.domain.repository.ProductSearchCriteria;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import java.time.Clock;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 商品讀取快取配置
+ *
+ * <p>以 {@link CachingProductViewRepository} 包裝 {@link JpaProductViewRepository}，
+ * 查詢服務不需知道快取存在。</p>
+ */
+@Configuration
+@EnableConfigurationProperties(ProductCacheProperties.class)
+@ConditionalOnProperty(prefix = "product.cache", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ProductCacheConfig {
+
+    @Bean
+    @Primary
+    public CachingProductViewRepository cachingProductViewRepository(
+            JpaProductViewRepository delegate,
+            ProductCacheProperties properties,
+            SingleFlight<ProductReadKey, ProductView> productReads,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        MeterRegistry registry = meterRegistry.getIfAvailable(SimpleMeterRegistry::new);
+        ProductCacheMetrics metrics = new ProductCacheMetrics(registry);
+
+        GroupedCache<ProductKey, UUID, ProductView> products =
+            CachingProductViewRepository.productCache(properties.getMaximumSize(), properties.getTtl());
+        GroupedCache<ListKey, TenantGroup, List<ProductView>> lists =
+            CachingProductViewRepository.listCache(properties.getListMaximumSize(), properties.getListTtl());
+        GroupedCache<ProductSearchCriteria, TenantGroup, Long> counts =
+            CachingProductViewRepository.countCache(properties.getListMaximumSize(), properties.getListTtl());
+        metrics.bind(registry, "product", products);
+        metrics.bind(registry, "list", lists);
+        metrics.bind(registry, "count", counts);
+
+        return new CachingProductViewRepository(
+            delegate, products, lists, counts, productReads, metrics, Clock.systemUTC());
+    }
+
+    /**
+     * 列表快取存在時，目錄版本改為在清除快取時才推進 (見 {@link TrackingProductCatalogVersions})
+     */
+    @Bean
+    @Primary
+    @ConditionalOnProperty(prefix = "product.outbox", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public TrackingProductCatalogVersions trackingProductCatalogVersions(JdbcProductCatalogVersions delegate) {
+        return new TrackingProductCatalogVersions(delegate);
+    }
+
+    /**
+     * 有跨實例廣播 (見 {@link ProductChangeBroadcastConfig}) 時另清除其他實例異動的商品
+     */
+    @Bean
+    public ProductCacheInvalidationListener productCacheInvalidationListener(
+            CachingProductViewRepository cache,
+            ObjectProvider<ProductChangeBroadcaster> changeBroadcaster,
+            ObjectProvider<TrackingProductCatalogVersions> catalogVersions) {
+        ProductCacheInvalidationListener listener =
+            new ProductCacheInvalidationListener(cache, catalogVersions.getIfAvailable());
+        changeBroadcaster.ifAvailable(broadcaster -> broadcaster.subscribeRemote(listener::onRemoteChange));
+        return listener;
+    }
+}
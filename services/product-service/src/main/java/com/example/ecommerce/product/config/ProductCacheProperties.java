@@ -0,0 +1,89 @@
+package com.example.ecommerce.product.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 商品讀取快取設定
+ *
+ * <pre>
+ * product:
+ *   cache:
+ *     enabled: true
+ *     maximum-size: 10000
+ *     ttl: 10m
+ *     list-maximum-size: 1000
+ *     list-ttl: 1m
+ * </pre>
+ *
+ * <p>其他實例異動時的清除經跨實例廣播 (見 {@link ProductChangeBroadcastProperties})。</p>
+ */
+@ConfigurationProperties(prefix = "product.cache")
+public class ProductCacheProperties {
+
+    /**
+     * 啟用商品讀取快取
+     */
+    private boolean enabled = true;
+
+    /**
+     * 單一商品快取筆數上限
+     */
+    private int maximumSize = 10_000;
+
+    /**
+     * 單一商品快取存活時間 (錯過失效通知時的上限)
+     */
+    private Duration ttl = Duration.ofMinutes(10);
+
+    /**
+     * 分類列表快取筆數上限
+     */
+    private int listMaximumSize = 1_000;
+
+    /**
+     * 分類列表快取存活時間
+     */
+    private Duration listTtl = Duration.ofMinutes(1);
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    public void setMaximumSize(int maximumSize) {
+        this.maximumSize = maximumSize;
+    }
+
+    public Duration getTtl() {
+        return ttl;
+    }
+
+    public void setTtl(Duration ttl) {
+        this.ttl = ttl;
+    }
+
+    public int getListMaximumSize() {
+        return listMaximumSize;
+    }
+
+    public void setListMaximumSize(int listMaximumSize) {
+        this.listMaximumSize = listMaximumSize;
+    }
+
+    public Duration getListTtl() {
+        return listTtl;
+    }
+
+    public void setListTtl(Duration listTtl) {
+        this.listTtl = listTtl;
+    }
+}
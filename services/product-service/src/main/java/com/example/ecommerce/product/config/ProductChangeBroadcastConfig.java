@@ -0,0 +1,50 @@
+package com.example.ecommerce.product.config;
+
+import com.example.ecommerce.product.adapter.outbound.broadcast.InMemoryProductChangeBroadcast;
+import com.example.ecommerce.product.adapter.outbound.broadcast.PostgresProductChangeBroadcast;
+import com.example.ecommerce.product.adapter.outbound.broadcast.ProductChangeBroadcaster;
+import com.example.ecommerce.product.application.port.output.ProductChangeBroadcast;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.util.UUID;
+
+/**
+ * 跨實例商品異動廣播配置
+ *
+ * <p>讀取快取、搜尋索引、分類計數與變更推播經 {@link ProductChangeBroadcaster} 接收其他實例的異動；
+ * 廣播不隨任何一項功能的開關啟停。</p>
+ */
+@Configuration
+@EnableConfigurationProperties(ProductChangeBroadcastProperties.class)
+@ConditionalOnProperty(prefix = "product.broadcast", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ProductChangeBroadcastConfig {
+
+    /**
+     * PostgreSQL 實作 Closeable，關閉時由容器自動呼叫 close()
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public ProductChangeBroadcast productChangeBroadcast(
+            ProductChangeBroadcastProperties properties, ObjectProvider<DataSource> dataSource) {
+        return switch (properties.getType()) {
+            case IN_MEMORY -> new InMemoryProductChangeBroadcast();
+            case POSTGRES -> {
+                PostgresProductChangeBroadcast channel = new PostgresProductChangeBroadcast(
+                    dataSource.getObject(), properties.getChannel(), properties.getRetryInterval());
+                channel.start();
+                yield channel;
+            }
+        };
+    }
+
+    @Bean
+    public ProductChangeBroadcaster productChangeBroadcaster(ProductChangeBroadcast broadcast) {
+        return new ProductChangeBroadcaster(broadcast, UUID.randomUUID().toString());
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.ecommerce.product.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 跨實例商品異動廣播設定
+ *
+ * <pre>
+ * product:
+ *   broadcast:
+ *     enabled: true
+ *     type: postgres
+ *     channel: product_cache_invalidation
+ * </pre>
+ */
+@ConfigurationProperties(prefix = "product.broadcast")
+public class ProductChangeBroadcastProperties {
+
+    /**
+     * 廣播方式
+     */
+    public enum Type {
+        /** 同一 JVM 內 (單一實例 / 測試) */
+        IN_MEMORY,
+        /** PostgreSQL LISTEN / NOTIFY */
+        POSTGRES
+    }
+
+    /**
+     * 啟用跨實例廣播 (讀取快取、搜尋、分類計數與變更推播共用)
+     */
+    private boolean enabled = true;
+
+    private Type type = Type.IN_MEMORY;
+
+    /**
+     * type=postgres 時的 NOTIFY channel (沿用快取失效時期的名稱，滾動更新時新舊實例仍互通)
+     */
+    private String channel = "product_cache_invalidation";
+
+    /**
+     * LISTEN 連線中斷後的重試間隔
+     */
+    private Duration retryInterval = Duration.ofSeconds(5);
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public void setType(Type type) {
+        this.type = type;
+    }
+
+    public String getChannel() {
+        return channel;
+    }
+
+    public void setChannel(String channel) {
+        this.channel = channel;
+    }
+
+    public Duration getRetryInterval() {
+        return retryInterval;
+    }
+
+    public void setRetryInterval(Duration retryInterval) {
+        this.retryInterval = retryInterval;
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.ecommerce.product.config;
+
+import com.example.ecommerce.product.adapter.inbound.rest.feed.ProductChangeFeed;
+import com.example.ecommerce.product.adapter.outbound.broadcast.ProductChangeBroadcaster;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.AllNestedConditions;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 商品變更推播配置
+ *
+ * <p>有跨實例廣播 (product.broadcast.enabled) 時另訂閱廣播，連到任一實例都能收到所有實例 relay 出的變更。
+ * 事件 ID 為 outbox 序號，停用 outbox relay 時不提供推播 (見 {@link FeedEnabled})。</p>
+ */
+@Configuration
+@EnableConfigurationProperties(ProductChangeFeedProperties.class)
+@Conditional(ProductChangeFeedConfig.FeedEnabled.class)
+public class ProductChangeFeedConfig {
+
+    /**
+     * 推播啟用且 outbox relay 啟用：本機直接發布的事件沒有序號，無法作為重連位置
+     */
+    public static class FeedEnabled extends AllNestedConditions {
+
+        FeedEnabled() {
+            super(ConfigurationPhase.PARSE_CONFIGURATION);
+        }
+
+        @ConditionalOnProperty(prefix = "product.changes", name = "enabled", havingValue = "true",
+            matchIfMissing = true)
+        static class ChangesEnabled {
+        }
+
+        @ConditionalOnProperty(prefix = "product.outbox", name = "enabled", havingValue = "true",
+            matchIfMissing = true)
+        static class OutboxEnabled {
+        }
+    }
+
+    /**
+     * 推播實作 Closeable，關閉時由容器自動呼叫 close()
+     */
+    @Bean
+    public ProductChangeFeed productChangeFeed(
+            ProductChangeFeedProperties properties,
+            ObjectProvider<ProductChangeBroadcaster> changeBroadcaster,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        AtomicInteger threads = new AtomicInteger();
+        ProductChangeFeed feed = new ProductChangeFeed(
+            properties.getBufferSize(),
+            properties.getMaxLag(),
+            properties.getMaxSubscribers(),
+            Executors.newFixedThreadPool(properties.getDeliveryThreads(), runnable -> {
+                Thread thread = new Thread(runnable, "product-change-feed-" + threads.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }),
+            properties.getHeartbeatInterval());
+        feed.start();
+        changeBroadcaster.ifAvailable(broadcaster -> broadcaster.subscribeRemote(feed::onRemoteChange));
+
+        MeterRegistry registry = meterRegistry.getIfAvailable(SimpleMeterRegistry::new);
+        Gauge.builder("product.changes.subscribers", feed, ProductChangeFeed::subscriberCount)
+            .description("Open product change feed connections")
+            .register(registry);
+        Gauge.builder("product.changes.buffered", feed, ProductChangeFeed::bufferedCount)
+            .description("Events kept for Last-Event-ID replay")
+            .register(registry);
+        FunctionCounter.builder("product.changes.published", feed, ProductChangeFeed::publishedCount)
+            .description("Product changes pushed to the feed")
+            .register(registry);
+        FunctionCounter.builder("product.changes.slow.consumers", feed, ProductChangeFeed::slowConsumerCount)
+            .description("Subscribers disconnected for falling too far behind")
+            .register(registry);
+        FunctionCounter.builder("product.changes.resets", feed, ProductChangeFeed::resetCount)
+            .description("Reconnects whose Last-Event-ID was no longer buffered")
+            .register(registry);
+        return feed;
+    }
+}
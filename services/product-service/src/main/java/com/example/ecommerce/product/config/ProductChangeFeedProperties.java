@@ -0,0 +1,115 @@
+package com.example.ecommerce.product.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 商品變更推播 (/api/products/changes) 設定
+ *
+ * <pre>
+ * product:
+ *   changes:
+ *     enabled: true
+ *     buffer-size: 10000
+ *     max-lag: 1000
+ *     max-subscribers: 1000
+ *     delivery-threads: 8
+ *     heartbeat-interval: 15s
+ *     timeout: 30m
+ * </pre>
+ */
+@ConfigurationProperties(prefix = "product.changes")
+public class ProductChangeFeedProperties {
+
+    /**
+     * 啟用 /api/products/changes
+     */
+    private boolean enabled = true;
+
+    /**
+     * 重播緩衝區保存的最近事件數，決定斷線後能以 Last-Event-ID 補送的範圍
+     */
+    private int bufferSize = 10_000;
+
+    /**
+     * 訂閱者最多落後的事件數 (所有租戶合計)，超過即斷線讓客戶端重連補送，不可大於 buffer-size
+     */
+    private int maxLag = 1_000;
+
+    /**
+     * 每個實例同時訂閱的連線上限，超過回應 503
+     */
+    private int maxSubscribers = 1_000;
+
+    /**
+     * 傳送事件的執行緒數；寫入卡住的連線會佔用一條執行緒直到被斷線
+     */
+    private int deliveryThreads = 8;
+
+    /**
+     * 閒置連線的保活訊息間隔
+     */
+    private Duration heartbeatInterval = Duration.ofSeconds(15);
+
+    /**
+     * 連線最長存活時間，到期後客戶端自動重連
+     */
+    private Duration timeout = Duration.ofMinutes(30);
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getBufferSize() {
+        return bufferSize;
+    }
+
+    public void setBufferSize(int bufferSize) {
+        this.bufferSize = bufferSize;
+    }
+
+    public int getMaxLag() {
+        return maxLag;
+    }
+
+    public void setMaxLag(int maxLag) {
+        this.maxLag = maxLag;
+    }
+
+    public int getMaxSubscribers() {
+        return maxSubscribers;
+    }
+
+    public void setMaxSubscribers(int maxSubscribers) {
+        this.maxSubscribers = maxSubscribers;
+    }
+
+    public int getDeliveryThreads() {
+        return deliveryThreads;
+    }
+
+    public void setDeliveryThreads(int deliveryThreads) {
+        this.deliveryThreads = deliveryThreads;
+    }
+
+    public Duration getHeartbeatInterval() {
+        return heartbeatInterval;
+    }
+
+    public void setHeartbeatInterval(Duration heartbeatInterval) {
+        this.heartbeatInterval = heartbeatInterval;
+    }
+
+    public Duration getTimeout() {
+        return timeout;
+    }
+
+    public void setTimeout(Duration timeout) {
+        this.timeout = timeout;
+    }
+}
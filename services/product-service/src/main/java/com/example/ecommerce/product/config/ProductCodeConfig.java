@@ -0,0 +1,43 @@
+package com.example.ecommerce.product.config;
+
+import com.example.ecommerce.product.adapter.outbound.sequence.BlockProductCodeAllocator;
+import com.example.ecommerce.product.adapter.outbound.sequence.JdbcSequenceBlockSource;
+import com.example.ecommerce.product.adapter.outbound.sequence.ProductCodeRange;
+import com.example.ecommerce.product.adapter.outbound.sequence.ProductCodeRangeResolver;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 商品代碼配發配置
+ */
+@Configuration
+@EnableConfigurationProperties(ProductCodeProperties.class)
+public class ProductCodeConfig {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public ProductCodeRangeResolver productCodeRangeResolver(ProductCodeProperties properties) {
+        ProductCodeRange defaultRange = new ProductCodeRange(
+            "default", properties.getSequence(), properties.getMin(), properties.getMax());
+        Map<String, ProductCodeRange> tenantRanges = new LinkedHashMap<>();
+        properties.getTenants().forEach((tenantId, range) -> tenantRanges.put(tenantId,
+            new ProductCodeRange(tenantId, range.getSequence(), range.getMin(), range.getMax())));
+        return ProductCodeRangeResolver.of(defaultRange, tenantRanges);
+    }
+
+    /**
+     * allocator 實作 Closeable，關閉時由容器自動呼叫 close()
+     */
+    @Bean
+    public BlockProductCodeAllocator productCodeAllocator(
+            DataSource dataSource, ProductCodeRangeResolver ranges, ProductCodeProperties properties) {
+        return new BlockProductCodeAllocator(new JdbcSequenceBlockSource(dataSource), ranges,
+            properties.getBlockSize(), properties.getRefillThreshold());
+    }
+}
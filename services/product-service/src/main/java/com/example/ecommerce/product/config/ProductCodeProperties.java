@@ -0,0 +1,145 @@
+package com.example.ecommerce.product.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 商品代碼配發設定
+ *
+ * <pre>
+ * product:
+ *   code:
+ *     block-size: 100
+ *     refill-threshold: 20
+ *     sequence: product_code_seq
+ *     min: 1
+ *     max: 899999
+ *     tenants:
+ *       tenant-a:
+ *         sequence: product_code_tenant_a_seq
+ *         min: 900000
+ *         max: 999999
+ * </pre>
+ */
+@ConfigurationProperties(prefix = "product.code")
+public class ProductCodeProperties {
+
+    /**
+     * 每次向資料庫保留的代碼數量
+     */
+    private int blockSize = 100;
+
+    /**
+     * 區塊剩餘數量降到此值時預先取得下一個區塊
+     */
+    private int refillThreshold = 20;
+
+    /**
+     * 預設範圍使用的 sequence
+     */
+    private String sequence = "product_code_seq";
+
+    /**
+     * 預設範圍最小值
+     */
+    private long min = 1;
+
+    /**
+     * 預設範圍最大值
+     */
+    private long max = 999_999;
+
+    /**
+     * 租戶專屬範圍，以租戶 ID 為 key；範圍之間不可重疊，且各自使用獨立的 sequence
+     */
+    private Map<String, Range> tenants = new LinkedHashMap<>();
+
+    public int getBlockSize() {
+        return blockSize;
+    }
+
+    public void setBlockSize(int blockSize) {
+        this.blockSize = blockSize;
+    }
+
+    public int getRefillThreshold() {
+        return refillThreshold;
+    }
+
+    public void setRefillThreshold(int refillThreshold) {
+        this.refillThreshold = refillThreshold;
+    }
+
+    public String getSequence() {
+        return sequence;
+    }
+
+    public void setSequence(String sequence) {
+        this.sequence = sequence;
+    }
+
+    public long getMin() {
+        return min;
+    }
+
+    public void setMin(long min) {
+        this.min = min;
+    }
+
+    public long getMax() {
+        return max;
+    }
+
+    public void setMax(long max) {
+        this.max = max;
+    }
+
+    public Map<String, Range> getTenants() {
+        return tenants;
+    }
+
+    public void setTenants(Map<String, Range> tenants) {
+        this.tenants = tenants;
+    }
+
+    /**
+     * 租戶專屬代碼範圍
+     */
+    public static class Range {
+
+        /**
+         * 配發區塊的 sequence (需由 migration 建立，起始值 0)
+         */
+        private String sequence;
+
+        private long min;
+
+        private long max;
+
+        public String getSequence() {
+            return sequence;
+        }
+
+        public void setSequence(String sequence) {
+            this.sequence = sequence;
+        }
+
+        public long getMin() {
+            return min;
+        }
+
+        public void setMin(long min) {
+            this.min = min;
+        }
+
+        public long getMax() {
+            return max;
+        }
+
+        public void setMax(long max) {
+            this.max = max;
+        }
+    }
+}
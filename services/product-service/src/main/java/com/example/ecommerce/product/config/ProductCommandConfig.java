@@ -0,0 +1,18 @@
+package com.example.ecommerce.product.config;
+
+import com.example.ecommerce.product.application.service.ProductCommandSettings;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 商品命令處理配置
+ */
+@Configuration
+public class ProductCommandConfig {
+
+    @Bean
+    public ProductCommandSettings productCommandSettings(ProductBulkProperties bulkProperties,
+                                                         ProductCounterProperties counterProperties) {
+        return new ProductCommandSettings(bulkProperties.getChunkSize(), counterProperties.getMaxProductsPerTenant());
+    }
+}
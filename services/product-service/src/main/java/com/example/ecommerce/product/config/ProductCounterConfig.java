@@ -0,0 +1,46 @@
+package com.example.ecommerce.product.config;
+
+import com.example.ecommerce.product.adapter.outbound.counter.ProductCounterMetrics;
+import com.example.ecommerce.product.adapter.outbound.counter.ProductCounterReconciler;
+import com.example.ecommerce.product.adapter.outbound.persistence.JdbcProductTenantCounters;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+
+/**
+ * 租戶商品計數配置
+ *
+ * <p>{@link JdbcProductTenantCounters} 一律存在並隨商品寫入維護，這裡只控制背景修正作業。</p>
+ */
+@Configuration
+@EnableConfigurationProperties(ProductCounterProperties.class)
+public class ProductCounterConfig {
+
+    /**
+     * 作業實作 Closeable，關閉時由容器自動呼叫 close()
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "product.counters", name = "reconcile", havingValue = "true", matchIfMissing = true)
+    public ProductCounterReconciler productCounterReconciler(
+            JdbcProductTenantCounters counters,
+            PlatformTransactionManager transactionManager,
+            ProductCounterProperties properties,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        ProductCounterReconciler reconciler = new ProductCounterReconciler(
+            counters,
+            new TransactionTemplate(transactionManager),
+            new ProductCounterMetrics(meterRegistry.getIfAvailable(SimpleMeterRegistry::new)),
+            properties.getReconcileInterval(),
+            Clock.systemUTC());
+        reconciler.start();
+        return reconciler;
+    }
+}
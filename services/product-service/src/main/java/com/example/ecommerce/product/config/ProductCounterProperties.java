@@ -0,0 +1,59 @@
+package com.example.ecommerce.product.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 租戶商品計數與配額設定
+ *
+ * <pre>
+ * product:
+ *   counters:
+ *     reconcile: true
+ *     reconcile-interval: 1h
+ *     max-products-per-tenant: 0
+ * </pre>
+ */
+@ConfigurationProperties(prefix = "product.counters")
+public class ProductCounterProperties {
+
+    /**
+     * 啟用背景修正作業；計數一律隨商品寫入維護
+     */
+    private boolean reconcile = true;
+
+    /**
+     * 修正作業的執行間隔
+     */
+    private Duration reconcileInterval = Duration.ofHours(1);
+
+    /**
+     * 每個租戶未刪除商品數的上限，0 表示不限制
+     */
+    private long maxProductsPerTenant = 0;
+
+    public boolean isReconcile() {
+        return reconcile;
+    }
+
+    public void setReconcile(boolean reconcile) {
+        this.reconcile = reconcile;
+    }
+
+    public Duration getReconcileInterval() {
+        return reconcileInterval;
+    }
+
+    public void setReconcileInterval(Duration reconcileInterval) {
+        this.reconcileInterval = reconcileInterval;
+    }
+
+    public long getMaxProductsPerTenant() {
+        return maxProductsPerTenant;
+    }
+
+    public void setMaxProductsPerTenant(long maxProductsPerTenant) {
+        this.maxProductsPerTenant = maxProductsPerTenant;
+    }
+}
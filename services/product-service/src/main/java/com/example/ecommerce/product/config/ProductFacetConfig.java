@@ -0,0 +1,59 @@
+package com.example.ecommerce.product.config;
+
+import com.example.ecommerce.product.adapter.outbound.broadcast.ProductChangeBroadcaster;
+import com.example.ecommerce.product.adapter.outbound.facet.InMemoryProductFacetCounts;
+import com.example.ecommerce.product.adapter.outbound.facet.JdbcProductFacetSource;
+import com.example.ecommerce.product.adapter.outbound.facet.PriceBuckets;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * 商品分類 / 價格區間計數配置
+ *
+ * <p>有跨實例廣播 (product.broadcast.enabled) 時另訂閱廣播，其他實例的商品異動也會更新本機計數。</p>
+ */
+@Configuration
+@EnableConfigurationProperties(ProductFacetProperties.class)
+@ConditionalOnProperty(prefix = "product.facets", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ProductFacetConfig {
+
+    /**
+     * 計數實作 Closeable，關閉時由容器自動呼叫 close()
+     */
+    @Bean
+    public InMemoryProductFacetCounts productFacetCounts(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            ProductFacetProperties properties,
+            ObjectProvider<ProductChangeBroadcaster> changeBroadcaster,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        InMemoryProductFacetCounts counts = new InMemoryProductFacetCounts(
+            new JdbcProductFacetSource(jdbcTemplate, transactionManager),
+            new PriceBuckets(properties.getPriceBuckets()),
+            properties.getRefreshBatchSize(),
+            properties.getRefreshInterval(),
+            properties.getReconcileInterval());
+        counts.start();
+        changeBroadcaster.ifAvailable(broadcaster -> broadcaster.subscribeRemote(counts::onRemoteChange));
+
+        MeterRegistry registry = meterRegistry.getIfAvailable(SimpleMeterRegistry::new);
+        Gauge.builder("product.facets.products", counts, InMemoryProductFacetCounts::size)
+            .description("Active products counted in the facets")
+            .register(registry);
+        Gauge.builder("product.facets.pending", counts, InMemoryProductFacetCounts::pendingCount)
+            .description("Changed products waiting to be recounted")
+            .register(registry);
+        Gauge.builder("product.facets.drift", counts, InMemoryProductFacetCounts::lastDrift)
+            .description("Counts corrected by the last reconciliation")
+            .register(registry);
+        return counts;
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.ecommerce.product.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 商品分類 / 價格區間計數設定
+ *
+ * <pre>
+ * product:
+ *   facets:
+ *     enabled: true
+ *     price-buckets: [0, 100, 500, 1000, 5000, 10000]
+ *     refresh-interval: 200ms
+ *     refresh-batch-size: 500
+ *     reconcile-interval: 1h
+ * </pre>
+ */
+@ConfigurationProperties(prefix = "product.facets")
+public class ProductFacetProperties {
+
+    /**
+     * 啟用計數與 /api/products/facets
+     */
+    private boolean enabled = true;
+
+    /**
+     * 價格區間下限，最後一個區間無上限
+     */
+    private List<BigDecimal> priceBuckets = new ArrayList<>(List.of(
+        BigDecimal.ZERO, BigDecimal.valueOf(100), BigDecimal.valueOf(500),
+        BigDecimal.valueOf(1000), BigDecimal.valueOf(5000), BigDecimal.valueOf(10000)));
+
+    /**
+     * 背景重讀待更新商品的間隔 (收到異動通知時會立即執行)
+     */
+    private Duration refreshInterval = Duration.ofMillis(200);
+
+    /**
+     * 每次重讀的商品數上限
+     */
+    private int refreshBatchSize = 500;
+
+    /**
+     * 以資料庫全量重算的間隔
+     */
+    private Duration reconcileInterval = Duration.ofHours(1);
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public List<BigDecimal> getPriceBuckets() {
+        return priceBuckets;
+    }
+
+    public void setPriceBuckets(List<BigDecimal> priceBuckets) {
+        this.priceBuckets = priceBuckets;
+    }
+
+    public Duration getRefreshInterval() {
+        return refreshInterval;
+    }
+
+    public void setRefreshInterval(Duration refreshInterval) {
+        this.refreshInterval = refreshInterval;
+    }
+
+    public int getRefreshBatchSize() {
+        return refreshBatchSize;
+    }
+
+    public void setRefreshBatchSize(int refreshBatchSize) {
+        this.refreshBatchSize = refreshBatchSize;
+    }
+
+    public Duration getReconcileInterval() {
+        return reconcileInterval;
+    }
+
+    public void setReconcileInterval(Duration reconcileInterval) {
+        this.reconcileInterval = reconcileInterval;
+    }
+}
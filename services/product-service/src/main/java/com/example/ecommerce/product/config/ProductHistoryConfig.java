@@ -0,0 +1,32 @@
+package com.example.ecommerce.product.config;
+
+import com.example.ecommerce.product.adapter.outbound.history.JdbcProductHistory;
+import com.example.ecommerce.product.adapter.outbound.outbox.HistoryProductEventSink;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 商品歷史配置
+ *
+ * <p>歷史由 outbox relay 的 sink 記錄，停用 outbox 時不會累積新的歷史。</p>
+ */
+@Configuration
+@EnableConfigurationProperties(ProductHistoryProperties.class)
+public class ProductHistoryConfig {
+
+    @Bean
+    public JdbcProductHistory jdbcProductHistory(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper,
+                                                 ProductHistoryProperties properties) {
+        return new JdbcProductHistory(jdbcTemplate, objectMapper, properties.getSnapshotInterval());
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "product.history", name = "enabled", havingValue = "true")
+    public HistoryProductEventSink historyProductEventSink(JdbcProductHistory history) {
+        return new HistoryProductEventSink(history);
+    }
+}
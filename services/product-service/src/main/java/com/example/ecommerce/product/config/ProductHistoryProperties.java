@@ -0,0 +1,43 @@
+package com.example.ecommerce.product.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 商品歷史設定
+ *
+ * <pre>
+ * product:
+ *   history:
+ *     enabled: true
+ *     snapshot-interval: 50
+ * </pre>
+ */
+@ConfigurationProperties(prefix = "product.history")
+public class ProductHistoryProperties {
+
+    /**
+     * 由 outbox relay 記錄商品歷史 (預設關閉)；關閉時不再記錄，已記錄的歷史仍可查詢
+     */
+    private boolean enabled = false;
+
+    /**
+     * 每累積幾筆異動寫入一個完整快照，即重建時最多重播的異動數
+     */
+    private int snapshotInterval = 50;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getSnapshotInterval() {
+        return snapshotInterval;
+    }
+
+    public void setSnapshotInterval(int snapshotInterval) {
+        this.snapshotInterval = snapshotInterval;
+    }
+}
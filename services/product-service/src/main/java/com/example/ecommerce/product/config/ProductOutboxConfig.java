@@ -0,0 +1,76 @@
+package com.example.ecommerce.product.config;
+
+import com.example.ecommerce.product.adapter.outbound.outbox.ApplicationEventProductEventSink;
+import com.example.ecommerce.product.adapter.outbound.outbox.CatalogVersionProductEventSink;
+import com.example.ecommerce.product.adapter.outbound.outbox.ProductEventSink;
+import com.example.ecommerce.product.adapter.outbound.outbox.ProductOutboxMetrics;
+import com.example.ecommerce.product.adapter.outbound.outbox.ProductOutboxRelay;
+import com.example.ecommerce.product.adapter.outbound.persistence.JdbcProductCatalogVersions;
+import com.example.ecommerce.product.adapter.outbound.persistence.SpringDataProductOutboxRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+
+/**
+ * 商品事件 outbox relay 配置
+ *
+ * <p>其他 {@link ProductEventSink} bean (如訊息佇列) 會一併加入 relay。</p>
+ */
+@Configuration
+@EnableConfigurationProperties(ProductOutboxProperties.class)
+@ConditionalOnProperty(prefix = "product.outbox", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ProductOutboxConfig {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "product.outbox", name = "application-events", havingValue = "true",
+        matchIfMissing = true)
+    public ApplicationEventProductEventSink applicationEventProductEventSink(ApplicationEventPublisher publisher) {
+        return new ApplicationEventProductEventSink(publisher);
+    }
+
+    /**
+     * 目錄版本只由 relay 遞增；停用 outbox 時沒有這個 bean，列表也就不提供 ETag
+     */
+    @Bean
+    public JdbcProductCatalogVersions jdbcProductCatalogVersions(JdbcTemplate jdbcTemplate) {
+        return new JdbcProductCatalogVersions(jdbcTemplate);
+    }
+
+    @Bean
+    public CatalogVersionProductEventSink catalogVersionProductEventSink(JdbcProductCatalogVersions catalogVersions) {
+        return new CatalogVersionProductEventSink(catalogVersions);
+    }
+
+    /**
+     * relay 實作 Closeable，關閉時由容器自動呼叫 close()
+     */
+    @Bean
+    public ProductOutboxRelay productOutboxRelay(
+            SpringDataProductOutboxRepository outboxRepo,
+            PlatformTransactionManager transactionManager,
+            ObjectProvider<ProductEventSink> sinks,
+            ProductOutboxProperties properties,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        ProductOutboxRelay relay = new ProductOutboxRelay(
+            outboxRepo,
+            new TransactionTemplate(transactionManager),
+            sinks.orderedStream().toList(),
+            new ProductOutboxMetrics(meterRegistry.getIfAvailable(SimpleMeterRegistry::new)),
+            properties.getBatchSize(),
+            properties.getMaxBatchesPerRun(),
+            properties.getPollInterval(),
+            Clock.systemUTC());
+        relay.start();
+        return relay;
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.ecommerce.product.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 商品事件 outbox relay 設定
+ *
+ * <pre>
+ * product:
+ *   outbox:
+ *     enabled: true
+ *     batch-size: 100
+ *     max-batches-per-run: 10
+ *     poll-interval: 1s
+ *     application-events: true
+ * </pre>
+ */
+@ConfigurationProperties(prefix = "product.outbox")
+public class ProductOutboxProperties {
+
+    /**
+     * 啟用 outbox 與背景 relay；關閉時不寫入 outbox，事件在提交後直接於本機發布 (不保證送達，也不提供變更推播與歷史)
+     */
+    private boolean enabled = true;
+
+    /**
+     * 每批 (每個交易) 最多處理的事件數
+     */
+    private int batchSize = 100;
+
+    /**
+     * 單次執行最多連續處理的批次數
+     */
+    private int maxBatchesPerRun = 10;
+
+    /**
+     * 輪詢間隔 (提交後的即時喚醒未送達時的上限延遲)
+     */
+    private Duration pollInterval = Duration.ofSeconds(1);
+
+    /**
+     * 以 Spring ApplicationEvent 在程序內發布 ProductChanged (快取失效等)
+     */
+    private boolean applicationEvents = true;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public int getMaxBatchesPerRun() {
+        return maxBatchesPerRun;
+    }
+
+    public void setMaxBatchesPerRun(int maxBatchesPerRun) {
+        this.maxBatchesPerRun = maxBatchesPerRun;
+    }
+
+    public Duration getPollInterval() {
+        return pollInterval;
+    }
+
+    public void setPollInterval(Duration pollInterval) {
+        this.pollInterval = pollInterval;
+    }
+
+    public boolean isApplicationEvents() {
+        return applicationEvents;
+    }
+
+    public void setApplicationEvents(boolean applicationEvents) {
+        this.applicationEvents = applicationEvents;
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.ecommerce.product.config;
+
+import com.example.ecommerce.product.adapter.outbound.cache.CachingProductViewRepository;
+import com.example.ecommerce.product.application.dto.ProductReadKey;
+import com.example.ecommerce.product.application.dto.ProductView;
+import com.example.ecommerce.product.application.service.SingleFlight;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 單一商品讀取合併配置
+ *
+ * <p>由 {@link CachingProductViewRepository} 在商品快取未命中時使用：失效後第一波請求，同一商品只會有一次資料庫查詢；
+ * 快取命中不經過合併，也不計入統計。停用讀取快取時不合併。
+ * 各商品的合併次數見 {@code GET /api/products/read-coalescing}。</p>
+ */
+@Configuration
+@EnableConfigurationProperties(ProductReadCoalescingProperties.class)
+public class ProductReadCoalescingConfig {
+
+    @Bean
+    public SingleFlight<ProductReadKey, ProductView> productReads(
+            ProductReadCoalescingProperties properties,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        SingleFlight<ProductReadKey, ProductView> productReads = properties.isEnabled()
+            ? new SingleFlight<>(properties.getTimeout(), properties.getTrackedKeys())
+            : SingleFlight.disabled();
+
+        MeterRegistry registry = meterRegistry.getIfAvailable(SimpleMeterRegistry::new);
+        FunctionCounter.builder("product.reads.loads", productReads, SingleFlight::loadCount)
+            .description("Product cache misses loaded from the repository")
+            .register(registry);
+        FunctionCounter.builder("product.reads.coalesced", productReads, SingleFlight::coalescedCount)
+            .description("Product cache misses served by another request's in-flight load")
+            .register(registry);
+        FunctionCounter.builder("product.reads.coalescing.timeouts", productReads, SingleFlight::timeoutCount)
+            .description("Coalesced lookups that stopped waiting and loaded themselves")
+            .register(registry);
+        Gauge.builder("product.reads.in.flight", productReads, SingleFlight::inFlightCount)
+            .description("Product lookups currently in flight")
+            .register(registry);
+        return productReads;
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.ecommerce.product.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 單一商品讀取合併設定
+ *
+ * <pre>
+ * product:
+ *   read-coalescing:
+ *     enabled: true
+ *     timeout: 500ms
+ *     tracked-keys: 1000
+ * </pre>
+ */
+@ConfigurationProperties(prefix = "product.read-coalescing")
+public class ProductReadCoalescingProperties {
+
+    /**
+     * 合併同一商品快取未命中時的並行查詢；停用時每個請求各自讀取
+     */
+    private boolean enabled = true;
+
+    /**
+     * 等待進行中讀取的上限，逾時改為自行讀取
+     */
+    private Duration timeout = Duration.ofMillis(500);
+
+    /**
+     * 記錄合併次數的商品數上限
+     */
+    private int trackedKeys = 1000;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Duration getTimeout() {
+        return timeout;
+    }
+
+    public void setTimeout(Duration timeout) {
+        this.timeout = timeout;
+    }
+
+    public int getTrackedKeys() {
+        return trackedKeys;
+    }
+
+    public void setTrackedKeys(int trackedKeys) {
+        this.trackedKeys = trackedKeys;
+    }
+}
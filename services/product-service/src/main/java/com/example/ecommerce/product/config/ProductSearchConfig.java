@@ -0,0 +1,65 @@
+package com.example.ecommerce.product.config;
+
+import com.example.ecommerce.product.adapter.outbound.broadcast.ProductChangeBroadcaster;
+import com.example.ecommerce.product.adapter.outbound.search.InMemoryProductSearchIndex;
+import com.example.ecommerce.product.adapter.outbound.search.JdbcProductSearchSource;
+import com.example.ecommerce.product.adapter.outbound.search.ProductSearchSnapshot;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Clock;
+
+/**
+ * 商品全文搜尋索引配置
+ *
+ * <p>有跨實例廣播 (product.broadcast.enabled) 時另訂閱廣播，其他實例的商品異動也會更新本機索引。</p>
+ */
+@Configuration
+@EnableConfigurationProperties(ProductSearchProperties.class)
+@ConditionalOnProperty(prefix = "product.search", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ProductSearchConfig {
+
+    /**
+     * 索引實作 Closeable，關閉時由容器自動呼叫 close() 並寫入快照
+     */
+    @Bean
+    public InMemoryProductSearchIndex productSearchIndex(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            ObjectMapper objectMapper,
+            ProductSearchProperties properties,
+            ObjectProvider<ProductChangeBroadcaster> changeBroadcaster,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        ProductSearchProperties.Snapshot snapshot = properties.getSnapshot();
+        InMemoryProductSearchIndex index = new InMemoryProductSearchIndex(
+            new JdbcProductSearchSource(jdbcTemplate, transactionManager),
+            snapshot.getPath() != null ? new ProductSearchSnapshot(snapshot.getPath(), objectMapper) : null,
+            properties.getMaxPrefixExpansions(),
+            properties.getRefreshBatchSize(),
+            properties.getRefreshInterval(),
+            snapshot.getInterval(),
+            snapshot.getMaxAge(),
+            snapshot.getCatchUpMargin(),
+            Clock.systemUTC());
+        index.start();
+        changeBroadcaster.ifAvailable(broadcaster -> broadcaster.subscribeRemote(index::onRemoteChange));
+
+        MeterRegistry registry = meterRegistry.getIfAvailable(SimpleMeterRegistry::new);
+        Gauge.builder("product.search.documents", index, InMemoryProductSearchIndex::size)
+            .description("Products in the search index")
+            .register(registry);
+        Gauge.builder("product.search.pending", index, InMemoryProductSearchIndex::pendingCount)
+            .description("Changed products waiting to be re-indexed")
+            .register(registry);
+        return index;
+    }
+}
@@ -0,0 +1,150 @@
+package com.example.ecommerce.product.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * 商品全文搜尋索引設定
+ *
+ * <pre>
+ * product:
+ *   search:
+ *     enabled: true
+ *     max-prefix-expansions: 50
+ *     refresh-interval: 200ms
+ *     refresh-batch-size: 500
+ *     snapshot:
+ *       path: /var/lib/product-service/search-index.json.gz
+ *       interval: 10m
+ *       max-age: 24h
+ *       catch-up-margin: 5m
+ * </pre>
+ */
+@ConfigurationProperties(prefix = "product.search")
+public class ProductSearchProperties {
+
+    /**
+     * 啟用搜尋索引與 /api/products/search
+     */
+    private boolean enabled = true;
+
+    /**
+     * 最後一個查詢詞做前綴比對時，最多展開的索引詞數
+     */
+    private int maxPrefixExpansions = 50;
+
+    /**
+     * 背景重讀待更新商品的間隔 (收到異動通知時會立即執行)
+     */
+    private Duration refreshInterval = Duration.ofMillis(200);
+
+    /**
+     * 每次重讀的商品數上限
+     */
+    private int refreshBatchSize = 500;
+
+    /**
+     * 磁碟快照
+     */
+    private Snapshot snapshot = new Snapshot();
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getMaxPrefixExpansions() {
+        return maxPrefixExpansions;
+    }
+
+    public void setMaxPrefixExpansions(int maxPrefixExpansions) {
+        this.maxPrefixExpansions = maxPrefixExpansions;
+    }
+
+    public Duration getRefreshInterval() {
+        return refreshInterval;
+    }
+
+    public void setRefreshInterval(Duration refreshInterval) {
+        this.refreshInterval = refreshInterval;
+    }
+
+    public int getRefreshBatchSize() {
+        return refreshBatchSize;
+    }
+
+    public void setRefreshBatchSize(int refreshBatchSize) {
+        this.refreshBatchSize = refreshBatchSize;
+    }
+
+    public Snapshot getSnapshot() {
+        return snapshot;
+    }
+
+    public void setSnapshot(Snapshot snapshot) {
+        this.snapshot = snapshot;
+    }
+
+    /**
+     * 磁碟快照，重啟時先載入快照再從資料庫補讀之後的變更
+     */
+    public static class Snapshot {
+
+        /**
+         * 快照檔路徑，未設定則不使用快照
+         */
+        private Path path;
+
+        /**
+         * 定期寫入快照的間隔 (關閉時也會寫入)，0 表示只在關閉時寫入
+         */
+        private Duration interval = Duration.ofMinutes(10);
+
+        /**
+         * 快照超過此時間則忽略，改從資料庫重建
+         */
+        private Duration maxAge = Duration.ofHours(24);
+
+        /**
+         * 補讀時往前多讀的時間，涵蓋快照時尚未提交的交易
+         */
+        private Duration catchUpMargin = Duration.ofMinutes(5);
+
+        public Path getPath() {
+            return path;
+        }
+
+        public void setPath(Path path) {
+            this.path = path;
+        }
+
+        public Duration getInterval() {
+            return interval;
+        }
+
+        public void setInterval(Duration interval) {
+            this.interval = interval;
+        }
+
+        public Duration getMaxAge() {
+            return maxAge;
+        }
+
+        public void setMaxAge(Duration maxAge) {
+            this.maxAge = maxAge;
+        }
+
+        public Duration getCatchUpMargin() {
+            return catchUpMargin;
+        }
+
+        public void setCatchUpMargin(Duration catchUpMargin) {
+            this.catchUpMargin = catchUpMargin;
+        }
+    }
+}
@@ -9,6 +9,7 @@ public record ProductCreated(
     String name,
     Money price,
     String category,
+    String description,
     String createdBy,
     Instant occurredAt
 ) implements DomainEvent {
@@ -8,6 +8,7 @@ public record ProductUpdated(
     String name,
     Money price,
     String category,
+    String description,
     String updatedBy,
     Instant occurredAt
 ) implements DomainEvent {
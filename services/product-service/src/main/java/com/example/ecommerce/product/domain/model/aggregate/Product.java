@@ -25,6 +25,7 @@ public class Product {
     private Instant createdAt;
     private String updatedBy;
     private Instant updatedAt;
+    private Long version;  // 持久化版本 (樂觀鎖)，尚未儲存時為 null
 
     private final List<DomainEvent> domainEvents = new ArrayList<>();
 
@@ -46,7 +47,7 @@ public class Product {
         );
 
         product.registerEvent(new ProductCreated(
-            product.id, code, name, price, category, createdBy, Instant.now()
+            product.id, code, name, price, category, description, createdBy, Instant.now()
         ));
 
         return product;
@@ -73,7 +74,7 @@ public class Product {
     public Product(ProductId id, ProductCode code, String name, Money price,
                    String category, String description, String tenantId,
                    ProductStatus status, String createdBy, Instant createdAt,
-                   String updatedBy, Instant updatedAt) {
+                   String updatedBy, Instant updatedAt, Long version) {
         this.id = id;
         this.productCode = code;
         this.name = name;
@@ -86,6 +87,7 @@ public class Product {
         this.createdAt = createdAt;
         this.updatedBy = updatedBy;
         this.updatedAt = updatedAt;
+        this.version = version;
     }
 
     // ===== Business Methods =====
@@ -104,7 +106,7 @@ public class Product {
         this.updatedBy = updatedBy;
         this.updatedAt = Instant.now();
 
-        registerEvent(new ProductUpdated(this.id, name, price, category, updatedBy, Instant.now()));
+        registerEvent(new ProductUpdated(this.id, name, price, category, description, updatedBy, Instant.now()));
     }
 
     public void changePrice(Money newPrice, String changedBy) {
@@ -171,5 +173,6 @@ public class Product {
     public Instant getCreatedAt() { return createdAt; }
     public String getUpdatedBy() { return updatedBy; }
     public Instant getUpdatedAt() { return updatedAt; }
+    public Long getVersion() { return version; }
     public boolean isActive() { return status == ProductStatus.ACTIVE; }
 }
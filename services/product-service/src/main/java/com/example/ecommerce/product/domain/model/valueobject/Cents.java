@@ -0,0 +1,130 @@
+package com.example.ecommerce.product.domain.model.valueobject;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Objects;
+
+/**
+ * 以分 (long) 表示金額的基本型別運算，供大量金額的路徑使用 (價格區間、排序、批次調價)
+ *
+ * <p>與 {@link Money#cents()} 使用相同的表示，迴圈中不需為每個金額建立物件。</p>
+ */
+public final class Cents {
+
+    private static final long[] POWERS_OF_TEN = {
+        1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L, 10_000_000L, 100_000_000L, 1_000_000_000L,
+        10_000_000_000L, 100_000_000_000L, 1_000_000_000_000L, 10_000_000_000_000L, 100_000_000_000_000L,
+        1_000_000_000_000_000L, 10_000_000_000_000_000L, 100_000_000_000_000_000L, 1_000_000_000_000_000_000L
+    };
+
+    private Cents() {
+    }
+
+    /**
+     * BigDecimal 金額四捨五入 (HALF_UP) 到分
+     *
+     * @throws ArithmeticException 超出 long 範圍
+     */
+    public static long of(BigDecimal amount) {
+        return Objects.requireNonNull(amount, "Amount cannot be null")
+            .setScale(2, RoundingMode.HALF_UP).movePointRight(2).longValueExact();
+    }
+
+    /**
+     * @throws ArithmeticException 總和超出 long 範圍
+     */
+    public static long sum(long[] cents) {
+        long sum = 0;
+        for (long value : cents) {
+            sum = Math.addExact(sum, value);
+        }
+        return sum;
+    }
+
+    /**
+     * @throws IllegalArgumentException 陣列為空
+     */
+    public static long min(long[] cents) {
+        requireNotEmpty(cents);
+        long min = cents[0];
+        for (int i = 1; i < cents.length; i++) {
+            min = Math.min(min, cents[i]);
+        }
+        return min;
+    }
+
+    /**
+     * @throws IllegalArgumentException 陣列為空
+     */
+    public static long max(long[] cents) {
+        requireNotEmpty(cents);
+        long max = cents[0];
+        for (int i = 1; i < cents.length; i++) {
+            max = Math.max(max, cents[i]);
+        }
+        return max;
+    }
+
+    /**
+     * 預先拆解係數，之後每次相乘只做 long 運算
+     */
+    public static Factor factor(BigDecimal factor) {
+        return new Factor(factor);
+    }
+
+    private static void requireNotEmpty(long[] cents) {
+        if (cents.length == 0) {
+            throw new IllegalArgumentException("At least one amount is required");
+        }
+    }
+
+    /**
+     * 金額係數 (例如調價倍率)
+     *
+     * <p>係數以 (unscaled, scale) 的 long 保存；分 × unscaled 在 long 範圍內時以整數除法四捨五入 (HALF_UP)，
+     * 結果與 BigDecimal 相乘後 setScale(2, HALF_UP) 相同；超出範圍才改用 BigDecimal 計算。</p>
+     */
+    public static final class Factor {
+
+        private final BigDecimal factor;
+        private final long unscaled;
+        private final long divisor;
+        private final boolean compact;
+
+        private Factor(BigDecimal factor) {
+            this.factor = Objects.requireNonNull(factor, "Factor cannot be null");
+            BigDecimal normalized = factor.stripTrailingZeros();
+            if (normalized.scale() < 0) {
+                normalized = normalized.setScale(0);
+            }
+            this.compact = normalized.scale() < POWERS_OF_TEN.length && normalized.precision() < 19;
+            this.unscaled = compact ? normalized.unscaledValue().longValue() : 0;
+            this.divisor = compact ? POWERS_OF_TEN[normalized.scale()] : 1;
+        }
+
+        /**
+         * @return 分 × 係數，四捨五入到分
+         * @throws ArithmeticException 結果超出 long 範圍
+         */
+        public long apply(long cents) {
+            if (compact) {
+                long high = Math.multiplyHigh(cents, unscaled);
+                long low = cents * unscaled;
+                if ((high == 0 && low >= 0) || (high == -1 && low < 0)) {
+                    return roundHalfUp(low, divisor);
+                }
+            }
+            return BigDecimal.valueOf(cents).multiply(factor).setScale(0, RoundingMode.HALF_UP).longValueExact();
+        }
+
+        private static long roundHalfUp(long value, long divisor) {
+            long quotient = value / divisor;
+            long remainder = value % divisor;
+            // |remainder| < divisor <= 10^18，乘 2 前先與 divisor - |remainder| 比較避免溢位
+            if (Math.abs(remainder) >= divisor - Math.abs(remainder)) {
+                quotient += Long.signum(value);
+            }
+            return quotient;
+        }
+    }
+}
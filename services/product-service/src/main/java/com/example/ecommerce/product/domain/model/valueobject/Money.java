@@ -1,89 +1,121 @@
 package com.example.ecommerce.product.domain.model.valueobject;
 
 import java.math.BigDecimal;
-import java.math.RoundingMode;
-import java.util.Objects;
 
 /**
  * Money Value Object - 不可變，自我驗證
+ *
+ * <p>以分 (新台幣，小數兩位) 的 long 保存，比較、加減與驗證不建立 BigDecimal；
+ * 只有在持久化與 API 邊界 ({@link #of(BigDecimal)}、{@link #amount()}) 才與 BigDecimal 精確互轉。
+ * 建立與乘以係數時四捨五入 (HALF_UP) 到分；超出 long 範圍時拋出 ArithmeticException。</p>
  */
-public final class Money {
+public final class Money implements Comparable<Money> {
 
-    private final BigDecimal amount;
+    private static final Money ZERO = new Money(0);
 
-    private Money(BigDecimal amount) {
-        this.amount = Objects.requireNonNull(amount, "Amount cannot be null")
-                .setScale(2, RoundingMode.HALF_UP);
+    private final long cents;
+
+    private Money(long cents) {
+        this.cents = cents;
     }
 
     public static Money of(BigDecimal amount) {
-        return new Money(amount);
+        return new Money(Cents.of(amount));
     }
 
     public static Money of(double amount) {
-        return new Money(BigDecimal.valueOf(amount));
+        return new Money(Cents.of(BigDecimal.valueOf(amount)));
     }
 
     public static Money of(long amount) {
-        return new Money(BigDecimal.valueOf(amount));
+        return new Money(Math.multiplyExact(amount, 100L));
+    }
+
+    /**
+     * @param cents 金額乘以 100
+     */
+    public static Money ofCents(long cents) {
+        return cents == 0 ? ZERO : new Money(cents);
     }
 
     public static Money zero() {
-        return new Money(BigDecimal.ZERO);
+        return ZERO;
     }
 
     public Money add(Money other) {
-        return new Money(this.amount.add(other.amount));
+        return new Money(Math.addExact(cents, other.cents));
     }
 
     public Money subtract(Money other) {
-        return new Money(this.amount.subtract(other.amount));
+        return new Money(Math.subtractExact(cents, other.cents));
     }
 
     public Money multiply(int n) {
-        return new Money(this.amount.multiply(BigDecimal.valueOf(n)));
+        return new Money(Math.multiplyExact(cents, n));
+    }
+
+    /**
+     * 乘以係數並四捨五入到分；同一係數套用到大量金額時改用 {@link Cents.Factor}
+     */
+    public Money multiply(BigDecimal factor) {
+        return new Money(Cents.factor(factor).apply(cents));
     }
 
     public boolean isPositive() {
-        return amount.compareTo(BigDecimal.ZERO) > 0;
+        return cents > 0;
     }
 
     public boolean isZero() {
-        return amount.compareTo(BigDecimal.ZERO) == 0;
+        return cents == 0;
     }
 
     public boolean isGreaterThan(Money other) {
-        return amount.compareTo(other.amount) > 0;
+        return cents > other.cents;
     }
 
     public boolean isLessThan(Money other) {
-        return amount.compareTo(other.amount) < 0;
+        return cents < other.cents;
     }
 
     public void validatePositive() {
         if (!isPositive()) {
-            throw new IllegalArgumentException("Amount must be positive, got: " + amount);
+            throw new IllegalArgumentException("Amount must be positive, got: " + amount());
         }
     }
 
+    /**
+     * 金額乘以 100 (分)
+     */
+    public long cents() {
+        return cents;
+    }
+
+    /**
+     * 小數兩位的精確金額，供持久化與 API 使用
+     */
     public BigDecimal amount() {
-        return amount;
+        return BigDecimal.valueOf(cents, 2);
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        return Long.compare(cents, other.cents);
     }
 
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
         if (!(o instanceof Money money)) return false;
-        return amount.compareTo(money.amount) == 0;
+        return cents == money.cents;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(amount);
+        return Long.hashCode(cents);
     }
 
     @Override
     public String toString() {
-        return "NT$ " + amount.toPlainString();
+        return "NT$ " + amount().toPlainString();
     }
 }
@@ -1,17 +1,16 @@
 package com.example.ecommerce.product.domain.model.valueobject;
 
 import java.util.Objects;
-import java.util.concurrent.atomic.AtomicLong;
 import java.util.regex.Pattern;
 
 /**
  * Product Code Value Object
  * 格式：P + 6位數字，例如 P000001
+ * 系統配發的代碼由 {@link com.example.ecommerce.product.application.port.output.ProductCodeAllocator} 產生
  */
 public final class ProductCode {
 
     private static final Pattern PATTERN = Pattern.compile("^P\\d{6}$");
-    private static final AtomicLong COUNTER = new AtomicLong(System.currentTimeMillis() % 1000000);
 
     private final String value;
 
@@ -29,11 +28,6 @@ public final class ProductCode {
         return new ProductCode(value.toUpperCase());
     }
 
-    public static ProductCode generate() {
-        long next = COUNTER.incrementAndGet() % 1000000;
-        return new ProductCode(String.format("P%06d", next));
-    }
-
     public String value() {
         return value;
     }
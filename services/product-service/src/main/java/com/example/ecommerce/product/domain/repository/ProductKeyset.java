@@ -0,0 +1,12 @@
+package com.example.ecommerce.product.domain.repository;
+
+import com.example.ecommerce.product.domain.model.valueobject.ProductId;
+
+/**
+ * Keyset 分頁位置：上一頁最後一筆的排序值與 ID
+ *
+ * @param sortValue 排序欄位的值 (Instant / BigDecimal / String)
+ * @param id        商品 ID，排序值相同時的次要排序
+ */
+public record ProductKeyset(Comparable<?> sortValue, ProductId id) {
+}
@@ -17,6 +17,21 @@ public interface ProductRepository {
     List<Product> findByTenantId(String tenantId);
     List<Product> findByCategory(String category);
     Product save(Product product);
+
+    /**
+     * 新增商品並立即寫入，由 unique constraint 檢查商品代碼
+     *
+     * @throws com.example.ecommerce.common.exception.BusinessException 代碼重複 (DUPLICATE_PRODUCT_CODE)
+     */
+    Product add(Product product);
+
+    /**
+     * 整批新增商品，批次寫入後才一次檢查 unique constraint；任一代碼重複時整批不寫入
+     *
+     * @throws com.example.ecommerce.common.exception.BusinessException 代碼重複 (DUPLICATE_PRODUCT_CODE)
+     */
+    List<Product> addAll(List<Product> products);
+
     void delete(ProductId id);
     boolean existsByProductCode(ProductCode code);
     long countByTenantId(String tenantId);
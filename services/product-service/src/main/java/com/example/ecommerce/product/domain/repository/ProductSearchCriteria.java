@@ -0,0 +1,13 @@
+package com.example.ecommerce.product.domain.repository;
+
+import com.example.ecommerce.product.domain.model.valueobject.ProductStatus;
+
+/**
+ * 商品查詢條件 (null 表示不限制)
+ *
+ * @param tenantId 租戶 ID
+ * @param category 分類
+ * @param status   狀態
+ */
+public record ProductSearchCriteria(String tenantId, String category, ProductStatus status) {
+}
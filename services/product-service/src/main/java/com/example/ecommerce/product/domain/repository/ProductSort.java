@@ -0,0 +1,72 @@
+package com.example.ecommerce.product.domain.repository;
+
+import java.util.Arrays;
+
+/**
+ * 商品排序 - 只允許白名單中的欄位
+ *
+ * @param field     排序欄位
+ * @param ascending 是否遞增
+ */
+public record ProductSort(Field field, boolean ascending) {
+
+    /**
+     * 可排序的欄位
+     */
+    public enum Field {
+        CREATED_AT("createdAt", true),
+        UPDATED_AT("updatedAt", true),
+        NAME("name", true),
+        PRICE("price", true),
+        PRODUCT_CODE("productCode", true),
+        CATEGORY("category", false);
+
+        private final String property;
+        private final boolean keysetSupported;
+
+        Field(String property, boolean keysetSupported) {
+            this.property = property;
+            this.keysetSupported = keysetSupported;
+        }
+
+        public String property() {
+            return property;
+        }
+
+        /**
+         * 欄位不可為 null 時才能作為 keyset 分頁的排序鍵
+         */
+        public boolean keysetSupported() {
+            return keysetSupported;
+        }
+    }
+
+    public static final ProductSort DEFAULT = new ProductSort(Field.CREATED_AT, false);
+
+    public ProductSort {
+        if (field == null) {
+            field = Field.CREATED_AT;
+        }
+    }
+
+    /**
+     * 由 API 參數建立排序；不在白名單中的欄位使用預設排序
+     *
+     * @param property  欄位名稱 (例如 createdAt)
+     * @param direction ASC / DESC
+     */
+    public static ProductSort of(String property, String direction) {
+        Field field = Arrays.stream(Field.values())
+            .filter(f -> f.property.equalsIgnoreCase(property))
+            .findFirst()
+            .orElse(DEFAULT.field());
+        return new ProductSort(field, "ASC".equalsIgnoreCase(direction));
+    }
+
+    /**
+     * 轉為可用於 keyset 分頁的排序；欄位不支援時改用 createdAt
+     */
+    public ProductSort forKeyset() {
+        return field.keysetSupported() ? this : new ProductSort(Field.CREATED_AT, ascending);
+    }
+}
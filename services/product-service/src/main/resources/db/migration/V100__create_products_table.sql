@@ -0,0 +1,29 @@
+-- Flyway migration: Create products table
+-- Version: V100
+-- Service: product-service
+-- Note: V1-V99 are reserved for audit-lib migrations sharing classpath:db/migration
+
+CREATE TABLE products (
+    id              UUID                        PRIMARY KEY,
+    product_code    VARCHAR(10)                 NOT NULL,
+    name            VARCHAR(255)                NOT NULL,
+    price           NUMERIC(10, 2)              NOT NULL,
+    category        VARCHAR(255),
+    description     TEXT,
+    status          VARCHAR(255)                NOT NULL,
+    tenant_id       VARCHAR(255)                NOT NULL,
+    created_by      VARCHAR(255),
+    created_at      TIMESTAMP(6) WITH TIME ZONE,
+    updated_by      VARCHAR(255),
+    updated_at      TIMESTAMP(6) WITH TIME ZONE,
+
+    -- Constraints
+    CONSTRAINT uk_products_product_code UNIQUE (product_code)
+);
+
+-- Comment on table
+COMMENT ON TABLE products IS 'Product catalog, one row per product (multi-tenant)';
+COMMENT ON COLUMN products.id IS 'Unique identifier for the product (UUID)';
+COMMENT ON COLUMN products.product_code IS 'Business product code, unique across tenants';
+COMMENT ON COLUMN products.status IS 'Product status: ACTIVE, INACTIVE or DELETED';
+COMMENT ON COLUMN products.tenant_id IS 'Owning tenant';
@@ -0,0 +1,21 @@
+-- Flyway migration: Add composite indexes for product list queries
+-- Version: V101
+-- Service: product-service
+-- Every list query filters on status and, except for the system tenant, on tenant_id;
+-- the trailing (created_at, id) columns serve the default sort and keyset paging.
+
+-- Tenant listing filtered by category (ProductQueryService with category)
+CREATE INDEX IF NOT EXISTS idx_products_tenant_status_category
+    ON products(tenant_id, status, category, created_at DESC, id DESC);
+
+-- Tenant listing without category; also serves findByTenantId / countByTenantId
+CREATE INDEX IF NOT EXISTS idx_products_tenant_status_created
+    ON products(tenant_id, status, created_at DESC, id DESC);
+
+-- System tenant listing across all tenants
+CREATE INDEX IF NOT EXISTS idx_products_status_created
+    ON products(status, created_at DESC, id DESC);
+
+-- Category lookups without tenant (findByCategory, system tenant with category)
+CREATE INDEX IF NOT EXISTS idx_products_category_status
+    ON products(category, status, created_at DESC);
@@ -0,0 +1,22 @@
+-- Flyway migration: Create transactional outbox for product domain events
+-- Version: V102
+-- Service: product-service
+-- Rows are written in the same transaction as the product change and deleted once relayed.
+
+CREATE TABLE product_outbox (
+    id              BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    aggregate_id    UUID                        NOT NULL,
+    tenant_id       VARCHAR(255)                NOT NULL,
+    event_type      VARCHAR(100)                NOT NULL,
+    payload         TEXT                        NOT NULL,
+    occurred_at     TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    created_at      TIMESTAMP(6) WITH TIME ZONE NOT NULL
+);
+
+-- Relay picks the oldest pending event of each aggregate
+CREATE INDEX IF NOT EXISTS idx_product_outbox_aggregate
+    ON product_outbox(aggregate_id, id);
+
+COMMENT ON TABLE product_outbox IS 'Pending product domain events, relayed in id order per aggregate';
+COMMENT ON COLUMN product_outbox.id IS 'Monotonic sequence, defines the event order';
+COMMENT ON COLUMN product_outbox.payload IS 'JSON serialized domain event';
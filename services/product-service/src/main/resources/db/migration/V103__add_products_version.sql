@@ -0,0 +1,7 @@
+-- Flyway migration: Optimistic locking version for products
+-- Version: V103
+-- Service: product-service
+
+ALTER TABLE products ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+
+COMMENT ON COLUMN products.version IS 'Optimistic locking version, incremented on every update';
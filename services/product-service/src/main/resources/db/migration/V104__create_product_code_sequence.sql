@@ -0,0 +1,7 @@
+-- Flyway migration: Sequence for hi/lo product code allocation
+-- Version: V104
+-- Service: product-service
+-- Each value reserves a block of product codes (min + value * block-size), so the
+-- sequence advances once per block, not once per product.
+
+CREATE SEQUENCE IF NOT EXISTS product_code_seq START WITH 0 MINVALUE 0 INCREMENT BY 1;
@@ -0,0 +1,25 @@
+-- Flyway migration: Create detail rows for bulk price changes
+-- Version: V105
+-- Service: product-service
+-- One row per repriced product; the summary is the PRODUCT_PRICES_CHANGED audit entry
+-- whose aggregate_id is change_id.
+
+CREATE TABLE product_price_changes (
+    id              BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    change_id       UUID                        NOT NULL,
+    product_id      UUID                        NOT NULL,
+    tenant_id       VARCHAR(255)                NOT NULL,
+    old_price       NUMERIC(10, 2)              NOT NULL,
+    new_price       NUMERIC(10, 2)              NOT NULL,
+    changed_by      VARCHAR(255),
+    changed_at      TIMESTAMP(6) WITH TIME ZONE NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_product_price_changes_change
+    ON product_price_changes(change_id);
+
+CREATE INDEX IF NOT EXISTS idx_product_price_changes_product
+    ON product_price_changes(product_id, changed_at);
+
+COMMENT ON TABLE product_price_changes IS 'Per-product detail of bulk price changes';
+COMMENT ON COLUMN product_price_changes.change_id IS 'Bulk change, aggregate id of the summary audit entry';
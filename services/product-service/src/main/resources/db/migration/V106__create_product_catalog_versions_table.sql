@@ -0,0 +1,11 @@
+-- Flyway migration: Per-tenant catalog version for collection ETags
+-- Version: V106
+-- Service: product-service
+-- Incremented by the outbox relay in the same transaction that relays the events, so a
+-- single writer updates each row once per batch instead of once per product write.
+
+CREATE TABLE product_catalog_versions (
+    tenant_id   VARCHAR(255)                NOT NULL PRIMARY KEY,
+    version     BIGINT                      NOT NULL,
+    updated_at  TIMESTAMP WITH TIME ZONE    NOT NULL
+);
@@ -0,0 +1,18 @@
+-- Flyway migration: Idempotency-Key records shared by all instances
+-- Version: V107
+-- Service: product-service
+-- Used by common-lib's JdbcIdempotencyStore when idempotency.store=jdbc. A row without
+-- status_code is a request still executing; retries wait on it instead of running again.
+
+CREATE TABLE idempotency_keys (
+    idempotency_key  VARCHAR(512)                NOT NULL PRIMARY KEY,
+    fingerprint      VARCHAR(64)                 NOT NULL,
+    status_code      INT,
+    content_type     VARCHAR(255),
+    response_headers TEXT,
+    response_body    TEXT,
+    created_at       TIMESTAMP WITH TIME ZONE    NOT NULL,
+    expires_at       TIMESTAMP WITH TIME ZONE    NOT NULL
+);
+
+CREATE INDEX idx_idempotency_keys_expires_at ON idempotency_keys (expires_at);
@@ -0,0 +1,33 @@
+-- Flyway migration: Archive table for soft-deleted products
+-- Version: V108
+-- Service: product-service
+-- The archival job moves DELETED products older than product.archive.min-age here, keeping
+-- id and product_code, so audit_logs.aggregate_id and product_price_changes.product_id still
+-- resolve through GET /api/products/archived/{id}.
+
+CREATE TABLE products_archive (
+    id              UUID                        PRIMARY KEY,
+    product_code    VARCHAR(10)                 NOT NULL,
+    name            VARCHAR(255)                NOT NULL,
+    price           NUMERIC(10, 2)              NOT NULL,
+    category        VARCHAR(255),
+    description     TEXT,
+    status          VARCHAR(255)                NOT NULL,
+    tenant_id       VARCHAR(255)                NOT NULL,
+    created_by      VARCHAR(255),
+    created_at      TIMESTAMP(6) WITH TIME ZONE,
+    updated_by      VARCHAR(255),
+    updated_at      TIMESTAMP(6) WITH TIME ZONE,
+    version         BIGINT                      NOT NULL,
+    archived_at     TIMESTAMP(6) WITH TIME ZONE NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_products_archive_tenant_archived
+    ON products_archive(tenant_id, archived_at);
+
+-- Archival scan: DELETED rows in (updated_at, id) keyset order, oldest first
+CREATE INDEX IF NOT EXISTS idx_products_status_updated
+    ON products(status, updated_at, id);
+
+COMMENT ON TABLE products_archive IS 'Soft-deleted products moved out of products by the archival job';
+COMMENT ON COLUMN products_archive.archived_at IS 'Time the row was moved from products';
@@ -0,0 +1,34 @@
+-- Flyway migration: Product history (snapshots + deltas) for point-in-time reads
+-- Version: V109
+-- Service: product-service
+-- Written by the outbox relay in the transaction that relays the events. A product at time T
+-- is its latest snapshot at or before T plus the deltas after it up to T; a snapshot is
+-- taken every product.history.snapshot-interval deltas, which bounds the replay.
+
+CREATE TABLE product_history_deltas (
+    product_id      UUID                        NOT NULL,
+    sequence        BIGINT                      NOT NULL,
+    tenant_id       VARCHAR(255)                NOT NULL,
+    event_type      VARCHAR(100)                NOT NULL,
+    payload         TEXT                        NOT NULL,
+    occurred_at     TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    PRIMARY KEY (product_id, sequence)
+);
+
+CREATE TABLE product_history_snapshots (
+    product_id      UUID                        NOT NULL,
+    sequence        BIGINT                      NOT NULL,
+    tenant_id       VARCHAR(255)                NOT NULL,
+    state           TEXT                        NOT NULL,
+    valid_from      TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    PRIMARY KEY (product_id, sequence)
+);
+
+-- Nearest snapshot at or before T
+CREATE INDEX IF NOT EXISTS idx_product_history_snapshots_valid_from
+    ON product_history_snapshots(product_id, valid_from);
+
+COMMENT ON TABLE product_history_deltas IS 'Product domain events in outbox sequence order, one row per event';
+COMMENT ON COLUMN product_history_deltas.sequence IS 'Outbox sequence of the event';
+COMMENT ON TABLE product_history_snapshots IS 'Full product state after the delta with the same sequence';
+COMMENT ON COLUMN product_history_snapshots.state IS 'JSON serialized product state';
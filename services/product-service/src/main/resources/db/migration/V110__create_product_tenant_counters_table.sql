@@ -0,0 +1,14 @@
+-- Flyway migration: Incrementally maintained per-tenant product counters
+-- Version: V110
+-- Service: product-service
+-- Product writes add +1/-1 to one of several stripe rows per (tenant, status) in their own
+-- transaction, so concurrent writers of one tenant rarely wait on the same row. Readers sum the
+-- stripes; a periodic reconciliation recounts products and corrects any drift.
+
+CREATE TABLE product_tenant_counters (
+    tenant_id       VARCHAR(255)    NOT NULL,
+    status          VARCHAR(20)     NOT NULL,
+    stripe          INTEGER         NOT NULL,
+    product_count   BIGINT          NOT NULL,
+    CONSTRAINT pk_product_tenant_counters PRIMARY KEY (tenant_id, status, stripe)
+);
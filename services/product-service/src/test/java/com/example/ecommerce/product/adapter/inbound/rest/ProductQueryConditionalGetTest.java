@@ -0,0 +1,164 @@
+package com.example.ecommerce.product.adapter.inbound.rest;
+
+import com.example.ecommerce.common.dto.ApiResponse;
+import com.example.ecommerce.common.dto.PagedResult;
+import com.example.ecommerce.product.application.dto.CatalogVersion;
+import com.example.ecommerce.product.application.dto.ProductRevision;
+import com.example.ecommerce.product.application.dto.ProductView;
+import com.example.ecommerce.product.application.port.input.query.*;
+import com.example.ecommerce.product.application.service.ProductQueryService;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * 條件式 GET：直接呼叫 controller，以 ServletWebRequest 驗證標頭與 304
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ProductQueryController conditional GET")
+class ProductQueryConditionalGetTest {
+
+    private static final Instant UPDATED_AT = Instant.parse("2026-01-01T10:00:00.123456Z");
+    private static final long VERSION = 3;
+
+    @Mock
+    private ProductQueryService queryService;
+
+    private ProductQueryController controller;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+
+    @BeforeEach
+    void setUp() {
+        controller = new ProductQueryController(queryService);
+        request = new MockHttpServletRequest("GET", "/api/products");
+        response = new MockHttpServletResponse();
+    }
+
+    @Nested
+    @DisplayName("Single product")
+    class SingleProduct {
+
+        private final ProductView product = view();
+
+        @Test
+        @DisplayName("should return ETag and Last-Modified with the body")
+        void shouldSetValidators() {
+            when(queryService.handle(new GetProductByIdQuery(product.id()))).thenReturn(product);
+
+            ApiResponse<ProductView> body = controller.getProduct(product.id(), webRequest());
+
+            assertEquals(product, body.getData());
+            assertEquals(ProductETags.product(product.id(), VERSION), response.getHeader(HttpHeaders.ETAG));
+            assertEquals(UPDATED_AT.toEpochMilli() / 1000 * 1000, response.getDateHeader(HttpHeaders.LAST_MODIFIED));
+            verify(queryService, never()).handle(any(GetProductRevisionQuery.class));
+        }
+
+        @Test
+        @DisplayName("should answer 304 from the revision only")
+        void shouldReturnNotModified() {
+            when(queryService.handle(new GetProductRevisionQuery(product.id())))
+                .thenReturn(new ProductRevision(VERSION, UPDATED_AT));
+            request.addHeader(HttpHeaders.IF_NONE_MATCH, ProductETags.product(product.id(), VERSION));
+
+            assertNull(controller.getProduct(product.id(), webRequest()));
+
+            assertEquals(304, response.getStatus());
+            verify(queryService, never()).handle(any(GetProductByIdQuery.class));
+        }
+
+        @Test
+        @DisplayName("should return the body when the version changed within the same timestamp")
+        void shouldReturnBodyWhenChanged() {
+            when(queryService.handle(new GetProductRevisionQuery(product.id())))
+                .thenReturn(new ProductRevision(VERSION + 1, UPDATED_AT));
+            when(queryService.handle(new GetProductByIdQuery(product.id()))).thenReturn(product);
+            request.addHeader(HttpHeaders.IF_NONE_MATCH, ProductETags.product(product.id(), VERSION));
+
+            assertNotNull(controller.getProduct(product.id(), webRequest()));
+
+            assertEquals(200, response.getStatus());
+            assertEquals(ProductETags.product(product.id(), VERSION + 1), response.getHeader(HttpHeaders.ETAG));
+        }
+    }
+
+    @Nested
+    @DisplayName("Listing")
+    class Listing {
+
+        private final CatalogVersion version = new CatalogVersion("tenant-1", 42, UPDATED_AT);
+
+        @Test
+        @DisplayName("should answer 304 from the catalog version without querying products")
+        void shouldReturnNotModified() {
+            when(queryService.handle(any(GetCatalogVersionQuery.class))).thenReturn(Optional.of(version));
+            request.addHeader(HttpHeaders.IF_NONE_MATCH, ProductETags.catalog(version));
+
+            assertNull(list());
+
+            assertEquals(304, response.getStatus());
+            verify(queryService, never()).handle(any(ListProductsQuery.class));
+        }
+
+        @Test
+        @DisplayName("should tag the listing with the catalog version")
+        void shouldSetCatalogETag() {
+            when(queryService.handle(any(GetCatalogVersionQuery.class))).thenReturn(Optional.of(version));
+            when(queryService.handle(any(ListProductsQuery.class)))
+                .thenReturn(new PagedResult<>(List.of(view()), 0, 20, 1));
+            request.addHeader(HttpHeaders.IF_NONE_MATCH, ProductETags.catalog(new CatalogVersion("tenant-1", 41, null)));
+
+            assertNotNull(list());
+
+            assertEquals(ProductETags.catalog(version), response.getHeader(HttpHeaders.ETAG));
+        }
+
+        @Test
+        @DisplayName("should not mix up tenants with the same version")
+        void shouldScopeETagToTenant() {
+            assertNotEquals(ProductETags.catalog(version), ProductETags.catalog(new CatalogVersion("tenant-2", 42, null)));
+            assertNotEquals(ProductETags.catalog(version), ProductETags.catalog(new CatalogVersion(null, 42, null)));
+        }
+
+        @Test
+        @DisplayName("should omit validators without catalog versions")
+        void shouldSkipWithoutCatalogVersions() {
+            when(queryService.handle(any(GetCatalogVersionQuery.class))).thenReturn(Optional.empty());
+            when(queryService.handle(any(ListProductsQuery.class)))
+                .thenReturn(new PagedResult<>(List.of(), 0, 20, 0));
+
+            assertNotNull(list());
+
+            assertNull(response.getHeader(HttpHeaders.ETAG));
+        }
+
+        private ApiResponse<PagedResult<ProductView>> list() {
+            return controller.listProducts(0, 20, null, "createdAt", "DESC", null, false, webRequest());
+        }
+    }
+
+    private ServletWebRequest webRequest() {
+        return new ServletWebRequest(request, response);
+    }
+
+    private static ProductView view() {
+        return new ProductView(UUID.randomUUID(), "P000001", "Book", new BigDecimal("10.00"), "Books",
+            null, "ACTIVE", "tenant-1", "creator", UPDATED_AT.minusSeconds(60), "editor", UPDATED_AT,
+            VERSION);
+    }
+}
@@ -196,7 +196,8 @@ class ProductQueryControllerTest {
             "creator",
             Instant.now(),
             "updater",
-            Instant.now()
+            Instant.now(),
+            1L
         );
     }
 }
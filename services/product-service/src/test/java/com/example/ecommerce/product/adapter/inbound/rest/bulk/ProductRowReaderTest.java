@@ -0,0 +1,94 @@
+package com.example.ecommerce.product.adapter.inbound.rest.bulk;
+
+import com.example.ecommerce.product.application.port.input.command.BulkProductRow;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.*;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Bulk product row readers")
+class ProductRowReaderTest {
+
+    @Nested
+    @DisplayName("NDJSON")
+    class Ndjson {
+
+        @Test
+        @DisplayName("should parse one product per line and report bad lines individually")
+        void shouldParseLines() {
+            String body = """
+                {"productCode":"P000001","name":"Phone","price":300,"category":"Electronics"}
+                {"name":"Laptop","price":900}
+
+                {"name":"Broken",
+                {"name":"Free","price":0}
+                """;
+
+            List<BulkProductRow> rows = read(new NdjsonProductRowReader(
+                new BufferedReader(new StringReader(body)), new ObjectMapper().reader()));
+
+            assertEquals(4, rows.size());
+            assertEquals("P000001", rows.get(0).command().productCode());
+            assertEquals(new BigDecimal("900"), rows.get(1).command().price());
+            assertEquals(2, rows.get(1).line());
+            assertFalse(rows.get(2).isValid());
+            assertEquals(4, rows.get(2).line());
+            assertTrue(rows.get(2).error().startsWith("Malformed JSON"));
+            assertEquals("Price must be positive", rows.get(3).error());
+        }
+    }
+
+    @Nested
+    @DisplayName("CSV")
+    class Csv {
+
+        @Test
+        @DisplayName("should map columns by header name and handle quoted fields")
+        void shouldParseQuotedFields() {
+            String body = "name,price,productCode,description\r\n"
+                + "Phone,300,P000001,\"Fast, \"\"new\"\" model\"\r\n"
+                + "\"Two\nlines\",12.50,,\n";
+
+            List<BulkProductRow> rows = read(new CsvProductRowReader(new StringReader(body)));
+
+            assertEquals(2, rows.size());
+            assertEquals("Fast, \"new\" model", rows.get(0).command().description());
+            assertEquals("Two\nlines", rows.get(1).command().name());
+            assertNull(rows.get(1).command().productCode());
+            assertEquals(new BigDecimal("12.50"), rows.get(1).command().price());
+        }
+
+        @Test
+        @DisplayName("should report an invalid price for that row only")
+        void shouldReportInvalidPrice() {
+            List<BulkProductRow> rows = read(new CsvProductRowReader(
+                new StringReader("name,price\nPhone,abc\nLaptop,900")));
+
+            assertEquals(2, rows.size());
+            assertEquals("Invalid price: abc", rows.get(0).error());
+            assertTrue(rows.get(1).isValid());
+            assertEquals(2, rows.get(1).line());
+        }
+
+        @Test
+        @DisplayName("should reject a header without required columns")
+        void shouldRejectHeaderWithoutRequiredColumns() {
+            CsvProductRowReader reader = new CsvProductRowReader(new StringReader("name,category\nPhone,Electronics"));
+
+            assertThrows(IllegalArgumentException.class, reader::hasNext);
+        }
+    }
+
+    private static List<BulkProductRow> read(Iterator<BulkProductRow> reader) {
+        List<BulkProductRow> rows = new ArrayList<>();
+        reader.forEachRemaining(rows::add);
+        return rows;
+    }
+}
@@ -0,0 +1,235 @@
+package com.example.ecommerce.product.adapter.inbound.rest.feed;
+
+import com.example.ecommerce.product.application.event.ProductChangeNotice;
+import com.example.ecommerce.product.application.event.ProductChanged;
+import org.junit.jupiter.api.*;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ProductChangeFeed")
+class ProductChangeFeedTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+
+    @Nested
+    @DisplayName("Delivery")
+    class Delivery {
+
+        private final ProductChangeFeed feed = feed(100, 50, Runnable::run);
+
+        @Test
+        @DisplayName("should push only the subscriber's tenant, all tenants for null")
+        void shouldScopeToTenant() {
+            RecordingConnection tenantA = new RecordingConnection();
+            RecordingConnection all = new RecordingConnection();
+            feed.subscribe("tenant-a", null, tenantA);
+            feed.subscribe(null, null, all);
+
+            feed.publish(event(1, "tenant-a"));
+            feed.publish(event(2, "tenant-b"));
+
+            assertEquals(List.of("heartbeat", "1"), tenantA.received);
+            assertEquals(List.of("heartbeat", "1", "2"), all.received);
+        }
+
+        @Test
+        @DisplayName("should push a sequence once when it also arrives from another instance")
+        void shouldDeduplicate() {
+            RecordingConnection connection = new RecordingConnection();
+            feed.subscribe("tenant-a", null, connection);
+            ProductChanged event = event(7, "tenant-a");
+
+            feed.publish(event);
+            feed.onRemoteChange(new ProductChangeNotice("other", event));
+            feed.onRemoteChange(new ProductChangeNotice("other",
+                new ProductChanged(-1, "tenant-a", UUID.randomUUID(), null, NOW)));
+            feed.onRemoteChange(new ProductChangeNotice("other", event(8, "tenant-a")));
+
+            assertEquals(List.of("heartbeat", "7", "8"), connection.received);
+            assertEquals(2, feed.publishedCount());
+        }
+
+        @Test
+        @DisplayName("should send heartbeats and drop failed connections")
+        void shouldDropFailedConnections() {
+            RecordingConnection connection = new RecordingConnection();
+            feed.subscribe("tenant-a", null, connection);
+
+            feed.heartbeat();
+            connection.failing = true;
+            feed.publish(event(1, "tenant-a"));
+
+            assertEquals(List.of("heartbeat", "heartbeat"), connection.received);
+            assertTrue(connection.closed);
+            assertEquals(0, feed.subscriberCount());
+        }
+
+        @Test
+        @DisplayName("should reject subscribers over the limit")
+        void shouldLimitSubscribers() {
+            ProductChangeFeed small = new ProductChangeFeed(10, 10, 1, Runnable::run, Duration.ofSeconds(15));
+            ProductChangeFeed.Subscription subscription = small.subscribe(null, null, new RecordingConnection());
+
+            assertThrows(IllegalStateException.class, () -> small.subscribe(null, null, new RecordingConnection()));
+            subscription.close();
+            assertDoesNotThrow(() -> small.subscribe(null, null, new RecordingConnection()));
+        }
+    }
+
+    @Nested
+    @DisplayName("Resume")
+    class Resume {
+
+        private final ProductChangeFeed feed = feed(5, 5, Runnable::run);
+
+        @Test
+        @DisplayName("should replay the tenant's events after Last-Event-ID")
+        void shouldReplayAfterLastEventId() {
+            feed.publish(event(1, "tenant-a"));
+            feed.publish(event(2, "tenant-a"));
+            feed.publish(event(3, "tenant-b"));
+            feed.publish(event(4, "tenant-a"));
+
+            RecordingConnection connection = new RecordingConnection();
+            feed.subscribe("tenant-a", "1", connection);
+            feed.publish(event(5, "tenant-a"));
+
+            assertEquals(List.of("2", "4", "5"), connection.received.stream()
+                .filter(message -> !message.equals("heartbeat")).toList());
+            assertEquals(0, feed.resetCount());
+        }
+
+        @Test
+        @DisplayName("should ask for a full reload when Last-Event-ID was evicted or is unknown")
+        void shouldResetWhenNotBuffered() {
+            for (int sequence = 1; sequence <= 7; sequence++) {
+                feed.publish(event(sequence, "tenant-a"));
+            }
+
+            RecordingConnection evicted = new RecordingConnection();
+            feed.subscribe("tenant-a", "1", evicted);
+            RecordingConnection garbage = new RecordingConnection();
+            feed.subscribe("tenant-a", "not-a-number", garbage);
+            feed.publish(event(8, "tenant-a"));
+
+            assertEquals(List.of("reset", "8"), evicted.received);
+            assertEquals(List.of("reset", "8"), garbage.received);
+            assertEquals(2, feed.resetCount());
+            assertEquals(5, feed.bufferedCount());
+        }
+    }
+
+    @Nested
+    @DisplayName("Backpressure")
+    class Backpressure {
+
+        @Test
+        @DisplayName("should disconnect a subscriber too far behind without blocking the publisher")
+        void shouldDisconnectSlowConsumer() {
+            ManualExecutor executor = new ManualExecutor();
+            ProductChangeFeed feed = feed(10, 3, executor);
+            RecordingConnection slow = new RecordingConnection();
+            feed.subscribe("tenant-a", null, slow);
+
+            for (int sequence = 1; sequence <= 4; sequence++) {
+                feed.publish(event(sequence, "tenant-a"));
+            }
+
+            assertTrue(slow.closed);
+            assertEquals(1, feed.slowConsumerCount());
+            assertEquals(0, feed.subscriberCount());
+            executor.runAll();
+            assertTrue(slow.received.isEmpty());
+
+            RecordingConnection resumed = new RecordingConnection();
+            feed.subscribe("tenant-a", "2", resumed);
+            executor.runAll();
+            assertEquals(List.of("3", "4"), resumed.received);
+        }
+
+        @Test
+        @DisplayName("should not count other tenants' events against an idle subscriber")
+        void shouldSkipOtherTenantsWhenIdle() {
+            ProductChangeFeed feed = feed(10, 3, Runnable::run);
+            RecordingConnection connection = new RecordingConnection();
+            feed.subscribe("tenant-a", null, connection);
+
+            for (int sequence = 1; sequence <= 8; sequence++) {
+                feed.publish(event(sequence, "tenant-b"));
+            }
+            feed.publish(event(9, "tenant-a"));
+
+            assertFalse(connection.closed);
+            assertEquals(List.of("heartbeat", "9"), connection.received);
+        }
+    }
+
+    private static ProductChangeFeed feed(int bufferSize, int maxLag, Executor executor) {
+        return new ProductChangeFeed(bufferSize, maxLag, 10, executor, Duration.ofSeconds(15));
+    }
+
+    private static ProductChanged event(long sequence, String tenantId) {
+        return new ProductChanged(sequence, tenantId, UUID.randomUUID(), "ProductUpdated", NOW);
+    }
+
+    private static final class RecordingConnection implements ChangeFeedConnection {
+
+        final List<String> received = new ArrayList<>();
+        boolean failing;
+        boolean closed;
+
+        @Override
+        public void send(ProductChanged event) throws IOException {
+            record(Long.toString(event.sequence()));
+        }
+
+        @Override
+        public void sendReset() throws IOException {
+            record("reset");
+        }
+
+        @Override
+        public void sendHeartbeat() throws IOException {
+            record("heartbeat");
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+
+        private void record(String message) throws IOException {
+            if (failing) {
+                throw new IOException("Broken pipe");
+            }
+            received.add(message);
+        }
+    }
+
+    private static final class ManualExecutor implements Executor {
+
+        private final Queue<Runnable> tasks = new ArrayDeque<>();
+
+        @Override
+        public void execute(Runnable command) {
+            tasks.add(command);
+        }
+
+        void runAll() {
+            Runnable task;
+            while ((task = tasks.poll()) != null) {
+                task.run();
+            }
+        }
+    }
+}
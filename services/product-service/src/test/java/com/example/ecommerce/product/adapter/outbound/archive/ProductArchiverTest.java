@@ -0,0 +1,165 @@
+package com.example.ecommerce.product.adapter.outbound.archive;
+
+import com.example.ecommerce.product.adapter.outbound.persistence.JdbcProductArchive;
+import com.example.ecommerce.product.adapter.outbound.persistence.JdbcProductTenantCounters;
+import com.example.ecommerce.product.application.dto.ProductView;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Import({JdbcProductArchive.class, JdbcProductTenantCounters.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("ProductArchiver (H2)")
+class ProductArchiverTest {
+
+    private static final Instant NOW = Instant.parse("2026-06-01T00:00:00Z");
+
+    @Autowired
+    private JdbcProductArchive archive;
+
+    @Autowired
+    private JdbcProductTenantCounters counters;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private int codes;
+
+    @BeforeEach
+    void setUp() {
+        clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        clear();
+    }
+
+    @Test
+    @DisplayName("should move only deleted products older than the minimum age")
+    void shouldMoveOnlyOldDeletedProducts() {
+        UUID old = insert("DELETED", NOW.minus(Duration.ofDays(100)));
+        UUID recent = insert("DELETED", NOW.minus(Duration.ofDays(10)));
+        UUID active = insert("ACTIVE", NOW.minus(Duration.ofDays(200)));
+
+        ProductArchiver.Run run = archiver(10).archiveOnce();
+
+        assertEquals(new ProductArchiver.Run(1, 1, 0), run);
+        assertEquals(Set.of(recent, active), Set.copyOf(productIds()));
+        assertEquals(1, archive.countArchived());
+        assertTrue(archive.findById(old, null).isPresent());
+    }
+
+    @Test
+    @DisplayName("should keep every column and the id of an archived product")
+    void shouldKeepArchivedProduct() {
+        UUID id = insert("DELETED", NOW.minus(Duration.ofDays(100)));
+
+        archiver(10).archiveOnce();
+
+        Optional<ProductView> archived = archive.findById(id, "tenant-a");
+        assertTrue(archived.isPresent());
+        assertEquals(id, archived.get().id());
+        assertEquals("DELETED", archived.get().status());
+        assertEquals(0, new BigDecimal("10.00").compareTo(archived.get().price()));
+        assertEquals(NOW.minus(Duration.ofDays(100)), archived.get().updatedAt());
+        assertTrue(archive.findById(id, "tenant-b").isEmpty());
+    }
+
+    @Test
+    @DisplayName("should advance in keyset order over several bounded batches")
+    void shouldArchiveInBatches() {
+        for (int i = 0; i < 7; i++) {
+            insert("DELETED", NOW.minus(Duration.ofDays(100 + i)));
+        }
+
+        ProductArchiver.Run run = archiver(3).archiveOnce();
+
+        assertEquals(7, run.archived());
+        assertEquals(3, run.batches());
+        assertEquals(0, run.remaining());
+        assertTrue(productIds().isEmpty());
+        assertEquals(7, archive.countArchived());
+    }
+
+    @Test
+    @DisplayName("should stop after max batches per run and report the backlog")
+    void shouldReportBacklog() {
+        for (int i = 0; i < 5; i++) {
+            insert("DELETED", NOW.minus(Duration.ofDays(100 + i)));
+        }
+
+        ProductArchiver archiver = new ProductArchiver(archive, new TransactionTemplate(transactionManager),
+            new ProductArchiveMetrics(new SimpleMeterRegistry()), Duration.ofDays(30), 2, 1, Duration.ZERO,
+            Duration.ofHours(1), Clock.fixed(NOW, ZoneOffset.UTC));
+
+        assertEquals(new ProductArchiver.Run(2, 1, 3), archiver.archiveOnce());
+        assertEquals(new ProductArchiver.Run(2, 1, 1), archiver.archiveOnce());
+        assertEquals(new ProductArchiver.Run(1, 1, 0), archiver.archiveOnce());
+    }
+
+    @Test
+    @DisplayName("should take archived products off the tenant counts in the same transaction")
+    void shouldDecrementTenantCounts() {
+        insert("DELETED", NOW.minus(Duration.ofDays(100)));
+        insert("DELETED", NOW.minus(Duration.ofDays(10)));
+        new TransactionTemplate(transactionManager).execute(status -> counters.reconcile("tenant-a"));
+        assertEquals(2, counters.counts("tenant-a").total());
+
+        archiver(10).archiveOnce();
+
+        assertEquals(1, counters.counts("tenant-a").total());
+    }
+
+    private ProductArchiver archiver(int batchSize) {
+        return new ProductArchiver(archive, new TransactionTemplate(transactionManager),
+            new ProductArchiveMetrics(new SimpleMeterRegistry()), Duration.ofDays(30), batchSize, 10,
+            Duration.ZERO, Duration.ofHours(1), Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    private UUID insert(String status, Instant updatedAt) {
+        UUID id = UUID.randomUUID();
+        jdbcTemplate.update("""
+            INSERT INTO products (id, product_code, name, price, category, status, tenant_id,
+                                  created_at, updated_by, updated_at, version)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 1)
+            """,
+            id, String.format("A%06d", ++codes), "Product " + codes, new BigDecimal("10.00"), "Books", status,
+            "tenant-a", updatedAt.minus(Duration.ofDays(1)).atOffset(ZoneOffset.UTC), "admin",
+            updatedAt.atOffset(ZoneOffset.UTC));
+        return id;
+    }
+
+    private List<UUID> productIds() {
+        return jdbcTemplate.queryForList("SELECT id FROM products", UUID.class);
+    }
+
+    private void clear() {
+        jdbcTemplate.update("DELETE FROM products_archive");
+        jdbcTemplate.update("DELETE FROM product_tenant_counters");
+        jdbcTemplate.update("DELETE FROM products");
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.ecommerce.product.adapter.outbound.broadcast;
+
+import com.example.ecommerce.product.application.event.ProductChangeNotice;
+import com.example.ecommerce.product.application.event.ProductChanged;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ProductChangeBroadcaster")
+class ProductChangeBroadcasterTest {
+
+    @Test
+    @DisplayName("should deliver local changes to other instances only")
+    void shouldDeliverToOtherInstances() {
+        InMemoryProductChangeBroadcast broadcast = new InMemoryProductChangeBroadcast();
+        ProductChangeBroadcaster nodeA = new ProductChangeBroadcaster(broadcast, "node-a");
+        ProductChangeBroadcaster nodeB = new ProductChangeBroadcaster(broadcast, "node-b");
+        List<ProductChangeNotice> receivedByA = new ArrayList<>();
+        List<ProductChangeNotice> receivedByB = new ArrayList<>();
+        nodeA.subscribeRemote(receivedByA::add);
+        nodeB.subscribeRemote(receivedByB::add);
+
+        ProductChanged change = new ProductChanged(7L, "tenant-1", UUID.randomUUID(), "ProductUpdated", Instant.now());
+        nodeA.onProductChanged(change);
+
+        assertTrue(receivedByA.isEmpty());
+        assertEquals(List.of(new ProductChangeNotice("node-a", change)), receivedByB);
+    }
+}
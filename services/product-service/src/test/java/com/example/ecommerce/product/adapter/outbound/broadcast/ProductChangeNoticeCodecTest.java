@@ -0,0 +1,47 @@
+package com.example.ecommerce.product.adapter.outbound.broadcast;
+
+import com.example.ecommerce.product.application.event.ProductChangeNotice;
+import com.example.ecommerce.product.application.event.ProductChanged;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ProductChangeNoticeCodec")
+class ProductChangeNoticeCodecTest {
+
+    private static final Instant OCCURRED_AT = Instant.ofEpochMilli(1_700_000_000_000L);
+
+    @Test
+    @DisplayName("should round-trip notices carrying the event")
+    void shouldRoundTrip() {
+        ProductChangeNotice notice = new ProductChangeNotice("node-a",
+            new ProductChanged(42L, "tenant|with|pipes", UUID.randomUUID(), "ProductUpdated", OCCURRED_AT));
+
+        assertEquals(notice, ProductChangeNoticeCodec.decode(ProductChangeNoticeCodec.encode(notice)));
+    }
+
+    @Test
+    @DisplayName("should accept the format without event sent by older instances")
+    void shouldDecodeLegacyFormat() {
+        UUID productId = UUID.randomUUID();
+
+        ProductChangeNotice notice = ProductChangeNoticeCodec.decode(
+            "node-a|" + productId + "|" + OCCURRED_AT.toEpochMilli() + "|tenant-1");
+
+        assertEquals(new ProductChangeNotice("node-a",
+            new ProductChanged(-1, "tenant-1", productId, null, OCCURRED_AT)), notice);
+        assertFalse(notice.hasEvent());
+    }
+
+    @Test
+    @DisplayName("should reject malformed payloads")
+    void shouldRejectMalformed() {
+        assertThrows(IllegalArgumentException.class, () -> ProductChangeNoticeCodec.decode("garbage"));
+        assertThrows(IllegalArgumentException.class,
+            () -> ProductChangeNoticeCodec.decode("node-a|" + UUID.randomUUID() + "|1;2|tenant"));
+    }
+}
@@ -0,0 +1,246 @@
+package com.example.ecommerce.product.adapter.outbound.cache;
+
+import com.example.ecommerce.product.adapter.outbound.broadcast.InMemoryProductChangeBroadcast;
+import com.example.ecommerce.product.adapter.outbound.broadcast.ProductChangeBroadcaster;
+import com.example.ecommerce.product.application.dto.ProductReadKey;
+import com.example.ecommerce.product.application.dto.ProductRevision;
+import com.example.ecommerce.product.application.dto.ProductView;
+import com.example.ecommerce.product.application.event.ProductChanged;
+import com.example.ecommerce.product.application.port.output.ProductViewRepository;
+import com.example.ecommerce.product.application.service.SingleFlight;
+import com.example.ecommerce.product.domain.model.valueobject.ProductStatus;
+import com.example.ecommerce.product.domain.repository.ProductSearchCriteria;
+import com.example.ecommerce.product.domain.repository.ProductSort;
+import com.example.ecommerce.tenant.context.TenantContext;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CachingProductViewRepository")
+class CachingProductViewRepositoryTest {
+
+    @Mock
+    private ProductViewRepository delegate;
+
+    private SimpleMeterRegistry registry;
+    private SingleFlight<ProductReadKey, ProductView> productReads;
+    private CachingProductViewRepository cache;
+
+    private final ProductSearchCriteria tenant1Books =
+        new ProductSearchCriteria("tenant-1", "Books", ProductStatus.ACTIVE);
+    private final ProductSearchCriteria tenant2Books =
+        new ProductSearchCriteria("tenant-2", "Books", ProductStatus.ACTIVE);
+    private final ProductSearchCriteria systemBooks =
+        new ProductSearchCriteria(null, "Books", ProductStatus.ACTIVE);
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        productReads = spy(new SingleFlight<>(Duration.ofMillis(500), 100));
+        cache = newCache(delegate);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TenantContext.clear();
+    }
+
+    private CachingProductViewRepository newCache(ProductViewRepository repository) {
+        ProductCacheMetrics metrics = new ProductCacheMetrics(registry);
+        GroupedCache<CachingProductViewRepository.ProductKey, UUID, ProductView> products =
+            CachingProductViewRepository.productCache(100, Duration.ofMinutes(10));
+        metrics.bind(registry, "product", products);
+        return new CachingProductViewRepository(repository, products,
+            CachingProductViewRepository.listCache(100, Duration.ofMinutes(1)),
+            CachingProductViewRepository.countCache(100, Duration.ofMinutes(1)),
+            productReads, metrics, Clock.systemUTC());
+    }
+
+    @Nested
+    @DisplayName("Reads")
+    class Reads {
+
+        @Test
+        @DisplayName("should serve repeated product reads from cache")
+        void shouldCacheProductById() {
+            ProductView view = view("tenant-1");
+            when(delegate.findById(view.id())).thenReturn(Optional.of(view));
+
+            assertEquals(view, cache.findById(view.id()).orElseThrow());
+            assertEquals(view, cache.findById(view.id()).orElseThrow());
+
+            verify(delegate, times(1)).findById(view.id());
+            assertEquals(0.5, registry.get("product.cache.hit.ratio").tag("cache", "product").gauge().value());
+        }
+
+        @Test
+        @DisplayName("should coalesce only cache misses, keyed by tenant and product")
+        void shouldCoalesceOnlyMisses() {
+            TenantContext.setCurrentTenant("tenant-1");
+            ProductView view = view("tenant-1");
+            when(delegate.findById(view.id())).thenReturn(Optional.of(view));
+
+            cache.findById(view.id());
+            cache.findById(view.id());
+            cache.findById(view.id());
+
+            verify(productReads, times(1)).execute(eq(new ProductReadKey("tenant-1", view.id())), any());
+            assertEquals(1, productReads.loadCount());
+            assertEquals(0, productReads.coalescedCount());
+        }
+
+        @Test
+        @DisplayName("should answer the revision from a cached product")
+        void shouldAnswerRevisionFromCache() {
+            ProductView view = view("tenant-1");
+            UUID uncached = UUID.randomUUID();
+            ProductRevision revision = new ProductRevision(5L, Instant.parse("2026-01-01T00:00:00Z"));
+            when(delegate.findById(view.id())).thenReturn(Optional.of(view));
+            when(delegate.findRevision(uncached)).thenReturn(Optional.of(revision));
+            cache.findById(view.id());
+
+            assertEquals(new ProductRevision(view.version(), view.updatedAt()),
+                cache.findRevision(view.id()).orElseThrow());
+            assertEquals(revision, cache.findRevision(uncached).orElseThrow());
+
+            verify(delegate, never()).findRevision(view.id());
+            verify(delegate, never()).findById(uncached);
+        }
+
+        @Test
+        @DisplayName("should not cache missing products")
+        void shouldNotCacheMissingProduct() {
+            UUID id = UUID.randomUUID();
+            when(delegate.findById(id)).thenReturn(Optional.empty());
+
+            assertTrue(cache.findById(id).isEmpty());
+            assertTrue(cache.findById(id).isEmpty());
+
+            verify(delegate, times(2)).findById(id);
+        }
+
+        @Test
+        @DisplayName("should cache category listings and counts")
+        void shouldCacheCategoryListings() {
+            when(delegate.findPage(tenant1Books, 0, 20, ProductSort.DEFAULT)).thenReturn(List.of(view("tenant-1")));
+            when(delegate.count(tenant1Books)).thenReturn(1L);
+
+            cache.findPage(tenant1Books, 0, 20, ProductSort.DEFAULT);
+            cache.findPage(tenant1Books, 0, 20, ProductSort.DEFAULT);
+            cache.count(tenant1Books);
+            cache.count(tenant1Books);
+
+            verify(delegate, times(1)).findPage(tenant1Books, 0, 20, ProductSort.DEFAULT);
+            verify(delegate, times(1)).count(tenant1Books);
+        }
+
+        @Test
+        @DisplayName("should not cache listings without category or keyset pages")
+        void shouldBypassOtherListings() {
+            ProductSearchCriteria all = new ProductSearchCriteria("tenant-1", null, ProductStatus.ACTIVE);
+
+            cache.findPage(all, 0, 20, ProductSort.DEFAULT);
+            cache.findPage(all, 0, 20, ProductSort.DEFAULT);
+            cache.findAfter(tenant1Books, null, 21, ProductSort.DEFAULT);
+            cache.findAfter(tenant1Books, null, 21, ProductSort.DEFAULT);
+
+            verify(delegate, times(2)).findPage(all, 0, 20, ProductSort.DEFAULT);
+            verify(delegate, times(2)).findAfter(tenant1Books, null, 21, ProductSort.DEFAULT);
+        }
+    }
+
+    @Nested
+    @DisplayName("Invalidation")
+    class Invalidation {
+
+        @Test
+        @DisplayName("should clear the product and only the affected tenant's listings")
+        void shouldInvalidateTenantScope() {
+            ProductView changed = view("tenant-1");
+            when(delegate.findById(changed.id())).thenReturn(Optional.of(changed));
+            when(delegate.findPage(any(), anyInt(), anyInt(), any())).thenReturn(List.of());
+            cache.findById(changed.id());
+            cache.findPage(tenant1Books, 0, 20, ProductSort.DEFAULT);
+            cache.findPage(tenant2Books, 0, 20, ProductSort.DEFAULT);
+            cache.findPage(systemBooks, 0, 20, ProductSort.DEFAULT);
+
+            cache.invalidate("tenant-1", changed.id(), Instant.now(), false);
+            cache.findById(changed.id());
+            cache.findPage(tenant1Books, 0, 20, ProductSort.DEFAULT);
+            cache.findPage(tenant2Books, 0, 20, ProductSort.DEFAULT);
+            cache.findPage(systemBooks, 0, 20, ProductSort.DEFAULT);
+
+            verify(delegate, times(2)).findById(changed.id());
+            verify(delegate, times(2)).findPage(tenant1Books, 0, 20, ProductSort.DEFAULT);
+            verify(delegate, times(1)).findPage(tenant2Books, 0, 20, ProductSort.DEFAULT);
+            verify(delegate, times(2)).findPage(systemBooks, 0, 20, ProductSort.DEFAULT);
+        }
+
+        @Test
+        @DisplayName("should cache a product per reading tenant and clear every tenant's entry on change")
+        void shouldInvalidateProductAcrossTenants() {
+            ProductView view = view("tenant-1");
+            when(delegate.findById(view.id())).thenReturn(Optional.of(view));
+            TenantContext.setCurrentTenant("tenant-1");
+            cache.findById(view.id());
+            TenantContext.setCurrentTenant("system");
+            cache.findById(view.id());
+            cache.findById(view.id());
+            verify(delegate, times(2)).findById(view.id());
+
+            cache.invalidate("tenant-1", view.id(), Instant.now(), false);
+            cache.findById(view.id());
+            TenantContext.setCurrentTenant("tenant-1");
+            cache.findById(view.id());
+
+            verify(delegate, times(4)).findById(view.id());
+        }
+
+        @Test
+        @DisplayName("should propagate invalidations to other instances through the change broadcast")
+        void shouldBroadcastToOtherInstances() {
+            ProductViewRepository otherDelegate = mock(ProductViewRepository.class);
+            CachingProductViewRepository otherCache = newCache(otherDelegate);
+            InMemoryProductChangeBroadcast broadcast = new InMemoryProductChangeBroadcast();
+            ProductCacheInvalidationListener local = new ProductCacheInvalidationListener(cache);
+            ProductCacheInvalidationListener other = new ProductCacheInvalidationListener(otherCache);
+            ProductChangeBroadcaster localBroadcaster = new ProductChangeBroadcaster(broadcast, "node-a");
+            localBroadcaster.subscribeRemote(local::onRemoteChange);
+            new ProductChangeBroadcaster(broadcast, "node-b").subscribeRemote(other::onRemoteChange);
+
+            ProductView view = view("tenant-1");
+            when(otherDelegate.findById(view.id())).thenReturn(Optional.of(view));
+            otherCache.findById(view.id());
+
+            ProductChanged change = new ProductChanged(1L, "tenant-1", view.id(), "ProductUpdated", Instant.now());
+            local.onProductChanged(change);
+            localBroadcaster.onProductChanged(change);
+            otherCache.findById(view.id());
+
+            verify(otherDelegate, times(2)).findById(view.id());
+            assertEquals(1, registry.get("product.cache.invalidation.lag").tag("source", "local").timer().count());
+            assertEquals(1, registry.get("product.cache.invalidation.lag").tag("source", "remote").timer().count());
+        }
+    }
+
+    private static ProductView view(String tenantId) {
+        Instant now = Instant.now();
+        return new ProductView(UUID.randomUUID(), "P000001", "Book", new BigDecimal("10.00"), "Books",
+            "Description", "ACTIVE", tenantId, "creator", now, "creator", now, 2L);
+    }
+}
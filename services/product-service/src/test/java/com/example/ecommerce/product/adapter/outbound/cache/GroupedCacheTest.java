@@ -0,0 +1,163 @@
+package com.example.ecommerce.product.adapter.outbound.cache;
+
+import com.github.benmanes.caffeine.cache.Ticker;
+import org.junit.jupiter.api.*;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("GroupedCache")
+class GroupedCacheTest {
+
+    private AtomicLong nanos;
+    private GroupedCache<String, Character, String> cache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        nanos = new AtomicLong();
+        Ticker ticker = nanos::get;
+        // 以鍵的第一個字元分組；淘汰在呼叫端執行緒上完成
+        cache = new GroupedCache<>(2, Duration.ofMinutes(1), key -> key.charAt(0), ticker, Runnable::run);
+        loads = new AtomicInteger();
+    }
+
+    private String load(String key) {
+        loads.incrementAndGet();
+        return "value-" + key;
+    }
+
+    @Test
+    @DisplayName("should load once and count hits and misses")
+    void shouldCacheLoadedValue() {
+        assertEquals("value-a1", cache.get("a1", this::load));
+        assertEquals("value-a1", cache.get("a1", this::load));
+        assertEquals("value-a1", cache.get("a1", this::load));
+
+        assertEquals(1, loads.get());
+        assertEquals(2, cache.hitCount());
+        assertEquals(1, cache.missCount());
+        assertEquals(2.0 / 3, cache.hitRatio(), 1e-9);
+    }
+
+    @Test
+    @DisplayName("should hand only misses to the miss handler and count each request once")
+    void shouldRunMissHandlerOnlyOnMiss() {
+        AtomicInteger misses = new AtomicInteger();
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals("value-a1", cache.get("a1", this::load, load -> {
+                misses.incrementAndGet();
+                return load.get();
+            }));
+        }
+
+        assertEquals(1, misses.get());
+        assertEquals(1, loads.get());
+        assertEquals(2, cache.hitCount());
+        assertEquals(1, cache.missCount());
+    }
+
+    @Test
+    @DisplayName("should report a zero hit ratio before any request")
+    void shouldStartWithZeroHitRatio() {
+        assertEquals(0.0, cache.hitRatio());
+    }
+
+    @Test
+    @DisplayName("should not count getIfPresent as a hit or miss")
+    void shouldNotRecordPeeks() {
+        cache.get("a1", this::load);
+
+        assertEquals("value-a1", cache.getIfPresent("a1"));
+        assertNull(cache.getIfPresent("b1"));
+        assertEquals(0, cache.hitCount());
+        assertEquals(1, cache.missCount());
+    }
+
+    @Test
+    @DisplayName("should reload after ttl")
+    void shouldExpireAfterTtl() {
+        cache.get("a1", this::load);
+        nanos.addAndGet(Duration.ofSeconds(61).toNanos());
+        cache.get("a1", this::load);
+
+        assertEquals(2, loads.get());
+        assertEquals(1, cache.indexedKeys());
+    }
+
+    @Test
+    @DisplayName("should evict beyond maximum size and drop evicted keys from the index")
+    void shouldEvictBeyondMaximumSize() {
+        cache.get("a1", this::load);
+        cache.get("b1", this::load);
+        cache.get("c1", this::load);
+        cache.cleanUp();
+
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.evictionCount());
+        assertEquals(2, cache.indexedKeys());
+    }
+
+    @Test
+    @DisplayName("should not cache or index null values")
+    void shouldNotCacheNull() {
+        assertNull(cache.get("a1", key -> null));
+
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.indexedKeys());
+    }
+
+    @Test
+    @DisplayName("should invalidate only the keys of one group")
+    void shouldInvalidateGroup() {
+        cache = new GroupedCache<>(100, Duration.ofMinutes(1), key -> key.charAt(0), nanos::get, Runnable::run);
+        cache.get("a1", this::load);
+        cache.get("a2", this::load);
+        cache.get("b1", this::load);
+
+        cache.invalidateGroup('a');
+
+        assertEquals(1, cache.size());
+        assertEquals(1, cache.indexedKeys());
+        cache.get("b1", this::load);
+        cache.get("a1", this::load);
+        assertEquals(4, loads.get());
+    }
+
+    @Test
+    @DisplayName("should drop a value that was loading while its group was invalidated")
+    void shouldNotKeepStaleLoad() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> load = CompletableFuture.supplyAsync(() -> cache.get("a1", key -> {
+            loading.countDown();
+            await(release);
+            return "stale";
+        }));
+        assertTrue(loading.await(5, TimeUnit.SECONDS));
+
+        CompletableFuture<Void> invalidation = CompletableFuture.runAsync(() -> cache.invalidateGroup('a'));
+        release.countDown();
+        assertEquals("stale", load.get(5, TimeUnit.SECONDS));
+        invalidation.get(5, TimeUnit.SECONDS);
+
+        assertNull(cache.getIfPresent("a1"));
+        assertEquals("value-a1", cache.get("a1", this::load));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
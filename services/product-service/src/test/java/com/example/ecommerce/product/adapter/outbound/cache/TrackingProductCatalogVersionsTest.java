@@ -0,0 +1,85 @@
+package com.example.ecommerce.product.adapter.outbound.cache;
+
+import com.example.ecommerce.product.adapter.outbound.persistence.JdbcProductCatalogVersions;
+import com.example.ecommerce.product.application.dto.CatalogVersion;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TrackingProductCatalogVersions")
+class TrackingProductCatalogVersionsTest {
+
+    private static final Instant T1 = Instant.parse("2026-01-01T00:00:00Z");
+    private static final Instant T2 = Instant.parse("2026-01-02T00:00:00Z");
+
+    @Mock
+    private JdbcProductCatalogVersions delegate;
+
+    @Mock
+    private Runnable invalidation;
+
+    private TrackingProductCatalogVersions versions;
+
+    @BeforeEach
+    void setUp() {
+        when(delegate.findAll()).thenReturn(Map.of(
+            "tenant-1", new CatalogVersion("tenant-1", 3, T1),
+            "tenant-2", new CatalogVersion("tenant-2", 5, T2)));
+        versions = new TrackingProductCatalogVersions(delegate);
+    }
+
+    @Test
+    @DisplayName("should answer from memory after loading all tenants")
+    void shouldAnswerFromMemory() {
+        assertEquals(new CatalogVersion("tenant-1", 3, T1), versions.current("tenant-1"));
+        assertEquals(new CatalogVersion("tenant-3", 0, null), versions.current("tenant-3"));
+        assertEquals(new CatalogVersion(null, 8, T2), versions.current(null));
+
+        verify(delegate, never()).current(any());
+    }
+
+    @Test
+    @DisplayName("should read the database version before clearing the cache")
+    void shouldReadVersionBeforeInvalidation() {
+        when(delegate.current("tenant-1")).thenReturn(new CatalogVersion("tenant-1", 4, T2));
+
+        versions.advance("tenant-1", invalidation);
+
+        InOrder order = inOrder(delegate, invalidation);
+        order.verify(delegate).current("tenant-1");
+        order.verify(invalidation).run();
+        assertEquals(4, versions.current("tenant-1").version());
+    }
+
+    @Test
+    @DisplayName("should keep the higher version when advances race")
+    void shouldKeepHigherVersion() {
+        when(delegate.current("tenant-1"))
+            .thenReturn(new CatalogVersion("tenant-1", 6, T2))
+            .thenReturn(new CatalogVersion("tenant-1", 4, T1));
+
+        versions.advance("tenant-1", invalidation);
+        versions.advance("tenant-1", invalidation);
+
+        assertEquals(6, versions.current("tenant-1").version());
+    }
+
+    @Test
+    @DisplayName("should not advance when clearing the cache fails")
+    void shouldNotAdvanceOnFailure() {
+        when(delegate.current("tenant-1")).thenReturn(new CatalogVersion("tenant-1", 4, T2));
+        doThrow(new IllegalStateException("boom")).when(invalidation).run();
+
+        assertThrows(IllegalStateException.class, () -> versions.advance("tenant-1", invalidation));
+        assertEquals(3, versions.current("tenant-1").version());
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.ecommerce.product.adapter.outbound.counter;
+
+import com.example.ecommerce.product.adapter.outbound.persistence.JdbcProductTenantCounters;
+import com.example.ecommerce.product.domain.model.valueobject.ProductStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Import(JdbcProductTenantCounters.class)
+@DisplayName("ProductCounterReconciler (H2)")
+class ProductCounterReconcilerTest {
+
+    @Autowired
+    private JdbcProductTenantCounters counters;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private int codes;
+
+    @Test
+    @DisplayName("should correct every tenant with drift, including counters left for tenants without products")
+    void shouldCorrectDriftPerTenant() {
+        insert("reconcile-a", "ACTIVE");
+        insert("reconcile-a", "INACTIVE");
+        counters.add("reconcile-a", ProductStatus.ACTIVE, 1);
+        counters.add("reconcile-b", ProductStatus.DELETED, 2);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+        ProductCounterReconciler.Run run = reconciler(registry).reconcileOnce();
+
+        assertTrue(run.tenants() >= 2);
+        assertTrue(run.corrected() >= 2);
+        assertEquals(2, counters.counts("reconcile-a").live());
+        assertEquals(0, counters.counts("reconcile-b").total());
+        assertTrue(registry.get("product.counters.drift").counter().count() >= 3);
+
+        assertEquals(0, reconciler(new SimpleMeterRegistry()).reconcileOnce().drift());
+    }
+
+    private ProductCounterReconciler reconciler(SimpleMeterRegistry registry) {
+        return new ProductCounterReconciler(counters, new TransactionTemplate(transactionManager),
+            new ProductCounterMetrics(registry), Duration.ofHours(1), Clock.systemUTC());
+    }
+
+    private void insert(String tenantId, String status) {
+        OffsetDateTime now = OffsetDateTime.now();
+        jdbcTemplate.update("""
+            INSERT INTO products (id, product_code, name, price, category, status, tenant_id,
+                                  created_at, updated_at, version)
+            VALUES (?, ?, 'Manual', ?, 'Books', ?, ?, ?, ?, 0)
+            """, UUID.randomUUID(), String.format("R%06d", ++codes), new BigDecimal("10.00"), status, tenantId,
+            now, now);
+    }
+}
@@ -0,0 +1,170 @@
+package com.example.ecommerce.product.adapter.outbound.facet;
+
+import com.example.ecommerce.product.application.dto.ProductFacets;
+import com.example.ecommerce.product.application.event.ProductChangeNotice;
+import com.example.ecommerce.product.application.event.ProductChanged;
+import org.junit.jupiter.api.*;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("InMemoryProductFacetCounts")
+class InMemoryProductFacetCountsTest {
+
+    private final FakeSource source = new FakeSource();
+
+    private InMemoryProductFacetCounts counts;
+
+    @BeforeEach
+    void setUp() {
+        source.put("tenant-a", "Audio", 50);
+        source.put("tenant-a", "Audio", 150);
+        source.put("tenant-a", "Books", 20);
+        source.put("tenant-b", "Audio", 900);
+        counts = new InMemoryProductFacetCounts(source,
+            new PriceBuckets(List.of(BigDecimal.ZERO, BigDecimal.valueOf(100), BigDecimal.valueOf(500))),
+            100, Duration.ofHours(1), Duration.ofHours(1));
+        // 不啟動背景執行緒，由測試呼叫 refreshPending() / reconcile()
+        counts.reconcile();
+    }
+
+    @Test
+    @DisplayName("should count categories and price buckets per tenant")
+    void shouldCountPerTenant() {
+        ProductFacets facets = counts.facets("tenant-a", null);
+
+        assertEquals(3, facets.total());
+        assertEquals(List.of(new ProductFacets.CategoryCount("Audio", 2), new ProductFacets.CategoryCount("Books", 1)),
+            facets.categories());
+        assertEquals(List.of(2L, 1L, 0L), bucketCounts(facets));
+    }
+
+    @Test
+    @DisplayName("should restrict price buckets to a category")
+    void shouldFilterByCategory() {
+        ProductFacets facets = counts.facets("tenant-a", "Audio");
+
+        assertEquals(2, facets.total());
+        assertEquals(2, facets.categories().size());
+        assertEquals(List.of(1L, 1L, 0L), bucketCounts(facets));
+        assertEquals(0, counts.facets("tenant-a", "Toys").total());
+    }
+
+    @Test
+    @DisplayName("should merge all tenants for a null tenant")
+    void shouldMergeTenants() {
+        ProductFacets facets = counts.facets(null, null);
+
+        assertEquals(4, facets.total());
+        assertEquals(new ProductFacets.CategoryCount("Audio", 3), facets.categories().get(0));
+        assertEquals(List.of(2L, 1L, 1L), bucketCounts(facets));
+        assertEquals(0, counts.facets("tenant-c", null).total());
+    }
+
+    @Test
+    @DisplayName("should move changed products between counts")
+    void shouldApplyChanges() {
+        UUID book = source.idOf("Books");
+        UUID added = source.put("tenant-a", null, 700);
+        source.rows.put(book, row(book, "tenant-a", "Audio", 600, "ACTIVE"));
+        counts.onProductChanged(new ProductChanged(1, "tenant-a", book, "ProductUpdated", Instant.now()));
+        counts.onRemoteChange(new ProductChangeNotice("other",
+            new ProductChanged(2, "tenant-a", added, "ProductCreated", Instant.now())));
+
+        assertEquals(2, counts.refreshPending());
+
+        ProductFacets facets = counts.facets("tenant-a", null);
+        assertEquals(4, facets.total());
+        assertEquals(List.of(new ProductFacets.CategoryCount("Audio", 3), new ProductFacets.CategoryCount(null, 1)),
+            facets.categories());
+        assertEquals(List.of(1L, 1L, 2L), bucketCounts(facets));
+    }
+
+    @Test
+    @DisplayName("should drop deleted and inactive products")
+    void shouldDropInactiveProducts() {
+        UUID book = source.idOf("Books");
+        source.rows.put(book, row(book, "tenant-a", "Books", 20, "DELETED"));
+        counts.markStale(book);
+        counts.refreshPending();
+
+        ProductFacets facets = counts.facets("tenant-a", null);
+        assertEquals(2, facets.total());
+        assertEquals(List.of(new ProductFacets.CategoryCount("Audio", 2)), facets.categories());
+        assertEquals(3, counts.size());
+    }
+
+    @Test
+    @DisplayName("should correct missed changes on reconciliation")
+    void shouldReconcile() {
+        // 下架沒有領域事件
+        UUID book = source.idOf("Books");
+        source.rows.put(book, row(book, "tenant-a", "Books", 20, "INACTIVE"));
+        assertEquals(3, counts.facets("tenant-a", null).total());
+
+        long drift = counts.reconcile();
+
+        assertEquals(1, drift);
+        assertEquals(1, counts.lastDrift());
+        assertEquals(2, counts.facets("tenant-a", null).total());
+        assertEquals(0, counts.reconcile());
+    }
+
+    @Test
+    @DisplayName("should keep products pending when the source fails")
+    void shouldRetryAfterSourceFailure() {
+        counts.markStale(source.idOf("Books"));
+        source.failNext = true;
+
+        assertThrows(IllegalStateException.class, counts::refreshPending);
+        assertEquals(1, counts.pendingCount());
+        assertEquals(1, counts.refreshPending());
+    }
+
+    private static List<Long> bucketCounts(ProductFacets facets) {
+        return facets.priceBuckets().stream().map(ProductFacets.PriceBucket::count).toList();
+    }
+
+    private static ProductFacetSource.FacetRow row(UUID id, String tenantId, String category, long price,
+                                                   String status) {
+        return new ProductFacetSource.FacetRow(id, tenantId, category, BigDecimal.valueOf(price), status);
+    }
+
+    /**
+     * 以 Map 模擬資料庫
+     */
+    private static class FakeSource implements ProductFacetSource {
+
+        final Map<UUID, FacetRow> rows = new LinkedHashMap<>();
+        boolean failNext;
+
+        UUID put(String tenantId, String category, long price) {
+            UUID id = UUID.randomUUID();
+            rows.put(id, row(id, tenantId, category, price, "ACTIVE"));
+            return id;
+        }
+
+        UUID idOf(String category) {
+            return rows.values().stream().filter(row -> category.equals(row.category())).findFirst().orElseThrow().id();
+        }
+
+        @Override
+        public void forEachActive(Consumer<FacetRow> consumer) {
+            rows.values().stream().filter(row -> "ACTIVE".equals(row.status())).forEach(consumer);
+        }
+
+        @Override
+        public List<FacetRow> findByIds(Collection<UUID> ids) {
+            if (failNext) {
+                failNext = false;
+                throw new IllegalStateException("database unavailable");
+            }
+            return ids.stream().map(rows::get).filter(Objects::nonNull).toList();
+        }
+    }
+}
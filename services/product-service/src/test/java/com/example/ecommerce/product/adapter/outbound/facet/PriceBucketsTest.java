@@ -0,0 +1,56 @@
+package com.example.ecommerce.product.adapter.outbound.facet;
+
+import com.example.ecommerce.product.application.dto.ProductFacets;
+import com.example.ecommerce.product.domain.model.valueobject.Money;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("PriceBuckets")
+class PriceBucketsTest {
+
+    private final PriceBuckets buckets = new PriceBuckets(List.of(
+        BigDecimal.valueOf(500), BigDecimal.ZERO, BigDecimal.valueOf(100)));
+
+    @Test
+    @DisplayName("should place prices in half-open ranges")
+    void shouldPlacePrices() {
+        assertEquals(0, buckets.indexOf(Money.of(0)));
+        assertEquals(0, buckets.indexOf(Money.of(99.99)));
+        assertEquals(1, buckets.indexOf(Money.of(100)));
+        assertEquals(1, buckets.indexOf(Money.of(499.99)));
+        assertEquals(2, buckets.indexOf(Money.of(500)));
+        assertEquals(2, buckets.indexOf(Money.of(1_000_000)));
+    }
+
+    @Test
+    @DisplayName("should put prices below the first bound in the first bucket")
+    void shouldClampLowPrices() {
+        PriceBuckets fromTen = new PriceBuckets(List.of(BigDecimal.TEN, BigDecimal.valueOf(20)));
+        assertEquals(0, fromTen.indexOf(Money.of(5)));
+    }
+
+    @Test
+    @DisplayName("should describe bucket ranges")
+    void shouldDescribeRanges() {
+        List<ProductFacets.PriceBucket> ranges =
+            buckets.toBuckets(new long[]{1, 2, 3, 6});
+
+        assertEquals(new BigDecimal("0.00"), ranges.get(0).from());
+        assertEquals(new BigDecimal("100.00"), ranges.get(0).to());
+        assertEquals(2, ranges.get(1).count());
+        assertNull(ranges.get(2).to());
+    }
+
+    @Test
+    @DisplayName("should reject empty or duplicate bounds")
+    void shouldRejectInvalidBounds() {
+        assertThrows(IllegalArgumentException.class, () -> new PriceBuckets(List.of()));
+        assertThrows(IllegalArgumentException.class,
+            () -> new PriceBuckets(List.of(BigDecimal.TEN, new BigDecimal("10.00"))));
+    }
+}
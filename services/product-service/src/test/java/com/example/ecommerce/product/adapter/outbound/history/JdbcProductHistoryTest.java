@@ -0,0 +1,153 @@
+package com.example.ecommerce.product.adapter.outbound.history;
+
+import com.example.ecommerce.product.adapter.outbound.outbox.OutboxMessage;
+import com.example.ecommerce.product.application.dto.ProductVersion;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@DisplayName("JdbcProductHistory (H2)")
+class JdbcProductHistoryTest {
+
+    private static final Instant T0 = Instant.parse("2026-01-01T00:00:00Z");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private JdbcProductHistory history;
+    private final UUID productId = UUID.randomUUID();
+    private long sequence;
+
+    @BeforeEach
+    void setUp() {
+        history = new JdbcProductHistory(jdbcTemplate, new ObjectMapper().findAndRegisterModules(), 3);
+    }
+
+    @Test
+    @DisplayName("should reconstruct the product as it was at each point in time")
+    void shouldReconstructAtTime() {
+        history.append(List.of(created(T0, "Mouse", "10.00")));
+        history.append(List.of(
+            updated(T0.plusSeconds(10), "Wireless Mouse", null),
+            priceChanged(T0.plusSeconds(20), "10.00", "12.50")));
+        history.append(List.of(deleted(T0.plusSeconds(30))));
+
+        assertTrue(history.findAt(productId, null, T0.minusSeconds(1)).isEmpty());
+
+        ProductVersion created = history.findAt(productId, null, T0.plusSeconds(5)).orElseThrow();
+        assertEquals("Mouse", created.product().name());
+        assertEquals(0, new BigDecimal("10.00").compareTo(created.product().price()));
+        assertEquals("ACTIVE", created.product().status());
+
+        ProductVersion renamed = history.findAt(productId, null, T0.plusSeconds(15)).orElseThrow();
+        assertEquals("Wireless Mouse", renamed.product().name());
+        assertEquals(0, new BigDecimal("10.00").compareTo(renamed.product().price()));
+        assertEquals("Accessories", renamed.product().category());
+        assertEquals("Two buttons", renamed.product().description());
+        assertEquals(T0.plusSeconds(10), renamed.validFrom());
+
+        ProductVersion repriced = history.findAt(productId, null, T0.plusSeconds(25)).orElseThrow();
+        assertEquals(0, new BigDecimal("12.50").compareTo(repriced.product().price()));
+        assertEquals("pricing", repriced.product().updatedBy());
+
+        ProductVersion deleted = history.findAt(productId, null, T0.plusSeconds(60)).orElseThrow();
+        assertEquals("DELETED", deleted.product().status());
+        assertEquals(4, deleted.sequence());
+    }
+
+    @Test
+    @DisplayName("should snapshot on creation and every interval deltas, bounding the replay")
+    void shouldBoundReplayWithSnapshots() {
+        history.append(List.of(created(T0, "Mouse", "10.00")));
+        for (int i = 1; i <= 10; i++) {
+            history.append(List.of(priceChanged(T0.plusSeconds(i), "10.00", String.valueOf(10 + i))));
+        }
+
+        // 建立時一個，之後每 3 筆異動一個
+        assertEquals(4, history.snapshotCount(productId));
+        for (int i = 0; i <= 10; i++) {
+            ProductVersion version = history.findAt(productId, null, T0.plusSeconds(i)).orElseThrow();
+            assertTrue(version.deltasReplayed() < 3, "replayed " + version.deltasReplayed());
+            assertEquals(0, new BigDecimal(10 + i).compareTo(version.product().price()));
+        }
+    }
+
+    @Test
+    @DisplayName("should record a redelivered event once")
+    void shouldIgnoreRedelivery() {
+        OutboxMessage created = created(T0, "Mouse", "10.00");
+        OutboxMessage rename = updated(T0.plusSeconds(10), "Wireless Mouse", null);
+        history.append(List.of(created, rename));
+        history.append(List.of(rename));
+
+        ProductVersion version = history.findAt(productId, null, T0.plusSeconds(60)).orElseThrow();
+        assertEquals(1, version.deltasReplayed());
+        assertEquals(1, history.snapshotCount(productId));
+    }
+
+    @Test
+    @DisplayName("should start history of an existing product from its current row")
+    void shouldSeedExistingProduct() {
+        jdbcTemplate.update("""
+            INSERT INTO products (id, product_code, name, price, category, status, tenant_id,
+                                  created_at, updated_at, version)
+            VALUES (?, 'H000001', 'Legacy Mouse', 15.00, 'Accessories', 'ACTIVE', 'tenant-a', ?, ?, 3)
+            """, productId, T0.minus(Duration.ofDays(30)).atOffset(ZoneOffset.UTC),
+            T0.plusSeconds(20).atOffset(ZoneOffset.UTC));
+
+        history.append(List.of(priceChanged(T0.plusSeconds(20), "10.00", "15.00")));
+
+        assertTrue(history.findAt(productId, null, T0).isEmpty());
+        ProductVersion version = history.findAt(productId, null, T0.plusSeconds(20)).orElseThrow();
+        assertEquals("Legacy Mouse", version.product().name());
+        assertEquals(0, version.deltasReplayed());
+    }
+
+    @Test
+    @DisplayName("should not return another tenant's history")
+    void shouldScopeByTenant() {
+        history.append(List.of(created(T0, "Mouse", "10.00")));
+
+        assertTrue(history.findAt(productId, "tenant-a", T0).isPresent());
+        assertTrue(history.findAt(productId, "tenant-b", T0).isEmpty());
+    }
+
+    private OutboxMessage created(Instant at, String name, String price) {
+        return message("ProductCreated", at, """
+            {"productId":"%s","productCode":"H000001","name":"%s","price":%s,"category":"Accessories",
+             "description":"Two buttons","createdBy":"admin"}""".formatted(productId, name, price));
+    }
+
+    private OutboxMessage updated(Instant at, String name, String price) {
+        return message("ProductUpdated", at, """
+            {"productId":"%s","name":"%s","price":%s,"category":null,"description":null,"updatedBy":"editor"}"""
+            .formatted(productId, name, price));
+    }
+
+    private OutboxMessage priceChanged(Instant at, String oldPrice, String newPrice) {
+        return message("ProductPriceChanged", at, """
+            {"productId":"%s","oldPrice":%s,"newPrice":%s,"changedBy":"pricing"}"""
+            .formatted(productId, oldPrice, newPrice));
+    }
+
+    private OutboxMessage deleted(Instant at) {
+        return message("ProductDeleted", at, """
+            {"productId":"%s","deletedBy":"admin"}""".formatted(productId));
+    }
+
+    private OutboxMessage message(String eventType, Instant at, String payload) {
+        return new OutboxMessage(++sequence, productId, "tenant-a", eventType, payload, at);
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.ecommerce.product.adapter.outbound.history;
+
+import com.example.ecommerce.product.adapter.outbound.outbox.OutboxMessage;
+import com.example.ecommerce.product.application.dto.ProductVersion;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 時間點重建延遲與歷史長度、快照間隔的關係
+ */
+@DataJpaTest
+@Tag("benchmark")
+@DisplayName("Product history reconstruction benchmark (H2)")
+class ProductHistoryBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(ProductHistoryBenchmarkTest.class);
+
+    private static final Instant T0 = Instant.parse("2026-01-01T00:00:00Z");
+    private static final int[] HISTORY_LENGTHS = {100, 1_000, 5_000};
+    private static final int[] SNAPSHOT_INTERVALS = {10, 50, Integer.MAX_VALUE};
+    private static final int APPEND_BATCH = 100;
+    private static final int READS = 200;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @Test
+    @DisplayName("should reconstruct in time bounded by the snapshot interval")
+    void reconstructionLatency() {
+        Random random = new Random(42);
+        for (int interval : SNAPSHOT_INTERVALS) {
+            JdbcProductHistory history = new JdbcProductHistory(jdbcTemplate, objectMapper, interval);
+            for (int length : HISTORY_LENGTHS) {
+                UUID productId = UUID.randomUUID();
+                record(history, productId, length);
+
+                // 預熱
+                reconstruct(history, productId, length, READS / 4, random);
+                long start = System.nanoTime();
+                long replayed = reconstruct(history, productId, length, READS, random);
+                double micros = (System.nanoTime() - start) / 1e3 / READS;
+
+                log.info("History of {} deltas, snapshot interval {}: {} snapshots, {} us/read, {} deltas replayed/read",
+                    length, interval == Integer.MAX_VALUE ? "none" : interval, history.snapshotCount(productId),
+                    String.format("%.1f", micros), String.format("%.1f", (double) replayed / READS));
+                if (interval != Integer.MAX_VALUE) {
+                    assertTrue(replayed <= (long) READS * interval);
+                }
+            }
+        }
+    }
+
+    /**
+     * 建立後每秒調價一次：第 i 秒的價格為 i + 1
+     */
+    private void record(JdbcProductHistory history, UUID productId, int length) {
+        List<OutboxMessage> batch = new ArrayList<>(APPEND_BATCH);
+        batch.add(new OutboxMessage(0, productId, "bench", "ProductCreated", """
+            {"productId":"%s","productCode":"H000001","name":"Bench","price":1,"category":"Bench",
+             "description":null,"createdBy":"bench"}""".formatted(productId), T0));
+        for (int i = 1; i <= length; i++) {
+            batch.add(new OutboxMessage(i, productId, "bench", "ProductPriceChanged", """
+                {"productId":"%s","oldPrice":%d,"newPrice":%d,"changedBy":"bench"}"""
+                .formatted(productId, i, i + 1), T0.plusSeconds(i)));
+            if (batch.size() == APPEND_BATCH) {
+                history.append(batch);
+                batch = new ArrayList<>(APPEND_BATCH);
+            }
+        }
+        history.append(batch);
+    }
+
+    private static long reconstruct(JdbcProductHistory history, UUID productId, int length, int reads,
+                                     Random random) {
+        long replayed = 0;
+        for (int r = 0; r < reads; r++) {
+            int second = random.nextInt(length + 1);
+            ProductVersion version = history.findAt(productId, null, T0.plusSeconds(second)).orElseThrow();
+            assertEquals(0, BigDecimal.valueOf(second + 1).compareTo(version.product().price()));
+            replayed += version.deltasReplayed();
+        }
+        return replayed;
+    }
+}
@@ -0,0 +1,181 @@
+package com.example.ecommerce.product.adapter.outbound.outbox;
+
+import com.example.ecommerce.product.adapter.outbound.persistence.SpringDataProductOutboxRepository;
+import com.example.ecommerce.product.adapter.outbound.persistence.entity.ProductOutboxJpaEntity;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("ProductOutboxRelay (H2)")
+class ProductOutboxRelayTest {
+
+    @Autowired
+    private SpringDataProductOutboxRepository outboxRepo;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final RecordingSink sink = new RecordingSink();
+
+    @BeforeEach
+    void setUp() {
+        outboxRepo.deleteAllInBatch();
+    }
+
+    @AfterEach
+    void tearDown() {
+        outboxRepo.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("should publish pending events in order and delete them")
+    void shouldPublishInOrderAndDelete() {
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        append(first, "ProductCreated");
+        append(second, "ProductCreated");
+        append(first, "ProductPriceChanged");
+
+        int relayed = relay(10).relayOnce();
+
+        assertEquals(3, relayed);
+        assertEquals(List.of("ProductCreated", "ProductPriceChanged"), sink.eventTypes(first));
+        assertEquals(List.of("ProductCreated"), sink.eventTypes(second));
+        assertEquals(0, outboxRepo.count());
+    }
+
+    @Test
+    @DisplayName("should keep events for retry when a sink fails")
+    void shouldRetryAfterSinkFailure() {
+        UUID product = UUID.randomUUID();
+        append(product, "ProductCreated");
+        ProductOutboxRelay relay = relay(10);
+
+        sink.failNext = true;
+        assertThrows(IllegalStateException.class, relay::relayOnce);
+        assertEquals(1, outboxRepo.count());
+
+        assertEquals(1, relay.relayOnce());
+        assertEquals(List.of("ProductCreated"), sink.eventTypes(product));
+        assertEquals(0, outboxRepo.count());
+    }
+
+    @Test
+    @DisplayName("should drain more than one batch per run")
+    void shouldDrainSeveralBatches() {
+        for (int i = 0; i < 7; i++) {
+            append(UUID.randomUUID(), "ProductCreated");
+        }
+
+        assertEquals(7, relay(3).relayOnce());
+        assertEquals(7, sink.messages.size());
+    }
+
+    @Test
+    @DisplayName("should deliver each event once and per aggregate in order with concurrent relays")
+    void shouldNotDuplicateWithConcurrentRelays() throws Exception {
+        List<UUID> products = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            products.add(UUID.randomUUID());
+        }
+        for (int round = 0; round < 5; round++) {
+            for (UUID product : products) {
+                append(product, "Event" + round);
+            }
+        }
+
+        ExecutorService pool = Executors.newFixedThreadPool(3);
+        try {
+            List<Future<Integer>> runs = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                ProductOutboxRelay relay = relay(7);
+                runs.add(pool.submit(() -> {
+                    int total = 0;
+                    int relayed;
+                    do {
+                        relayed = relay.relayOnce();
+                        total += relayed;
+                    } while (relayed > 0);
+                    return total;
+                }));
+            }
+            int total = 0;
+            for (Future<Integer> run : runs) {
+                total += run.get(30, TimeUnit.SECONDS);
+            }
+            // 其他 relay 仍持有鎖時可能提早看到空批次，最後補一次
+            total += relay(100).relayOnce();
+
+            assertEquals(100, total);
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertEquals(100, sink.messages.size());
+        assertEquals(100, sink.messages.stream().map(OutboxMessage::sequence).distinct().count());
+        for (UUID product : products) {
+            assertEquals(List.of("Event0", "Event1", "Event2", "Event3", "Event4"), sink.eventTypes(product));
+        }
+    }
+
+    private ProductOutboxRelay relay(int batchSize) {
+        return new ProductOutboxRelay(outboxRepo, new TransactionTemplate(transactionManager), List.of(sink),
+            new ProductOutboxMetrics(new SimpleMeterRegistry()), batchSize, 10, Duration.ofSeconds(1),
+            Clock.systemUTC());
+    }
+
+    private void append(UUID aggregateId, String eventType) {
+        ProductOutboxJpaEntity row = new ProductOutboxJpaEntity();
+        row.setAggregateId(aggregateId);
+        row.setTenantId("tenant-1");
+        row.setEventType(eventType);
+        row.setPayload("{}");
+        row.setOccurredAt(Instant.now());
+        row.setCreatedAt(Instant.now());
+        outboxRepo.save(row);
+    }
+
+    private static class RecordingSink implements ProductEventSink {
+
+        final List<OutboxMessage> messages = Collections.synchronizedList(new ArrayList<>());
+        volatile boolean failNext;
+
+        @Override
+        public String name() {
+            return "recording";
+        }
+
+        @Override
+        public void publish(List<OutboxMessage> batch) {
+            if (failNext) {
+                failNext = false;
+                throw new IllegalStateException("sink unavailable");
+            }
+            messages.addAll(batch);
+        }
+
+        List<String> eventTypes(UUID aggregateId) {
+            synchronized (messages) {
+                return messages.stream()
+                    .filter(message -> message.aggregateId().equals(aggregateId))
+                    .map(OutboxMessage::eventType)
+                    .toList();
+            }
+        }
+    }
+}
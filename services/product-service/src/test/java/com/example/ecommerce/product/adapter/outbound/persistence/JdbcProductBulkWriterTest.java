@@ -0,0 +1,107 @@
+package com.example.ecommerce.product.adapter.outbound.persistence;
+
+import com.example.ecommerce.product.application.port.output.ProductBulkWriter.PriceChange;
+import com.example.ecommerce.product.application.port.output.ProductBulkWriter.PricedProduct;
+import com.example.ecommerce.product.domain.model.aggregate.Product;
+import com.example.ecommerce.product.domain.model.valueobject.Money;
+import com.example.ecommerce.product.domain.model.valueobject.ProductCode;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Import({JdbcProductBulkWriter.class, ProductOutboxWriter.class, JdbcProductTenantCounters.class})
+@DisplayName("JdbcProductBulkWriter (H2)")
+class JdbcProductBulkWriterTest {
+
+    @Autowired
+    private JdbcProductBulkWriter writer;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Product phone;
+    private Product laptop;
+    private Product book;
+
+    @BeforeEach
+    void setUp() {
+        phone = product("P100001", 100, "Electronics", "tenant-a");
+        laptop = product("P100002", 900, "Electronics", "tenant-a");
+        book = product("P100003", 20, "Books", "tenant-a");
+        writer.insertAll(List.of(phone, laptop, book, product("P100004", 50, "Electronics", "tenant-b")));
+    }
+
+    @Test
+    @DisplayName("should stream active prices of the tenant and category in chunks")
+    void shouldStreamActivePrices() {
+        List<List<PricedProduct>> chunks = new ArrayList<>();
+        writer.streamActivePrices("tenant-a", "Electronics", 1, chunks::add);
+
+        assertEquals(2, chunks.size());
+        assertEquals(Set.of(phone.getId().value(), laptop.getId().value()),
+            Set.of(chunks.get(0).get(0).productId(), chunks.get(1).get(0).productId()));
+        assertEquals(0, chunks.get(0).get(0).version());
+
+        List<PricedProduct> all = new ArrayList<>();
+        writer.streamActivePrices("tenant-a", null, 2, all::addAll);
+        assertEquals(3, all.size());
+    }
+
+    @Test
+    @DisplayName("should update prices and versions in one statement and record details and events")
+    void shouldUpdatePrices() {
+        UUID changeId = UUID.randomUUID();
+        writer.updatePrices(changeId, "tenant-a", List.of(
+            new PriceChange(phone.getId().value(), 0, Money.of(100), Money.of(105)),
+            new PriceChange(laptop.getId().value(), 0, Money.of(900), Money.of(945))), "admin", Instant.now());
+
+        assertEquals(new BigDecimal("105.00"), price(phone));
+        assertEquals(new BigDecimal("945.00"), price(laptop));
+        assertEquals(new BigDecimal("20.00"), price(book));
+        assertEquals(1L, jdbcTemplate.queryForObject(
+            "SELECT version FROM products WHERE id = ?", Long.class, phone.getId().value()));
+        assertEquals(2, jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM product_price_changes WHERE change_id = ?", Integer.class, changeId));
+        assertEquals(2, jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM product_outbox WHERE event_type = 'ProductPriceChanged'", Integer.class));
+    }
+
+    @Test
+    @DisplayName("should fail when a product changed since it was read")
+    void shouldFailOnStaleVersion() {
+        jdbcTemplate.update("UPDATE products SET version = version + 1 WHERE id = ?", laptop.getId().value());
+
+        List<PriceChange> changes = List.of(
+            new PriceChange(phone.getId().value(), 0, Money.of(100), Money.of(105)),
+            new PriceChange(laptop.getId().value(), 0, Money.of(900), Money.of(945)));
+
+        assertThrows(ObjectOptimisticLockingFailureException.class,
+            () -> writer.updatePrices(UUID.randomUUID(), "tenant-a", changes, "admin", Instant.now()));
+    }
+
+    private BigDecimal price(Product product) {
+        return jdbcTemplate.queryForObject("SELECT price FROM products WHERE id = ?", BigDecimal.class,
+            product.getId().value());
+    }
+
+    private static Product product(String code, long price, String category, String tenantId) {
+        return Product.create(ProductCode.of(code), "Product " + code, Money.of(price), category,
+            null, tenantId, "tester");
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.ecommerce.product.adapter.outbound.persistence;
+
+import com.example.ecommerce.product.adapter.outbound.outbox.CatalogVersionProductEventSink;
+import com.example.ecommerce.product.adapter.outbound.outbox.OutboxMessage;
+import com.example.ecommerce.product.application.dto.CatalogVersion;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Import(JdbcProductCatalogVersions.class)
+@DisplayName("JdbcProductCatalogVersions (H2)")
+class JdbcProductCatalogVersionsTest {
+
+    @Autowired
+    private JdbcProductCatalogVersions catalogVersions;
+
+    @Test
+    @DisplayName("should start at version 0 without a row")
+    void shouldStartAtZero() {
+        assertEquals(new CatalogVersion("tenant-a", 0, null), catalogVersions.current("tenant-a"));
+        assertEquals(new CatalogVersion(null, 0, null), catalogVersions.current(null));
+        assertTrue(catalogVersions.findAll().isEmpty());
+    }
+
+    @Test
+    @DisplayName("should increment per tenant from relayed events")
+    void shouldIncrementFromRelayedEvents() {
+        CatalogVersionProductEventSink sink = new CatalogVersionProductEventSink(catalogVersions);
+
+        sink.publish(List.of(message("tenant-a"), message("tenant-a"), message("tenant-b")));
+        sink.publish(List.of(message("tenant-a")));
+
+        CatalogVersion tenantA = catalogVersions.current("tenant-a");
+        assertEquals(3, tenantA.version());
+        assertNotNull(tenantA.updatedAt());
+        assertEquals(1, catalogVersions.current("tenant-b").version());
+        assertEquals(4, catalogVersions.current(null).version());
+        assertEquals(Map.of("tenant-a", 3L, "tenant-b", 1L), Map.of(
+            "tenant-a", catalogVersions.findAll().get("tenant-a").version(),
+            "tenant-b", catalogVersions.findAll().get("tenant-b").version()));
+    }
+
+    private static OutboxMessage message(String tenantId) {
+        return new OutboxMessage(1, UUID.randomUUID(), tenantId, "ProductUpdated", "{}", Instant.now());
+    }
+}
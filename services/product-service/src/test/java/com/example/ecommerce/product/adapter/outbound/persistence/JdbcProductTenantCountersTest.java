@@ -0,0 +1,161 @@
+package com.example.ecommerce.product.adapter.outbound.persistence;
+
+import com.example.ecommerce.product.adapter.outbound.persistence.mapper.ProductMapper;
+import com.example.ecommerce.product.application.dto.TenantProductCounts;
+import com.example.ecommerce.product.domain.model.aggregate.Product;
+import com.example.ecommerce.product.domain.model.valueobject.*;
+import jakarta.persistence.EntityManager;
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.MigrationInfo;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Import({JdbcProductTenantCounters.class, JpaProductRepository.class, JdbcProductBulkWriter.class,
+    ProductOutboxWriter.class, ProductMapper.class})
+@DisplayName("JdbcProductTenantCounters (H2)")
+class JdbcProductTenantCountersTest {
+
+    @Autowired
+    private JdbcProductTenantCounters counters;
+
+    @Autowired
+    private JpaProductRepository repository;
+
+    @Autowired
+    private JdbcProductBulkWriter bulkWriter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private Flyway flyway;
+
+    private int codes;
+
+    @Test
+    @DisplayName("should read and write the table created by the V110 migration")
+    void shouldMatchMigratedSchema() {
+        MigrationInfo current = flyway.info().current();
+        assertNotNull(current);
+        assertTrue(current.getVersion().isAtLeast("110"), "V110 should be applied, current: " + current.getVersion());
+        assertEquals(Set.of("TENANT_ID", "STATUS", "STRIPE", "PRODUCT_COUNT"), Set.copyOf(jdbcTemplate.queryForList(
+            "SELECT column_name FROM information_schema.columns WHERE table_name = 'PRODUCT_TENANT_COUNTERS'",
+            String.class)));
+
+        // 沒有對應商品的計數：寫入、讀取後由 reconcile 修正回 0
+        counters.add("counter-m", ProductStatus.ACTIVE, 1);
+        assertEquals(1, counters.counts("counter-m").total());
+        assertEquals(1, counters.reconcile("counter-m"));
+        assertEquals(0, counters.counts("counter-m").total());
+    }
+
+    @Test
+    @DisplayName("should start at zero without rows")
+    void shouldStartAtZero() {
+        assertEquals(new TenantProductCounts("counter-a", 0, 0, Map.of()), counters.counts("counter-a"));
+    }
+
+    @Test
+    @DisplayName("should spread increments over stripe rows and sum them on read")
+    void shouldSumStripes() {
+        long allTenants = counters.counts(null).total();
+        for (int i = 0; i < 64; i++) {
+            counters.add("counter-a", ProductStatus.ACTIVE, 1);
+        }
+        counters.add("counter-b", ProductStatus.ACTIVE, 1);
+
+        TenantProductCounts counts = counters.counts("counter-a");
+        assertEquals(64, counts.total());
+        assertEquals(64, counts.active());
+        assertTrue(stripeRows("counter-a") > 1, "increments should not all land on one row");
+        assertEquals(allTenants + 65, counters.counts(null).total());
+    }
+
+    @Test
+    @DisplayName("should move a product between statuses")
+    void shouldTransition() {
+        counters.add("counter-a", ProductStatus.ACTIVE, 2);
+        counters.transition("counter-a", ProductStatus.ACTIVE, ProductStatus.DELETED);
+        counters.transition("counter-a", ProductStatus.DELETED, ProductStatus.DELETED);
+
+        TenantProductCounts counts = counters.counts("counter-a");
+        assertEquals(2, counts.total());
+        assertEquals(1, counts.active());
+        assertEquals(1, counts.live());
+        assertEquals(Map.of("ACTIVE", 1L, "DELETED", 1L), counts.byStatus());
+    }
+
+    @Test
+    @DisplayName("should count products written through the repository and the bulk writer")
+    void shouldFollowProductWrites() {
+        Product kept = repository.add(newProduct("counter-a"));
+        Product deleted = repository.add(newProduct("counter-a"));
+        bulkWriter.insertAll(List.of(newProduct("counter-a"), newProduct("counter-b")));
+        entityManager.clear();
+
+        Product loaded = repository.findById(deleted.getId()).orElseThrow();
+        loaded.delete("admin");
+        repository.save(loaded);
+        repository.delete(kept.getId());
+        entityManager.flush();
+
+        assertEquals(new TenantProductCounts("counter-a", 2, 1, Map.of("ACTIVE", 1L, "DELETED", 1L)),
+            counters.counts("counter-a"));
+        assertEquals(3, repository.countByTenantId("counter-a") + repository.countByTenantId("counter-b"));
+        assertEquals(0, counters.reconcile("counter-a"));
+    }
+
+    @Test
+    @DisplayName("should correct drift from writes that bypassed the repository and seed every stripe")
+    void shouldReconcileDrift() {
+        counters.add("counter-a", ProductStatus.INACTIVE, 3);
+        insertRow("counter-a", "ACTIVE");
+        insertRow("counter-a", "ACTIVE");
+
+        assertEquals(5, counters.reconcile("counter-a"));
+
+        assertEquals(new TenantProductCounts("counter-a", 2, 2, Map.of("ACTIVE", 2L)), counters.counts("counter-a"));
+        assertEquals(JdbcProductTenantCounters.STRIPES * ProductStatus.values().length, stripeRows("counter-a"));
+        assertEquals(0, counters.reconcile("counter-a"));
+    }
+
+    private long stripeRows(String tenantId) {
+        Long rows = jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM product_tenant_counters WHERE tenant_id = ?", Long.class, tenantId);
+        return rows != null ? rows : 0;
+    }
+
+    private Product newProduct(String tenantId) {
+        return Product.create(ProductCode.of(String.format("P9%05d", ++codes)), "Product " + codes,
+            Money.of(10), "Books", null, tenantId, "admin");
+    }
+
+    private void insertRow(String tenantId, String status) {
+        OffsetDateTime now = OffsetDateTime.now();
+        jdbcTemplate.update("""
+            INSERT INTO products (id, product_code, name, price, category, status, tenant_id,
+                                  created_at, updated_at, version)
+            VALUES (?, ?, 'Manual', ?, 'Books', ?, ?, ?, ?, 0)
+            """, UUID.randomUUID(), String.format("M%06d", ++codes), new BigDecimal("10.00"), status, tenantId,
+            now, now);
+    }
+}
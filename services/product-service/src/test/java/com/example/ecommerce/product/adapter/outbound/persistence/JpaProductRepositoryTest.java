@@ -2,6 +2,8 @@ package com.example.ecommerce.product.adapter.outbound.persistence;
 
 import com.example.ecommerce.product.adapter.outbound.persistence.entity.ProductJpaEntity;
 import com.example.ecommerce.product.adapter.outbound.persistence.mapper.ProductMapper;
+import com.example.ecommerce.product.application.dto.TenantProductCounts;
+import com.example.ecommerce.product.domain.event.DomainEvent;
 import com.example.ecommerce.product.domain.model.aggregate.Product;
 import com.example.ecommerce.product.domain.model.valueobject.*;
 import org.junit.jupiter.api.*;
@@ -15,6 +17,7 @@ import java.util.*;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -27,6 +30,12 @@ class JpaProductRepositoryTest {
     @Mock
     private ProductMapper mapper;
 
+    @Mock
+    private ProductOutboxWriter outbox;
+
+    @Mock
+    private JdbcProductTenantCounters counters;
+
     @InjectMocks
     private JpaProductRepository repository;
 
@@ -193,6 +202,46 @@ class JpaProductRepositoryTest {
             verify(mapper).toEntity(sampleProduct);
             verify(jpaRepo).save(sampleEntity);
             verify(mapper).toDomain(sampleEntity);
+            verify(outbox).append(eq(sampleProduct), any());
+            verify(jpaRepo, never()).findById(any());
+            verify(counters).add("tenant-1", ProductStatus.ACTIVE, 1);
+        }
+
+        @Test
+        @DisplayName("should move the tenant count from the previous to the new status")
+        void shouldTransitionTenantCount() {
+            Product product = new Product(ProductId.of(sampleId), ProductCode.of("P000001"), "Test Product",
+                Money.of(99.99), "Electronics", "Description", "tenant-1", ProductStatus.ACTIVE,
+                "creator", Instant.now(), null, null, 3L);
+            product.delete("admin");
+            when(jpaRepo.findById(sampleId)).thenReturn(Optional.of(sampleEntity));
+            when(mapper.toEntity(product)).thenReturn(sampleEntity);
+            when(jpaRepo.save(sampleEntity)).thenReturn(sampleEntity);
+            when(mapper.toDomain(sampleEntity)).thenReturn(product);
+
+            repository.save(product);
+
+            verify(counters).transition("tenant-1", ProductStatus.ACTIVE, ProductStatus.DELETED);
+        }
+
+        @Test
+        @DisplayName("should append pulled domain events to the outbox")
+        void shouldAppendEventsToOutbox() {
+            Product product = Product.create(ProductCode.of("P000009"), "New", Money.of(10),
+                "Books", "Description", "tenant-9", "creator");
+            product.changePrice(Money.of(12), "editor");
+            when(mapper.toEntity(product)).thenReturn(sampleEntity);
+            when(jpaRepo.save(sampleEntity)).thenReturn(sampleEntity);
+            when(mapper.toDomain(sampleEntity)).thenReturn(product);
+
+            repository.save(product);
+
+            @SuppressWarnings("unchecked")
+            ArgumentCaptor<List<DomainEvent>> captor = ArgumentCaptor.forClass(List.class);
+            verify(outbox).append(eq(product), captor.capture());
+            assertEquals(List.of("ProductCreated", "ProductPriceChanged"),
+                captor.getValue().stream().map(e -> e.getClass().getSimpleName()).toList());
+            assertTrue(product.pullDomainEvents().isEmpty());
         }
     }
 
@@ -241,19 +290,21 @@ class JpaProductRepositoryTest {
     class CountByTenantId {
 
         @Test
-        @DisplayName("should return count for tenant")
+        @DisplayName("should return count for tenant from the counters")
         void shouldReturnCountForTenant() {
-            when(jpaRepo.countByTenantId("tenant-1")).thenReturn(5L);
+            when(counters.counts("tenant-1")).thenReturn(
+                new TenantProductCounts("tenant-1", 5L, 4L, Map.of("ACTIVE", 4L, "DELETED", 1L)));
 
             long count = repository.countByTenantId("tenant-1");
 
             assertEquals(5L, count);
+            verify(jpaRepo, never()).countByTenantId(any());
         }
 
         @Test
         @DisplayName("should return zero for empty tenant")
         void shouldReturnZeroForEmptyTenant() {
-            when(jpaRepo.countByTenantId("empty-tenant")).thenReturn(0L);
+            when(counters.counts("empty-tenant")).thenReturn(new TenantProductCounts("empty-tenant", 0L, 0L, Map.of()));
 
             long count = repository.countByTenantId("empty-tenant");
 
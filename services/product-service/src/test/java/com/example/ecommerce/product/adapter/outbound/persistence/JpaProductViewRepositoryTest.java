@@ -0,0 +1,104 @@
+package com.example.ecommerce.product.adapter.outbound.persistence;
+
+import com.example.ecommerce.product.adapter.outbound.persistence.mapper.ProductMapper;
+import com.example.ecommerce.product.application.dto.ProductView;
+import com.example.ecommerce.product.domain.model.aggregate.Product;
+import com.example.ecommerce.product.domain.model.valueobject.*;
+import com.example.ecommerce.product.domain.repository.ProductKeyset;
+import com.example.ecommerce.product.domain.repository.ProductSearchCriteria;
+import com.example.ecommerce.product.domain.repository.ProductSort;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Import({JpaProductViewRepository.class, JpaProductRepository.class, ProductOutboxWriter.class, ProductMapper.class,
+    JdbcProductTenantCounters.class})
+@DisplayName("JpaProductViewRepository (H2)")
+class JpaProductViewRepositoryTest {
+
+    @Autowired
+    private JpaProductViewRepository viewRepository;
+
+    @Autowired
+    private JpaProductRepository repository;
+
+    private final ProductSearchCriteria allActive = new ProductSearchCriteria(null, null, ProductStatus.ACTIVE);
+
+    private Product phone;
+
+    @BeforeEach
+    void setUp() {
+        phone = save("P000001", "Phone", 300, "Electronics", "tenant-1");
+        save("P000002", "Laptop", 900, "Electronics", "tenant-1");
+        save("P000003", "Shirt", 20, "Clothing", "tenant-2");
+    }
+
+    @Test
+    @DisplayName("should project a single product into ProductView")
+    void shouldProjectById() {
+        Optional<ProductView> view = viewRepository.findById(phone.getId().value());
+
+        assertTrue(view.isPresent());
+        assertEquals(phone.getId().value(), view.get().id());
+        assertEquals("P000001", view.get().productCode());
+        assertEquals("Phone", view.get().name());
+        assertEquals(0, new BigDecimal("300").compareTo(view.get().price()));
+        assertEquals("Electronics", view.get().category());
+        assertEquals("ACTIVE", view.get().status());
+        assertEquals("tenant-1", view.get().tenantId());
+        assertEquals("creator", view.get().createdBy());
+        assertNotNull(view.get().createdAt());
+    }
+
+    @Test
+    @DisplayName("should return empty for unknown id")
+    void shouldReturnEmptyForUnknownId() {
+        assertTrue(viewRepository.findById(UUID.randomUUID()).isEmpty());
+    }
+
+    @Test
+    @DisplayName("should filter, sort and page projections in the database")
+    void shouldPageProjections() {
+        ProductSort byPrice = new ProductSort(ProductSort.Field.PRICE, false);
+
+        assertEquals(List.of("Laptop", "Phone"), names(viewRepository.findPage(allActive, 0, 2, byPrice)));
+        assertEquals(List.of("Shirt"), names(viewRepository.findPage(allActive, 1, 2, byPrice)));
+        assertEquals(List.of("Laptop", "Phone"), names(viewRepository.findPage(
+            new ProductSearchCriteria("tenant-1", "Electronics", ProductStatus.ACTIVE), 0, 10, byPrice)));
+        assertEquals(3, viewRepository.count(allActive));
+    }
+
+    @Test
+    @DisplayName("should continue after a keyset position")
+    void shouldContinueAfterKeyset() {
+        ProductSort byPrice = new ProductSort(ProductSort.Field.PRICE, true);
+        ProductView first = viewRepository.findAfter(allActive, null, 1, byPrice).get(0);
+
+        List<ProductView> rest = viewRepository.findAfter(
+            allActive, new ProductKeyset(first.price(), ProductId.of(first.id())), 10, byPrice);
+
+        assertEquals("Shirt", first.name());
+        assertEquals(List.of("Phone", "Laptop"), names(rest));
+    }
+
+    private Product save(String code, String name, double price, String category, String tenantId) {
+        return repository.save(Product.create(
+            ProductCode.of(code), name, Money.of(price), category, "Description", tenantId, "creator"));
+    }
+
+    private static List<String> names(List<ProductView> views) {
+        return views.stream().map(ProductView::name).toList();
+    }
+}
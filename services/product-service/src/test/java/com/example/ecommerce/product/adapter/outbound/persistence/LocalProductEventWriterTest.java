@@ -0,0 +1,69 @@
+package com.example.ecommerce.product.adapter.outbound.persistence;
+
+import com.example.ecommerce.product.application.event.ProductChanged;
+import com.example.ecommerce.product.domain.event.ProductPriceChanged;
+import com.example.ecommerce.product.domain.model.aggregate.Product;
+import com.example.ecommerce.product.domain.model.valueobject.*;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LocalProductEventWriter")
+class LocalProductEventWriterTest {
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private LocalProductEventWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        writer = new LocalProductEventWriter(eventPublisher);
+    }
+
+    @Test
+    @DisplayName("should publish a ProductChanged per domain event without an outbox sequence")
+    void shouldPublishDomainEvents() {
+        Product product = Product.create(ProductCode.of("P000001"), "Book", Money.of(10),
+            "Books", null, "tenant-1", "creator");
+
+        writer.appendAll(List.of(product));
+
+        ProductChanged change = captured(1).get(0);
+        assertEquals(LocalProductEventWriter.NO_SEQUENCE, change.sequence());
+        assertEquals("tenant-1", change.tenantId());
+        assertEquals(product.getId().value(), change.productId());
+        assertEquals("ProductCreated", change.eventType());
+        assertTrue(product.pullDomainEvents().isEmpty());
+    }
+
+    @Test
+    @DisplayName("should publish bulk price changes for the given tenant")
+    void shouldPublishPriceChanges() {
+        UUID productId = UUID.randomUUID();
+        Instant changedAt = Instant.parse("2026-01-01T00:00:00Z");
+
+        writer.appendPriceChanges("tenant-1", List.of(new ProductPriceChanged(
+            ProductId.of(productId), Money.of(10), Money.of(12), "admin", changedAt)));
+
+        assertEquals(new ProductChanged(LocalProductEventWriter.NO_SEQUENCE, "tenant-1", productId,
+            "ProductPriceChanged", changedAt), captured(1).get(0));
+    }
+
+    private List<ProductChanged> captured(int count) {
+        ArgumentCaptor<ProductChanged> events = ArgumentCaptor.forClass(ProductChanged.class);
+        verify(eventPublisher, times(count)).publishEvent(events.capture());
+        return events.getAllValues();
+    }
+}
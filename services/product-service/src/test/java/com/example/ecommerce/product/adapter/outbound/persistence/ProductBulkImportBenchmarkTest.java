@@ -0,0 +1,138 @@
+package com.example.ecommerce.product.adapter.outbound.persistence;
+
+import com.example.audit.domain.port.AuditLogRepository;
+import com.example.audit.infrastructure.config.AuditProperties;
+import com.example.ecommerce.product.adapter.inbound.rest.bulk.NdjsonProductRowReader;
+import com.example.ecommerce.product.adapter.outbound.persistence.mapper.ProductMapper;
+import com.example.ecommerce.product.adapter.outbound.sequence.BlockProductCodeAllocator;
+import com.example.ecommerce.product.adapter.outbound.sequence.JdbcSequenceBlockSource;
+import com.example.ecommerce.product.adapter.outbound.sequence.ProductCodeRange;
+import com.example.ecommerce.product.adapter.outbound.sequence.ProductCodeRangeResolver;
+import com.example.ecommerce.product.application.dto.BulkImportResult;
+import com.example.ecommerce.product.application.service.ProductBulkImportService;
+import com.example.ecommerce.product.application.service.ProductBulkImportSettings;
+import com.example.ecommerce.product.domain.model.aggregate.Product;
+import com.example.ecommerce.product.domain.model.valueobject.Money;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 批次匯入與逐筆建立的吞吐量比較
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Import({JpaProductRepository.class, JdbcProductBulkWriter.class, ProductOutboxWriter.class, ProductMapper.class,
+    JdbcProductTenantCounters.class})
+@Tag("benchmark")
+@DisplayName("Bulk import benchmark (H2)")
+class ProductBulkImportBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(ProductBulkImportBenchmarkTest.class);
+
+    private static final int BULK_ROWS = 100_000;
+    private static final int SINGLE_ROWS = 1_000;
+
+    @Autowired
+    private JdbcProductBulkWriter bulkWriter;
+
+    @Autowired
+    private JpaProductRepository repository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private BlockProductCodeAllocator allocator;
+
+    @BeforeEach
+    void setUp() {
+        allocator = new BlockProductCodeAllocator(new JdbcSequenceBlockSource(dataSource),
+            ProductCodeRangeResolver.of(new ProductCodeRange("default", "product_code_seq", 1, ProductCodeRange.MAX_CODE),
+                Map.of()), 1000, 200);
+    }
+
+    @AfterEach
+    void tearDown() {
+        allocator.close();
+        jdbcTemplate.update("DELETE FROM product_outbox");
+        jdbcTemplate.update("DELETE FROM products");
+    }
+
+    @Test
+    @DisplayName("streaming NDJSON import should create every row in chunked batches")
+    void bulkImportThroughput() {
+        String body = ndjson(BULK_ROWS);
+        ProductBulkImportService service = new ProductBulkImportService(bulkWriter, allocator,
+            mock(AuditLogRepository.class), new AuditProperties(), transactionManager,
+            new ProductBulkImportSettings(500, 1_000_000), objectMapper);
+
+        long start = System.nanoTime();
+        BulkImportResult result = service.importProducts(
+            new NdjsonProductRowReader(new BufferedReader(new StringReader(body)), objectMapper.reader()),
+            (line, productCode, message) -> fail("Row " + line + " failed: " + message));
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        log.info("Bulk import: {} rows in {} s, {} rows/s",
+            BULK_ROWS, String.format("%.2f", seconds), String.format("%.0f", BULK_ROWS / seconds));
+        assertEquals(BULK_ROWS, result.created());
+        assertEquals(BULK_ROWS, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM products", Long.class));
+        assertEquals(BULK_ROWS, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM product_outbox", Long.class));
+    }
+
+    @Test
+    @DisplayName("baseline: one transaction per created product")
+    void singleCreateThroughput() {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+
+        long start = System.nanoTime();
+        for (int i = 0; i < SINGLE_ROWS; i++) {
+            Product product = Product.create(allocator.allocate("default"), "Product " + i,
+                Money.of(10), "Bench", null, "default", "bench");
+            tx.executeWithoutResult(status -> repository.add(product));
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        log.info("Single create: {} rows in {} s, {} rows/s",
+            SINGLE_ROWS, String.format("%.2f", seconds), String.format("%.0f", SINGLE_ROWS / seconds));
+        assertEquals(SINGLE_ROWS, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM products", Long.class));
+    }
+
+    private static String ndjson(int rows) {
+        StringBuilder body = new StringBuilder(rows * 80);
+        for (int i = 0; i < rows; i++) {
+            body.append("{\"name\":\"Product ").append(i)
+                .append("\",\"price\":").append(10 + i % 90)
+                .append(",\"category\":\"Bench\",\"description\":\"row ").append(i).append("\"}\n");
+        }
+        return body.toString();
+    }
+}
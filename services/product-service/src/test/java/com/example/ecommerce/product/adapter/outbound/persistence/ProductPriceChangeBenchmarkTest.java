@@ -0,0 +1,97 @@
+package com.example.ecommerce.product.adapter.outbound.persistence;
+
+import com.example.ecommerce.product.application.dto.BulkPriceChangeResult;
+import com.example.ecommerce.product.application.port.input.command.BulkChangePriceCommand;
+import com.example.ecommerce.product.application.port.output.ProductCodeAllocator;
+import com.example.ecommerce.product.application.port.output.ProductTenantCounters;
+import com.example.ecommerce.product.application.service.ProductCommandService;
+import com.example.ecommerce.product.application.service.ProductCommandSettings;
+import com.example.ecommerce.product.domain.repository.ProductRepository;
+import com.example.ecommerce.tenant.context.TenantContext;
+import org.junit.jupiter.api.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 批次調價吞吐量
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Import({JdbcProductBulkWriter.class, ProductOutboxWriter.class, JdbcProductTenantCounters.class})
+@Tag("benchmark")
+@DisplayName("Bulk price change benchmark (H2)")
+class ProductPriceChangeBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(ProductPriceChangeBenchmarkTest.class);
+
+    private static final int PRODUCTS = 50_000;
+
+    @Autowired
+    private JdbcProductBulkWriter bulkWriter;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("""
+            INSERT INTO products (id, product_code, name, price, category, status, tenant_id, created_at, version)
+            SELECT RANDOM_UUID(), 'B' || LPAD(CAST(X AS VARCHAR), 6, '0'), 'Product ' || X, 100, 'Bench',
+                   'ACTIVE', 'bench', CURRENT_TIMESTAMP, 0
+            FROM SYSTEM_RANGE(1, ?)
+            """, PRODUCTS);
+        TenantContext.setCurrentTenant("bench");
+    }
+
+    @AfterEach
+    void tearDown() {
+        TenantContext.clear();
+        jdbcTemplate.update("DELETE FROM product_price_changes");
+        jdbcTemplate.update("DELETE FROM product_outbox");
+        jdbcTemplate.update("DELETE FROM products");
+    }
+
+    @Test
+    @DisplayName("should reprice every product of a category in one command")
+    void repriceThroughput() {
+        ProductCommandService service = new ProductCommandService(mock(ProductRepository.class),
+            mock(ProductCodeAllocator.class), bulkWriter, mock(ProductTenantCounters.class),
+            transactionManager, new ProductCommandSettings(500, 0));
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        tx.setReadOnly(true);
+
+        long start = System.nanoTime();
+        BulkPriceChangeResult result = tx.execute(status ->
+            service.handle(new BulkChangePriceCommand("Bench", BigDecimal.valueOf(5))));
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        log.info("Bulk price change: {} products in {} s, {} products/s",
+            PRODUCTS, String.format("%.2f", seconds), String.format("%.0f", PRODUCTS / seconds));
+        assertEquals(PRODUCTS, result.updated());
+        assertEquals(PRODUCTS, jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM products WHERE price = 105 AND version = 1", Integer.class));
+        assertEquals(PRODUCTS, jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM product_price_changes", Integer.class));
+        assertEquals(PRODUCTS, jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM product_outbox", Integer.class));
+    }
+}
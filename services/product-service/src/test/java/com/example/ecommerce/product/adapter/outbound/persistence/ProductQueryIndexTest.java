@@ -0,0 +1,235 @@
+package com.example.ecommerce.product.adapter.outbound.persistence;
+
+import com.example.ecommerce.product.adapter.outbound.persistence.mapper.ProductMapper;
+import com.example.ecommerce.product.domain.model.valueobject.ProductId;
+import com.example.ecommerce.product.domain.model.valueobject.ProductStatus;
+import com.example.ecommerce.product.domain.repository.ProductKeyset;
+import com.example.ecommerce.product.domain.repository.ProductSearchCriteria;
+import com.example.ecommerce.product.domain.repository.ProductSort;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 以 EXPLAIN 驗證商品查詢都有使用 Flyway migration 建立的索引 (H2)
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+    + "com.example.ecommerce.product.adapter.outbound.persistence.ProductQueryIndexTest$SqlCapture")
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Import({JpaProductRepository.class, ProductOutboxWriter.class, JpaProductViewRepository.class, ProductMapper.class,
+    JdbcProductTenantCounters.class})
+@DisplayName("Product query index usage (EXPLAIN)")
+class ProductQueryIndexTest {
+
+    @Autowired
+    private SpringDataProductRepository jpaRepo;
+
+    @Autowired
+    private JpaProductViewRepository viewRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        seed();
+        SqlCapture.STATEMENTS.clear();
+    }
+
+    @Nested
+    @DisplayName("SpringDataProductRepository")
+    class DerivedQueries {
+
+        @Test
+        @DisplayName("findById should use the primary key")
+        void findById() {
+            assertIndexBacked(() -> jpaRepo.findById(UUID.randomUUID()), "PRIMARY_KEY");
+        }
+
+        @Test
+        @DisplayName("findByProductCode should use the unique product_code index")
+        void findByProductCode() {
+            assertIndexBacked(() -> jpaRepo.findByProductCode("P000001"), "UK_PRODUCTS_PRODUCT_CODE");
+        }
+
+        @Test
+        @DisplayName("existsByProductCode should use the unique product_code index")
+        void existsByProductCode() {
+            assertIndexBacked(() -> jpaRepo.existsByProductCode("P000001"), "UK_PRODUCTS_PRODUCT_CODE");
+        }
+
+        @Test
+        @DisplayName("findByTenantId should use a tenant index")
+        void findByTenantId() {
+            assertIndexBacked(() -> jpaRepo.findByTenantId("tenant-1"), "IDX_PRODUCTS_TENANT_");
+        }
+
+        @Test
+        @DisplayName("countByTenantId should use a tenant index")
+        void countByTenantId() {
+            assertIndexBacked(() -> jpaRepo.countByTenantId("tenant-1"), "IDX_PRODUCTS_TENANT_");
+        }
+
+        @Test
+        @DisplayName("findByCategory should use the category index")
+        void findByCategory() {
+            assertIndexBacked(() -> jpaRepo.findByCategory("Electronics"), "IDX_PRODUCTS_CATEGORY_STATUS");
+        }
+    }
+
+    @Nested
+    @DisplayName("Read model projections")
+    class ReadModelQueries {
+
+        @Test
+        @DisplayName("findById projection should use the primary key")
+        void findViewById() {
+            assertIndexBacked(() -> viewRepository.findById(UUID.randomUUID()), "PRIMARY_KEY");
+        }
+
+        @Test
+        @DisplayName("tenant listing projection should use the tenant/status index")
+        void tenantListing() {
+            assertIndexBacked(() -> viewRepository.findPage(
+                    new ProductSearchCriteria("tenant-1", null, ProductStatus.ACTIVE), 0, 20, ProductSort.DEFAULT),
+                "IDX_PRODUCTS_TENANT_STATUS_CREATED");
+        }
+
+        @Test
+        @DisplayName("tenant listing by category projection should use the tenant/status/category index")
+        void tenantCategoryListing() {
+            assertIndexBacked(() -> viewRepository.findPage(
+                    new ProductSearchCriteria("tenant-1", "Electronics", ProductStatus.ACTIVE), 0, 20,
+                    ProductSort.DEFAULT),
+                "IDX_PRODUCTS_TENANT_STATUS_CATEGORY");
+        }
+
+        @Test
+        @DisplayName("system listing projection should use the status index")
+        void systemListing() {
+            assertIndexBacked(() -> viewRepository.findPage(
+                    new ProductSearchCriteria(null, null, ProductStatus.ACTIVE), 0, 20, ProductSort.DEFAULT),
+                "IDX_PRODUCTS_STATUS_CREATED");
+        }
+
+        @Test
+        @DisplayName("system listing by category projection should use the category index")
+        void systemCategoryListing() {
+            assertIndexBacked(() -> viewRepository.findPage(
+                    new ProductSearchCriteria(null, "Electronics", ProductStatus.ACTIVE), 0, 20,
+                    ProductSort.DEFAULT),
+                "IDX_PRODUCTS_CATEGORY_STATUS");
+        }
+
+        @Test
+        @DisplayName("tenant keyset projection by price should use the tenant/status index")
+        void tenantPriceKeyset() {
+            ProductKeyset after = new ProductKeyset(BigDecimal.TEN, ProductId.generate());
+            assertIndexBacked(() -> viewRepository.findAfter(
+                    new ProductSearchCriteria("tenant-1", null, ProductStatus.ACTIVE), after, 21,
+                    new ProductSort(ProductSort.Field.PRICE, true)),
+                "IDX_PRODUCTS_TENANT_STATUS_");
+        }
+
+        @Test
+        @DisplayName("system keyset projection should use the status index")
+        void systemKeyset() {
+            ProductKeyset after = new ProductKeyset(Instant.now(), ProductId.generate());
+            assertIndexBacked(() -> viewRepository.findAfter(
+                    new ProductSearchCriteria(null, null, ProductStatus.ACTIVE), after, 21, ProductSort.DEFAULT),
+                "IDX_PRODUCTS_STATUS_CREATED");
+        }
+    }
+
+    /**
+     * 執行查詢、擷取 Hibernate 產生的 SQL，逐一 EXPLAIN 並確認沒有 table scan
+     */
+    private void assertIndexBacked(Runnable query, String expectedIndex) {
+        query.run();
+        List<String> statements = SqlCapture.STATEMENTS.stream()
+            .filter(sql -> sql.toLowerCase().startsWith("select"))
+            .toList();
+        assertFalse(statements.isEmpty(), "no query captured");
+
+        for (String sql : statements) {
+            String plan = explain(sql);
+            assertFalse(plan.contains("tableScan"), () -> "table scan in plan:\n" + plan);
+            assertTrue(plan.toUpperCase().contains(expectedIndex),
+                () -> "expected index " + expectedIndex + " in plan:\n" + plan);
+        }
+    }
+
+    /**
+     * 塞入多租戶、多分類的資料並 ANALYZE，讓 H2 依欄位選擇性挑選索引
+     */
+    private void seed() throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            try (ResultSet rs = connection.createStatement().executeQuery("SELECT COUNT(*) FROM products")) {
+                rs.next();
+                if (rs.getLong(1) > 0) {
+                    return;
+                }
+            }
+            try (PreparedStatement insert = connection.prepareStatement(
+                    "INSERT INTO products (id, product_code, name, price, category, status, tenant_id, created_at) "
+                        + "VALUES (?, ?, ?, ?, ?, ?, ?, CURRENT_TIMESTAMP)")) {
+                for (int i = 0; i < 2000; i++) {
+                    insert.setObject(1, UUID.randomUUID());
+                    insert.setString(2, String.format("P%06d", i));
+                    insert.setString(3, "Product " + i);
+                    insert.setBigDecimal(4, BigDecimal.valueOf(i));
+                    insert.setString(5, "Category-" + (i % 20));
+                    insert.setString(6, i % 10 == 0 ? "INACTIVE" : "ACTIVE");
+                    insert.setString(7, "tenant-" + (i % 50));
+                    insert.addBatch();
+                }
+                insert.executeBatch();
+            }
+            connection.createStatement().execute("ANALYZE");
+        }
+    }
+
+    private String explain(String sql) {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+            int parameters = statement.getParameterMetaData().getParameterCount();
+            for (int i = 1; i <= parameters; i++) {
+                statement.setObject(i, null);
+            }
+            try (ResultSet rs = statement.executeQuery()) {
+                rs.next();
+                return rs.getString(1);
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("EXPLAIN failed for: " + sql, e);
+        }
+    }
+
+    public static class SqlCapture implements StatementInspector {
+
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
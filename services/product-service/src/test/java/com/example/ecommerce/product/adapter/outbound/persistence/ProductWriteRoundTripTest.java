@@ -0,0 +1,193 @@
+package com.example.ecommerce.product.adapter.outbound.persistence;
+
+import com.example.ecommerce.common.exception.BusinessException;
+import com.example.ecommerce.product.adapter.outbound.persistence.mapper.ProductMapper;
+import com.example.ecommerce.product.domain.model.aggregate.Product;
+import com.example.ecommerce.product.domain.model.valueobject.*;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 每個寫入命令的資料庫往返次數
+ *
+ * <p>以 Hibernate 統計的 prepared statement 數計算；批次送出的多筆 INSERT 只算一次。
+ * outbox 以 JDBC 批次寫入，每個命令固定再加一次往返，不在此統計。</p>
+ */
+@DataJpaTest(properties = {
+    "spring.jpa.properties.hibernate.generate_statistics=true",
+    "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.example.ecommerce.product.adapter.outbound.persistence.ProductWriteRoundTripTest$SqlCapture"
+})
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Import({JpaProductRepository.class, ProductOutboxWriter.class, ProductMapper.class, JdbcProductTenantCounters.class})
+@DisplayName("JpaProductRepository write round-trips (H2)")
+class ProductWriteRoundTripTest {
+
+    @Autowired
+    private JpaProductRepository repository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @DisplayName("create should insert without a preceding select")
+    void createShouldInsertOnly() {
+        Product product = newProduct("P000001");
+
+        startCounting();
+        repository.save(product);
+        entityManager.flush();
+
+        // products INSERT (outbox 以 JDBC 寫入，不經 Hibernate)
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, count("select"));
+    }
+
+    @Test
+    @DisplayName("add should insert immediately and report a duplicate code from the unique constraint")
+    void addShouldRelyOnUniqueConstraint() {
+        startCounting();
+        repository.add(newProduct("P000004"));
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, count("select"));
+
+        BusinessException ex = assertThrows(BusinessException.class,
+            () -> repository.add(newProduct("P000004")));
+        assertEquals("DUPLICATE_PRODUCT_CODE", ex.getErrorCode());
+    }
+
+    @Test
+    @DisplayName("update should load once and write only the changed columns")
+    void updateShouldLoadOnceAndWriteChangedColumns() {
+        Product saved = repository.save(newProduct("P000002"));
+        entityManager.flush();
+        entityManager.clear();
+
+        startCounting();
+        Product loaded = repository.findById(saved.getId()).orElseThrow();
+        loaded.changePrice(Money.of(150), "editor");
+        repository.save(loaded);
+        entityManager.flush();
+
+        // SELECT + products UPDATE
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertEquals(1, count("select"));
+        String update = SqlCapture.STATEMENTS.stream()
+            .filter(sql -> sql.startsWith("update products")).findFirst().orElseThrow();
+        assertTrue(update.contains("price"));
+        assertFalse(update.contains("description"));
+
+        entityManager.clear();
+        assertEquals(saved.getVersion() + 1, repository.findById(saved.getId()).orElseThrow().getVersion());
+    }
+
+    @Test
+    @DisplayName("bulk create should batch the product inserts")
+    void bulkCreateShouldBatchInserts() {
+        startCounting();
+        for (int i = 0; i < 20; i++) {
+            repository.save(newProduct(String.format("P%06d", 100 + i)));
+        }
+        entityManager.flush();
+
+        assertEquals(1, count("insert into products"));
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, count("select"));
+    }
+
+    @Test
+    @DisplayName("addAll should batch the product inserts and flush once")
+    void addAllShouldBatchInserts() {
+        List<Product> products = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            products.add(newProduct(String.format("P%06d", 200 + i)));
+        }
+
+        startCounting();
+        repository.addAll(products);
+
+        assertEquals(1, count("insert into products"));
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, count("select"));
+    }
+
+    @Test
+    @DisplayName("addAll should report a duplicate code inside the batch from the constraint name")
+    void addAllShouldReportDuplicateInBatch() {
+        BusinessException ex = assertThrows(BusinessException.class,
+            () -> repository.addAll(List.of(newProduct("P000300"), newProduct("P000300"))));
+        assertEquals("DUPLICATE_PRODUCT_CODE", ex.getErrorCode());
+    }
+
+    @Test
+    @DisplayName("should reject a save based on a stale version")
+    void shouldRejectStaleVersion() {
+        Product saved = repository.save(newProduct("P000003"));
+        entityManager.flush();
+        entityManager.clear();
+
+        Product first = repository.findById(saved.getId()).orElseThrow();
+        entityManager.clear();
+        Product second = repository.findById(saved.getId()).orElseThrow();
+        entityManager.clear();
+
+        first.changePrice(Money.of(110), "editor-1");
+        repository.save(first);
+        entityManager.flush();
+        entityManager.clear();
+
+        second.changePrice(Money.of(120), "editor-2");
+        assertThrows(ObjectOptimisticLockingFailureException.class, () -> {
+            repository.save(second);
+            entityManager.flush();
+        });
+    }
+
+    private void startCounting() {
+        statistics.clear();
+        SqlCapture.STATEMENTS.clear();
+    }
+
+    private static long count(String prefix) {
+        return SqlCapture.STATEMENTS.stream().filter(sql -> sql.startsWith(prefix)).count();
+    }
+
+    private static Product newProduct(String code) {
+        return Product.create(ProductCode.of(code), "Name " + code, Money.of(100), "Electronics",
+            "Description", "tenant-1", "creator");
+    }
+
+    public static class SqlCapture implements StatementInspector {
+
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql.trim().toLowerCase());
+            return sql;
+        }
+    }
+}
@@ -0,0 +1,281 @@
+package com.example.ecommerce.product.adapter.outbound.search;
+
+import com.example.ecommerce.product.application.dto.ProductSearchHit;
+import com.example.ecommerce.product.application.dto.ProductView;
+import com.example.ecommerce.product.application.event.ProductChangeNotice;
+import com.example.ecommerce.product.application.event.ProductChanged;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.*;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("InMemoryProductSearchIndex")
+class InMemoryProductSearchIndexTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+
+    private final FakeSource source = new FakeSource();
+
+    private InMemoryProductSearchIndex index;
+
+    @AfterEach
+    void tearDown() {
+        if (index != null) {
+            index.close();
+        }
+    }
+
+    @Nested
+    @DisplayName("Search")
+    class Search {
+
+        @BeforeEach
+        void setUp() {
+            source.put(product("tenant-a", "Wireless Mouse", "Accessories", "Ergonomic mouse with USB receiver"));
+            source.put(product("tenant-a", "Mouse Pad", "Accessories", "Large cloth pad"));
+            source.put(product("tenant-a", "USB Keyboard", "Accessories", "Mechanical keyboard, wireless mouse not included"));
+            source.put(product("tenant-a", "藍牙耳機", "Audio", "降噪無線耳機"));
+            source.put(product("tenant-b", "Wireless Mouse Pro", "Accessories", null));
+            index = index(null);
+        }
+
+        @Test
+        @DisplayName("should rank name matches above description matches")
+        void shouldRankNameMatchesFirst() {
+            List<ProductSearchHit> hits = index.search("tenant-a", "wireless mouse ", 10);
+
+            assertEquals(List.of("Wireless Mouse", "USB Keyboard"), names(hits));
+            assertTrue(hits.get(0).score() > hits.get(1).score());
+        }
+
+        @Test
+        @DisplayName("should require every term to match")
+        void shouldRequireAllTerms() {
+            assertEquals(List.of("Mouse Pad"), names(index.search("tenant-a", "mouse cloth ", 10)));
+            assertTrue(index.search("tenant-a", "mouse printer ", 10).isEmpty());
+        }
+
+        @Test
+        @DisplayName("should match the last term as a prefix unless followed by a space")
+        void shouldMatchLastTermAsPrefix() {
+            assertEquals(List.of("USB Keyboard"), names(index.search("tenant-a", "keyb", 10)));
+            assertTrue(index.search("tenant-a", "keyb ", 10).isEmpty());
+        }
+
+        @Test
+        @DisplayName("should find CJK products by bigram")
+        void shouldFindCjkProducts() {
+            assertEquals(List.of("藍牙耳機"), names(index.search("tenant-a", "耳機", 10)));
+            assertEquals(List.of("藍牙耳機"), names(index.search("tenant-a", "降噪 耳機", 10)));
+        }
+
+        @Test
+        @DisplayName("should isolate tenants and search all tenants with a null tenant")
+        void shouldIsolateTenants() {
+            assertEquals(List.of("Wireless Mouse Pro"), names(index.search("tenant-b", "mouse", 10)));
+            assertTrue(index.search("tenant-c", "mouse", 10).isEmpty());
+            assertEquals(4, index.search(null, "mouse", 10).size());
+        }
+
+        @Test
+        @DisplayName("should limit results")
+        void shouldLimitResults() {
+            assertEquals(2, index.search(null, "mouse", 2).size());
+        }
+
+        @Test
+        @DisplayName("should suggest terms by document frequency")
+        void shouldSuggestTerms() {
+            assertEquals(List.of("mouse", "mechanical"), index.suggest("tenant-a", "m", 2));
+            assertEquals(List.of("wireless"), index.suggest("tenant-b", "usb wir", 5));
+        }
+    }
+
+    @Nested
+    @DisplayName("Incremental updates")
+    class Updates {
+
+        @Test
+        @DisplayName("should re-read changed products and drop inactive ones")
+        void shouldRefreshChangedProducts() {
+            ProductView mouse = source.put(product("tenant-a", "Wireless Mouse", "Accessories", null));
+            index = index(null);
+
+            ProductView renamed = source.put(copy(mouse, "Gaming Mouse", "ACTIVE", NOW.plusSeconds(10)));
+            ProductView added = source.put(product("tenant-a", "Gaming Headset", "Audio", null));
+            index.onProductChanged(changed(renamed));
+            index.onRemoteChange(new ProductChangeNotice("other",
+                new ProductChanged(2, "tenant-a", added.id(), "ProductCreated", NOW)));
+            assertEquals(2, index.refreshPending());
+
+            assertEquals(List.of("Gaming Headset", "Gaming Mouse"), sortedNames(index.search("tenant-a", "gaming", 10)));
+            assertTrue(index.search("tenant-a", "wireless", 10).isEmpty());
+
+            source.put(copy(renamed, "Gaming Mouse", "INACTIVE", NOW.plusSeconds(20)));
+            source.products.remove(added.id());
+            index.markStale(renamed.id());
+            index.markStale(added.id());
+            index.refreshPending();
+
+            assertTrue(index.search("tenant-a", "gaming", 10).isEmpty());
+            assertEquals(0, index.size());
+        }
+
+        @Test
+        @DisplayName("should not overwrite newer data with an older copy")
+        void shouldIgnoreOlderData() {
+            ProductView mouse = source.put(product("tenant-a", "Wireless Mouse", "Accessories", null));
+            index = index(null);
+            index.apply(copy(mouse, "Gaming Mouse", "ACTIVE", NOW.plusSeconds(10)));
+
+            index.apply(mouse);
+
+            assertEquals(List.of("Gaming Mouse"), names(index.search("tenant-a", "mouse", 10)));
+        }
+
+        @Test
+        @DisplayName("should keep products pending when the source fails")
+        void shouldRetryAfterSourceFailure() {
+            ProductView mouse = source.put(product("tenant-a", "Wireless Mouse", "Accessories", null));
+            index = index(null);
+            index.markStale(mouse.id());
+            source.failNext = true;
+
+            assertThrows(IllegalStateException.class, index::refreshPending);
+            assertEquals(1, index.pendingCount());
+            assertEquals(1, index.refreshPending());
+        }
+    }
+
+    @Nested
+    @DisplayName("Snapshot")
+    class Snapshot {
+
+        @TempDir
+        Path directory;
+
+        @Test
+        @DisplayName("should restart from the snapshot and catch up on later changes")
+        void shouldRestartFromSnapshot() {
+            ProductView mouse = source.put(product("tenant-a", "Wireless Mouse", "Accessories", null));
+            ProductView pad = source.put(product("tenant-a", "Mouse Pad", "Accessories", null));
+            ProductSearchSnapshot snapshot = snapshot();
+            index = index(snapshot);
+            index.close();
+            assertTrue(snapshot.read().isPresent());
+
+            // 快照之後：滑鼠墊下架、新增鍵盤
+            source.put(copy(pad, "Mouse Pad", "DELETED", NOW.plusSeconds(60)));
+            source.put(product("tenant-a", "USB Keyboard", "Accessories", null, NOW.plusSeconds(60)));
+            source.fullLoads = 0;
+
+            index = index(snapshot);
+
+            assertEquals(0, source.fullLoads);
+            assertEquals(List.of("Wireless Mouse"), names(index.search("tenant-a", "mouse", 10)));
+            assertEquals(List.of("USB Keyboard"), names(index.search("tenant-a", "keyboard", 10)));
+            assertEquals(mouse.id(), index.search("tenant-a", "wireless", 1).get(0).product().id());
+        }
+
+        @Test
+        @DisplayName("should rebuild from the source when the snapshot is too old")
+        void shouldRebuildWhenSnapshotIsStale() throws Exception {
+            source.put(product("tenant-a", "Wireless Mouse", "Accessories", null));
+            ProductSearchSnapshot snapshot = snapshot();
+            snapshot.write(NOW.minus(Duration.ofDays(2)), List.of());
+
+            index = index(snapshot);
+
+            assertEquals(1, source.fullLoads);
+            assertEquals(1, index.size());
+        }
+
+        private ProductSearchSnapshot snapshot() {
+            return new ProductSearchSnapshot(directory.resolve("search.json.gz"),
+                new ObjectMapper().registerModule(new JavaTimeModule()));
+        }
+    }
+
+    private InMemoryProductSearchIndex index(ProductSearchSnapshot snapshot) {
+        InMemoryProductSearchIndex created = new InMemoryProductSearchIndex(
+            source, snapshot, 50, 100, Duration.ofHours(1), Duration.ZERO, Duration.ofHours(24),
+            Duration.ofMinutes(5), Clock.fixed(NOW.plusSeconds(120), ZoneOffset.UTC));
+        // 不啟動背景執行緒，由測試呼叫 refreshPending()
+        created.load();
+        return created;
+    }
+
+    private static ProductView product(String tenantId, String name, String category, String description) {
+        return product(tenantId, name, category, description, NOW);
+    }
+
+    private static ProductView product(String tenantId, String name, String category, String description,
+                                       Instant updatedAt) {
+        return new ProductView(UUID.randomUUID(), "P" + Math.abs(name.hashCode()), name, BigDecimal.TEN,
+            category, description, "ACTIVE", tenantId, "tester", NOW, "tester", updatedAt, 0L);
+    }
+
+    private static ProductView copy(ProductView product, String name, String status, Instant updatedAt) {
+        return new ProductView(product.id(), product.productCode(), name, product.price(), product.category(),
+            product.description(), status, product.tenantId(), product.createdBy(), product.createdAt(),
+            "tester", updatedAt, product.version() + 1);
+    }
+
+    private static ProductChanged changed(ProductView product) {
+        return new ProductChanged(1, product.tenantId(), product.id(), "ProductUpdated", NOW);
+    }
+
+    private static List<String> names(List<ProductSearchHit> hits) {
+        return hits.stream().map(hit -> hit.product().name()).toList();
+    }
+
+    private static List<String> sortedNames(List<ProductSearchHit> hits) {
+        return names(hits).stream().sorted().toList();
+    }
+
+    /**
+     * 以 Map 模擬資料庫
+     */
+    private static class FakeSource implements ProductSearchSource {
+
+        final Map<UUID, ProductView> products = new LinkedHashMap<>();
+        int fullLoads;
+        boolean failNext;
+
+        ProductView put(ProductView product) {
+            products.put(product.id(), product);
+            return product;
+        }
+
+        @Override
+        public void forEachActive(Consumer<ProductView> consumer) {
+            fullLoads++;
+            products.values().stream().filter(p -> "ACTIVE".equals(p.status())).forEach(consumer);
+        }
+
+        @Override
+        public void forEachChangedSince(Instant since, Consumer<ProductView> consumer) {
+            products.values().stream().filter(p -> !p.updatedAt().isBefore(since)).forEach(consumer);
+        }
+
+        @Override
+        public List<ProductView> findByIds(Collection<UUID> ids) {
+            if (failNext) {
+                failNext = false;
+                throw new IllegalStateException("database unavailable");
+            }
+            return ids.stream().map(products::get).filter(Objects::nonNull).toList();
+        }
+    }
+}
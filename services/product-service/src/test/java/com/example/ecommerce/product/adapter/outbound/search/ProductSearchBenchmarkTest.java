@@ -0,0 +1,122 @@
+package com.example.ecommerce.product.adapter.outbound.search;
+
+import com.example.ecommerce.product.application.dto.ProductSearchHit;
+import org.junit.jupiter.api.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 記憶體索引與資料庫 LIKE 查詢的搜尋延遲
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Tag("benchmark")
+@DisplayName("Product search benchmark (H2)")
+class ProductSearchBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(ProductSearchBenchmarkTest.class);
+
+    private static final int PRODUCTS = 50_000;
+    private static final int QUERIES = 2_000;
+    private static final String[] COLORS = {"Red", "Blue", "Green", "Black", "White", "Silver", "Gold", "Pink"};
+    private static final String[] KINDS = {"Mouse", "Keyboard", "Headset", "Monitor", "Cable", "Charger", "Speaker"};
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("""
+            INSERT INTO products (id, product_code, name, price, category, description, status, tenant_id,
+                                  created_at, updated_at, version)
+            SELECT RANDOM_UUID(), 'S' || LPAD(CAST(X AS VARCHAR), 6, '0'),
+                   CASEWHEN(MOD(X, 8) = 0, 'Red', CASEWHEN(MOD(X, 8) = 1, 'Blue', CASEWHEN(MOD(X, 8) = 2, 'Green',
+                   CASEWHEN(MOD(X, 8) = 3, 'Black', CASEWHEN(MOD(X, 8) = 4, 'White', CASEWHEN(MOD(X, 8) = 5, 'Silver',
+                   CASEWHEN(MOD(X, 8) = 6, 'Gold', 'Pink'))))))) || ' '
+                   || CASEWHEN(MOD(X, 7) = 0, 'Mouse', CASEWHEN(MOD(X, 7) = 1, 'Keyboard', CASEWHEN(MOD(X, 7) = 2,
+                   'Headset', CASEWHEN(MOD(X, 7) = 3, 'Monitor', CASEWHEN(MOD(X, 7) = 4, 'Cable',
+                   CASEWHEN(MOD(X, 7) = 5, 'Charger', 'Speaker')))))) || ' ' || X,
+                   100, 'Category ' || MOD(X, 20), 'Model ' || X || ' with warranty', 'ACTIVE', 'bench',
+                   CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, 0
+            FROM SYSTEM_RANGE(1, ?)
+            """, PRODUCTS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM products");
+    }
+
+    @Test
+    @DisplayName("should answer searches from memory")
+    void searchLatency() {
+        InMemoryProductSearchIndex index = new InMemoryProductSearchIndex(
+            new JdbcProductSearchSource(jdbcTemplate, transactionManager), null, 50, 500,
+            Duration.ofHours(1), Duration.ZERO, Duration.ofHours(24), Duration.ofMinutes(5), Clock.systemUTC());
+        long buildStart = System.nanoTime();
+        index.load();
+        double buildMs = (System.nanoTime() - buildStart) / 1e6;
+        assertEquals(PRODUCTS, index.size());
+
+        // 每色每類約 PRODUCTS / 56 筆
+        List<ProductSearchHit> hits = index.search("bench", "blue mouse", 20);
+        assertEquals(20, hits.size());
+        hits.forEach(hit -> assertTrue(hit.product().name().startsWith("Blue Mouse")));
+
+        // 預熱
+        runIndexQueries(index, QUERIES);
+        long indexStart = System.nanoTime();
+        int indexHits = runIndexQueries(index, QUERIES);
+        double indexMicros = (System.nanoTime() - indexStart) / 1e3 / QUERIES;
+
+        int sqlQueries = QUERIES / 10;
+        runSqlQueries(sqlQueries / 4);
+        long sqlStart = System.nanoTime();
+        int sqlHits = runSqlQueries(sqlQueries);
+        double sqlMicros = (System.nanoTime() - sqlStart) / 1e3 / sqlQueries;
+
+        log.info("Search over {} products: index built in {} ms; index {} us/query, LIKE query {} us/query",
+            PRODUCTS, String.format("%.0f", buildMs), String.format("%.1f", indexMicros),
+            String.format("%.1f", sqlMicros));
+        assertTrue(indexHits > 0);
+        assertTrue(sqlHits > 0);
+    }
+
+    private static int runIndexQueries(InMemoryProductSearchIndex index, int queries) {
+        int total = 0;
+        for (int i = 0; i < queries; i++) {
+            String query = COLORS[i % COLORS.length] + " " + KINDS[i % KINDS.length].substring(0, 3);
+            total += index.search("bench", query, 20).size();
+        }
+        return total;
+    }
+
+    private int runSqlQueries(int queries) {
+        int total = 0;
+        for (int i = 0; i < queries; i++) {
+            total += jdbcTemplate.queryForList("""
+                SELECT id FROM products
+                WHERE tenant_id = 'bench' AND status = 'ACTIVE'
+                  AND LOWER(name) LIKE ? AND LOWER(name) LIKE ?
+                FETCH FIRST 20 ROWS ONLY
+                """, "%" + COLORS[i % COLORS.length].toLowerCase() + "%",
+                "%" + KINDS[i % KINDS.length].substring(0, 3).toLowerCase() + "%").size();
+        }
+        return total;
+    }
+}
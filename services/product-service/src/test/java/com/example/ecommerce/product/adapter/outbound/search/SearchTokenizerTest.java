@@ -0,0 +1,50 @@
+package com.example.ecommerce.product.adapter.outbound.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("SearchTokenizer")
+class SearchTokenizerTest {
+
+    @Test
+    @DisplayName("should lower-case and split on punctuation")
+    void shouldSplitWords() {
+        assertEquals(List.of("usb", "c", "cable", "2m"), SearchTokenizer.tokenize("USB-C Cable, 2m!"));
+    }
+
+    @Test
+    @DisplayName("should normalize full-width characters")
+    void shouldNormalizeFullWidth() {
+        assertEquals(List.of("iphone", "15"), SearchTokenizer.tokenize("ＩＰｈｏｎｅ　１５"));
+    }
+
+    @Test
+    @DisplayName("should split CJK runs into overlapping bigrams")
+    void shouldSplitCjkIntoBigrams() {
+        assertEquals(List.of("藍牙", "牙耳", "耳機"), SearchTokenizer.tokenize("藍牙耳機"));
+        assertEquals(List.of("sony", "降噪", "耳機"), SearchTokenizer.tokenize("Sony降噪 耳機"));
+    }
+
+    @Test
+    @DisplayName("should keep a single CJK character")
+    void shouldKeepSingleCjkCharacter() {
+        assertEquals(List.of("茶"), SearchTokenizer.tokenize("茶"));
+    }
+
+    @Test
+    @DisplayName("should drop overlong tokens and handle null")
+    void shouldDropOverlongTokens() {
+        assertEquals(List.of("ok"), SearchTokenizer.tokenize("x".repeat(SearchTokenizer.MAX_TOKEN_LENGTH + 1) + " ok"));
+        assertTrue(SearchTokenizer.tokenize(null).isEmpty());
+    }
+
+    @Test
+    @DisplayName("should deduplicate query terms keeping order")
+    void shouldDeduplicateQueryTerms() {
+        assertEquals(List.of("red", "shoe"), SearchTokenizer.queryTerms("red shoe RED"));
+    }
+}
@@ -0,0 +1,132 @@
+package com.example.ecommerce.product.adapter.outbound.sequence;
+
+import com.example.ecommerce.product.domain.model.valueobject.ProductCode;
+import org.junit.jupiter.api.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("BlockProductCodeAllocator")
+class BlockProductCodeAllocatorTest {
+
+    private static final ProductCodeRange DEFAULT = new ProductCodeRange("default", "product_code_seq", 1, 899_999);
+    private static final ProductCodeRange TENANT_A = new ProductCodeRange("tenant-a", "tenant_a_seq", 900_000, 900_024);
+
+    private final CountingBlockSource blockSource = new CountingBlockSource();
+    private BlockProductCodeAllocator allocator;
+
+    @BeforeEach
+    void setUp() {
+        allocator = new BlockProductCodeAllocator(blockSource,
+            ProductCodeRangeResolver.of(DEFAULT, Map.of("tenant-a", TENANT_A)), 10, 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        allocator.close();
+    }
+
+    @Test
+    @DisplayName("should hand out consecutive codes from one block")
+    void shouldHandOutCodesFromBlock() {
+        assertEquals("P000001", allocator.allocate("tenant-1").value());
+        assertEquals("P000002", allocator.allocate("tenant-1").value());
+        assertEquals("P000003", allocator.allocate("tenant-1").value());
+        assertEquals(1, blockSource.calls("product_code_seq"));
+    }
+
+    @Test
+    @DisplayName("should reserve the next block before the current one runs out")
+    void shouldPrefetchNextBlock() throws Exception {
+        for (int i = 0; i < 8; i++) {
+            allocator.allocate("tenant-1");
+        }
+        blockSource.awaitCalls("product_code_seq", 2);
+
+        List<String> next = List.of(allocator.allocate("tenant-1").value(),
+            allocator.allocate("tenant-1").value(), allocator.allocate("tenant-1").value());
+
+        assertEquals(List.of("P000009", "P000010", "P000011"), next);
+        assertEquals(2, blockSource.calls("product_code_seq"));
+    }
+
+    @Test
+    @DisplayName("should use the tenant's own range and sequence")
+    void shouldUseTenantRange() {
+        assertEquals("P900000", allocator.allocate("tenant-a").value());
+        assertEquals("P000001", allocator.allocate("tenant-b").value());
+        assertEquals(1, blockSource.calls("tenant_a_seq"));
+    }
+
+    @Test
+    @DisplayName("should fail when the range is exhausted")
+    void shouldFailWhenRangeExhausted() {
+        for (int i = 0; i < 25; i++) {
+            allocator.allocate("tenant-a");
+        }
+
+        assertThrows(IllegalStateException.class, () -> allocator.allocate("tenant-a"));
+    }
+
+    @Test
+    @DisplayName("should never hand out the same code twice under contention")
+    void shouldBeUniqueUnderContention() throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<List<ProductCode>>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                futures.add(pool.submit(() -> {
+                    List<ProductCode> codes = new ArrayList<>();
+                    for (int i = 0; i < 500; i++) {
+                        codes.add(allocator.allocate("tenant-1"));
+                    }
+                    return codes;
+                }));
+            }
+            Set<ProductCode> all = new HashSet<>();
+            for (Future<List<ProductCode>> future : futures) {
+                all.addAll(future.get(10, TimeUnit.SECONDS));
+            }
+            assertEquals(4000, all.size());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("should reject overlapping ranges")
+    void shouldRejectOverlappingRanges() {
+        ProductCodeRange overlapping = new ProductCodeRange("tenant-c", "tenant_c_seq", 899_000, 899_999);
+
+        assertThrows(IllegalArgumentException.class,
+            () -> ProductCodeRangeResolver.of(DEFAULT, Map.of("tenant-c", overlapping)));
+    }
+
+    /**
+     * 每個 sequence 各自從 0 遞增，模擬資料庫 sequence
+     */
+    private static class CountingBlockSource implements BlockSource {
+
+        private final Map<String, AtomicInteger> sequences = new ConcurrentHashMap<>();
+
+        @Override
+        public long nextBlock(String sequence) {
+            return sequences.computeIfAbsent(sequence, name -> new AtomicInteger()).getAndIncrement();
+        }
+
+        int calls(String sequence) {
+            AtomicInteger counter = sequences.get(sequence);
+            return counter != null ? counter.get() : 0;
+        }
+
+        void awaitCalls(String sequence, int expected) throws InterruptedException {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (calls(sequence) < expected && System.nanoTime() < deadline) {
+                Thread.sleep(5);
+            }
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.ecommerce.product.adapter.outbound.sequence;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@DisplayName("JdbcSequenceBlockSource (H2)")
+class JdbcSequenceBlockSourceTest {
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    @DisplayName("should draw increasing block numbers from the Flyway-managed sequence")
+    void shouldDrawIncreasingBlocks() {
+        JdbcSequenceBlockSource source = new JdbcSequenceBlockSource(dataSource);
+
+        long first = source.nextBlock("product_code_seq");
+        long second = source.nextBlock("product_code_seq");
+
+        assertTrue(first >= 0);
+        assertEquals(first + 1, second);
+    }
+}
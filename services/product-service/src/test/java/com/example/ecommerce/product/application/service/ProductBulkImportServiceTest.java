@@ -0,0 +1,171 @@
+package com.example.ecommerce.product.application.service;
+
+import com.example.audit.domain.model.AuditLog;
+import com.example.audit.domain.port.AuditLogRepository;
+import com.example.audit.infrastructure.config.AuditProperties;
+import com.example.ecommerce.product.application.dto.BulkImportResult;
+import com.example.ecommerce.product.application.port.input.command.BulkProductRow;
+import com.example.ecommerce.product.application.port.input.command.CreateProductCommand;
+import com.example.ecommerce.product.application.port.output.ProductBulkWriter;
+import com.example.ecommerce.product.application.port.output.ProductCodeAllocator;
+import com.example.ecommerce.product.domain.model.aggregate.Product;
+import com.example.ecommerce.product.domain.model.valueobject.ProductCode;
+import com.example.ecommerce.security.util.SecurityUtils;
+import com.example.ecommerce.tenant.context.TenantContext;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.*;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+
+import java.math.BigDecimal;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ProductBulkImportService")
+class ProductBulkImportServiceTest {
+
+    @Mock
+    private ProductBulkWriter bulkWriter;
+
+    @Mock
+    private ProductCodeAllocator codeAllocator;
+
+    @Mock
+    private AuditLogRepository auditLogRepository;
+
+    private final RecordingListener listener = new RecordingListener();
+    private final List<List<Product>> insertedChunks = new ArrayList<>();
+    private ProductBulkImportService service;
+    private MockedStatic<SecurityUtils> securityUtilsMock;
+    private MockedStatic<TenantContext> tenantContextMock;
+
+    @BeforeEach
+    void setUp() {
+        securityUtilsMock = mockStatic(SecurityUtils.class);
+        tenantContextMock = mockStatic(TenantContext.class);
+        securityUtilsMock.when(SecurityUtils::getCurrentUsername).thenReturn(Optional.of("importer"));
+        tenantContextMock.when(TenantContext::getCurrentTenant).thenReturn("tenant-1");
+
+        service = new ProductBulkImportService(bulkWriter, codeAllocator, auditLogRepository,
+            new AuditProperties(), new NoOpTransactionManager(), new ProductBulkImportSettings(2, 1_000_000),
+            new ObjectMapper());
+
+        AtomicInteger next = new AtomicInteger(100);
+        lenient().when(codeAllocator.allocate("tenant-1"))
+            .thenAnswer(inv -> ProductCode.of(String.format("P%06d", next.getAndIncrement())));
+        lenient().doAnswer(inv -> insertedChunks.add(List.copyOf(inv.getArgument(0))))
+            .when(bulkWriter).insertAll(any());
+    }
+
+    @AfterEach
+    void tearDown() {
+        securityUtilsMock.close();
+        tenantContextMock.close();
+    }
+
+    @Test
+    @DisplayName("should write in chunks with one audit entry per chunk")
+    void shouldWriteInChunks() {
+        BulkImportResult result = service.importProducts(rows(
+            valid(1, null), valid(2, null), valid(3, null), valid(4, null), valid(5, null)), listener);
+
+        assertEquals(5, result.received());
+        assertEquals(5, result.created());
+        assertEquals(0, result.failed());
+        assertEquals(List.of(2, 2, 1), insertedChunks.stream().map(List::size).toList());
+        verify(auditLogRepository, times(3)).save(any(AuditLog.class));
+        assertEquals(List.of("1:2:0", "2:2:0", "3:1:0"), listener.chunks);
+        assertEquals("tenant-1", insertedChunks.get(0).get(0).getTenantId());
+    }
+
+    @Test
+    @DisplayName("should report invalid, duplicate and existing codes per row and keep the others")
+    void shouldReportRowErrors() {
+        when(bulkWriter.findExistingCodes(any())).thenAnswer(inv -> {
+            Collection<String> codes = inv.getArgument(0);
+            return codes.contains("P000002") ? Set.of("P000002") : Set.of();
+        });
+
+        BulkImportResult result = service.importProducts(rows(
+            valid(1, "P000001"),
+            BulkProductRow.invalid(2, "Malformed JSON"),
+            valid(3, "P000001"),
+            valid(4, "P000002"),
+            valid(5, "BAD")), listener);
+
+        assertEquals(1, result.created());
+        assertEquals(4, result.failed());
+        assertEquals(List.of(2L, 3L, 4L, 5L), listener.failedLines.stream().sorted().toList());
+        assertTrue(listener.messages.get(3L).contains("Duplicate product code in import"));
+        assertTrue(listener.messages.get(4L).contains("already exists"));
+        verify(bulkWriter, atLeastOnce()).findExistingCodes(any());
+    }
+
+    @Test
+    @DisplayName("should stop reading after the row limit")
+    void shouldStopAtRowLimit() {
+        service = new ProductBulkImportService(bulkWriter, codeAllocator, auditLogRepository,
+            new AuditProperties(), new NoOpTransactionManager(), new ProductBulkImportSettings(500, 2),
+            new ObjectMapper());
+
+        BulkImportResult result = service.importProducts(rows(
+            valid(1, null), valid(2, null), valid(3, null), valid(4, null)), listener);
+
+        assertEquals(2, result.created());
+        assertEquals(1, result.failed());
+        assertEquals(List.of(3L), listener.failedLines);
+    }
+
+    private static BulkProductRow valid(long line, String code) {
+        return BulkProductRow.valid(line, new CreateProductCommand(
+            code, "Product " + line, BigDecimal.TEN, "Electronics", null));
+    }
+
+    private static Iterator<BulkProductRow> rows(BulkProductRow... rows) {
+        return List.of(rows).iterator();
+    }
+
+    private static class RecordingListener implements ProductBulkImportService.Listener {
+        final List<Long> failedLines = new ArrayList<>();
+        final Map<Long, String> messages = new HashMap<>();
+        final List<String> chunks = new ArrayList<>();
+
+        @Override
+        public void rowFailed(long line, String productCode, String message) {
+            failedLines.add(line);
+            messages.put(line, message);
+        }
+
+        @Override
+        public void chunkCompleted(int chunk, int created, int failed) {
+            chunks.add(chunk + ":" + created + ":" + failed);
+        }
+    }
+
+    private static class NoOpTransactionManager extends AbstractPlatformTransactionManager {
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, org.springframework.transaction.TransactionDefinition definition) {
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+        }
+    }
+}
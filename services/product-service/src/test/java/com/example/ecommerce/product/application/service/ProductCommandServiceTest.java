@@ -2,7 +2,14 @@ package com.example.ecommerce.product.application.service;
 
 import com.example.ecommerce.common.exception.BusinessException;
 import com.example.ecommerce.common.exception.ResourceNotFoundException;
+import com.example.ecommerce.product.application.dto.BulkPriceChangeResult;
 import com.example.ecommerce.product.application.port.input.command.*;
+import com.example.ecommerce.product.application.port.output.ProductBulkWriter;
+import com.example.ecommerce.product.application.port.output.ProductBulkWriter.PriceChange;
+import com.example.ecommerce.product.application.port.output.ProductBulkWriter.PricedProduct;
+import com.example.ecommerce.product.application.dto.TenantProductCounts;
+import com.example.ecommerce.product.application.port.output.ProductCodeAllocator;
+import com.example.ecommerce.product.application.port.output.ProductTenantCounters;
 import com.example.ecommerce.product.domain.model.aggregate.Product;
 import com.example.ecommerce.product.domain.model.valueobject.*;
 import com.example.ecommerce.product.domain.repository.ProductRepository;
@@ -12,13 +19,20 @@ import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.*;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
 
 import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -28,7 +42,18 @@ class ProductCommandServiceTest {
     @Mock
     private ProductRepository productRepository;
 
-    @InjectMocks
+    @Mock
+    private ProductCodeAllocator codeAllocator;
+
+    @Mock
+    private ProductBulkWriter bulkWriter;
+
+    @Mock
+    private ProductTenantCounters tenantCounters;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
     private ProductCommandService commandService;
 
     private MockedStatic<SecurityUtils> securityUtilsMock;
@@ -36,6 +61,7 @@ class ProductCommandServiceTest {
 
     @BeforeEach
     void setUp() {
+        commandService = service(500, 0);
         securityUtilsMock = mockStatic(SecurityUtils.class);
         tenantContextMock = mockStatic(TenantContext.class);
 
@@ -49,6 +75,11 @@ class ProductCommandServiceTest {
         tenantContextMock.close();
     }
 
+    private ProductCommandService service(int priceChangeChunkSize, long maxProductsPerTenant) {
+        return new ProductCommandService(productRepository, codeAllocator, bulkWriter, tenantCounters,
+            transactionManager, new ProductCommandSettings(priceChangeChunkSize, maxProductsPerTenant));
+    }
+
     @Nested
     @DisplayName("Create Product")
     class CreateProduct {
@@ -59,14 +90,14 @@ class ProductCommandServiceTest {
             CreateProductCommand cmd = new CreateProductCommand(
                 "P000001", "Test Product", BigDecimal.valueOf(100.00), "Electronics", "Description"
             );
-            when(productRepository.existsByProductCode(any())).thenReturn(false);
-            when(productRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
+            when(productRepository.add(any())).thenAnswer(inv -> inv.getArgument(0));
 
             UUID result = commandService.handle(cmd);
 
             assertNotNull(result);
-            verify(productRepository).existsByProductCode(ProductCode.of("P000001"));
-            verify(productRepository).save(any(Product.class));
+            verify(productRepository, never()).existsByProductCode(any());
+            verifyNoInteractions(codeAllocator);
+            verify(productRepository).add(any(Product.class));
         }
 
         @Test
@@ -75,13 +106,17 @@ class ProductCommandServiceTest {
             CreateProductCommand cmd = new CreateProductCommand(
                 null, "Test Product", BigDecimal.valueOf(100.00), "Electronics", "Description"
             );
-            when(productRepository.existsByProductCode(any())).thenReturn(false);
-            when(productRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
+            when(codeAllocator.allocate("tenant-1")).thenReturn(ProductCode.of("P000042"));
+            when(productRepository.add(any())).thenAnswer(inv -> {
+                Product p = inv.getArgument(0);
+                assertEquals("P000042", p.getProductCode().value());
+                return p;
+            });
 
             UUID result = commandService.handle(cmd);
 
             assertNotNull(result);
-            verify(productRepository).save(any(Product.class));
+            verify(productRepository).add(any(Product.class));
         }
 
         @Test
@@ -90,8 +125,8 @@ class ProductCommandServiceTest {
             CreateProductCommand cmd = new CreateProductCommand(
                 "  ", "Test Product", BigDecimal.valueOf(100.00), "Electronics", "Description"
             );
-            when(productRepository.existsByProductCode(any())).thenReturn(false);
-            when(productRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
+            when(codeAllocator.allocate("tenant-1")).thenReturn(ProductCode.of("P000043"));
+            when(productRepository.add(any())).thenAnswer(inv -> inv.getArgument(0));
 
             UUID result = commandService.handle(cmd);
 
@@ -99,18 +134,19 @@ class ProductCommandServiceTest {
         }
 
         @Test
-        @DisplayName("should throw when product code exists")
+        @DisplayName("should surface a duplicate product code rejected on insert")
         void shouldThrowWhenProductCodeExists() {
             CreateProductCommand cmd = new CreateProductCommand(
                 "P000001", "Test Product", BigDecimal.valueOf(100.00), "Electronics", "Description"
             );
-            when(productRepository.existsByProductCode(ProductCode.of("P000001"))).thenReturn(true);
+            when(productRepository.add(any())).thenThrow(
+                new BusinessException("Product code already exists: P000001", "DUPLICATE_PRODUCT_CODE"));
 
             BusinessException ex = assertThrows(BusinessException.class,
                 () -> commandService.handle(cmd));
 
             assertEquals("DUPLICATE_PRODUCT_CODE", ex.getErrorCode());
-            verify(productRepository, never()).save(any());
+            verify(productRepository, never()).existsByProductCode(any());
         }
 
         @Test
@@ -121,8 +157,7 @@ class ProductCommandServiceTest {
             CreateProductCommand cmd = new CreateProductCommand(
                 "P000001", "Test Product", BigDecimal.valueOf(100.00), "Electronics", "Description"
             );
-            when(productRepository.existsByProductCode(any())).thenReturn(false);
-            when(productRepository.save(any())).thenAnswer(inv -> {
+            when(productRepository.add(any())).thenAnswer(inv -> {
                 Product p = inv.getArgument(0);
                 assertEquals("default", p.getTenantId());
                 return p;
@@ -130,7 +165,7 @@ class ProductCommandServiceTest {
 
             commandService.handle(cmd);
 
-            verify(productRepository).save(any(Product.class));
+            verify(productRepository).add(any(Product.class));
         }
 
         @Test
@@ -141,8 +176,7 @@ class ProductCommandServiceTest {
             CreateProductCommand cmd = new CreateProductCommand(
                 "P000001", "Test Product", BigDecimal.valueOf(100.00), "Electronics", "Description"
             );
-            when(productRepository.existsByProductCode(any())).thenReturn(false);
-            when(productRepository.save(any())).thenAnswer(inv -> {
+            when(productRepository.add(any())).thenAnswer(inv -> {
                 Product p = inv.getArgument(0);
                 assertEquals("system", p.getCreatedBy());
                 return p;
@@ -150,7 +184,37 @@ class ProductCommandServiceTest {
 
             commandService.handle(cmd);
 
-            verify(productRepository).save(any(Product.class));
+            verify(productRepository).add(any(Product.class));
+        }
+
+        @Test
+        @DisplayName("should reject creation when the tenant reached its product quota")
+        void shouldRejectWhenQuotaReached() {
+            commandService = service(500, 3);
+            when(tenantCounters.counts("tenant-1")).thenReturn(
+                new TenantProductCounts("tenant-1", 5, 2, Map.of("ACTIVE", 2L, "INACTIVE", 1L, "DELETED", 2L)));
+
+            CreateProductCommand cmd = new CreateProductCommand(
+                "P000001", "Test Product", BigDecimal.valueOf(100.00), "Electronics", "Description"
+            );
+            BusinessException ex = assertThrows(BusinessException.class, () -> commandService.handle(cmd));
+
+            assertEquals("PRODUCT_QUOTA_EXCEEDED", ex.getErrorCode());
+            verify(productRepository, never()).add(any());
+        }
+
+        @Test
+        @DisplayName("should not count deleted products against the quota")
+        void shouldIgnoreDeletedProductsInQuota() {
+            commandService = service(500, 3);
+            when(tenantCounters.counts("tenant-1")).thenReturn(
+                new TenantProductCounts("tenant-1", 4, 2, Map.of("ACTIVE", 2L, "DELETED", 2L)));
+            when(productRepository.add(any())).thenAnswer(inv -> inv.getArgument(0));
+
+            commandService.handle(new CreateProductCommand(
+                "P000001", "Test Product", BigDecimal.valueOf(100.00), "Electronics", "Description"));
+
+            verify(productRepository).add(any(Product.class));
         }
     }
 
@@ -262,4 +326,116 @@ class ProductCommandServiceTest {
                 () -> commandService.handle(cmd));
         }
     }
+
+    @Nested
+    @DisplayName("Bulk Change Price")
+    class BulkChangePrice {
+
+        @Test
+        @DisplayName("should update every streamed chunk with one writer call")
+        @SuppressWarnings("unchecked")
+        void shouldUpdateChunkByChunk() {
+            commandService = service(2, 0);
+            PricedProduct first = priced(100);
+            stream("Electronics", 2, List.of(first, priced(200)), List.of(priced(300)));
+
+            BulkPriceChangeResult result = commandService.handle(
+                new BulkChangePriceCommand("Electronics", BigDecimal.valueOf(5)));
+
+            assertEquals(3, result.matched());
+            assertEquals(3, result.updated());
+            ArgumentCaptor<List<PriceChange>> captor = ArgumentCaptor.forClass(List.class);
+            verify(bulkWriter, times(2)).updatePrices(eq(result.changeId()), eq("tenant-1"), captor.capture(),
+                eq("testuser"), any());
+            PriceChange change = captor.getAllValues().get(0).get(0);
+            assertEquals(first.version(), change.version());
+            assertEquals(Money.of(100), change.oldPrice());
+            assertEquals(Money.of(105), change.newPrice());
+            assertEquals(Money.of(315), captor.getAllValues().get(1).get(0).newPrice());
+        }
+
+        @Test
+        @DisplayName("should commit every chunk in its own transaction")
+        void shouldCommitEachChunk() {
+            commandService = service(2, 0);
+            stream(null, 2, List.of(priced(100), priced(200)), List.of(priced(300)));
+
+            commandService.handle(new BulkChangePriceCommand(null, BigDecimal.valueOf(5)));
+
+            ArgumentCaptor<TransactionDefinition> captor = ArgumentCaptor.forClass(TransactionDefinition.class);
+            verify(transactionManager, times(2)).getTransaction(captor.capture());
+            assertEquals(TransactionDefinition.PROPAGATION_REQUIRES_NEW, captor.getValue().getPropagationBehavior());
+            verify(transactionManager, times(2)).commit(any());
+        }
+
+        @Test
+        @DisplayName("should keep committed chunks and roll back only the failing chunk")
+        void shouldRollBackOnlyFailingChunk() {
+            commandService = service(2, 0);
+            PricedProduct stale = priced(300);
+            stream(null, 2, List.of(priced(100), priced(200)), List.of(stale), List.of(priced(400)));
+            doNothing().doThrow(new ObjectOptimisticLockingFailureException("stale", null))
+                .when(bulkWriter).updatePrices(any(), any(), any(), any(), any());
+
+            BulkChangePriceCommand cmd = new BulkChangePriceCommand(null, BigDecimal.valueOf(5));
+
+            assertThrows(ObjectOptimisticLockingFailureException.class, () -> commandService.handle(cmd));
+            verify(transactionManager).commit(any());
+            verify(transactionManager).rollback(any());
+            verify(bulkWriter, times(2)).updatePrices(any(), any(), any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("should skip products whose rounded price does not change")
+        @SuppressWarnings("unchecked")
+        void shouldSkipUnchangedPrices() {
+            stream(null, 500, List.of(priced(0.01), priced(100)));
+
+            BulkPriceChangeResult result = commandService.handle(
+                new BulkChangePriceCommand(null, new BigDecimal("10")));
+
+            assertEquals(2, result.matched());
+            assertEquals(1, result.updated());
+            ArgumentCaptor<List<PriceChange>> captor = ArgumentCaptor.forClass(List.class);
+            verify(bulkWriter).updatePrices(any(), any(), captor.capture(), any(), any());
+            assertEquals(Money.of(110), captor.getValue().get(0).newPrice());
+        }
+
+        @Test
+        @DisplayName("should reject a change that would make a price zero")
+        void shouldRejectNonPositivePrice() {
+            stream(null, 500, List.of(priced(0.01)));
+
+            BulkChangePriceCommand cmd = new BulkChangePriceCommand(null, new BigDecimal("-99"));
+
+            IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
+                () -> commandService.handle(cmd));
+            assertEquals("Amount must be positive, got: 0.00", ex.getMessage());
+            verify(bulkWriter, never()).updatePrices(any(), any(), any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("should reject invalid percentages")
+        void shouldRejectInvalidPercentage() {
+            assertThrows(IllegalArgumentException.class,
+                () -> new BulkChangePriceCommand(null, BigDecimal.ZERO));
+            assertThrows(IllegalArgumentException.class,
+                () -> new BulkChangePriceCommand(null, BigDecimal.valueOf(-100)));
+        }
+
+        private PricedProduct priced(double price) {
+            return new PricedProduct(UUID.randomUUID(), 3, Money.of(price));
+        }
+
+        @SafeVarargs
+        private void stream(String category, int chunkSize, List<PricedProduct>... chunks) {
+            doAnswer(inv -> {
+                Consumer<List<PricedProduct>> consumer = inv.getArgument(3);
+                for (List<PricedProduct> chunk : chunks) {
+                    consumer.accept(chunk);
+                }
+                return null;
+            }).when(bulkWriter).streamActivePrices(eq("tenant-1"), eq(category), eq(chunkSize), any());
+        }
+    }
 }
@@ -2,20 +2,37 @@ package com.example.ecommerce.product.application.service;
 
 import com.example.ecommerce.common.dto.PagedResult;
 import com.example.ecommerce.common.exception.ResourceNotFoundException;
+import com.example.ecommerce.product.application.dto.CatalogVersion;
+import com.example.ecommerce.product.application.dto.ProductCursor;
+import com.example.ecommerce.product.application.dto.ProductReadKey;
+import com.example.ecommerce.product.application.dto.ProductRevision;
+import com.example.ecommerce.product.application.dto.ProductVersion;
 import com.example.ecommerce.product.application.dto.ProductView;
+import com.example.ecommerce.product.application.dto.TenantProductCounts;
 import com.example.ecommerce.product.application.port.input.query.*;
-import com.example.ecommerce.product.domain.model.aggregate.Product;
+import com.example.ecommerce.product.application.port.output.ProductArchive;
+import com.example.ecommerce.product.application.port.output.ProductCatalogVersions;
+import com.example.ecommerce.product.application.port.output.ProductHistory;
+import com.example.ecommerce.product.application.port.output.ProductTenantCounters;
+import com.example.ecommerce.product.application.port.output.ProductViewRepository;
 import com.example.ecommerce.product.domain.model.valueobject.*;
-import com.example.ecommerce.product.domain.repository.ProductRepository;
+import com.example.ecommerce.product.domain.repository.ProductKeyset;
+import com.example.ecommerce.product.domain.repository.ProductSearchCriteria;
+import com.example.ecommerce.product.domain.repository.ProductSort;
 import com.example.ecommerce.tenant.context.TenantContext;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.*;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
 
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.*;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -23,7 +40,26 @@ import static org.mockito.Mockito.*;
 class ProductQueryServiceTest {
 
     @Mock
-    private ProductRepository productRepository;
+    private ProductViewRepository viewRepository;
+
+    @Mock
+    private ObjectProvider<ProductCatalogVersions> catalogVersionsProvider;
+
+    @Mock
+    private ProductCatalogVersions catalogVersions;
+
+    @Mock
+    private ProductArchive archive;
+
+    @Mock
+    private ProductHistory history;
+
+    @Mock
+    private ProductTenantCounters tenantCounters;
+
+    @Spy
+    private SingleFlight<ProductReadKey, ProductView> productReads =
+        new SingleFlight<>(Duration.ofMillis(500), 100);
 
     @InjectMocks
     private ProductQueryService queryService;
@@ -48,9 +84,9 @@ class ProductQueryServiceTest {
         @DisplayName("should return product when found")
         void shouldReturnProductWhenFound() {
             UUID id = UUID.randomUUID();
-            Product product = createActiveProduct("P000001", "Test Product", "tenant-1");
+            ProductView product = createView("P000001", "Test Product", "tenant-1");
 
-            when(productRepository.findById(ProductId.of(id))).thenReturn(Optional.of(product));
+            when(viewRepository.findById(id)).thenReturn(Optional.of(product));
 
             GetProductByIdQuery query = new GetProductByIdQuery(id);
             ProductView result = queryService.handle(query);
@@ -64,7 +100,7 @@ class ProductQueryServiceTest {
         @DisplayName("should throw when product not found")
         void shouldThrowWhenProductNotFound() {
             UUID id = UUID.randomUUID();
-            when(productRepository.findById(ProductId.of(id))).thenReturn(Optional.empty());
+            when(viewRepository.findById(id)).thenReturn(Optional.empty());
 
             GetProductByIdQuery query = new GetProductByIdQuery(id);
 
@@ -72,6 +108,144 @@ class ProductQueryServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("Get Archived Product")
+    class GetArchivedProduct {
+
+        @Test
+        @DisplayName("should read the archive within the current tenant")
+        void shouldReadArchiveForTenant() {
+            UUID id = UUID.randomUUID();
+            tenantContextMock.when(TenantContext::getCurrentTenant).thenReturn("tenant-1");
+            ProductView archived = createView("P000001", "Old Product", "tenant-1");
+            when(archive.findById(id, "tenant-1")).thenReturn(Optional.of(archived));
+
+            assertEquals(archived, queryService.handle(new GetArchivedProductQuery(id)));
+            verify(viewRepository, never()).findById(any());
+        }
+
+        @Test
+        @DisplayName("should read across tenants for the system tenant")
+        void shouldReadArchiveForSystemTenant() {
+            UUID id = UUID.randomUUID();
+            tenantContextMock.when(TenantContext::getCurrentTenant).thenReturn("system");
+            when(archive.findById(id, null)).thenReturn(Optional.empty());
+
+            assertThrows(ResourceNotFoundException.class, () -> queryService.handle(new GetArchivedProductQuery(id)));
+        }
+    }
+
+    @Nested
+    @DisplayName("Get Product Counts")
+    class GetProductCounts {
+
+        @Test
+        @DisplayName("should read the counters of the current tenant")
+        void shouldReadCountersForTenant() {
+            tenantContextMock.when(TenantContext::getCurrentTenant).thenReturn("tenant-1");
+            TenantProductCounts counts = new TenantProductCounts("tenant-1", 5, 3,
+                Map.of("ACTIVE", 3L, "INACTIVE", 1L, "DELETED", 1L));
+            when(tenantCounters.counts("tenant-1")).thenReturn(counts);
+
+            assertEquals(counts, queryService.handle(new GetProductCountsQuery()));
+            assertEquals(4, counts.live());
+            verifyNoInteractions(viewRepository);
+        }
+
+        @Test
+        @DisplayName("should sum all tenants for the system tenant")
+        void shouldSumAllTenantsForSystemTenant() {
+            tenantContextMock.when(TenantContext::getCurrentTenant).thenReturn("system");
+            when(tenantCounters.counts(null)).thenReturn(new TenantProductCounts(null, 0, 0, Map.of()));
+
+            assertEquals(0, queryService.handle(new GetProductCountsQuery()).total());
+        }
+    }
+
+    @Nested
+    @DisplayName("Get Product History")
+    class GetProductHistory {
+
+        @Test
+        @DisplayName("should reconstruct the product at the requested time within the tenant")
+        void shouldReadHistoryForTenant() {
+            UUID id = UUID.randomUUID();
+            Instant at = Instant.parse("2026-01-01T00:00:00Z");
+            tenantContextMock.when(TenantContext::getCurrentTenant).thenReturn("tenant-1");
+            ProductVersion version = new ProductVersion(createView("P000001", "Old Name", "tenant-1"), 7, at, 5, 2);
+            when(history.findAt(id, "tenant-1", at)).thenReturn(Optional.of(version));
+
+            assertEquals(version, queryService.handle(new GetProductHistoryQuery(id, at)));
+        }
+
+        @Test
+        @DisplayName("should throw when nothing was recorded before the requested time")
+        void shouldThrowWithoutHistory() {
+            UUID id = UUID.randomUUID();
+            tenantContextMock.when(TenantContext::getCurrentTenant).thenReturn("system");
+            when(history.findAt(eq(id), isNull(), any())).thenReturn(Optional.empty());
+
+            assertThrows(ResourceNotFoundException.class,
+                () -> queryService.handle(new GetProductHistoryQuery(id, null)));
+        }
+    }
+
+    @Nested
+    @DisplayName("Conditional GET")
+    class ConditionalGet {
+
+        @Test
+        @DisplayName("should read only the version and last modified time")
+        void shouldReturnRevision() {
+            UUID id = UUID.randomUUID();
+            ProductRevision revision = new ProductRevision(3L, Instant.parse("2026-01-01T00:00:00Z"));
+            when(viewRepository.findRevision(id)).thenReturn(Optional.of(revision));
+
+            assertEquals(revision, queryService.handle(new GetProductRevisionQuery(id)));
+            verify(viewRepository, never()).findById(any());
+        }
+
+        @Test
+        @DisplayName("should throw when product not found")
+        void shouldThrowWhenRevisionNotFound() {
+            UUID id = UUID.randomUUID();
+            when(viewRepository.findRevision(id)).thenReturn(Optional.empty());
+
+            assertThrows(ResourceNotFoundException.class,
+                () -> queryService.handle(new GetProductRevisionQuery(id)));
+        }
+
+        @Test
+        @DisplayName("should return the catalog version of the current tenant")
+        void shouldReturnTenantCatalogVersion() {
+            tenantContextMock.when(TenantContext::getCurrentTenant).thenReturn("tenant-1");
+            CatalogVersion version = new CatalogVersion("tenant-1", 7, Instant.now());
+            when(catalogVersionsProvider.getIfAvailable()).thenReturn(catalogVersions);
+            when(catalogVersions.current("tenant-1")).thenReturn(version);
+
+            assertEquals(Optional.of(version), queryService.handle(new GetCatalogVersionQuery()));
+        }
+
+        @Test
+        @DisplayName("should return the version of all tenants for system")
+        void shouldReturnAllTenantsVersionForSystem() {
+            tenantContextMock.when(TenantContext::getCurrentTenant).thenReturn("system");
+            when(catalogVersionsProvider.getIfAvailable()).thenReturn(catalogVersions);
+            when(catalogVersions.current(null)).thenReturn(new CatalogVersion(null, 12, null));
+
+            assertEquals(12, queryService.handle(new GetCatalogVersionQuery()).orElseThrow().version());
+        }
+
+        @Test
+        @DisplayName("should return empty when catalog versions are not maintained")
+        void shouldReturnEmptyWithoutCatalogVersions() {
+            tenantContextMock.when(TenantContext::getCurrentTenant).thenReturn("tenant-1");
+            when(catalogVersionsProvider.getIfAvailable()).thenReturn(null);
+
+            assertTrue(queryService.handle(new GetCatalogVersionQuery()).isEmpty());
+        }
+    }
+
     @Nested
     @DisplayName("List Products - System Admin")
     class ListProductsSystemAdmin {
@@ -82,52 +256,33 @@ class ProductQueryServiceTest {
         }
 
         @Test
-        @DisplayName("should return all active products")
+        @DisplayName("should query active products of all tenants")
         void shouldReturnAllActiveProducts() {
-            List<Product> products = Arrays.asList(
-                createActiveProduct("P000001", "Product A", "tenant-1"),
-                createActiveProduct("P000002", "Product B", "tenant-2")
+            List<ProductView> products = Arrays.asList(
+                createView("P000001", "Product A", "tenant-1"),
+                createView("P000002", "Product B", "tenant-2")
             );
-            when(productRepository.findAll()).thenReturn(products);
+            when(viewRepository.findPage(any(), anyInt(), anyInt(), any())).thenReturn(products);
 
             ListProductsQuery query = new ListProductsQuery(0, 10, null, "createdAt", "DESC");
             PagedResult<ProductView> result = queryService.handle(query);
 
             assertEquals(2, result.getContent().size());
             assertEquals(2, result.getTotalElements());
+            verify(viewRepository).findPage(
+                new ProductSearchCriteria(null, null, ProductStatus.ACTIVE), 0, 10, ProductSort.DEFAULT);
         }
 
         @Test
-        @DisplayName("should filter by category")
+        @DisplayName("should push category filter down to the repository")
         void shouldFilterByCategory() {
-            List<Product> products = Arrays.asList(
-                createActiveProduct("P000001", "Product A", "tenant-1"),
-                createActiveProduct("P000002", "Product B", "tenant-2")
-            );
-            when(productRepository.findByCategory("Electronics")).thenReturn(products);
+            when(viewRepository.findPage(any(), anyInt(), anyInt(), any())).thenReturn(List.of());
 
             ListProductsQuery query = new ListProductsQuery(0, 10, "Electronics", "createdAt", "DESC");
-            PagedResult<ProductView> result = queryService.handle(query);
+            queryService.handle(query);
 
-            assertEquals(2, result.getContent().size());
-            verify(productRepository).findByCategory("Electronics");
-            verify(productRepository, never()).findAll();
-        }
-
-        @Test
-        @DisplayName("should filter out inactive products")
-        void shouldFilterOutInactiveProducts() {
-            Product activeProduct = createActiveProduct("P000001", "Active", "tenant-1");
-            Product inactiveProduct = createActiveProduct("P000002", "Inactive", "tenant-1");
-            inactiveProduct.deactivate();
-
-            when(productRepository.findAll()).thenReturn(Arrays.asList(activeProduct, inactiveProduct));
-
-            ListProductsQuery query = new ListProductsQuery(0, 10, null, "createdAt", "DESC");
-            PagedResult<ProductView> result = queryService.handle(query);
-
-            assertEquals(1, result.getContent().size());
-            assertEquals("Active", result.getContent().get(0).name());
+            verify(viewRepository).findPage(
+                eq(new ProductSearchCriteria(null, "Electronics", ProductStatus.ACTIVE)), eq(0), eq(10), any());
         }
     }
 
@@ -141,87 +296,101 @@ class ProductQueryServiceTest {
         }
 
         @Test
-        @DisplayName("should return only tenant products")
+        @DisplayName("should restrict query to the current tenant")
         void shouldReturnOnlyTenantProducts() {
-            List<Product> tenantProducts = Arrays.asList(
-                createActiveProduct("P000001", "Product A", "tenant-1"),
-                createActiveProduct("P000002", "Product B", "tenant-1")
+            List<ProductView> tenantProducts = Arrays.asList(
+                createView("P000001", "Product A", "tenant-1"),
+                createView("P000002", "Product B", "tenant-1")
             );
-            when(productRepository.findByTenantId("tenant-1")).thenReturn(tenantProducts);
+            when(viewRepository.findPage(any(), anyInt(), anyInt(), any())).thenReturn(tenantProducts);
 
             ListProductsQuery query = new ListProductsQuery(0, 10, null, "createdAt", "DESC");
             PagedResult<ProductView> result = queryService.handle(query);
 
             assertEquals(2, result.getContent().size());
-            verify(productRepository).findByTenantId("tenant-1");
-            verify(productRepository, never()).findAll();
+            verify(viewRepository).findPage(
+                eq(new ProductSearchCriteria("tenant-1", null, ProductStatus.ACTIVE)), eq(0), eq(10), any());
         }
 
         @Test
         @DisplayName("should filter tenant products by category")
         void shouldFilterTenantProductsByCategory() {
-            Product electronics = createActiveProductWithCategory("P000001", "Phone", "tenant-1", "Electronics");
-            Product clothing = createActiveProductWithCategory("P000002", "Shirt", "tenant-1", "Clothing");
-
-            when(productRepository.findByTenantId("tenant-1")).thenReturn(Arrays.asList(electronics, clothing));
+            when(viewRepository.findPage(any(), anyInt(), anyInt(), any()))
+                .thenReturn(List.of(createView("P000001", "Phone", "tenant-1")));
 
             ListProductsQuery query = new ListProductsQuery(0, 10, "Electronics", "createdAt", "DESC");
             PagedResult<ProductView> result = queryService.handle(query);
 
             assertEquals(1, result.getContent().size());
             assertEquals("Phone", result.getContent().get(0).name());
+            verify(viewRepository).findPage(
+                eq(new ProductSearchCriteria("tenant-1", "Electronics", ProductStatus.ACTIVE)), eq(0), eq(10), any());
         }
     }
 
     @Nested
-    @DisplayName("Pagination")
-    class Pagination {
+    @DisplayName("Sorting")
+    class Sorting {
 
         @BeforeEach
         void setUp() {
             tenantContextMock.when(TenantContext::getCurrentTenant).thenReturn("system");
+            when(viewRepository.findPage(any(), anyInt(), anyInt(), any())).thenReturn(List.of());
         }
 
         @Test
-        @DisplayName("should paginate results")
-        void shouldPaginateResults() {
-            List<Product> products = new ArrayList<>();
-            for (int i = 0; i < 25; i++) {
-                products.add(createActiveProduct("P" + String.format("%06d", i), "Product " + i, "tenant-1"));
-            }
-            when(productRepository.findAll()).thenReturn(products);
+        @DisplayName("should pass whitelisted sort field and direction")
+        void shouldPassWhitelistedSort() {
+            queryService.handle(new ListProductsQuery(0, 10, null, "price", "asc"));
 
-            // First page
-            ListProductsQuery query1 = new ListProductsQuery(0, 10, null, "createdAt", "DESC");
-            PagedResult<ProductView> result1 = queryService.handle(query1);
+            verify(viewRepository).findPage(any(), eq(0), eq(10),
+                eq(new ProductSort(ProductSort.Field.PRICE, true)));
+        }
 
-            assertEquals(10, result1.getContent().size());
-            assertEquals(25, result1.getTotalElements());
-            assertEquals(0, result1.getPage());
-            assertEquals(10, result1.getSize());
+        @Test
+        @DisplayName("should fall back to default sort for unknown field")
+        void shouldFallBackForUnknownField() {
+            queryService.handle(new ListProductsQuery(0, 10, null, "description; drop table products", "ASC"));
 
-            // Second page
-            ListProductsQuery query2 = new ListProductsQuery(1, 10, null, "createdAt", "DESC");
-            PagedResult<ProductView> result2 = queryService.handle(query2);
+            verify(viewRepository).findPage(any(), eq(0), eq(10),
+                eq(new ProductSort(ProductSort.Field.CREATED_AT, true)));
+        }
+    }
 
-            assertEquals(10, result2.getContent().size());
-            assertEquals(1, result2.getPage());
+    @Nested
+    @DisplayName("Pagination")
+    class Pagination {
 
-            // Last page
-            ListProductsQuery query3 = new ListProductsQuery(2, 10, null, "createdAt", "DESC");
-            PagedResult<ProductView> result3 = queryService.handle(query3);
+        @BeforeEach
+        void setUp() {
+            tenantContextMock.when(TenantContext::getCurrentTenant).thenReturn("system");
+        }
 
-            assertEquals(5, result3.getContent().size());
-            assertEquals(2, result3.getPage());
+        @Test
+        @DisplayName("should request only the requested page")
+        void shouldPaginateResults() {
+            List<ProductView> secondPage = new ArrayList<>();
+            for (int i = 10; i < 20; i++) {
+                secondPage.add(createView("P" + String.format("%06d", i), "Product " + i, "tenant-1"));
+            }
+            when(viewRepository.findPage(any(), eq(1), eq(10), any())).thenReturn(secondPage);
+            when(viewRepository.count(any())).thenReturn(25L);
+
+            ListProductsQuery query = new ListProductsQuery(1, 10, null, "createdAt", "DESC");
+            PagedResult<ProductView> result = queryService.handle(query);
+
+            assertEquals(10, result.getContent().size());
+            assertEquals(25, result.getTotalElements());
+            assertEquals(3, result.getTotalPages());
+            assertEquals(1, result.getPage());
+            assertEquals(10, result.getSize());
         }
 
         @Test
         @DisplayName("should return empty for page beyond data")
         void shouldReturnEmptyForPageBeyondData() {
-            List<Product> products = Arrays.asList(
-                createActiveProduct("P000001", "Product A", "tenant-1")
-            );
-            when(productRepository.findAll()).thenReturn(products);
+            when(viewRepository.findPage(any(), eq(10), eq(10), any())).thenReturn(List.of());
+            when(viewRepository.count(any())).thenReturn(1L);
 
             ListProductsQuery query = new ListProductsQuery(10, 10, null, "createdAt", "DESC");
             PagedResult<ProductView> result = queryService.handle(query);
@@ -229,30 +398,110 @@ class ProductQueryServiceTest {
             assertTrue(result.getContent().isEmpty());
             assertEquals(1, result.getTotalElements());
         }
+
+        @Test
+        @DisplayName("should skip the count query on a partial last page")
+        void shouldSkipCountOnPartialPage() {
+            when(viewRepository.findPage(any(), eq(2), eq(10), any()))
+                .thenReturn(List.of(createView("P000021", "Product 21", "tenant-1")));
+
+            PagedResult<ProductView> result = queryService.handle(
+                new ListProductsQuery(2, 10, null, "createdAt", "DESC"));
+
+            assertEquals(21, result.getTotalElements());
+            assertTrue(result.isLast());
+            verify(viewRepository, never()).count(any());
+        }
     }
 
-    // Helper methods
-    private Product createActiveProduct(String code, String name, String tenantId) {
-        return Product.create(
-            ProductCode.of(code),
-            name,
-            Money.of(100.00),
-            "Electronics",
-            "Description",
-            tenantId,
-            "creator"
-        );
+    @Nested
+    @DisplayName("Cursor Pagination")
+    class CursorPagination {
+
+        @BeforeEach
+        void setUp() {
+            tenantContextMock.when(TenantContext::getCurrentTenant).thenReturn("system");
+        }
+
+        @Test
+        @DisplayName("should return next cursor without counting on the first page")
+        void shouldReturnNextCursor() {
+            ProductView a = createView("P000001", "A", "tenant-1");
+            ProductView b = createView("P000002", "B", "tenant-1");
+            ProductView c = createView("P000003", "C", "tenant-1");
+            when(viewRepository.findAfter(any(), isNull(), eq(3), any())).thenReturn(List.of(a, b, c));
+
+            PagedResult<ProductView> result = queryService.handle(
+                new ListProductsQuery(0, 2, null, "price", "ASC", "", false));
+
+            assertEquals(List.of(a, b), result.getContent());
+            assertTrue(result.isFirst());
+            assertFalse(result.isLast());
+            assertEquals(PagedResult.UNKNOWN_TOTAL, result.getTotalElements());
+            verify(viewRepository, never()).count(any());
+            verify(viewRepository, never()).findPage(any(), anyInt(), anyInt(), any());
+
+            ProductCursor next = ProductCursor.decode(result.getNextCursor());
+            assertEquals(new ProductSort(ProductSort.Field.PRICE, true), next.sort());
+            assertEquals(ProductId.of(b.id()), next.keyset().id());
+            assertEquals(0, b.price().compareTo((BigDecimal) next.keyset().sortValue()));
+        }
+
+        @Test
+        @DisplayName("should continue from cursor position using the cursor's sort")
+        void shouldContinueFromCursor() {
+            ProductView last = createView("P000002", "Name | with separator", "tenant-1");
+            ProductSort byName = new ProductSort(ProductSort.Field.NAME, false);
+            String cursor = ProductCursor.after(last, byName).encode();
+            when(viewRepository.findAfter(any(), any(), eq(11), any())).thenReturn(List.of());
+            when(viewRepository.count(any())).thenReturn(7L);
+
+            PagedResult<ProductView> result = queryService.handle(
+                new ListProductsQuery(0, 10, null, "price", "ASC", cursor, true));
+
+            verify(viewRepository).findAfter(any(),
+                eq(new ProductKeyset("Name | with separator", ProductId.of(last.id()))), eq(11), eq(byName));
+            assertTrue(result.isLast());
+            assertNull(result.getNextCursor());
+            assertEquals(7, result.getTotalElements());
+        }
+
+        @Test
+        @DisplayName("should fall back to createdAt for fields unsafe for keyset")
+        void shouldFallBackForNullableSortField() {
+            when(viewRepository.findAfter(any(), any(), anyInt(), any())).thenReturn(List.of());
+
+            queryService.handle(new ListProductsQuery(0, 10, null, "category", "ASC", "", false));
+
+            verify(viewRepository).findAfter(any(), isNull(), eq(11),
+                eq(new ProductSort(ProductSort.Field.CREATED_AT, true)));
+        }
+
+        @Test
+        @DisplayName("should reject malformed cursor")
+        void shouldRejectMalformedCursor() {
+            assertThrows(IllegalArgumentException.class, () -> queryService.handle(
+                new ListProductsQuery(0, 10, null, null, null, "not-a-cursor", false)));
+        }
     }
 
-    private Product createActiveProductWithCategory(String code, String name, String tenantId, String category) {
-        return Product.create(
-            ProductCode.of(code),
+    // Helper methods
+    private ProductView createView(String code, String name, String tenantId) {
+        Instant now = Instant.now();
+        return new ProductView(
+            UUID.randomUUID(),
+            code,
             name,
-            Money.of(100.00),
-            category,
+            new BigDecimal("100.00"),
+            "Electronics",
             "Description",
+            ProductStatus.ACTIVE.name(),
             tenantId,
-            "creator"
+            "creator",
+            now,
+            "creator",
+            now,
+            0L
         );
     }
 }
@@ -0,0 +1,162 @@
+package com.example.ecommerce.product.application.service;
+
+import org.junit.jupiter.api.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("SingleFlight")
+class SingleFlightTest {
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(8);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("should share one in-flight load between concurrent callers")
+    void shouldShareInFlightLoad() throws Exception {
+        SingleFlight<String, String> flight = new SingleFlight<>(Duration.ofSeconds(5), 10);
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger loads = new AtomicInteger();
+
+        Future<String> leader = executor.submit(() -> flight.execute("a", () -> {
+            loads.incrementAndGet();
+            loading.countDown();
+            await(release);
+            return "value-a";
+        }));
+        assertTrue(loading.await(5, TimeUnit.SECONDS));
+
+        List<Future<String>> followers = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            followers.add(executor.submit(() -> flight.execute("a", () -> {
+                loads.incrementAndGet();
+                return "other";
+            })));
+        }
+        waitUntilWaiting(flight, 5);
+        release.countDown();
+
+        assertEquals("value-a", leader.get(5, TimeUnit.SECONDS));
+        for (Future<String> follower : followers) {
+            assertEquals("value-a", follower.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, loads.get());
+        assertEquals(1, flight.loadCount());
+        assertEquals(5, flight.coalescedCount());
+        assertEquals(0, flight.inFlightCount());
+        assertEquals(List.of(new SingleFlight.KeyStats<>("a", 5, 0)), flight.topKeys(10));
+    }
+
+    @Test
+    @DisplayName("should not keep the result once the load completed")
+    void shouldNotCacheCompletedLoad() {
+        SingleFlight<String, String> flight = new SingleFlight<>(Duration.ofSeconds(5), 10);
+        AtomicInteger loads = new AtomicInteger();
+
+        flight.execute("a", () -> "value-" + loads.incrementAndGet());
+        assertEquals("value-2", flight.execute("a", () -> "value-" + loads.incrementAndGet()));
+        assertEquals(0, flight.coalescedCount());
+    }
+
+    @Test
+    @DisplayName("should propagate the leader's exception to waiting callers")
+    void shouldPropagateFailure() throws Exception {
+        SingleFlight<String, String> flight = new SingleFlight<>(Duration.ofSeconds(5), 10);
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Future<String> leader = executor.submit(() -> flight.execute("a", () -> {
+            loading.countDown();
+            await(release);
+            throw new IllegalStateException("db down");
+        }));
+        assertTrue(loading.await(5, TimeUnit.SECONDS));
+        Future<String> follower = executor.submit(() -> flight.execute("a", () -> "other"));
+        waitUntilWaiting(flight, 1);
+        release.countDown();
+
+        ExecutionException leaderFailure = assertThrows(ExecutionException.class, () -> leader.get(5, TimeUnit.SECONDS));
+        ExecutionException followerFailure = assertThrows(ExecutionException.class, () -> follower.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(IllegalStateException.class, leaderFailure.getCause());
+        assertInstanceOf(IllegalStateException.class, followerFailure.getCause());
+        assertEquals(0, flight.inFlightCount());
+    }
+
+    @Test
+    @DisplayName("should load itself after waiting longer than the timeout")
+    void shouldLoadItselfAfterTimeout() throws Exception {
+        SingleFlight<String, String> flight = new SingleFlight<>(Duration.ofMillis(50), 10);
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Future<String> leader = executor.submit(() -> flight.execute("a", () -> {
+            loading.countDown();
+            await(release);
+            return "slow";
+        }));
+        assertTrue(loading.await(5, TimeUnit.SECONDS));
+
+        assertEquals("fast", flight.execute("a", () -> "fast"));
+        assertEquals(1, flight.timeoutCount());
+        assertEquals(0, flight.coalescedCount());
+
+        release.countDown();
+        assertEquals("slow", leader.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("should load every call when disabled")
+    void shouldLoadEveryCallWhenDisabled() {
+        SingleFlight<String, String> flight = SingleFlight.disabled();
+        AtomicInteger loads = new AtomicInteger();
+
+        flight.execute("a", () -> "value-" + loads.incrementAndGet());
+        flight.execute("a", () -> "value-" + loads.incrementAndGet());
+
+        assertEquals(2, loads.get());
+        assertEquals(0, flight.loadCount());
+    }
+
+    /**
+     * 等到指定數量的呼叫者已在 SingleFlight 中等待，再讓 leader 完成
+     */
+    private void waitUntilWaiting(SingleFlight<String, String> flight, int waiters) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (System.nanoTime() < deadline) {
+            long waiting = Thread.getAllStackTraces().keySet().stream()
+                .filter(thread -> thread.getState() == Thread.State.TIMED_WAITING)
+                .filter(thread -> List.of(thread.getStackTrace()).stream()
+                    .anyMatch(frame -> frame.getMethodName().equals("await")
+                        && frame.getClassName().equals(SingleFlight.class.getName())))
+                .count();
+            if (waiting >= waiters) {
+                return;
+            }
+            Thread.sleep(5);
+        }
+        fail("expected " + waiters + " callers waiting on " + flight.inFlightCount() + " in-flight loads");
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.ecommerce.product.domain.model.valueobject;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Cents")
+class CentsTest {
+
+    @Nested
+    @DisplayName("Conversion")
+    class Conversion {
+
+        @Test
+        @DisplayName("should convert BigDecimal exactly and round half up to cents")
+        void shouldConvertBigDecimal() {
+            assertEquals(1999, Cents.of(new BigDecimal("19.99")));
+            assertEquals(2000, Cents.of(new BigDecimal("19.995")));
+            assertEquals(-2000, Cents.of(new BigDecimal("-19.995")));
+            assertEquals(100_000, Cents.of(new BigDecimal("1E+3")));
+        }
+
+        @Test
+        @DisplayName("should reject amounts outside the long range")
+        void shouldRejectOverflow() {
+            assertThrows(ArithmeticException.class, () -> Cents.of(new BigDecimal("1E+20")));
+        }
+    }
+
+    @Nested
+    @DisplayName("Aggregation")
+    class Aggregation {
+
+        @Test
+        @DisplayName("should sum, min and max over cents")
+        void shouldAggregate() {
+            long[] cents = {1999, -500, 120_000, 0};
+
+            assertEquals(120_499, Cents.sum(cents));
+            assertEquals(-500, Cents.min(cents));
+            assertEquals(120_000, Cents.max(cents));
+            assertEquals(0, Cents.sum(new long[0]));
+        }
+
+        @Test
+        @DisplayName("should reject overflow and empty min/max")
+        void shouldRejectInvalidInput() {
+            assertThrows(ArithmeticException.class, () -> Cents.sum(new long[]{Long.MAX_VALUE, 1}));
+            assertThrows(IllegalArgumentException.class, () -> Cents.min(new long[0]));
+            assertThrows(IllegalArgumentException.class, () -> Cents.max(new long[0]));
+        }
+    }
+
+    @Nested
+    @DisplayName("Factor")
+    class FactorTest {
+
+        @Test
+        @DisplayName("should round half up away from zero")
+        void shouldRoundHalfUp() {
+            Cents.Factor half = Cents.factor(new BigDecimal("0.5"));
+
+            assertEquals(1, half.apply(1));
+            assertEquals(-1, half.apply(-1));
+            assertEquals(2, half.apply(3));
+            assertEquals(2099, Cents.factor(new BigDecimal("1.05")).apply(1999));
+            assertEquals(1000, Cents.factor(new BigDecimal("1E+1")).apply(100));
+        }
+
+        @Test
+        @DisplayName("should match BigDecimal multiplication for random amounts and factors")
+        void shouldMatchBigDecimal() {
+            Random random = new Random(7);
+            for (int i = 0; i < 100_000; i++) {
+                long cents = random.nextLong(-10_000_000_000L, 10_000_000_000L);
+                BigDecimal factor = BigDecimal.valueOf(random.nextLong(0, 10_000_000), random.nextInt(0, 12));
+                long expected = BigDecimal.valueOf(cents, 2).multiply(factor)
+                    .setScale(2, RoundingMode.HALF_UP).movePointRight(2).longValueExact();
+
+                assertEquals(expected, Cents.factor(factor).apply(cents), cents + " x " + factor);
+            }
+        }
+
+        @Test
+        @DisplayName("should fall back to BigDecimal for long factors and overflowing products")
+        void shouldFallBackToBigDecimal() {
+            assertEquals(100, Cents.factor(new BigDecimal("1.000000000000000000001")).apply(100));
+            assertEquals(9, Cents.factor(new BigDecimal("0.000000000000000001")).apply(Long.MAX_VALUE));
+            assertThrows(ArithmeticException.class, () -> Cents.factor(BigDecimal.TEN).apply(Long.MAX_VALUE));
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.example.ecommerce.product.domain.model.valueobject;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Random;
+import java.util.function.LongSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 大量金額運算：以 BigDecimal 與以分 (long) 計算的時間與配置量
+ *
+ * <p>只記錄數字，斷言只檢查兩者結果相同；配置量取自 HotSpot 的執行緒配置統計，
+ * 不支援時記為 -1。</p>
+ */
+@Tag("benchmark")
+@DisplayName("Money benchmark")
+class MoneyBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(MoneyBenchmarkTest.class);
+
+    private static final int AMOUNTS = 1_000_000;
+    private static final int ROUNDS = 5;
+    private static final BigDecimal FACTOR = new BigDecimal("1.05");
+
+    @Test
+    @DisplayName("should compute the same aggregates and repricing with fewer allocations")
+    void compareBigDecimalAndCents() {
+        Random random = new Random(42);
+        BigDecimal[] decimals = new BigDecimal[AMOUNTS];
+        long[] cents = new long[AMOUNTS];
+        for (int i = 0; i < AMOUNTS; i++) {
+            cents[i] = random.nextLong(1, 10_000_000);
+            decimals[i] = BigDecimal.valueOf(cents[i], 2);
+        }
+
+        assertEquals(measure("sum/min/max (BigDecimal)", () -> aggregateDecimals(decimals)),
+            measure("sum/min/max (cents)", () -> aggregateCents(cents)));
+        assertEquals(measure("reprice (BigDecimal)", () -> repriceDecimals(decimals)),
+            measure("reprice (cents)", () -> repriceCents(cents)));
+    }
+
+    /**
+     * 原本 Money 以 BigDecimal 保存時的計算方式
+     */
+    private static long aggregateDecimals(BigDecimal[] amounts) {
+        BigDecimal sum = BigDecimal.ZERO;
+        BigDecimal min = amounts[0];
+        BigDecimal max = amounts[0];
+        for (BigDecimal amount : amounts) {
+            sum = sum.add(amount);
+            min = amount.compareTo(min) < 0 ? amount : min;
+            max = amount.compareTo(max) > 0 ? amount : max;
+        }
+        return Cents.of(sum) ^ Cents.of(min) * 31 ^ Cents.of(max) * 961;
+    }
+
+    private static long aggregateCents(long[] cents) {
+        return Cents.sum(cents) ^ Cents.min(cents) * 31 ^ Cents.max(cents) * 961;
+    }
+
+    private static long repriceDecimals(BigDecimal[] amounts) {
+        long checksum = 0;
+        for (BigDecimal amount : amounts) {
+            BigDecimal price = amount.multiply(FACTOR).setScale(2, RoundingMode.HALF_UP);
+            if (price.compareTo(BigDecimal.ZERO) <= 0) {
+                throw new IllegalStateException();
+            }
+            checksum += Cents.of(price);
+        }
+        return checksum;
+    }
+
+    private static long repriceCents(long[] cents) {
+        Cents.Factor factor = Cents.factor(FACTOR);
+        long checksum = 0;
+        for (long value : cents) {
+            long price = factor.apply(value);
+            if (price <= 0) {
+                throw new IllegalStateException();
+            }
+            checksum += price;
+        }
+        return checksum;
+    }
+
+    private static long measure(String name, LongSupplier operation) {
+        // 預熱
+        long result = operation.getAsLong();
+        long allocated = allocatedBytes();
+        long start = System.nanoTime();
+        for (int i = 0; i < ROUNDS; i++) {
+            assertEquals(result, operation.getAsLong());
+        }
+        double nanos = (double) (System.nanoTime() - start) / ROUNDS / AMOUNTS;
+        long bytes = allocated < 0 ? -1 : (allocatedBytes() - allocated) / ROUNDS / AMOUNTS;
+        log.info("{}: {} ns/amount, {} bytes allocated/amount", name, String.format("%.1f", nanos), bytes);
+        return result;
+    }
+
+    private static long allocatedBytes() {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threads
+                && threads.isThreadAllocatedMemorySupported()) {
+            return threads.getThreadAllocatedBytes(Thread.currentThread().getId());
+        }
+        return -1;
+    }
+}
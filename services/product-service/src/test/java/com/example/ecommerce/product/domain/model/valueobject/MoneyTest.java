@@ -5,6 +5,7 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
 import java.math.BigDecimal;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -58,6 +59,36 @@ class MoneyTest {
         }
     }
 
+    @Nested
+    @DisplayName("Cents Representation")
+    class CentsRepresentation {
+
+        @Test
+        @DisplayName("should round-trip BigDecimal exactly through cents")
+        void shouldRoundTripBigDecimal() {
+            Money money = Money.of(new BigDecimal("12345678.90"));
+            assertEquals(1_234_567_890L, money.cents());
+            assertEquals(new BigDecimal("12345678.90"), money.amount());
+            assertEquals(money, Money.ofCents(1_234_567_890L));
+        }
+
+        @Test
+        @DisplayName("should order by amount")
+        void shouldOrderByAmount() {
+            List<Money> sorted = List.of(Money.of(5), Money.of(-1), Money.of(0.5)).stream().sorted().toList();
+            assertEquals(List.of(Money.of(-1), Money.of(0.5), Money.of(5)), sorted);
+        }
+
+        @Test
+        @DisplayName("should reject results outside the long range")
+        void shouldRejectOverflow() {
+            Money max = Money.ofCents(Long.MAX_VALUE);
+            assertThrows(ArithmeticException.class, () -> max.add(Money.ofCents(1)));
+            assertThrows(ArithmeticException.class, () -> max.multiply(2));
+            assertThrows(ArithmeticException.class, () -> Money.of(Long.MAX_VALUE));
+        }
+    }
+
     @Nested
     @DisplayName("Arithmetic Operations")
     class ArithmeticOperations {
@@ -87,6 +118,14 @@ class MoneyTest {
             Money result = money.multiply(3);
             assertEquals(new BigDecimal("75.00"), result.amount());
         }
+
+        @Test
+        @DisplayName("should multiply by decimal factor and round half up")
+        void shouldMultiplyByDecimalFactor() {
+            Money money = Money.of(19.99);
+            Money result = money.multiply(new BigDecimal("1.05"));
+            assertEquals(new BigDecimal("20.99"), result.amount());
+        }
     }
 
     @Nested
@@ -26,24 +26,6 @@ class ProductCodeTest {
             ProductCode code = ProductCode.of("p000001");
             assertEquals("P000001", code.value());
         }
-
-        @Test
-        @DisplayName("should generate unique code")
-        void shouldGenerateUniqueCode() {
-            ProductCode code1 = ProductCode.generate();
-            ProductCode code2 = ProductCode.generate();
-
-            assertNotNull(code1.value());
-            assertNotNull(code2.value());
-            assertNotEquals(code1, code2);
-        }
-
-        @Test
-        @DisplayName("should generate code matching pattern")
-        void shouldGenerateCodeMatchingPattern() {
-            ProductCode code = ProductCode.generate();
-            assertTrue(code.value().matches("^P\\d{6}$"));
-        }
     }
 
     @Nested